@@ -0,0 +1,41 @@
+package org.cybnity.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launcher of the benchmarks supporting the JMH command line options (e.g benchmarks selection regex, -prof gc), which writes the results in JSON format when none other format is requested.
+ * The JSON results of two releases are comparable (e.g via JMH Visualizer) to detect the regressions.
+ * Usage: java -jar target/benchmarks.jar [JMH options]
+ *
+ * @author olivier
+ */
+public class BenchmarksRunner {
+
+    /**
+     * Default file of the results.
+     */
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args JMH command line options.
+     * @throws Exception When problem during the benchmarks execution.
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+            // Informational commands
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON);
+        if (!cmdOptions.getResult().hasValue()) options.result(DEFAULT_RESULT_FILE);
+        new Runner(options.build()).run();
+    }
+}
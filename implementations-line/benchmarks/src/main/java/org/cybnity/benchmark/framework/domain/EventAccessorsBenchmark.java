@@ -0,0 +1,85 @@
+package org.cybnity.benchmark.framework.domain;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost measure of the accessors of an event read by the consumers of a message (e.g mapper, filter, publisher), on a mutable event and on a frozen event.
+ * The allocation reduction is measured by the GC profiler (gc.alloc.rate.norm metric in bytes per operation), enabled by the main method of this class or via: java -jar target/benchmarks.jar EventAccessorsBenchmark -prof gc
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventAccessorsBenchmark {
+
+    /**
+     * Is the read event frozen?
+     */
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private ConcreteDomainChangeEvent event;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        event = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)), "SAMPLE_CHANGED");
+        event.appendSpecification(new Attribute("loginName", "sampleLogin"));
+        if (frozen) event.freeze();
+    }
+
+    @Benchmark
+    public void occurredAt(Blackhole bh) {
+        bh.consume(event.occurredAt());
+    }
+
+    @Benchmark
+    public void identified(Blackhole bh) throws Exception {
+        bh.consume(event.identified());
+    }
+
+    @Benchmark
+    public void hashCodeOf(Blackhole bh) {
+        bh.consume(event.hashCode());
+    }
+
+    /**
+     * Accessors read per handled message.
+     */
+    @Benchmark
+    public void messageHandling(Blackhole bh) throws Exception {
+        bh.consume(event.getIdentifiedBy());
+        bh.consume(event.identified());
+        bh.consume(event.occurredAt());
+        bh.consume(event.hashCode());
+        bh.consume(event.type());
+    }
+
+    /**
+     * Run this benchmark with the GC profiler.
+     *
+     * @param args Ignored.
+     * @throws Exception When problem during the benchmark execution.
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(EventAccessorsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
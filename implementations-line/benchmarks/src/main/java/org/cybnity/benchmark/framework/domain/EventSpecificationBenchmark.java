@@ -0,0 +1,68 @@
+package org.cybnity.benchmark.framework.domain;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteCommandEvent;
+import org.cybnity.framework.domain.event.EventSpecification;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost measure of the search of attributes into the specification of an event (e.g type, correlation identifier and routing path read per handled message).
+ * The listBased benchmark measures the same search into a list of attributes (e.g specification set by a caller via setSpecification()).
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventSpecificationBenchmark {
+
+    /**
+     * Quantity of attributes of the specification.
+     */
+    @Param({"4", "32"})
+    public int attributesQty;
+
+    private Command event;
+    private Collection<Attribute> list;
+    private String lastName;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        event = new ConcreteCommandEvent(new DomainEntity(IdentifierStringBased.generate(null)));
+        event.generateCorrelationId(null);
+        list = new ArrayList<>();
+        for (int i = 0; i < attributesQty; i++) {
+            Attribute at = new Attribute("attribute" + i, "value" + i);
+            event.appendSpecification(at);
+            list.add(at);
+        }
+        lastName = "ATTRIBUTE" + (attributesQty - 1);
+    }
+
+    @Benchmark
+    public void type(Blackhole bh) {
+        bh.consume(event.type());
+        bh.consume(event.correlationId());
+    }
+
+    @Benchmark
+    public void findLastByName(Blackhole bh) {
+        bh.consume(EventSpecification.findSpecificationByName(lastName, event.specification()));
+    }
+
+    @Benchmark
+    public void listBased(Blackhole bh) {
+        bh.consume(EventSpecification.findSpecificationByName(lastName, list));
+    }
+}
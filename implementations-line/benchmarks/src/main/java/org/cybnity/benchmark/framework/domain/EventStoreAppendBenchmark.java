@@ -0,0 +1,145 @@
+package org.cybnity.benchmark.framework.domain;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.infrastructure.DomainEventInMemoryStoreImpl;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.domain.model.EventRecord;
+import org.cybnity.framework.domain.model.EventStore;
+import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.framework.immutable.NaturalKeyIdentifierGenerator;
+import org.cybnity.framework.immutable.StringBasedNaturalKeyBuilder;
+import org.cybnity.framework.immutable.persistence.FactType;
+import org.cybnity.framework.immutable.persistence.TypeVersion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput measure of the events append into an in-memory event store.
+ * Each append creates one event record per change event, including the type version (hash and identifier) of the change event class.
+ * The eventRecordCreation benchmark measures the record built per appended event, and the typeVersionCreation and typeVersionReuse benchmarks compare the type version created per record by the previous release (version hash computed without cache, and identifier generated, for each record) with the type version shared per class.
+ * A before/after comparison of the whole append throughput is obtained by executing this benchmark against the previous release of the framework.
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventStoreAppendBenchmark {
+
+    /**
+     * Quantity of change events appended per call.
+     */
+    @Param({"1", "10"})
+    public int eventsPerAppend;
+
+    /**
+     * Quantity of domain subjects over which the appends are distributed.
+     */
+    private static final int SUBJECTS_QTY = 100;
+
+    private EventStore store;
+    private Identifier[] subjects;
+    private List<DomainEvent> changes;
+    private int nextSubject;
+
+    /**
+     * Natural key minimum size of the type version identifiers (see TypeVersion).
+     */
+    private static final int TYPE_VERSION_ID_MIN_LETTER_QTY = 88;
+
+    @Setup(Level.Iteration)
+    public void prepare() throws Exception {
+        // New store per iteration avoiding a measure impacted by an unlimited growth of the histories
+        store = DomainEventInMemoryStoreImpl.instance();
+        subjects = new Identifier[SUBJECTS_QTY];
+        for (int i = 0; i < SUBJECTS_QTY; i++) {
+            subjects[i] = IdentifierStringBased.generate(null);
+        }
+        changes = new ArrayList<>(eventsPerAppend);
+        for (int i = 0; i < eventsPerAppend; i++) {
+            ConcreteDomainChangeEvent evt = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)));
+            evt.appendSpecification(new Attribute("loginName", "sampleLogin" + i));
+            changes.add(evt);
+        }
+        nextSubject = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        store.freeUpResources();
+    }
+
+    @Benchmark
+    public void appendToStream() throws Exception {
+        store.appendToStream(subjects[nextSubject], changes);
+        nextSubject = (nextSubject + 1) % SUBJECTS_QTY;
+    }
+
+    /**
+     * Baseline: type version built per record by the previous release (the current TypeVersion constructor reads the cached hash).
+     */
+    @Benchmark
+    public void typeVersionCreation(Blackhole bh) throws Exception {
+        bh.consume(uncachedTypeVersion(ConcreteDomainChangeEvent.class));
+    }
+
+    @Benchmark
+    public void typeVersionReuse(Blackhole bh) {
+        bh.consume(TypeVersion.of(ConcreteDomainChangeEvent.class));
+    }
+
+    @Benchmark
+    public void eventRecordCreation(Blackhole bh) throws Exception {
+        bh.consume(new EventRecord(changes.get(0)));
+    }
+
+    /**
+     * Build a type version as the previous release did for each record: structural hash computed without cache, and identifier generated from the type name.
+     *
+     * @param subject Mandatory versioned type.
+     * @return A new version.
+     * @throws Exception When hash or identifier generation problem.
+     */
+    private static TypeVersion uncachedTypeVersion(Class<?> subject) throws Exception {
+        StringBasedNaturalKeyBuilder builder = new StringBasedNaturalKeyBuilder(subject.getName(), TYPE_VERSION_ID_MIN_LETTER_QTY);
+        new NaturalKeyIdentifierGenerator(builder).build();
+        return new TypeVersion(new FactType(subject.getSimpleName()), uncachedVersionHash(subject), builder.getResult());
+    }
+
+    /**
+     * Compute the structural version hash of a type as the previous release of VersionConcreteStrategy did (fields read by reflection, sorted and digested at each call).
+     *
+     * @param subject Mandatory versioned type.
+     * @return A base64 hash value.
+     * @throws Exception When digest algorithm is not supported.
+     */
+    private static String uncachedVersionHash(Class<?> subject) throws Exception {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type = subject; type != null; type = type.getSuperclass()) {
+            fields.addAll(0, Arrays.asList(type.getDeclaredFields()));
+        }
+        fields.sort(Comparator.comparing(Field::getName));
+        StringBuilder description = new StringBuilder(subject.getSimpleName()).append("{");
+        boolean addSep = false;
+        for (Field field : fields) {
+            if (addSep) description.append(";");
+            description.append(field.getName()).append(":").append(field.getType().getSimpleName());
+            addSep = true;
+        }
+        description.append("}");
+        byte[] digest = MessageDigest.getInstance("SHA-512").digest(description.toString().getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
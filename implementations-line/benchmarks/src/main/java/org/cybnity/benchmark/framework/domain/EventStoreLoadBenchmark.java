@@ -0,0 +1,74 @@
+package org.cybnity.benchmark.framework.domain;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.infrastructure.DomainEventInMemoryStoreImpl;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.domain.model.EventStore;
+import org.cybnity.framework.immutable.Identifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput measure of the events stream load from an in-memory event store, regarding subjects of several history sizes.
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventStoreLoadBenchmark {
+
+    /**
+     * Quantity of change events stored per subject.
+     */
+    @Param({"10", "100"})
+    public int historySize;
+
+    /**
+     * Quantity of stored domain subjects.
+     */
+    private static final int SUBJECTS_QTY = 50;
+
+    private EventStore store;
+    private String[] subjects;
+    private int nextSubject;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        store = DomainEventInMemoryStoreImpl.instance();
+        subjects = new String[SUBJECTS_QTY];
+        for (int i = 0; i < SUBJECTS_QTY; i++) {
+            Identifier subject = IdentifierStringBased.generate(null);
+            List<DomainEvent> changes = new ArrayList<>(historySize);
+            for (int j = 0; j < historySize; j++) {
+                ConcreteDomainChangeEvent evt = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)));
+                evt.appendSpecification(new Attribute("loginName", "sampleLogin" + j));
+                changes.add(evt);
+            }
+            store.appendToStream(subject, changes);
+            subjects[i] = subject.value().toString();
+        }
+        nextSubject = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void clean() {
+        store.freeUpResources();
+    }
+
+    @Benchmark
+    public void loadEventStream(Blackhole bh) throws Exception {
+        bh.consume(store.loadEventStream(subjects[nextSubject]));
+        nextSubject = (nextSubject + 1) % SUBJECTS_QTY;
+    }
+}
@@ -0,0 +1,58 @@
+package org.cybnity.benchmark.framework.domain;
+
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.domain.model.Tenant;
+import org.cybnity.framework.domain.model.TenantBuilder;
+import org.cybnity.framework.domain.model.TenantDescriptor;
+import org.cybnity.framework.immutable.HistoryState;
+import org.cybnity.framework.immutable.Identifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput measure of the rehydration of a tenant from its changes history.
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TenantRehydrationBenchmark {
+
+    /**
+     * Quantity of label changes of the tenant after its creation.
+     */
+    @Param({"1", "20"})
+    public int labelChanges;
+
+    private Identifier tenantId;
+    private List<DomainEvent> changesHistory;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        TenantBuilder builder = new TenantBuilder("CYBNITY", new DomainEntity(IdentifierStringBased.generate(null)), Boolean.TRUE);
+        builder.buildInstance();
+        Tenant tenant = builder.getResult();
+        for (int i = 0; i < labelChanges; i++) {
+            HashMap<String, Object> propertyCurrentValue = new HashMap<>();
+            propertyCurrentValue.put(TenantDescriptor.PropertyAttributeKey.LABEL.name(), "CYBNITY" + i);
+            tenant.setLabel(new TenantDescriptor(tenant.parent(), propertyCurrentValue, HistoryState.COMMITTED));
+        }
+        changesHistory = tenant.changeEvents();
+        tenantId = tenant.identified();
+    }
+
+    @Benchmark
+    public void instanceOf(Blackhole bh) {
+        bh.consume(Tenant.instanceOf(tenantId, changesHistory));
+    }
+}
@@ -0,0 +1,77 @@
+package org.cybnity.benchmark.infrastructure.uis;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.domain.model.EventRecord;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.MessageMapperFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput measure of the JSON serialization and deserialization executed by the message mappers of the Users Interactions Space Redis adapter (ObjectMapperRegistry WIRE profile).
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageMappersBenchmark {
+
+    private final MessageMapperFactory mappers = new MessageMapperFactory();
+
+    private Command command;
+    private String commandJSON;
+    private EventRecord record;
+    private String recordJSON;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        Collection<Attribute> definition = new ArrayList<>();
+        definition.add(new Attribute("OrganizationNaming", "CYBNITY"));
+        command = CommandFactory.create("REGISTER_ORGANIZATION", new DomainEntity(IdentifierStringBased.generate(null)), definition, null, null);
+        command.generateCorrelationId(null);
+        commandJSON = (String) transform(mappers.getMapper(IDescribed.class, String.class), command);
+
+        ConcreteDomainChangeEvent change = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)), "ORGANIZATION_REGISTERED");
+        change.appendSpecification(new Attribute("OrganizationNaming", "CYBNITY"));
+        record = new EventRecord(change);
+        recordJSON = (String) transform(mappers.getMapper(EventRecord.class, String.class), record);
+    }
+
+    private static Object transform(MessageMapper mapper, Object origin) throws Exception {
+        return mapper.map(origin);
+    }
+
+    @Benchmark
+    public void commandToJSON(Blackhole bh) throws Exception {
+        bh.consume(transform(mappers.getMapper(IDescribed.class, String.class), command));
+    }
+
+    @Benchmark
+    public void jsonToCommand(Blackhole bh) throws Exception {
+        bh.consume(transform(mappers.getMapper(String.class, IDescribed.class), commandJSON));
+    }
+
+    @Benchmark
+    public void eventRecordToJSON(Blackhole bh) throws Exception {
+        bh.consume(transform(mappers.getMapper(EventRecord.class, String.class), record));
+    }
+
+    @Benchmark
+    public void jsonToEventRecord(Blackhole bh) throws Exception {
+        bh.consume(transform(mappers.getMapper(String.class, EventRecord.class), recordJSON));
+    }
+}
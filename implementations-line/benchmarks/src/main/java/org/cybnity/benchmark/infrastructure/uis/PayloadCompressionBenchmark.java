@@ -0,0 +1,197 @@
+package org.cybnity.benchmark.infrastructure.uis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.cybnity.framework.Context;
+import org.cybnity.framework.IReadableConfiguration;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.NamingConventions;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.*;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.PayloadCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import redis.embedded.RedisServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput measure of the write and read of stream messages with and without compression of their payload (compressionThreshold parameter; -1 disables the compression).
+ * At the start of each trial, events are appended by the Users Interactions Space adapter into an embedded Redis server, and the Redis memory consumed by them (used_memory of INFO memory, stream entries and indexes included) is reported with the throughput measures (redisBytesPerEvent and redisMegabytesPerMillionEvents counters), allowing to compare the Redis memory consumed with and without compression.
+ * The adapter reads its connection configuration from the environment variables of the process (e.g REDISCLI_AUTH, REDIS_WRITEMODEL_SERVER_HOST, REDIS_WRITEMODEL_SERVER_PORT, REDIS_WRITEMODEL_DATABASE_NUMBER, REDIS_WRITEMODEL_CONNECTION_DEFAULT_USERACCOUNT, and the REDIS_READMODEL_* equivalents), which shall be defined before the benchmark execution; the embedded server is started on the configured port.
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PayloadCompressionBenchmark {
+
+    /**
+     * Minimum size of the compressed payloads (see PayloadCodec).
+     */
+    @Param({"-1", "512"})
+    public int compressionThreshold;
+
+    /**
+     * Quantity of attributes of the domain event.
+     */
+    @Param({"10", "50"})
+    public int attributesCount;
+
+    /**
+     * Quantity of events appended into Redis for the memory measure.
+     */
+    private static final int STORED_EVENTS = 10000;
+
+    /**
+     * Quantity of events appended per write into Redis.
+     */
+    private static final int STORED_EVENTS_BATCH_SIZE = 500;
+
+    /**
+     * Redis memory consumed by the stored events, reported with the throughput measures.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredMemory {
+
+        /**
+         * Average quantity of bytes consumed by an event.
+         */
+        public long redisBytesPerEvent;
+
+        /**
+         * Quantity of megabytes consumed per million events.
+         */
+        public long redisMegabytesPerMillionEvents;
+    }
+
+    private final MessageMapperFactory mappers = new MessageMapperFactory();
+    private PayloadCodec codec;
+    private MessageMapper writeMapper;
+    private MessageMapper readMapper;
+    private ConcreteDomainChangeEvent event;
+    private StreamMessage<String, String> message;
+    private long storedBytesPerEvent;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        codec = new PayloadCodec(compressionThreshold);
+        writeMapper = mappers.getMapper(IDescribed.class, StreamMessage.class);
+        readMapper = mappers.getMapper(StreamMessage.class, IDescribed.class);
+
+        event = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)), "ORGANIZATION_REGISTERED");
+        for (int i = 0; i < attributesCount; i++) {
+            event.appendSpecification(new Attribute("OrganizationAttribute" + i, "CYBNITY organization description value " + i));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> fields = codec.compress((Map<String, String>) writeMapper.map(event));
+        message = new StreamMessage<>("benchmark", "1-0", fields);
+
+        storedBytesPerEvent = measureStoredBytesPerEvent();
+    }
+
+    /**
+     * Append events into an embedded Redis server via an adapter compressing the payloads according to the compressionThreshold parameter, and measure the Redis memory consumed.
+     *
+     * @return Average quantity of bytes consumed by an event.
+     * @throws Exception When problem with the Redis server.
+     */
+    private long measureStoredBytesPerEvent() throws Exception {
+        String port = System.getenv(WriteModelConfigurationVariable.REDIS_WRITEMODEL_SERVER_PORT.getName());
+        String auth = System.getenv(WriteModelConfigurationVariable.REDISCLI_AUTH.getName());
+        String user = System.getenv(WriteModelConfigurationVariable.REDIS_WRITEMODEL_CONNECTION_DEFAULT_USERACCOUNT.getName());
+        if (port == null || auth == null || user == null)
+            throw new IllegalStateException("Redis connection environment variables are required!");
+        RedisServer redisServer = RedisServer.builder().port(Integer.parseInt(port))
+                .setting("bind 127.0.0.1 -::1")
+                .setting("daemonize no")
+                .setting("masteruser " + user)
+                .setting("masterauth " + auth)
+                .build();
+        redisServer.start();
+        // Compression threshold of the adapter defined by the benchmark parameter
+        Context context = new Context() {
+            @Override
+            public String get(IReadableConfiguration config) throws IllegalArgumentException {
+                if (MessagePayloadConfigurationVariable.UIS_PAYLOAD_COMPRESSION_THRESHOLD == config)
+                    return Integer.toString(compressionThreshold);
+                return super.get(config);
+            }
+        };
+        UISAdapterRedisImpl adapter = null;
+        RedisClient client = RedisClient.create(RedisURIFactory.createUISWriteModelURI(context));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            adapter = new UISAdapterRedisImpl(context);
+            Stream stream = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + "benchmark-payload-memory");
+            long before = usedMemory(connection);
+            List<ConcreteDomainChangeEvent> batch = new ArrayList<>(STORED_EVENTS_BATCH_SIZE);
+            for (int i = 0; i < STORED_EVENTS; i++) {
+                ConcreteDomainChangeEvent stored = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)), "ORGANIZATION_REGISTERED");
+                for (int a = 0; a < attributesCount; a++) {
+                    stored.appendSpecification(new Attribute("OrganizationAttribute" + a, "CYBNITY organization description value " + a));
+                }
+                batch.add(stored);
+                if (batch.size() == STORED_EVENTS_BATCH_SIZE) {
+                    adapter.append(batch, stream, writeMapper);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) adapter.append(batch, stream, writeMapper);
+            return Math.max(0, usedMemory(connection) - before) / STORED_EVENTS;
+        } finally {
+            if (adapter != null) adapter.freeUpResources();
+            client.shutdown();
+            redisServer.stop();
+        }
+    }
+
+    /**
+     * Read the memory allocated by a Redis server.
+     *
+     * @param connection Mandatory connection to the server.
+     * @return The used_memory value of the server memory information.
+     */
+    private static long usedMemory(StatefulRedisConnection<String, String> connection) {
+        for (String line : connection.sync().info("memory").split("\r?\n")) {
+            if (line.startsWith("used_memory:")) return Long.parseLong(line.substring("used_memory:".length()).trim());
+        }
+        throw new IllegalStateException("Unknown used memory of the Redis server!");
+    }
+
+    /**
+     * Report the Redis memory measured at the start of the trial.
+     *
+     * @param memory Counters of the benchmark.
+     */
+    private void report(StoredMemory memory) {
+        memory.redisBytesPerEvent = storedBytesPerEvent;
+        memory.redisMegabytesPerMillionEvents = storedBytesPerEvent * 1_000_000L / (1024 * 1024);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void writeStreamMessage(Blackhole bh, StoredMemory memory) throws Exception {
+        bh.consume(codec.compress((Map<String, String>) writeMapper.map(event)));
+        report(memory);
+    }
+
+    @Benchmark
+    public void readStreamMessage(Blackhole bh, StoredMemory memory) throws Exception {
+        bh.consume(readMapper.map(message));
+        report(memory);
+    }
+}
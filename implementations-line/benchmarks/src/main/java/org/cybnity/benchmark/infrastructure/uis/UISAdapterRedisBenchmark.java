@@ -0,0 +1,109 @@
+package org.cybnity.benchmark.infrastructure.uis;
+
+import io.lettuce.core.StreamMessage;
+import org.cybnity.framework.Context;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.NamingConventions;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.MessageMapperFactory;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.UISAdapterRedisImpl;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.WriteModelConfigurationVariable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import redis.embedded.RedisServer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput measure of the append of commands into a Redis stream and of the read of a stream, via the Users Interactions Space adapter connected to an embedded Redis server.
+ * The adapter reads its connection configuration from the environment variables of the process (e.g REDISCLI_AUTH, REDIS_WRITEMODEL_SERVER_HOST, REDIS_WRITEMODEL_SERVER_PORT, REDIS_WRITEMODEL_DATABASE_NUMBER, REDIS_WRITEMODEL_CONNECTION_DEFAULT_USERACCOUNT, and the REDIS_READMODEL_* equivalents), which shall be defined before the benchmark execution; the embedded server is started on the configured port.
+ *
+ * @author olivier
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UISAdapterRedisBenchmark {
+
+    /**
+     * Quantity of messages of the read stream.
+     */
+    @Param({"100"})
+    public int readStreamSize;
+
+    private RedisServer redisServer;
+    private UISAdapterRedisImpl adapter;
+    private MessageMapper appendMapper;
+    private MessageMapper readMapper;
+    private Command command;
+    private Stream appendStream;
+    private Stream readStream;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        String port = System.getenv(WriteModelConfigurationVariable.REDIS_WRITEMODEL_SERVER_PORT.getName());
+        String auth = System.getenv(WriteModelConfigurationVariable.REDISCLI_AUTH.getName());
+        String user = System.getenv(WriteModelConfigurationVariable.REDIS_WRITEMODEL_CONNECTION_DEFAULT_USERACCOUNT.getName());
+        if (port == null || auth == null || user == null)
+            throw new IllegalStateException("Redis connection environment variables are required!");
+        redisServer = RedisServer.builder().port(Integer.parseInt(port))
+                .setting("bind 127.0.0.1 -::1")
+                .setting("daemonize no")
+                .setting("masteruser " + user)
+                .setting("masterauth " + auth)
+                .build();
+        redisServer.start();
+        adapter = new UISAdapterRedisImpl(new Context());
+        MessageMapperFactory mappers = new MessageMapperFactory();
+        appendMapper = mappers.getMapper(IDescribed.class, StreamMessage.class);
+        readMapper = mappers.getMapper(StreamMessage.class, IDescribed.class);
+
+        Collection<Attribute> definition = new ArrayList<>();
+        definition.add(new Attribute("OrganizationNaming", "CYBNITY"));
+        command = CommandFactory.create("REGISTER_ORGANIZATION", new DomainEntity(IdentifierStringBased.generate(null)), definition, null, null);
+        command.generateCorrelationId(null);
+
+        // Stream of fixed size read by the read benchmark
+        readStream = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + "benchmark-read");
+        List<Command> commands = new ArrayList<>(readStreamSize);
+        for (int i = 0; i < readStreamSize; i++) {
+            commands.add(command);
+        }
+        adapter.append(commands, readStream, appendMapper);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareIteration() {
+        // New appended stream per iteration avoiding a measure impacted by the stream growth
+        appendStream = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + "benchmark-append-" + (iteration++));
+    }
+
+    @TearDown(Level.Trial)
+    public void clean() {
+        if (adapter != null) adapter.freeUpResources();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @Benchmark
+    public void append(Blackhole bh) throws Exception {
+        bh.consume(adapter.append(command, appendStream, appendMapper));
+    }
+
+    @Benchmark
+    public void readAllFrom(Blackhole bh) throws Exception {
+        bh.consume(adapter.readAllFrom(readStream, readMapper));
+    }
+}
@@ -22,8 +22,10 @@ import org.cybnity.infrastructure.technical.message_bus.adapter.api.UISAdapter;
 import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.MessageMapperFactory;
 import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.UISAdapterRedisImpl;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Redis store of resources.
@@ -62,6 +64,11 @@ public class DomainResourceStoreRedisImpl extends EventStore {
      */
     private final IContext context;
 
+    /**
+     * Strategy of distribution of the managed objects events over streams.
+     */
+    private final StreamPartitioningStrategy partitioningStrategy;
+
     /**
      * Default constructor.
      *
@@ -73,8 +80,25 @@ public class DomainResourceStoreRedisImpl extends EventStore {
      * @throws IllegalArgumentException    When any mandatory parameter is missing.
      */
     protected DomainResourceStoreRedisImpl(IContext ctx, IDomainModel dataOwner, PersistentObjectNamingConvention.NamingConventionApplicability managedObjectCategory, ISnapshotRepository snapshotsCapability) throws UnoperationalStateException, IllegalArgumentException {
+        this(ctx, dataOwner, managedObjectCategory, snapshotsCapability, StreamPartitioningStrategy.shared());
+    }
+
+    /**
+     * Constructor with explicit distribution of the managed objects events over streams.
+     *
+     * @param ctx                   Mandatory context.
+     * @param dataOwner             Mandatory domain which is owner of the persisted object types into the store.
+     * @param managedObjectCategory Mandatory type of convention applicable for the type of object which is managed by this store.
+     * @param snapshotsCapability   Optional snapshots repository able to be used by this store helping to optimize events rehydration.
+     * @param partitioning          Mandatory strategy of streams partitioning (e.g dedicated stream per domain object) reducing the quantity of entries read during a domain object rehydration.
+     * @throws UnoperationalStateException When impossible instantiation of UISAdapter based on context parameter.
+     * @throws IllegalArgumentException    When any mandatory parameter is missing.
+     */
+    protected DomainResourceStoreRedisImpl(IContext ctx, IDomainModel dataOwner, PersistentObjectNamingConvention.NamingConventionApplicability managedObjectCategory, ISnapshotRepository snapshotsCapability, StreamPartitioningStrategy partitioning) throws UnoperationalStateException, IllegalArgumentException {
         super();
         if (ctx == null) throw new IllegalArgumentException("Context parameter is required!");
+        if (partitioning == null) throw new IllegalArgumentException("Partitioning parameter is required!");
+        this.partitioningStrategy = partitioning;
         this.context = ctx;
         this.adapter = new UISAdapterRedisImpl(this.context);
         if (dataOwner == null) throw new IllegalArgumentException("Data owner parameter is required!");
@@ -97,6 +121,15 @@ public class DomainResourceStoreRedisImpl extends EventStore {
         return this.context;
     }
 
+    /**
+     * Get the strategy of distribution of the managed objects events over streams.
+     *
+     * @return A strategy.
+     */
+    protected StreamPartitioningStrategy partitioningStrategy() {
+        return this.partitioningStrategy;
+    }
+
     @Override
     public ValueObject<String> snapshotVersionsStorageNamespace() {
         if (snapshotsRepository != null && snapshotsStorageNameSpace != null) {
@@ -144,23 +177,25 @@ public class DomainResourceStoreRedisImpl extends EventStore {
         if (changes == null) throw new IllegalArgumentException("changes parameter is required!");
         if (changes.isEmpty()) return; // noting to change on domain event
 
-        // Define the mapper supporting the event record serialization
-        MessageMapper mapper = getDomainEventSerializationMapper();
+        // Define the mapper supporting the event record serialization (measuring the appended size when snapshots are triggered)
+        MeasuredMessageMapper mapper = new MeasuredMessageMapper(getDomainEventSerializationMapper(), snapshotScheduler() != null);
 
-        // Define the stream resource dedicated to the domain object type
-        Stream persistentStream = this.persistentStream(null);
+        // Define the stream resource where the domain object changes are stored (according to the partitioning strategy)
+        Stream persistentStream = this.persistentStream((domainSubjectId != null) ? domainSubjectId.value().toString() : null);
 
         // --- PREPARE A STREAM ENTRY FOR EACH CHANGE EVENT RELATIVE TO THE SUBJECT IDENTIFIED ---
-        for (DomainEvent changeEvt : changes) {
-            try {
-                // Add the event records to the end of registry stream
-                // (regarding all the same event record type version, about the same domain object identifier)
-                adapter.append(changeEvt, persistentStream, mapper);
-            } catch (MappingException me) {
-                // Unsupported type of event
-                throw new IllegalArgumentException(me);
-            }
+        long start = System.nanoTime();
+        try {
+            // Add all the event records to the end of registry stream in one atomic operation
+            // (regarding all the same event record type version, about the same domain object identifier)
+            adapter.append(changes, persistentStream, mapper);
+        } catch (MappingException me) {
+            // Unsupported type of event
+            throw new IllegalArgumentException(me);
+        } finally {
+            appendTimer().recordSince(start);
         }
+        changesAppended(domainSubjectId, changes.size(), mapper.mappedBytes());
 
         // Promote to subscribers (e.g read-model repositories) the change events that have been stored
         for (DomainEvent changeEvt : changes) {
@@ -171,23 +206,24 @@ public class DomainResourceStoreRedisImpl extends EventStore {
     /**
      * Get the stream resource used as persistent system by this store.
      *
-     * @param domainSubjectId Optional identifier of the dedicated domain object stream identification mean.
-     * @return A stream (according its identifier, for example ac:tenant:IYUTFGX754FDFGH).
+     * @param domainSubjectId Identifier of the domain object. Ignored by a shared partitioning strategy; mandatory for the other strategies.
+     * @return A stream (according the partitioning strategy, for example ac:tenant, ac:tenant:IYUTFGX754FDFGH or ac:tenant:bucket-3).
      * @throws IllegalArgumentException When mandatory parameter is missing.
      */
     protected Stream persistentStream(String domainSubjectId) throws IllegalArgumentException {
-        // Define the stream resource dedicated to the domain object (according its identifier when defined, for example ac:tenant:IYUTFGX754FDFGH)
+        // Define the stream resource dedicated to the domain object (according its identifier when partitioned, for example ac:tenant:IYUTFGX754FDFGH)
         // and prepare a label as unique identifier in the store for the event to store
-        return new Stream(PersistentObjectNamingConvention.buildComponentName(managedObjectCategoryLabel, storeOwner.domainName(), domainSubjectId)); // Define store input label (e.g common stream storing multiple identifiable aggregates; or dedicated stream to an identified aggregate)
+        return new Stream(partitioningStrategy.streamName(managedObjectCategoryLabel, storeOwner.domainName(), domainSubjectId)); // Define store input label (e.g common stream storing multiple identifiable aggregates; or dedicated stream to an identified aggregate)
     }
 
     @Override
     public EventStream loadEventStream(String domainSubjectId) throws IllegalArgumentException, UnoperationalStateException {
-        // Define the stream resource dedicated to the domain object type
-        Stream persistentStream = this.persistentStream(null);
+        // Define the stream resource where the domain object changes are stored (according to the partitioning strategy)
+        Stream persistentStream = this.persistentStream(domainSubjectId);
 
         LinkedList<DomainEvent> foundEventDomainHistory = new LinkedList<>();
         EventStream domainObjEventsHistory = new EventStream();
+        long start = System.nanoTime();
         try {
             // Search any stream item equals to event type
             List<Object> foundStreamItems = adapter.readAllFrom(persistentStream,/* mapper supporting the de-serialization*/ getDomainEventDeserializationMapper(), new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), domainSubjectId));
@@ -203,6 +239,8 @@ public class DomainResourceStoreRedisImpl extends EventStore {
             }
         } catch (MappingException e) {
             throw new UnoperationalStateException(e);
+        } finally {
+            loadTimer().recordSince(start);
         }
         if (!foundEventDomainHistory.isEmpty()) {
             domainObjEventsHistory.setEvents(foundEventDomainHistory);
@@ -223,8 +261,8 @@ public class DomainResourceStoreRedisImpl extends EventStore {
             // Identify the identifier of the origin object last change event, known as commit id
             String lastChangeEventId = snapshotItem.commitVersion();
             if (lastChangeEventId != null && !lastChangeEventId.isEmpty()) {
-                // Define the stream resource dedicated to the domain object type
-                Stream persistentStream = this.persistentStream(null);
+                // Define the stream resource where the domain object changes are stored (according to the partitioning strategy)
+                Stream persistentStream = this.persistentStream(domainSubjectId);
                 try {
                     // Search all historized change events after the origin's last change event ID
                     List<Object> foundStreamItems = adapter.readAllAfterChangeID(persistentStream, lastChangeEventId,/* mapper supporting the de-serialization*/ getDomainEventDeserializationMapper(), new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), domainSubjectId));
@@ -258,4 +296,69 @@ public class DomainResourceStoreRedisImpl extends EventStore {
         throw new IllegalArgumentException("to implement!");
     }
 
+    /**
+     * Mapper delegating the serialization of the appended events, and accumulating the size of the produced stream entries.
+     */
+    private static class MeasuredMessageMapper implements MessageMapper {
+
+        private final MessageMapper delegate;
+        private final boolean measured;
+        private long mappedBytes;
+        private Object result;
+
+        /**
+         * Default constructor.
+         *
+         * @param delegate Mandatory serialization mapper.
+         * @param measured True when the size of the produced entries shall be accumulated.
+         */
+        private MeasuredMessageMapper(MessageMapper delegate, boolean measured) {
+            this.delegate = delegate;
+            this.measured = measured;
+        }
+
+        @Override
+        public void transform(Object origin) throws IllegalArgumentException, MappingException {
+            delegate.transform(origin);
+            // Result read once from the delegate (released by a stateless mapper)
+            result = delegate.getResult();
+            measure(result);
+        }
+
+        @Override
+        public Object getResult() {
+            Object transformed = result;
+            result = null;
+            return transformed;
+        }
+
+        @Override
+        public Object map(Object origin) throws IllegalArgumentException, MappingException {
+            Object result = delegate.map(origin);
+            measure(result);
+            return result;
+        }
+
+        /**
+         * Accumulate the size of the fields of a stream entry.
+         */
+        @SuppressWarnings("unchecked")
+        private void measure(Object entry) {
+            if (measured && entry instanceof Map) {
+                for (Map.Entry<String, String> field : ((Map<String, String>) entry).entrySet()) {
+                    if (field.getKey() != null) mappedBytes += field.getKey().getBytes(StandardCharsets.UTF_8).length;
+                    if (field.getValue() != null) mappedBytes += field.getValue().getBytes(StandardCharsets.UTF_8).length;
+                }
+            }
+        }
+
+        /**
+         * Get the size of the entries produced by this mapper.
+         *
+         * @return A quantity of bytes. 0 when not measured.
+         */
+        private long mappedBytes() {
+            return this.mappedBytes;
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package org.cybnity.infastructure.technical.persistence.store.impl.redis;
+
+import io.lettuce.core.StreamMessage;
+import org.cybnity.framework.IContext;
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.ICleanup;
+import org.cybnity.framework.domain.model.IDomainModel;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.UISAdapterRedisImpl;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Migration tool copying the entries of a shared stream (e.g ac:tenant) of a domain resource store towards the streams defined by a partitioning strategy (e.g ac:tenant:IYUTFGX754FDFGH).
+ * Each entry is routed according to its origin subject identifier, and is copied without change of its body (original entries order is retained per subject).
+ * The shared stream and the target streams are read by pages, so the migration of a large stream does not load all its entries.
+ * The shared stream is not modified and can be deleted after validation of the migration result.
+ * The copy can be re-executed after an interruption: the entries of a target stream which are the first entries routed towards it (same fact record identifier, or same body when the entry has no fact record identifier), in the same order, are not copied again.
+ * A target stream including other entries (e.g live writes appended before the migration end) is refused, because the copied entries would be appended after more recent entries of their subject; the migration shall be executed before the start of the writes into the partitioned streams.
+ *
+ * @author olivier
+ */
+public class SharedStreamPartitioningMigration implements ICleanup {
+
+    /**
+     * Quantity of entries read per request from the shared stream.
+     */
+    private static final int SHARED_PAGE_SIZE = 1000;
+
+    /**
+     * Quantity of entries read per request from a target stream.
+     */
+    private static final int TARGET_PAGE_SIZE = 100;
+
+    /**
+     * Adapter to Redis persistence system.
+     */
+    private final UISAdapterRedisImpl adapter;
+
+    /**
+     * Domain which is owner of the persistent object to migrate.
+     */
+    private final IDomainModel storeOwner;
+
+    /**
+     * Type of persistent object to migrate.
+     */
+    private final PersistentObjectNamingConvention.NamingConventionApplicability managedObjectCategory;
+
+    /**
+     * Strategy of partitioning to apply.
+     */
+    private final StreamPartitioningStrategy targetStrategy;
+
+    /**
+     * Technical logging.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SharedStreamPartitioningMigration.class.getName());
+
+    /**
+     * Default constructor.
+     *
+     * @param ctx                   Mandatory context.
+     * @param dataOwner             Mandatory domain which is owner of the persisted object types into the store.
+     * @param managedObjectCategory Mandatory type of convention applicable for the type of object which is managed by the store.
+     * @param targetStrategy        Mandatory partitioning strategy to apply. Shall not be a shared strategy.
+     * @throws UnoperationalStateException When impossible instantiation of UISAdapter based on context parameter.
+     * @throws IllegalArgumentException    When any mandatory parameter is missing or invalid.
+     */
+    public SharedStreamPartitioningMigration(IContext ctx, IDomainModel dataOwner, PersistentObjectNamingConvention.NamingConventionApplicability managedObjectCategory, StreamPartitioningStrategy targetStrategy) throws UnoperationalStateException, IllegalArgumentException {
+        if (ctx == null) throw new IllegalArgumentException("Context parameter is required!");
+        if (dataOwner == null) throw new IllegalArgumentException("Data owner parameter is required!");
+        if (managedObjectCategory == null)
+            throw new IllegalArgumentException("The naming convention parameter is required!");
+        if (targetStrategy == null) throw new IllegalArgumentException("Target strategy parameter is required!");
+        if (StreamPartitioningStrategy.Mode.SHARED == targetStrategy.mode())
+            throw new IllegalArgumentException("Target strategy shall be a partitioned strategy!");
+        this.storeOwner = dataOwner;
+        this.managedObjectCategory = managedObjectCategory;
+        this.targetStrategy = targetStrategy;
+        this.adapter = new UISAdapterRedisImpl(ctx);
+    }
+
+    /**
+     * Execute the copy of all the shared stream entries towards the partitioned streams.
+     *
+     * @return Quantity of entries copied per target stream name. Empty when none entry have been migrated.
+     * @throws UnoperationalStateException When problem of read or write with the Redis persistence system, or when a target stream includes entries which are not the first entries routed towards it (e.g live writes).
+     */
+    public Map<String, Integer> migrate() throws UnoperationalStateException {
+        Map<String, Integer> copiedEntries = new LinkedHashMap<>();
+        MessageMapper passThrough = new MessageBodyCopy();
+        Stream sharedStream = new Stream(StreamPartitioningStrategy.shared().streamName(managedObjectCategory, storeOwner.domainName(), null));
+        // Entries existing into each target stream (read at the first encounter of the target)
+        Map<String, TargetEntries> targets = new HashMap<>();
+        int alreadyMigrated = 0;
+        try {
+            String lastReadId = null;
+            String originSubjectId, targetName;
+            List<StreamMessage<String, String>> page;
+            do {
+                // Read the shared stream entries by pages (retained in their original order)
+                page = adapter.readPage(sharedStream, lastReadId, SHARED_PAGE_SIZE);
+                for (StreamMessage<String, String> entry : page) {
+                    lastReadId = entry.getId();
+                    Map<String, String> body = new LinkedHashMap<>(entry.getBody());
+                    originSubjectId = body.get(Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name());
+                    // Entry not relative to an identified subject (e.g not a change event) can't be routed
+                    if (originSubjectId == null || originSubjectId.isEmpty()) continue;
+                    targetName = targetStrategy.streamName(managedObjectCategory, storeOwner.domainName(), originSubjectId);
+                    TargetEntries target = targets.get(targetName);
+                    if (target == null) {
+                        target = new TargetEntries(new Stream(targetName));
+                        targets.put(targetName, target);
+                    }
+                    Object existing = target.next();
+                    if (existing == null) {
+                        // All the entries of the target are previous copies
+                        adapter.append(body, target.stream, passThrough);
+                        copiedEntries.merge(targetName, 1, Integer::sum);
+                    } else if (existing.equals(deduplicationKey(body))) {
+                        // Entry already copied by a previous execution
+                        alreadyMigrated++;
+                    } else {
+                        throw new UnoperationalStateException("The " + targetName + " stream includes entries which are not copies of the " + sharedStream.name() + " stream entries in their original order (e.g live writes); the migration towards this stream is refused!");
+                    }
+                }
+            } while (page.size() == SHARED_PAGE_SIZE);
+            if (alreadyMigrated > 0)
+                LOGGER.info(alreadyMigrated + " entries of " + sharedStream.name() + " stream already existing into their target streams have not been copied again");
+        } catch (MappingException me) {
+            throw new UnoperationalStateException(me);
+        }
+        return copiedEntries;
+    }
+
+    /**
+     * Get the key identifying an entry regardless of its stream entry identifier.
+     *
+     * @param body Mandatory entry body.
+     * @return The fact record identifier of the entry when defined, else its body.
+     */
+    private static Object deduplicationKey(Map<String, String> body) {
+        String factRecordId = body.get(Stream.Specification.FACT_RECORD_ID_KEY_NAME.name());
+        return (factRecordId != null && !factRecordId.isEmpty()) ? factRecordId : new HashMap<>(body);
+    }
+
+    /**
+     * Entries existing into a target stream before its feeding by the migration, read by pages.
+     */
+    private class TargetEntries {
+
+        private final Stream stream;
+        private final Deque<Object> keys = new ArrayDeque<>();
+        private String lastReadId;
+        private boolean lastPageRead;
+
+        private TargetEntries(Stream stream) {
+            this.stream = stream;
+        }
+
+        /**
+         * Get the key of the next existing entry.
+         *
+         * @return A key (see deduplicationKey()), or null when all the existing entries have been read (the target is not read again, so the copied entries are not read).
+         * @throws UnoperationalStateException When problem of read with the Redis persistence system.
+         */
+        private Object next() throws UnoperationalStateException {
+            if (keys.isEmpty() && !lastPageRead) {
+                List<StreamMessage<String, String>> page = adapter.readPage(stream, lastReadId, TARGET_PAGE_SIZE);
+                for (StreamMessage<String, String> entry : page) {
+                    keys.add(deduplicationKey(entry.getBody()));
+                    lastReadId = entry.getId();
+                }
+                lastPageRead = page.size() < TARGET_PAGE_SIZE;
+            }
+            return keys.poll();
+        }
+    }
+
+    @Override
+    public void freeUpResources() {
+        // Freedom of resources allocated by the adapter
+        this.adapter.freeUpResources();
+    }
+
+    /**
+     * Mapper reading a stream entry body, or an already read body, as an unchanged map of fields.
+     */
+    private static class MessageBodyCopy extends StatelessMessageMapper {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, String> map(Object origin) throws IllegalArgumentException, MappingException {
+            if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
+            if (StreamMessage.class.isAssignableFrom(origin.getClass())) {
+                return new LinkedHashMap<>(((StreamMessage<String, String>) origin).getBody());
+            } else if (Map.class.isAssignableFrom(origin.getClass())) {
+                return new LinkedHashMap<>((Map<String, String>) origin);
+            }
+            throw new IllegalArgumentException("Unsupported type of origin parameter!");
+        }
+    }
+}
@@ -3,10 +3,11 @@ package org.cybnity.infastructure.technical.persistence.store.impl.redis;
 import org.cybnity.framework.IContext;
 import org.cybnity.framework.UnoperationalStateException;
 import org.cybnity.framework.domain.SerializedResource;
+import org.cybnity.framework.domain.infrastructure.CompactSnapshotCodec;
+import org.cybnity.framework.domain.infrastructure.ISnapshotCodec;
 import org.cybnity.framework.domain.infrastructure.ISnapshotRepository;
 import org.cybnity.framework.domain.infrastructure.ResourceDescriptor;
 import org.cybnity.framework.domain.model.ISnapshot;
-import org.cybnity.framework.immutable.ImmutabilityException;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.UISAdapter;
 import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.UISAdapterRedisImpl;
 
@@ -15,6 +16,7 @@ import java.io.Serializable;
 
 /**
  * Snapshot repository implementation class using Redis in-memory resources as embedded snapshots containers.
+ * The snapshots are stored as binary values encoded by a codec. The snapshots stored by a previous version as Base64 text of their Java serialization remain readable.
  */
 public class SnapshotRepositoryRedisImpl implements ISnapshotRepository {
 
@@ -24,15 +26,34 @@ public class SnapshotRepositoryRedisImpl implements ISnapshotRepository {
     private final UISAdapter adapter;
 
     /**
-     * Default constructor.
+     * Encoder and decoder of the stored snapshots.
+     */
+    private final ISnapshotCodec codec;
+
+    /**
+     * Default constructor using a compact binary codec of snapshots.
      *
      * @param ctx Mandatory context.
      * @throws UnoperationalStateException When problem during context usage.
      * @throws IllegalArgumentException    When mandatory parameter is missing.
      */
     public SnapshotRepositoryRedisImpl(IContext ctx) throws UnoperationalStateException, IllegalArgumentException {
+        this(ctx, new CompactSnapshotCodec());
+    }
+
+    /**
+     * Constructor with a specific codec of snapshots.
+     *
+     * @param ctx   Mandatory context.
+     * @param codec Mandatory encoder and decoder of the stored snapshots.
+     * @throws UnoperationalStateException When problem during context usage.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     */
+    public SnapshotRepositoryRedisImpl(IContext ctx, ISnapshotCodec codec) throws UnoperationalStateException, IllegalArgumentException {
         if (ctx == null) throw new IllegalArgumentException("Context parameter is required!");
+        if (codec == null) throw new IllegalArgumentException("Codec parameter is required!");
         this.adapter = new UISAdapterRedisImpl(ctx);
+        this.codec = codec;
     }
 
     @Override
@@ -43,7 +64,14 @@ public class SnapshotRepositoryRedisImpl implements ISnapshotRepository {
 
     @Override
     public ISnapshot getLatestSnapshotById(String originObjectIdentifier, String resourceNamespaceName) throws IllegalArgumentException, UnoperationalStateException {
-        // Load instance from store where is stored as a SerializedResource
+        // Read the binary version of the snapshot
+        byte[] encodedSnapshot = adapter.readResourceBinaryValue(originObjectIdentifier, resourceNamespaceName);
+        if (encodedSnapshot != null) {
+            // Null when obsolete snapshot regarding the current version of its subject type
+            return codec.decode(encodedSnapshot);
+        }
+
+        // Fallback reading a snapshot stored as a Base64 serialized resource (previous storage format)
         SerializedResource snapshotContainer = adapter.readSerializedResourceFromID(originObjectIdentifier, resourceNamespaceName);
         if (snapshotContainer != null) {
             // Read origin serialized snapshot instance
@@ -58,25 +86,18 @@ public class SnapshotRepositoryRedisImpl implements ISnapshotRepository {
     @Override
     public void saveSnapshot(ISnapshot snapshot, String resourceNamespaceName, Long expireIn) throws IllegalArgumentException, UnoperationalStateException {
         if (snapshot == null) throw new IllegalArgumentException("snapshot parameter is required!");
-        try {
-            // Prepare container of snapshot resource description
-            ResourceDescriptor description = new ResourceDescriptor();
-            description.setResourceId(snapshot.versionedObjectUID());// Logical UID of resource
-            ObjectStreamClass classType = ObjectStreamClass.lookup(snapshot.getClass());
-            if (classType != null) {
-                // resource type version uid of stored resource
-                description.setResourceTypeSerialVersionUID(Long.valueOf(classType.getSerialVersionUID()).toString());
-            }
-            description.setVersionDate(snapshot.taken()); // date of snapshot
-            description.setAccessibilityNamespace(resourceNamespaceName);
-
-            // Define the snapshot resource to save
-            SerializedResource resource = new SerializedResource(snapshot.immutable(), description);
-
-            adapter.saveResource(resource, resourceNamespaceName, expireIn);
-        } catch (ImmutabilityException e) {
-            throw new IllegalArgumentException(e);
+        // Prepare container of snapshot resource description
+        ResourceDescriptor description = new ResourceDescriptor();
+        description.setResourceId(snapshot.versionedObjectUID());// Logical UID of resource
+        ObjectStreamClass classType = ObjectStreamClass.lookup(snapshot.getClass());
+        if (classType != null) {
+            // resource type version uid of stored resource
+            description.setResourceTypeSerialVersionUID(Long.valueOf(classType.getSerialVersionUID()).toString());
         }
-    }
+        description.setVersionDate(snapshot.taken()); // date of snapshot
+        description.setAccessibilityNamespace(resourceNamespaceName);
 
+        // Save the binary version of the snapshot
+        adapter.saveResource(description, codec.encode(snapshot), resourceNamespaceName, expireIn);
+    }
 }
@@ -0,0 +1,136 @@
+package org.cybnity.infastructure.technical.persistence.store.impl.redis;
+
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.NamingConventions;
+
+/**
+ * Strategy defining how the change events of the persistent objects managed by a store are distributed over Redis streams.
+ * When a shared stream is used, the load of one object history requires the read of all the domain traffic; when partitioned streams are used, the load cost is only relative to the events of the subject (or of its bucket).
+ */
+public class StreamPartitioningStrategy {
+
+    /**
+     * Type of distribution of the persistent objects events over streams.
+     */
+    public enum Mode {
+        /**
+         * Unique stream shared by all the persistent objects of a type (e.g ac:tenant).
+         */
+        SHARED,
+
+        /**
+         * Dedicated stream per persistent object identifier (e.g ac:tenant:IYUTFGX754FDFGH).
+         */
+        PER_SUBJECT,
+
+        /**
+         * Fixed quantity of streams where each persistent object is assigned according to the hash of its identifier (e.g ac:tenant:bucket-3).
+         */
+        HASH_BUCKET
+    }
+
+    /**
+     * Label prefixing the name of a hash bucket stream.
+     */
+    public static final String BUCKET_LABEL = "bucket";
+
+    /**
+     * Applied distribution mode.
+     */
+    private final Mode mode;
+
+    /**
+     * Quantity of buckets when HASH_BUCKET mode is applied.
+     */
+    private final int bucketsQty;
+
+    /**
+     * Default constructor.
+     *
+     * @param mode       Mandatory distribution mode.
+     * @param bucketsQty Quantity of buckets (minimum 1) which is only required when HASH_BUCKET mode is defined.
+     * @throws IllegalArgumentException When mandatory parameter is missing. When invalid buckets quantity is defined for HASH_BUCKET mode.
+     */
+    public StreamPartitioningStrategy(Mode mode, int bucketsQty) throws IllegalArgumentException {
+        if (mode == null) throw new IllegalArgumentException("Mode parameter is required!");
+        if (Mode.HASH_BUCKET == mode && bucketsQty < 1)
+            throw new IllegalArgumentException("Buckets quantity shall be minimum 1 for hash bucket mode!");
+        this.mode = mode;
+        this.bucketsQty = (Mode.HASH_BUCKET == mode) ? bucketsQty : 0;
+    }
+
+    /**
+     * Get a strategy based on a unique stream shared by all the persistent objects.
+     *
+     * @return A strategy.
+     */
+    public static StreamPartitioningStrategy shared() {
+        return new StreamPartitioningStrategy(Mode.SHARED, 0);
+    }
+
+    /**
+     * Get a strategy based on a dedicated stream per persistent object.
+     *
+     * @return A strategy.
+     */
+    public static StreamPartitioningStrategy perSubject() {
+        return new StreamPartitioningStrategy(Mode.PER_SUBJECT, 0);
+    }
+
+    /**
+     * Get a strategy based on a fixed quantity of streams.
+     *
+     * @param bucketsQty Quantity of buckets (minimum 1).
+     * @return A strategy.
+     * @throws IllegalArgumentException When invalid quantity of buckets.
+     */
+    public static StreamPartitioningStrategy hashBuckets(int bucketsQty) throws IllegalArgumentException {
+        return new StreamPartitioningStrategy(Mode.HASH_BUCKET, bucketsQty);
+    }
+
+    /**
+     * Get the applied distribution mode.
+     *
+     * @return A mode.
+     */
+    public Mode mode() {
+        return this.mode;
+    }
+
+    /**
+     * Get the quantity of buckets.
+     *
+     * @return A quantity. Equals to 0 when the mode is not HASH_BUCKET.
+     */
+    public int bucketsQty() {
+        return this.bucketsQty;
+    }
+
+    /**
+     * Build the name of the stream where the events of a persistent object are stored.
+     *
+     * @param category        Mandatory type of persistent object.
+     * @param domainName      Mandatory label naming the application domain owner of the persistent object.
+     * @param domainSubjectId Identifier of the persistent object. Mandatory when the mode is not SHARED.
+     * @return A standardized stream name (e.g ac:tenant, ac:tenant:IYUTFGX754FDFGH or ac:tenant:bucket-3).
+     * @throws IllegalArgumentException When a mandatory parameter is not defined.
+     */
+    public String streamName(PersistentObjectNamingConvention.NamingConventionApplicability category, String domainName, String domainSubjectId) throws IllegalArgumentException {
+        return PersistentObjectNamingConvention.buildComponentName(category, domainName, partitionLabel(domainSubjectId));
+    }
+
+    /**
+     * Get the label of the partition where a persistent object is assigned.
+     *
+     * @param domainSubjectId Identifier of the persistent object. Mandatory when the mode is not SHARED.
+     * @return A label or null when SHARED mode (none partition).
+     * @throws IllegalArgumentException When the identifier is required and not defined.
+     */
+    public String partitionLabel(String domainSubjectId) throws IllegalArgumentException {
+        if (Mode.SHARED == mode) return null;
+        if (domainSubjectId == null || domainSubjectId.isEmpty())
+            throw new IllegalArgumentException("Domain subject identifier is required by the " + mode.name() + " partitioning mode!");
+        if (Mode.PER_SUBJECT == mode) return domainSubjectId;
+        // Stable assignment of the subject to a bucket
+        return BUCKET_LABEL + NamingConventions.STREAM_NAME_SEPARATOR + Math.floorMod(domainSubjectId.hashCode(), bucketsQty);
+    }
+}
@@ -11,6 +11,6 @@ import org.junit.platform.suite.api.Suite;
  * @author olivier
  */
 @Suite
-@SelectClasses({UISPersistentStreamAdapterUseCaseTest.class})
+@SelectClasses({UISPersistentStreamAdapterUseCaseTest.class, StreamPartitioningStrategyUseCaseTest.class, SharedStreamPartitioningMigrationUseCaseTest.class})
 public class AllUseCaseTests {
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package org.cybnity.infrastructure.technical.persistence.store.impl.redis;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.model.*;
+import org.cybnity.framework.immutable.ImmutabilityException;
+import org.cybnity.infastructure.technical.persistence.store.impl.redis.PersistentObjectNamingConvention;
+import org.cybnity.infastructure.technical.persistence.store.impl.redis.SharedStreamPartitioningMigration;
+import org.cybnity.infastructure.technical.persistence.store.impl.redis.StreamPartitioningStrategy;
+import org.cybnity.infrastructure.technical.persistence.store.impl.redis.mock.AccessControlDomainModelSample;
+import org.cybnity.infrastructure.technical.persistence.store.impl.redis.mock.TenantAggregateStoreImplExample;
+import org.cybnity.infrastructure.technical.persistence.store.impl.redis.mock.TenantMockHelper;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test of the migration of a shared stream towards partitioned streams, and of the append and read of the domain objects changes into the partitioned streams.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
+public class SharedStreamPartitioningMigrationUseCaseTest extends ContextualizedRedisActiveTestContainer {
+
+    private final PersistentObjectNamingConvention.NamingConventionApplicability category = PersistentObjectNamingConvention.NamingConventionApplicability.TENANT;
+    private IDomainModel dataOwner;
+    private TenantAggregateStoreImplExample sharedStore;
+    private TenantAggregateStoreImplExample partitionedStore;
+    private SharedStreamPartitioningMigration migration;
+
+    @BeforeEach
+    public void initResources() throws Exception {
+        dataOwner = new AccessControlDomainModelSample();
+        sharedStore = new TenantAggregateStoreImplExample(getContext(), dataOwner, category, null);
+        partitionedStore = new TenantAggregateStoreImplExample(getContext(), dataOwner, category, null, StreamPartitioningStrategy.perSubject());
+        migration = new SharedStreamPartitioningMigration(getContext(), dataOwner, category, StreamPartitioningStrategy.perSubject());
+    }
+
+    @AfterEach
+    public void cleanValues() {
+        migration.freeUpResources();
+        partitionedStore.freeUpResources();
+        sharedStore.freeUpResources();
+        super.cleanValues();
+    }
+
+    /**
+     * Validate that the history of each domain object is copied in its original order, that a re-execution does not copy again the migrated entries, and that the partitioned streams support the next changes.
+     */
+    @Test
+    public void givenSharedStreamHistory_whenMigrated_thenHistoryReadFromPartitionedStreamsInOriginalOrder() throws Exception {
+        Tenant tenant1 = sample("CYBNITY_1");
+        sharedStore.appendToStream(tenant1.identified(), tenant1.changeEvents());
+        Tenant tenant2 = sample("CYBNITY_2");
+        sharedStore.appendToStream(tenant2.identified(), tenant2.changeEvents());
+        tenant1.changeEvents().clear();
+        tenant1.activate();
+        tenant1.deactivate();
+        sharedStore.appendToStream(tenant1.identified(), tenant1.changeEvents());
+        List<Object> sharedHistory = identifiers(sharedStore.loadEventStream(tenant1.identified().value().toString()));
+
+        Map<String, Integer> copied = migration.migrate();
+        Assertions.assertEquals(2, copied.size(), "One target stream per domain object!");
+        Assertions.assertEquals(sharedHistory, identifiers(partitionedStore.loadEventStream(tenant1.identified().value().toString())), "Same history in original order!");
+        Assertions.assertFalse(partitionedStore.loadEventStream(tenant2.identified().value().toString()).getEvents().isEmpty());
+
+        // Re-execution without copy of the migrated entries
+        Assertions.assertTrue(migration.migrate().isEmpty());
+        Assertions.assertEquals(sharedHistory, identifiers(partitionedStore.loadEventStream(tenant1.identified().value().toString())));
+
+        // Next change appended and read from the partitioned stream
+        tenant1.changeEvents().clear();
+        tenant1.activate();
+        partitionedStore.appendToStream(tenant1.identified(), tenant1.changeEvents());
+        List<Object> history = identifiers(partitionedStore.loadEventStream(tenant1.identified().value().toString()));
+        Assertions.assertEquals(sharedHistory.size() + 1, history.size());
+        Assertions.assertEquals(sharedHistory, history.subList(0, sharedHistory.size()));
+        Assertions.assertEquals(tenant1.changeEvents().get(0).identified().value(), history.get(history.size() - 1));
+    }
+
+    /**
+     * Validate that a migration is refused towards a stream already fed by live writes, which would receive the history after more recent changes.
+     */
+    @Test
+    public void givenTargetFedByLiveWrites_whenMigrated_thenRefused() throws Exception {
+        Tenant tenant = sample("CYBNITY_3");
+        sharedStore.appendToStream(tenant.identified(), tenant.changeEvents());
+        tenant.changeEvents().clear();
+        tenant.deactivate();
+        partitionedStore.appendToStream(tenant.identified(), tenant.changeEvents());
+
+        Assertions.assertThrows(UnoperationalStateException.class, () -> migration.migrate());
+        Assertions.assertEquals(1, partitionedStore.loadEventStream(tenant.identified().value().toString()).getEvents().size(), "Target stream shall not be modified!");
+    }
+
+    private static List<Object> identifiers(EventStream stream) {
+        List<Object> ids = new ArrayList<>();
+        for (DomainEvent event : stream.getEvents()) {
+            ids.add(event.identified().value());
+        }
+        return ids;
+    }
+
+    private static Tenant sample(String label) throws ImmutabilityException {
+        Command originEvent = TenantMockHelper.prepareRegisterTenantCommand(label, Boolean.TRUE);
+        TenantBuilder builder = new TenantBuilder(label, originEvent.getIdentifiedBy(), Boolean.TRUE);
+        builder.buildInstance();
+        return builder.getResult();
+    }
+}
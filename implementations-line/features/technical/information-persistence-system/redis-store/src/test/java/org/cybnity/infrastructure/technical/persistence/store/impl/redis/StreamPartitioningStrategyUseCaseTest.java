@@ -0,0 +1,52 @@
+package org.cybnity.infrastructure.technical.persistence.store.impl.redis;
+
+import org.cybnity.infastructure.technical.persistence.store.impl.redis.PersistentObjectNamingConvention;
+import org.cybnity.infastructure.technical.persistence.store.impl.redis.StreamPartitioningStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of the naming of the streams according to the partitioning strategies supported by a domain resource store.
+ */
+public class StreamPartitioningStrategyUseCaseTest {
+
+    private static final String DOMAIN = "ac";
+    private static final PersistentObjectNamingConvention.NamingConventionApplicability CATEGORY = PersistentObjectNamingConvention.NamingConventionApplicability.TENANT;
+
+    /**
+     * Test that a shared strategy ignores the subject identifier and name a unique stream.
+     */
+    @Test
+    public void givenSharedStrategy_whenBuildStreamName_thenUniqueStreamForAllSubjects() {
+        StreamPartitioningStrategy strategy = StreamPartitioningStrategy.shared();
+        Assertions.assertEquals("ac:tenant", strategy.streamName(CATEGORY, DOMAIN, null));
+        Assertions.assertEquals("ac:tenant", strategy.streamName(CATEGORY, DOMAIN, "IYUTFGX754FDFGH"));
+    }
+
+    /**
+     * Test that a per-subject strategy name a dedicated stream per subject, and requires the subject identifier.
+     */
+    @Test
+    public void givenPerSubjectStrategy_whenBuildStreamName_thenDedicatedStreamPerSubject() {
+        StreamPartitioningStrategy strategy = StreamPartitioningStrategy.perSubject();
+        Assertions.assertEquals("ac:tenant:IYUTFGX754FDFGH", strategy.streamName(CATEGORY, DOMAIN, "IYUTFGX754FDFGH"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> strategy.streamName(CATEGORY, DOMAIN, null));
+    }
+
+    /**
+     * Test that a hash bucket strategy assigns each subject to a stable bucket into the defined range.
+     */
+    @Test
+    public void givenHashBucketStrategy_whenBuildStreamName_thenStableBucketAssigned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StreamPartitioningStrategy.hashBuckets(0));
+        StreamPartitioningStrategy strategy = StreamPartitioningStrategy.hashBuckets(8);
+        for (int i = 0; i < 100; i++) {
+            String subjectId = "subject" + i;
+            String name = strategy.streamName(CATEGORY, DOMAIN, subjectId);
+            Assertions.assertEquals(name, strategy.streamName(CATEGORY, DOMAIN, subjectId), "Shall be stable for a same subject!");
+            int bucket = Integer.parseInt(name.substring(name.lastIndexOf('-') + 1));
+            Assertions.assertTrue(name.startsWith("ac:tenant:" + StreamPartitioningStrategy.BUCKET_LABEL));
+            Assertions.assertTrue(bucket >= 0 && bucket < 8);
+        }
+    }
+}
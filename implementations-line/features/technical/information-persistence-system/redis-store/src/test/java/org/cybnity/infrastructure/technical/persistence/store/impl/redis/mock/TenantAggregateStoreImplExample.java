@@ -11,6 +11,7 @@ import org.cybnity.framework.immutable.ImmutabilityException;
 import org.cybnity.framework.immutable.persistence.FactRecord;
 import org.cybnity.infastructure.technical.persistence.store.impl.redis.DomainResourceStoreRedisImpl;
 import org.cybnity.infastructure.technical.persistence.store.impl.redis.PersistentObjectNamingConvention;
+import org.cybnity.infastructure.technical.persistence.store.impl.redis.StreamPartitioningStrategy;
 
 import java.io.Serializable;
 
@@ -36,6 +37,21 @@ public class TenantAggregateStoreImplExample extends DomainResourceStoreRedisImp
         super(ctx, dataOwner, managedObjectCategory, snapshotsCapability);
     }
 
+    /**
+     * Constructor of a store applying a partitioning strategy of its streams.
+     *
+     * @param ctx                   Mandatory context.
+     * @param dataOwner             Mandatory domain which is owner of the persisted object types into the store.
+     * @param managedObjectCategory Mandatory type of convention applicable for the type of object which is managed by this store.
+     * @param snapshotsCapability   Optional snapshots repository able to be used by this store helping to optimize events rehydration.
+     * @param partitioning          Mandatory strategy of streams partitioning.
+     * @throws UnoperationalStateException When impossible instantiation of UISAdapter based on context parameter.
+     * @throws IllegalArgumentException    When any mandatory parameter is missing.
+     */
+    public TenantAggregateStoreImplExample(IContext ctx, IDomainModel dataOwner, PersistentObjectNamingConvention.NamingConventionApplicability managedObjectCategory, ISnapshotRepository snapshotsCapability, StreamPartitioningStrategy partitioning) throws UnoperationalStateException, IllegalArgumentException {
+        super(ctx, dataOwner, managedObjectCategory, snapshotsCapability, partitioning);
+    }
+
     /**
      * Get an instance of the event store, ready for operating (e.g configured).
      *
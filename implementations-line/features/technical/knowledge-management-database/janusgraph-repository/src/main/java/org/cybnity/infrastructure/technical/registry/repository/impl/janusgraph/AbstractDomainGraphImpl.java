@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represent a graph of domain elements (e.g structure of data views relative to a domain scope) and implementation capabilities regarding schema manipulation, graph data update, and graph queries via the selected query framework (e.g Tinkerpop).
@@ -28,6 +29,11 @@ public abstract class AbstractDomainGraphImpl implements ICleanup {
      */
     private final Logger logger;
 
+    /**
+     * Size of the blocks of identifiers acquired by a bulk loading graph.
+     */
+    private static final String BULK_LOADING_IDS_BLOCK_SIZE = "1000000";
+
     /**
      * Source of this graph.
      */
@@ -53,6 +59,11 @@ public abstract class AbstractDomainGraphImpl implements ICleanup {
      */
     private final IContext context;
 
+    /**
+     * Configuration values replacing the values of the context (e.g shadow graph storage, bulk loading settings).
+     */
+    private final Map<ReadModelConfigurationVariable, String> configurationOverrides = new ConcurrentHashMap<>();
+
     /**
      * Default constructor.
      *
@@ -110,6 +121,7 @@ public abstract class AbstractDomainGraphImpl implements ICleanup {
         logger().info("Opening graph (" + graphName() + ")");
         // Read the storage backend configuration settings
         Map<ReadModelConfigurationVariable, String> storageBackendConfigVariables = graphConfiguration();
+        storageBackendConfigVariables.putAll(configurationOverrides);
         JanusGraphFactory.Builder factory = JanusGraphFactory.build();
         try {
             // Add configuration settings
@@ -133,6 +145,35 @@ public abstract class AbstractDomainGraphImpl implements ICleanup {
         return graph.traversal();
     }
 
+    /**
+     * Replace a configuration value of the context for the next opening of this graph (e.g storage keyspace of a shadow graph).
+     * Shall be defined before the opening of the graph; else, the graph shall be closed and re-opened to apply the value.
+     *
+     * @param variable Mandatory configuration variable.
+     * @param value    Value to use. When null, the value of the context is used.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public void overrideConfiguration(ReadModelConfigurationVariable variable, String value) throws IllegalArgumentException {
+        if (variable == null) throw new IllegalArgumentException("Variable parameter is required!");
+        if (value != null) {
+            configurationOverrides.put(variable, value);
+        } else {
+            configurationOverrides.remove(variable);
+        }
+    }
+
+    /**
+     * Enable or disable the bulk loading settings of this graph (e.g during a read-model rebuild), with storage batch loading without consistency checks, and with larger blocks of identifiers.
+     * The graph is closed when it is opened, and the settings are applied by its next opening.
+     *
+     * @param enabled True to enable the bulk loading settings, false to restore the settings of the context.
+     */
+    public void bulkLoading(boolean enabled) {
+        if (graph != null) close();
+        overrideConfiguration(ReadModelConfigurationVariable.JANUSGRAPH_STORAGE_BATCH_LOADING, (enabled) ? Boolean.TRUE.toString() : null);
+        overrideConfiguration(ReadModelConfigurationVariable.JANUSGRAPH_IDS_BLOCK_SIZE, (enabled) ? BULK_LOADING_IDS_BLOCK_SIZE : null);
+    }
+
     /**
      * Closes the graph instance.
      */
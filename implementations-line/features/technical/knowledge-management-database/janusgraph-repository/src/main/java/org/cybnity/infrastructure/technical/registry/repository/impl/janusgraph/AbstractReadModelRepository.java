@@ -1,17 +1,21 @@
 package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph;
 
-import org.cybnity.framework.domain.Attribute;
-import org.cybnity.framework.domain.DomainEvent;
-import org.cybnity.framework.domain.IReadModelProjection;
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.*;
 import org.cybnity.framework.domain.event.IEventType;
+import org.cybnity.framework.domain.event.QueryFactory;
 import org.cybnity.framework.domain.model.AbstractRealModelDataViewProjection;
+import org.cybnity.framework.domain.model.DomainEntity;
 import org.cybnity.framework.domain.model.IDomainEventSubscriber;
 import org.cybnity.framework.domain.model.ITransactionStateObserver;
 import org.cybnity.framework.domain.model.Repository;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection.AbstractGraphDataViewTransactionImpl;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection.GraphProjectionBatcher;
 
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
@@ -22,7 +26,7 @@ public abstract class AbstractReadModelRepository extends Repository implements
     /**
      * Perimeter of projections that are under responsibility and status management by this repository.
      */
-    private AbstractReadModelProjectionsSet managedProjections;
+    private volatile AbstractReadModelProjectionsSet managedProjections;
 
     /**
      * Graph manipulated by this repository's projections that can be a dedicated independent graph.
@@ -30,6 +34,16 @@ public abstract class AbstractReadModelRepository extends Repository implements
      */
     private final AbstractDomainGraphImpl graphModel;
 
+    /**
+     * Optional group commit of the events handled by the graph projections. When null, each event is applied by the projections in its own transaction.
+     */
+    private volatile GraphProjectionBatcher projectionsBatcher;
+
+    /**
+     * Optional cache of the results of the queries executed on the projections. When null, each query is executed on its projection.
+     */
+    private volatile QueryResultsCache queryResultsCache;
+
     /**
      * Repository technical logger.
      */
@@ -87,8 +101,23 @@ public abstract class AbstractReadModelRepository extends Repository implements
                         sourceOfInterestType = dataViewProjection.subscribeToEventType();
                         if (sourceOfInterestType == null || sourceOfInterestType.isAssignableFrom(domainEvent.getClass())) {
                             // The projection expect to be notified about this type of event
+                            // Stop the read of its cached query results
+                            boolean changing = invalidateCachedResults(dataViewProjection, domainEvent);
                             // Forward the event to projections interested
-                            dataViewProjection.handleEvent(domainEvent);
+                            GraphProjectionBatcher batcher = this.projectionsBatcher;
+                            if (batcher != null && AbstractGraphDataViewTransactionImpl.class.isAssignableFrom(dataViewProjection.getClass())) {
+                                // Accumulate the event for application with the next batch of the projection
+                                batcher.add((AbstractGraphDataViewTransactionImpl) dataViewProjection, domainEvent);
+                            } else {
+                                long start = System.nanoTime();
+                                try {
+                                    dataViewProjection.handleEvent(domainEvent);
+                                } finally {
+                                    dataViewProjection.applyTimer().recordSince(start);
+                                }
+                            }
+                            // Remove the results cached by queries executed during the change
+                            if (changing) invalidateCachedResults(dataViewProjection, domainEvent);
                         }
                     }
                 }
@@ -96,6 +125,94 @@ public abstract class AbstractReadModelRepository extends Repository implements
         }
     }
 
+    /**
+     * Invalidate the cached query results of a projection changed by an event.
+     * A graph projection is changed only by the events supported by its transactions; any other projection is considered changed by each event of its subscribed type.
+     *
+     * @param projection Projection interested by the event.
+     * @param event      Event.
+     * @return True when the projection is changed by the event (whatever a cache is defined).
+     */
+    private boolean invalidateCachedResults(AbstractRealModelDataViewProjection projection, DomainEvent event) {
+        boolean changing = !AbstractGraphDataViewTransactionImpl.class.isAssignableFrom(projection.getClass())
+                || ((AbstractGraphDataViewTransactionImpl) projection).isChangedBy(event);
+        QueryResultsCache cache = this.queryResultsCache;
+        if (changing && cache != null) cache.invalidate(projection);
+        return changing;
+    }
+
+    /**
+     * Execute a query on a projection, with read of its result from the query results cache when defined.
+     * A result is cached only when none event accumulated for the projection is pending commit at the query start (a batch committed during the query could not be seen by the query), and when none change of the projection have been notified during the query execution.
+     * The cached results are shared between the callers and shall not be modified.
+     *
+     * @param projection      Mandatory projection supporting the query.
+     * @param queryName       Mandatory name of the query type.
+     * @param queryParameters Parameters of the query (e.g prepared by prepareQueryParameters()).
+     * @return Result of the query.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws UnoperationalStateException When problem during the query execution.
+     */
+    protected IQueryResponse executeQuery(IReadModelProjection projection, String queryName, Collection<Attribute> queryParameters) throws IllegalArgumentException, UnoperationalStateException {
+        if (projection == null) throw new IllegalArgumentException("Projection parameter is required!");
+        if (queryName == null || queryName.isEmpty())
+            throw new IllegalArgumentException("Query name parameter is required!");
+        QueryResultsCache cache = this.queryResultsCache;
+        String key = null;
+        long version = 0;
+        boolean cacheable = false;
+        if (cache != null) {
+            key = QueryResultsCache.key(queryName, queryParameters);
+            IQueryResponse cached = cache.get(key);
+            if (cached != null) return cached;
+            // Version of the projection before the query execution
+            version = cache.version(projection);
+            cacheable = !hasPendingEvents(projection);
+        }
+        // Prepare instance of query command event to submit on the projection
+        Command queryToPerform = QueryFactory.create(/* Name of query type */ queryName, /* query command UUID */
+                new DomainEntity(IdentifierStringBased.generate(null)), queryParameters,
+                /* None prior command managed during this explicit query call */ null);
+        IQueryResponse response = projection.when(queryToPerform);
+        if (cache == null) return response;
+        final Optional<DataTransferObject> result = (response != null) ? response.value() : Optional.empty();
+        if (cacheable && !hasPendingEvents(projection)) {
+            // Result read from committed data view
+            cache.put(key, projection, version, result);
+        }
+        return () -> result;
+    }
+
+    /**
+     * Verify if events accumulated by the projections batcher for a projection are not committed.
+     *
+     * @param projection Projection.
+     * @return True when events of the projection are accumulated or under commit.
+     */
+    private boolean hasPendingEvents(IReadModelProjection projection) {
+        GraphProjectionBatcher batcher = this.projectionsBatcher;
+        return batcher != null && AbstractGraphDataViewTransactionImpl.class.isAssignableFrom(projection.getClass())
+                && batcher.hasPendingEvents((AbstractGraphDataViewTransactionImpl) projection);
+    }
+
+    /**
+     * Get the cache of the query results.
+     *
+     * @return A cache or null when each query is executed on its projection.
+     */
+    public QueryResultsCache getQueryResultsCache() {
+        return this.queryResultsCache;
+    }
+
+    /**
+     * Define the cache of the results of the queries executed via executeQuery().
+     *
+     * @param cache A cache. When null, each query is executed on its projection.
+     */
+    public void setQueryResultsCache(QueryResultsCache cache) {
+        this.queryResultsCache = cache;
+    }
+
     /**
      * Confirm interested in any type of domain event that can be source of interest for projections.
      *
@@ -124,6 +241,48 @@ public abstract class AbstractReadModelRepository extends Repository implements
         this.managedProjections = readModelPerimeter;
     }
 
+    /**
+     * Replace the managed projections by a set rebuilt into another graph (e.g shadow graph fed by a replay of the write-model), without interruption of the events handling.
+     * The events accumulated by the projections batcher are committed into the previous graph before the replacement.
+     * The events handled between the end of the rebuild and the replacement shall be replayed into the rebuilt projections by the caller.
+     *
+     * @param rebuilt Mandatory rebuilt projections.
+     * @return The previously managed projections (e.g to drop their graph), or null.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public AbstractReadModelProjectionsSet swapManagedProjections(AbstractReadModelProjectionsSet rebuilt) throws IllegalArgumentException {
+        if (rebuilt == null) throw new IllegalArgumentException("Rebuilt parameter is required!");
+        GraphProjectionBatcher batcher = this.projectionsBatcher;
+        if (batcher != null) batcher.flush();
+        AbstractReadModelProjectionsSet previous = this.managedProjections;
+        this.managedProjections = rebuilt;
+        // Results read from the previous projections
+        QueryResultsCache cache = this.queryResultsCache;
+        if (cache != null) cache.clear();
+        return previous;
+    }
+
+    /**
+     * Get the group commit of the events handled by the graph projections.
+     *
+     * @return A batcher or null when each event is applied in its own transaction.
+     */
+    public GraphProjectionBatcher getProjectionsBatcher() {
+        return this.projectionsBatcher;
+    }
+
+    /**
+     * Define the group commit of the events handled by the graph projections (e.g during bursts of write-model changes like imports or replays).
+     * The events accumulated by a previous batcher are committed before its replacement.
+     *
+     * @param batcher A batcher. When null, each event is applied by the projections in its own transaction.
+     */
+    public void setProjectionsBatcher(GraphProjectionBatcher batcher) {
+        GraphProjectionBatcher previous = this.projectionsBatcher;
+        this.projectionsBatcher = batcher;
+        if (previous != null && previous != batcher) previous.freeUpResources();
+    }
+
     /**
      * Search managed projection that is supporting a specific query (e.g specific to the projection data structured).
      *
@@ -0,0 +1,237 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.DataTransferObject;
+import org.cybnity.framework.domain.IQueryResponse;
+import org.cybnity.framework.domain.IReadModelProjection;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the results of the queries executed on read-model projections, bounded by a maximum quantity of results (the least recently used result is evicted) and by a time to live of each result.
+ * The results are identified by the query name and the query parameters (sorted by name and value), and are invalidated per projection when the projection is changed.
+ * A version of each projection is incremented by each invalidation, so a result read before a projection change is not cached after it.
+ * The cached results are shared between the callers and shall be used as read-only.
+ */
+public class QueryResultsCache {
+
+    /**
+     * Maximum quantity of cached results.
+     */
+    private final int maxEntries;
+
+    /**
+     * Time to live of a cached result in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Cached results in access order (the eldest is the least recently used).
+     */
+    private final LinkedHashMap<String, CachedResult> results;
+
+    /**
+     * Version of each projection, incremented by each invalidation.
+     */
+    private final Map<IReadModelProjection, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Default constructor.
+     *
+     * @param maxEntries Maximum quantity of cached results (minimum 1).
+     * @param ttl        Mandatory time to live of a cached result.
+     * @throws IllegalArgumentException When invalid parameter.
+     */
+    public QueryResultsCache(int maxEntries, Duration ttl) throws IllegalArgumentException {
+        if (maxEntries < 1) throw new IllegalArgumentException("Max entries parameter shall be minimum 1!");
+        if (ttl == null || ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("Ttl parameter is required and shall be positive!");
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.results = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Build the identifier of a query result.
+     *
+     * @param queryName       Mandatory name of the query.
+     * @param queryParameters Parameters of the query (e.g prepared by AbstractReadModelRepository.prepareQueryParameters()). Can be null.
+     * @return A key independent of the parameters order.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static String key(String queryName, Collection<Attribute> queryParameters) throws IllegalArgumentException {
+        if (queryName == null || queryName.isEmpty())
+            throw new IllegalArgumentException("Query name parameter is required!");
+        StringBuilder key = new StringBuilder(queryName);
+        if (queryParameters != null) {
+            List<String> params = new ArrayList<>(queryParameters.size());
+            for (Attribute param : queryParameters) {
+                params.add(param.name() + "=" + param.value());
+            }
+            Collections.sort(params);
+            for (String param : params) {
+                key.append('&').append(param);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Get the current version of a projection, to read before the execution of a query whose result will be cached.
+     *
+     * @param projection Mandatory projection.
+     * @return A version.
+     */
+    public long version(IReadModelProjection projection) {
+        return versions.computeIfAbsent(projection, p -> new AtomicLong()).get();
+    }
+
+    /**
+     * Get a cached query result.
+     *
+     * @param key Mandatory identifier of the result.
+     * @return A result, or null when not cached or expired.
+     */
+    public IQueryResponse get(String key) {
+        synchronized (results) {
+            CachedResult cached = results.get(key);
+            if (cached != null && System.nanoTime() - cached.expireAt < 0) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            if (cached != null) {
+                // Expired result
+                results.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Cache a query result, when its projection has not been changed since the query execution start.
+     *
+     * @param key        Mandatory identifier of the result.
+     * @param projection Mandatory projection which executed the query.
+     * @param version    Version of the projection read before the query execution.
+     * @param value      Result of the query.
+     * @return True when cached.
+     */
+    public boolean put(String key, IReadModelProjection projection, long version, Optional<DataTransferObject> value) {
+        synchronized (results) {
+            // Ignore a result read before a projection change
+            if (version(projection) != version) return false;
+            results.put(key, new CachedResult(projection, value, System.nanoTime() + ttlNanos));
+            if (results.size() > maxEntries) {
+                // Evict the least recently used
+                Iterator<String> eldest = results.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove the cached results of a changed projection.
+     *
+     * @param projection Mandatory changed projection.
+     */
+    public void invalidate(IReadModelProjection projection) {
+        synchronized (results) {
+            versions.computeIfAbsent(projection, p -> new AtomicLong()).incrementAndGet();
+            results.values().removeIf(cached -> cached.projection.equals(projection));
+        }
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Remove all the cached results.
+     */
+    public void clear() {
+        synchronized (results) {
+            for (AtomicLong version : versions.values()) {
+                version.incrementAndGet();
+            }
+            results.clear();
+        }
+    }
+
+    /**
+     * Get the quantity of results read from the cache.
+     *
+     * @return A quantity.
+     */
+    public long hitsCount() {
+        return hits.get();
+    }
+
+    /**
+     * Get the quantity of results not found into the cache.
+     *
+     * @return A quantity.
+     */
+    public long missesCount() {
+        return misses.get();
+    }
+
+    /**
+     * Get the quantity of results removed because the cache is full or because expired.
+     *
+     * @return A quantity.
+     */
+    public long evictionsCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Get the quantity of projection invalidations.
+     *
+     * @return A quantity.
+     */
+    public long invalidationsCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Get the quantity of cached results.
+     *
+     * @return A quantity.
+     */
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    /**
+     * Result of a query.
+     */
+    private static final class CachedResult implements IQueryResponse {
+
+        private final IReadModelProjection projection;
+        private final Optional<DataTransferObject> value;
+        private final long expireAt;
+
+        private CachedResult(IReadModelProjection projection, Optional<DataTransferObject> value, long expireAt) {
+            this.projection = projection;
+            this.value = (value != null) ? value : Optional.empty();
+            this.expireAt = expireAt;
+        }
+
+        @Override
+        public Optional<DataTransferObject> value() {
+            return value;
+        }
+    }
+}
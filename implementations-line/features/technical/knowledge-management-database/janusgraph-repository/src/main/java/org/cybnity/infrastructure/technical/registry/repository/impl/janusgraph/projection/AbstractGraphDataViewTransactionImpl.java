@@ -1,9 +1,12 @@
 package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection;
 
 import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.IProjectionRead;
 import org.cybnity.framework.domain.IProjectionTransaction;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.event.EventSpecification;
 import org.cybnity.framework.domain.event.IEventType;
 import org.cybnity.framework.domain.infrastructure.IDomainStore;
 import org.cybnity.framework.domain.model.AbstractRealModelDataViewProjection;
@@ -107,6 +110,34 @@ public abstract class AbstractGraphDataViewTransactionImpl extends AbstractRealM
         return this.supportedQueries;
     }
 
+    /**
+     * Find the transaction supporting an event.
+     * This default implementation search the supported transaction registered with the event type name (ConcreteDomainChangeEvent.TYPE specification attribute).
+     * Can be redefined by subclass identifying differently the type of the source of interest.
+     *
+     * @param event Event to analyze.
+     * @return A transaction. Null when event parameter is null, or when none supported transaction.
+     */
+    protected IProjectionTransaction transactionOf(DomainEvent event) {
+        if (event != null) {
+            Attribute at = EventSpecification.findSpecificationByName(ConcreteDomainChangeEvent.TYPE, event.specification());
+            if (at != null) {
+                return supportedTransactions().get(at.value());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verify if an event is changing the data views of this projection (e.g to invalidate the cached results of its queries).
+     *
+     * @param event Event.
+     * @return True when a transaction of this projection is supporting the event.
+     */
+    public boolean isChangedBy(DomainEvent event) {
+        return transactionOf(event) != null;
+    }
+
     /**
      * Default implementation which check the supported queries container regarding the query type name.
      *
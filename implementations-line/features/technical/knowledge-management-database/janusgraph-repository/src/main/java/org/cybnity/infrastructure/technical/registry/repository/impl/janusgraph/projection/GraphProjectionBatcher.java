@@ -0,0 +1,269 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.ICleanup;
+import org.cybnity.framework.domain.IProjectionTransaction;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.AbstractDomainGraphImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Group commit of the events handled by graph projections.
+ * The events are accumulated per projection, and applied in one graph transaction per batch when the maximum batch size is reached (by the thread adding the last event), or when the maximum delay since the first accumulated event is elapsed (by a background thread).
+ * The transactions of the events are applied in their accumulation order: a transaction which does not support the batch application (not IGraphBatchableTransaction) is executed alone, after the commit of the previous events.
+ * The data view change notifications of a batch are delivered to the projection observer after the batch commit.
+ * When a batch commit fails, the batch is rolled back and its events are re-applied one by one (each in its own transaction) to isolate the failed change.
+ * The events whose transaction fails are counted by the metrics (see ProjectionBatchMetrics.failedTransactionsCount()), allowing a caller to detect the changes not applied by a flush.
+ */
+public class GraphProjectionBatcher implements ICleanup {
+
+    /**
+     * Technical logging
+     */
+    private static final Logger logger = Logger.getLogger(GraphProjectionBatcher.class.getName());
+
+    /**
+     * Maximum quantity of events committed per graph transaction.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Maximum delay of an accumulated event before its commit.
+     */
+    private final Duration maxDelay;
+
+    /**
+     * Accumulated events per projection.
+     */
+    private final Map<AbstractGraphDataViewTransactionImpl, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * Background thread committing the batches at the end of their maximum delay.
+     */
+    private final ScheduledExecutorService flusher;
+
+    private final ProjectionBatchMetrics metrics = new ProjectionBatchMetrics();
+
+    /**
+     * Default constructor.
+     *
+     * @param maxBatchSize Maximum quantity of events committed per graph transaction (minimum 1).
+     * @param maxDelay     Mandatory maximum delay of an accumulated event before its commit.
+     * @throws IllegalArgumentException When invalid parameter.
+     */
+    public GraphProjectionBatcher(int maxBatchSize, Duration maxDelay) throws IllegalArgumentException {
+        if (maxBatchSize < 1) throw new IllegalArgumentException("Max batch size parameter shall be minimum 1!");
+        if (maxDelay == null || maxDelay.isNegative())
+            throw new IllegalArgumentException("Max delay parameter is required and shall be positive!");
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "projection-batcher");
+            // Do not prevent the stop of the process
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Accumulate an event to apply by a projection.
+     *
+     * @param projection Mandatory projection interested by the event.
+     * @param event      Mandatory event.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public void add(AbstractGraphDataViewTransactionImpl projection, DomainEvent event) throws IllegalArgumentException {
+        if (projection == null) throw new IllegalArgumentException("Projection parameter is required!");
+        if (event == null) throw new IllegalArgumentException("Event parameter is required!");
+        Batch batch = batches.computeIfAbsent(projection, Batch::new);
+        int size = batch.append(event);
+        if (size >= maxBatchSize) {
+            // Full batch committed by the current thread
+            batch.flush();
+        } else if (size == 1) {
+            // First event of a new batch
+            try {
+                flusher.schedule(batch::flush, maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ree) {
+                // Stopped batcher
+                batch.flush();
+            }
+        }
+    }
+
+    /**
+     * Commit all the accumulated events.
+     */
+    public void flush() {
+        for (Batch batch : batches.values()) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Verify if events accumulated for a projection are not committed (e.g to not cache a result read before their commit).
+     *
+     * @param projection Projection.
+     * @return True when events of the projection are accumulated or under commit.
+     */
+    public boolean hasPendingEvents(AbstractGraphDataViewTransactionImpl projection) {
+        if (projection == null) return false;
+        Batch batch = batches.get(projection);
+        return batch != null && batch.pending.get() > 0;
+    }
+
+    /**
+     * Get the measures of the committed batches.
+     *
+     * @return Metrics.
+     */
+    public ProjectionBatchMetrics metrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Commit the accumulated events and stop the background thread.
+     */
+    @Override
+    public void freeUpResources() {
+        flusher.shutdownNow();
+        flush();
+        batches.clear();
+    }
+
+    /**
+     * Events accumulated for a projection.
+     */
+    private final class Batch {
+
+        private final AbstractGraphDataViewTransactionImpl projection;
+        private List<DomainEvent> events = new ArrayList<>();
+
+        /**
+         * Quantity of accumulated events not yet committed.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * Lock ensuring the commit of the batches of the projection in their accumulation order.
+         */
+        private final Object commitLock = new Object();
+
+        private Batch(AbstractGraphDataViewTransactionImpl projection) {
+            this.projection = projection;
+        }
+
+        /**
+         * Add an event.
+         *
+         * @param event Event.
+         * @return Quantity of accumulated events.
+         */
+        private synchronized int append(DomainEvent event) {
+            events.add(event);
+            pending.incrementAndGet();
+            return events.size();
+        }
+
+        /**
+         * Take the accumulated events.
+         *
+         * @return Events in accumulation order.
+         */
+        private synchronized List<DomainEvent> drain() {
+            List<DomainEvent> drained = events;
+            events = new ArrayList<>();
+            return drained;
+        }
+
+        /**
+         * Commit the accumulated events.
+         */
+        private void flush() {
+            synchronized (commitLock) {
+                List<DomainEvent> drained = drain();
+                List<DomainEvent> group = new ArrayList<>(drained.size());
+                for (DomainEvent event : drained) {
+                    IProjectionTransaction transaction = projection.transactionOf(event);
+                    if (transaction instanceof IGraphBatchableTransaction) {
+                        group.add(event);
+                    } else if (transaction != null) {
+                        // Commit the grouped changes before the not batchable transaction (preserving the changes order)
+                        commit(group);
+                        group.clear();
+                        execute(transaction, event);
+                    }
+                }
+                commit(group);
+                pending.addAndGet(-drained.size());
+            }
+        }
+
+        /**
+         * Apply a group of events into one graph transaction.
+         *
+         * @param group Events supported by batchable transactions.
+         */
+        private void commit(List<DomainEvent> group) {
+            if (group.isEmpty()) return;
+            AbstractDomainGraphImpl graph = projection.graphModel();
+            List<DomainEvent> notifications = new ArrayList<>(group.size());
+            long start = System.nanoTime();
+            Transaction tx = null;
+            try {
+                // Open one transaction for all the events of the group
+                GraphTraversalSource source = graph.open();
+                tx = source.tx();
+                GraphTraversalSource gtx = tx.begin();
+                for (DomainEvent event : group) {
+                    DomainEvent notification = ((IGraphBatchableTransaction) projection.transactionOf(event)).apply(event, gtx);
+                    if (notification != null) notifications.add(notification);
+                }
+                tx.commit();
+                metrics.batchCommitted(group.size(), System.nanoTime() - start);
+            } catch (Exception e) {
+                if (graph.isSupportsTransactions() && tx != null) {
+                    try {
+                        tx.rollback();
+                    } catch (Exception ignored) {
+                    }
+                }
+                metrics.batchFailed();
+                logger.log(Level.WARNING, "Batch commit of " + group.size() + " events failed (re-applied one by one)!", e);
+                // Isolate the failed change(s) with a transaction per event
+                for (DomainEvent event : group) {
+                    execute(projection.transactionOf(event), event);
+                }
+                return;
+            }
+            // Notify the data view changes of the committed batch
+            for (DomainEvent notification : notifications) {
+                projection.notifyTransactionState(notification);
+            }
+        }
+
+        /**
+         * Execute the transaction of an event alone.
+         *
+         * @param transaction Transaction.
+         * @param event       Event.
+         */
+        private void execute(IProjectionTransaction transaction, DomainEvent event) {
+            try {
+                transaction.when(event);
+            } catch (RuntimeException e) {
+                metrics.transactionFailed();
+                logger.log(Level.SEVERE, "Projection transaction failed!", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IProjectionTransaction;
+
+/**
+ * Projection transaction which can apply its change into a graph transaction opened and committed by a caller (e.g with the changes of other events grouped into the same graph transaction).
+ * The change notification (e.g data view created) shall only be delivered by the caller after the commit of the graph transaction.
+ */
+public interface IGraphBatchableTransaction extends IProjectionTransaction {
+
+    /**
+     * Apply the change directive of an event into an opened graph transaction, without commit.
+     *
+     * @param event Mandatory source of interest.
+     * @param gtx   Mandatory traversal of the opened graph transaction.
+     * @return Event about the data view change to notify after the transaction commit. Null when none change to notify.
+     * @throws UnoperationalStateException When problem during the change execution (the caller shall roll back the graph transaction).
+     */
+    public DomainEvent apply(DomainEvent event, GraphTraversalSource gtx) throws UnoperationalStateException;
+}
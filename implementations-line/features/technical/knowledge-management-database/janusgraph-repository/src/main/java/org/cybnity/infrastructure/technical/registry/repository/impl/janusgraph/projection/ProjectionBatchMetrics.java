@@ -0,0 +1,142 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures of the graph transactions committed by a projections batcher.
+ * The measures are updated by the batcher and are readable by any thread.
+ */
+public class ProjectionBatchMetrics {
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong committedEvents = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong failedTransactions = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong totalCommitLatency = new AtomicLong();
+    private final AtomicLong maxCommitLatency = new AtomicLong();
+    private final AtomicLong lastCommitLatency = new AtomicLong();
+
+    /**
+     * Record a batch committed into the graph.
+     *
+     * @param size         Quantity of events of the batch.
+     * @param latencyNanos Duration of the batch application and commit, in nanoseconds.
+     */
+    void batchCommitted(int size, long latencyNanos) {
+        batches.incrementAndGet();
+        committedEvents.addAndGet(size);
+        lastBatchSize.set(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+        totalCommitLatency.addAndGet(latencyNanos);
+        lastCommitLatency.set(latencyNanos);
+        maxCommitLatency.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    /**
+     * Record a batch rolled back (its events being re-applied one by one).
+     */
+    void batchFailed() {
+        failedBatches.incrementAndGet();
+    }
+
+    /**
+     * Record an event whose transaction failed (change not applied into the graph).
+     */
+    void transactionFailed() {
+        failedTransactions.incrementAndGet();
+    }
+
+    /**
+     * Get the quantity of committed batches.
+     *
+     * @return A quantity.
+     */
+    public long batchesCount() {
+        return batches.get();
+    }
+
+    /**
+     * Get the quantity of events committed by batches.
+     *
+     * @return A quantity.
+     */
+    public long committedEventsCount() {
+        return committedEvents.get();
+    }
+
+    /**
+     * Get the quantity of rolled back batches.
+     *
+     * @return A quantity.
+     */
+    public long failedBatchesCount() {
+        return failedBatches.get();
+    }
+
+    /**
+     * Get the quantity of events whose transaction failed (not applied into the graph, including after the re-application of a rolled back batch).
+     *
+     * @return A quantity.
+     */
+    public long failedTransactionsCount() {
+        return failedTransactions.get();
+    }
+
+    /**
+     * Get the size of the biggest committed batch.
+     *
+     * @return A quantity of events.
+     */
+    public long maxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Get the size of the last committed batch.
+     *
+     * @return A quantity of events.
+     */
+    public long lastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    /**
+     * Get the average size of the committed batches.
+     *
+     * @return A quantity of events. 0 when none committed batch.
+     */
+    public double averageBatchSize() {
+        long qty = batches.get();
+        return (qty > 0) ? (double) committedEvents.get() / qty : 0;
+    }
+
+    /**
+     * Get the duration of the last batch commit.
+     *
+     * @return A duration in nanoseconds.
+     */
+    public long lastCommitLatency() {
+        return lastCommitLatency.get();
+    }
+
+    /**
+     * Get the duration of the slowest batch commit.
+     *
+     * @return A duration in nanoseconds.
+     */
+    public long maxCommitLatency() {
+        return maxCommitLatency.get();
+    }
+
+    /**
+     * Get the average duration of the batches commit.
+     *
+     * @return A duration in nanoseconds. 0 when none committed batch.
+     */
+    public long averageCommitLatency() {
+        long qty = batches.get();
+        return (qty > 0) ? totalCommitLatency.get() / qty : 0;
+    }
+}
@@ -0,0 +1,37 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay;
+
+import org.cybnity.framework.UnoperationalStateException;
+
+/**
+ * Store of the progress of the replays executed by partitions, allowing to resume an interrupted replay after its last checkpoint.
+ */
+public interface IReplayCheckpointStore {
+
+    /**
+     * Get the last subject of a partition whose events have been committed.
+     *
+     * @param replayName Mandatory name of the replay.
+     * @param partition  Index of the partition.
+     * @return A subject identifier, or null when none checkpoint.
+     * @throws UnoperationalStateException When technical problem is occurred regarding this store usage.
+     */
+    public String lastCompletedSubject(String replayName, int partition) throws UnoperationalStateException;
+
+    /**
+     * Save the last subject of a partition whose events have been committed.
+     *
+     * @param replayName Mandatory name of the replay.
+     * @param partition  Index of the partition.
+     * @param subjectId  Mandatory subject identifier.
+     * @throws UnoperationalStateException When technical problem is occurred regarding this store usage.
+     */
+    public void checkpoint(String replayName, int partition, String subjectId) throws UnoperationalStateException;
+
+    /**
+     * Remove the checkpoints of a replay (e.g completed replay).
+     *
+     * @param replayName Mandatory name of the replay.
+     * @throws UnoperationalStateException When technical problem is occurred regarding this store usage.
+     */
+    public void clear(String replayName) throws UnoperationalStateException;
+}
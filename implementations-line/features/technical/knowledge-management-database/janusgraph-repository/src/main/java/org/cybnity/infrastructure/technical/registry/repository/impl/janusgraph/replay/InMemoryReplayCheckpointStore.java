@@ -0,0 +1,41 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of replay checkpoints kept into the memory of the process (e.g resume of a replay interrupted by a technical failure without stop of the process).
+ */
+public class InMemoryReplayCheckpointStore implements IReplayCheckpointStore {
+
+    private static final String SEPARATOR = "#";
+
+    /**
+     * Last completed subject per partition (Key = replay name and partition index).
+     */
+    private final Map<String, String> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public String lastCompletedSubject(String replayName, int partition) {
+        return checkpoints.get(key(replayName, partition));
+    }
+
+    @Override
+    public void checkpoint(String replayName, int partition, String subjectId) {
+        if (subjectId == null) throw new IllegalArgumentException("Subject id parameter is required!");
+        checkpoints.put(key(replayName, partition), subjectId);
+    }
+
+    @Override
+    public void clear(String replayName) {
+        if (replayName == null || replayName.isEmpty())
+            throw new IllegalArgumentException("Replay name parameter is required!");
+        checkpoints.keySet().removeIf(key -> key.startsWith(replayName + SEPARATOR));
+    }
+
+    private String key(String replayName, int partition) {
+        if (replayName == null || replayName.isEmpty())
+            throw new IllegalArgumentException("Replay name parameter is required!");
+        return replayName + SEPARATOR + partition;
+    }
+}
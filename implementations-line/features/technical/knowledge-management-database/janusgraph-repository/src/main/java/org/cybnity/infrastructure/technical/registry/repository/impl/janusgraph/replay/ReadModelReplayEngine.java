@@ -0,0 +1,269 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IReadModelProjection;
+import org.cybnity.framework.domain.model.AbstractRealModelDataViewProjection;
+import org.cybnity.framework.domain.model.EventStream;
+import org.cybnity.framework.domain.model.IEventStore;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.AbstractReadModelProjectionsSet;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection.AbstractGraphDataViewTransactionImpl;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection.GraphProjectionBatcher;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rebuild of read-model projections from the event streams of a write-model store.
+ * The streamed subjects are distributed between partitions (according to the hash of their identifier) replayed in parallel; the events of a subject are replayed in their append order by one partition.
+ * Each partition saves a checkpoint (last replayed subject, in identifier order) after the commit of the events of a quantity of subjects, allowing to resume an interrupted replay from its checkpoints.
+ * The events of the subjects replayed after the last checkpoint of a partition are replayed again on resume, so the projection transactions shall be idempotent (e.g merge of existing vertex).
+ * A failed projection transaction interrupts its partition without checkpoint of the subjects replayed since the previous checkpoint (including a transaction failed during a batcher flush, or an event handled by a projection without batcher).
+ * <p>
+ * The projections can be fed via a batcher committing the events by groups, and can be defined on a shadow graph (e.g graph opened with another storage keyspace and with the bulk loading settings) which replaces the current read-model of a repository at the end of the rebuild (see AbstractReadModelRepository.swapManagedProjections()).
+ */
+public class ReadModelReplayEngine {
+
+    /**
+     * Technical logging
+     */
+    private static final Logger logger = Logger.getLogger(ReadModelReplayEngine.class.getName());
+
+    /**
+     * Write-model store of the events to replay.
+     */
+    private final IEventStore store;
+
+    /**
+     * Quantity of partitions replayed in parallel.
+     */
+    private final int partitions;
+
+    /**
+     * Quantity of replayed subjects between two checkpoints of a partition.
+     */
+    private final int checkpointInterval;
+
+    /**
+     * Default constructor.
+     *
+     * @param store              Mandatory store of the events to replay.
+     * @param partitions         Quantity of partitions replayed in parallel (minimum 1).
+     * @param checkpointInterval Quantity of replayed subjects between two checkpoints of a partition (minimum 1).
+     * @throws IllegalArgumentException When invalid parameter.
+     */
+    public ReadModelReplayEngine(IEventStore store, int partitions, int checkpointInterval) throws IllegalArgumentException {
+        if (store == null) throw new IllegalArgumentException("Store parameter is required!");
+        if (partitions < 1) throw new IllegalArgumentException("Partitions parameter shall be minimum 1!");
+        if (checkpointInterval < 1)
+            throw new IllegalArgumentException("Checkpoint interval parameter shall be minimum 1!");
+        this.store = store;
+        this.partitions = partitions;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Get the partition of a subject.
+     *
+     * @param subjectId Mandatory subject identifier.
+     * @return An index of partition.
+     */
+    public int partitionOf(String subjectId) {
+        return Math.floorMod(subjectId.hashCode(), partitions);
+    }
+
+    /**
+     * Replay the events of subjects into projections, from the checkpoints of a previous interrupted execution when existing.
+     * The checkpoints are removed at the end of a replay executed with success.
+     *
+     * @param replayName  Mandatory name of the replay (e.g rebuilt read-model name) identifying its checkpoints.
+     * @param subjectIds  Mandatory identifiers of the streamed subjects to replay.
+     * @param projections Mandatory projections to feed.
+     * @param batcher     Optional group commit of the events into the graph projections. When null, each event is handled by the projections in its own transaction.
+     * @param checkpoints Mandatory store of the replay progress.
+     * @return Result of the replay.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws UnoperationalStateException When a partition have been interrupted by a problem (the other partitions are completed, and the replay can be resumed).
+     */
+    public ReplayReport replay(String replayName, Collection<String> subjectIds, AbstractReadModelProjectionsSet projections, GraphProjectionBatcher batcher, IReplayCheckpointStore checkpoints) throws IllegalArgumentException, UnoperationalStateException {
+        if (replayName == null || replayName.isEmpty())
+            throw new IllegalArgumentException("Replay name parameter is required!");
+        if (subjectIds == null) throw new IllegalArgumentException("Subject ids parameter is required!");
+        if (projections == null) throw new IllegalArgumentException("Projections parameter is required!");
+        if (checkpoints == null) throw new IllegalArgumentException("Checkpoints parameter is required!");
+        long start = System.nanoTime();
+        ReplayReport report = new ReplayReport();
+
+        // Distribute the subjects between the partitions, in identifier order
+        List<SortedSet<String>> partitionsSubjects = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            partitionsSubjects.add(new TreeSet<>());
+        }
+        for (String subjectId : subjectIds) {
+            if (subjectId != null && !subjectId.isEmpty())
+                partitionsSubjects.get(partitionOf(subjectId)).add(subjectId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "read-model-replay-" + replayName);
+            // Do not prevent the stop of the process
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Void>> executions = new ArrayList<>(partitions);
+        try {
+            for (int i = 0; i < partitions; i++) {
+                final int partition = i;
+                final SortedSet<String> subjects = partitionsSubjects.get(i);
+                executions.add(executor.submit(() -> {
+                    replayPartition(replayName, partition, subjects, projections, batcher, checkpoints, report);
+                    return null;
+                }));
+            }
+            // Wait the end of all the partitions
+            UnoperationalStateException failure = null;
+            for (Future<Void> execution : executions) {
+                try {
+                    execution.get();
+                } catch (ExecutionException ee) {
+                    if (failure == null) failure = new UnoperationalStateException("Replay " + replayName + " interrupted!", ee.getCause());
+                }
+            }
+            if (failure != null) throw failure;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new UnoperationalStateException(ie);
+        } finally {
+            executor.shutdownNow();
+            report.ended(Duration.ofNanos(System.nanoTime() - start));
+        }
+        // Completed replay
+        checkpoints.clear(replayName);
+        return report;
+    }
+
+    /**
+     * Replay the subjects of a partition after its last checkpoint.
+     *
+     * @param replayName  Name of the replay.
+     * @param partition   Index of the partition.
+     * @param subjects    Subjects of the partition in identifier order.
+     * @param projections Projections to feed.
+     * @param batcher     Optional group commit.
+     * @param checkpoints Store of the replay progress.
+     * @param report      Result to update.
+     * @throws UnoperationalStateException When problem during the events read or the checkpoint save.
+     */
+    private void replayPartition(String replayName, int partition, SortedSet<String> subjects, AbstractReadModelProjectionsSet projections, GraphProjectionBatcher batcher, IReplayCheckpointStore checkpoints, ReplayReport report) throws UnoperationalStateException {
+        String lastCompleted = checkpoints.lastCompletedSubject(replayName, partition);
+        String lastReplayed = null;
+        int sinceCheckpoint = 0;
+        // Failed transactions of the batcher before the replay of the partition
+        long failures = failedTransactions(batcher);
+        // Failed events handled by the projections without batcher since the previous checkpoint
+        long directFailures = 0;
+        for (String subjectId : subjects) {
+            if (Thread.currentThread().isInterrupted()) throw new UnoperationalStateException("Replay interrupted!");
+            if (lastCompleted != null && subjectId.compareTo(lastCompleted) <= 0) {
+                // Already replayed before the checkpoint
+                report.subjectSkipped();
+                continue;
+            }
+            EventStream stream = store.loadEventStream(subjectId);
+            int eventsQty = 0;
+            if (stream != null && stream.getEvents() != null) {
+                List<DomainEvent> events = inOccurrenceOrder(stream.getEvents());
+                for (DomainEvent event : events) {
+                    directFailures += feed(projections, batcher, event);
+                }
+                eventsQty = events.size();
+            }
+            report.subjectReplayed(eventsQty);
+            lastReplayed = subjectId;
+            if (++sinceCheckpoint >= checkpointInterval) {
+                failures = save(replayName, partition, lastReplayed, batcher, checkpoints, report, failures, directFailures);
+                sinceCheckpoint = 0;
+            }
+        }
+        if (sinceCheckpoint > 0)
+            save(replayName, partition, lastReplayed, batcher, checkpoints, report, failures, directFailures);
+    }
+
+    /**
+     * Save the progress of a partition after the commit of its replayed events.
+     *
+     * @param failures       Quantity of failed transactions of the batcher at the previous checkpoint.
+     * @param directFailures Quantity of failed events handled by the projections without batcher since the previous checkpoint.
+     * @return Quantity of failed transactions of the batcher at this checkpoint.
+     * @throws UnoperationalStateException When a transaction failed since the previous checkpoint (progress not saved), or problem during the save.
+     */
+    private long save(String replayName, int partition, String lastReplayed, GraphProjectionBatcher batcher, IReplayCheckpointStore checkpoints, ReplayReport report, long failures, long directFailures) throws UnoperationalStateException {
+        if (batcher != null) batcher.flush();
+        long current = failedTransactions(batcher);
+        long failed = (current - failures) + directFailures;
+        if (failed > 0)
+            throw new UnoperationalStateException("Replay " + replayName + " of partition " + partition + " interrupted by " + failed + " failed projection transaction(s) before checkpoint of " + lastReplayed + "!");
+        checkpoints.checkpoint(replayName, partition, lastReplayed);
+        report.checkpointSaved();
+        logger.log(Level.FINE, "Replay " + replayName + " checkpoint of partition " + partition + ": " + lastReplayed);
+        return current;
+    }
+
+    /**
+     * Get the quantity of failed transactions of a batcher.
+     *
+     * @param batcher Optional batcher.
+     * @return A quantity. 0 when none batcher.
+     */
+    private static long failedTransactions(GraphProjectionBatcher batcher) {
+        return (batcher != null) ? batcher.metrics().failedTransactionsCount() : 0;
+    }
+
+    /**
+     * Order the events of a stream from the oldest to the most recent.
+     * The stream is loaded in descending order according to the IEventStore contract (last event is first of list), so its order is reversed; the occurrence dates are not compared (events of a same date keep their append order).
+     *
+     * @param streamEvents Events of a stream loaded by IEventStore.loadEventStream().
+     * @return Events in append order.
+     */
+    public static List<DomainEvent> inOccurrenceOrder(List<DomainEvent> streamEvents) {
+        List<DomainEvent> events = new ArrayList<>(streamEvents);
+        Collections.reverse(events);
+        return events;
+    }
+
+    /**
+     * Forward an event to the projections interested by its type.
+     * The failures of the projections handling the event without batcher are counted (the failures of the batched transactions are counted by the batcher).
+     *
+     * @param projections Projections.
+     * @param batcher     Optional group commit.
+     * @param event       Replayed event.
+     * @return Quantity of projections which failed to handle the event without batcher.
+     */
+    private long feed(AbstractReadModelProjectionsSet projections, GraphProjectionBatcher batcher, DomainEvent event) {
+        long failed = 0;
+        for (IReadModelProjection proj : projections.projections()) {
+            if (AbstractRealModelDataViewProjection.class.isAssignableFrom(proj.getClass())) {
+                AbstractRealModelDataViewProjection dataViewProjection = (AbstractRealModelDataViewProjection) proj;
+                Class<?> sourceOfInterestType = dataViewProjection.subscribeToEventType();
+                if (sourceOfInterestType == null || sourceOfInterestType.isAssignableFrom(event.getClass())) {
+                    if (batcher != null && AbstractGraphDataViewTransactionImpl.class.isAssignableFrom(dataViewProjection.getClass())) {
+                        batcher.add((AbstractGraphDataViewTransactionImpl) dataViewProjection, event);
+                    } else {
+                        try {
+                            dataViewProjection.handleEvent(event);
+                        } catch (RuntimeException e) {
+                            failed++;
+                            logger.log(Level.SEVERE, "Projection transaction failed during replay!", e);
+                        }
+                    }
+                }
+            }
+        }
+        return failed;
+    }
+}
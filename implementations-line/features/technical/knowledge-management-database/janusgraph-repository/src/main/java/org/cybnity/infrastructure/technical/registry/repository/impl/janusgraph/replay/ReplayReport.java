@@ -0,0 +1,79 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Result of a replay execution.
+ * The measures are updated by the partitions of the replay and are readable by any thread.
+ */
+public class ReplayReport {
+
+    private final AtomicLong replayedSubjects = new AtomicLong();
+    private final AtomicLong skippedSubjects = new AtomicLong();
+    private final AtomicLong replayedEvents = new AtomicLong();
+    private final AtomicLong checkpoints = new AtomicLong();
+    private volatile Duration duration = Duration.ZERO;
+
+    void subjectReplayed(int eventsQty) {
+        replayedSubjects.incrementAndGet();
+        replayedEvents.addAndGet(eventsQty);
+    }
+
+    void subjectSkipped() {
+        skippedSubjects.incrementAndGet();
+    }
+
+    void checkpointSaved() {
+        checkpoints.incrementAndGet();
+    }
+
+    void ended(Duration duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Get the quantity of subjects whose events have been replayed.
+     *
+     * @return A quantity.
+     */
+    public long replayedSubjectsCount() {
+        return replayedSubjects.get();
+    }
+
+    /**
+     * Get the quantity of subjects ignored because already replayed before the last checkpoint of their partition.
+     *
+     * @return A quantity.
+     */
+    public long skippedSubjectsCount() {
+        return skippedSubjects.get();
+    }
+
+    /**
+     * Get the quantity of replayed events.
+     *
+     * @return A quantity.
+     */
+    public long replayedEventsCount() {
+        return replayedEvents.get();
+    }
+
+    /**
+     * Get the quantity of saved checkpoints.
+     *
+     * @return A quantity.
+     */
+    public long checkpointsCount() {
+        return checkpoints.get();
+    }
+
+    /**
+     * Get the duration of the replay.
+     *
+     * @return A duration.
+     */
+    public Duration duration() {
+        return duration;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package provide the rebuild of read-model projections from the write-model event stores (e.g new projection, or projection corrupted), with replay of the stored events by parallel partitions and checkpoints allowing to resume an interrupted rebuild.
+ */
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay;
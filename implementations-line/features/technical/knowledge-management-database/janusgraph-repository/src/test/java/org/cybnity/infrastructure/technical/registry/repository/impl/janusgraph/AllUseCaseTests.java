@@ -10,6 +10,6 @@ import org.junit.platform.suite.api.Suite;
  * @author olivier
  */
 @Suite
-@SelectClasses({GraphElementsManagementUseCaseTest.class, JanusGraphSchemaCreationUseCaseTest.class, ActivateGraphUseCaseTest.class, DomainTransactionsRepositoryUseCaseTest.class})
+@SelectClasses({GraphElementsManagementUseCaseTest.class, JanusGraphSchemaCreationUseCaseTest.class, ActivateGraphUseCaseTest.class, DomainTransactionsRepositoryUseCaseTest.class, ReadModelReplayUseCaseTest.class})
 public class AllUseCaseTests {
 }
\ No newline at end of file
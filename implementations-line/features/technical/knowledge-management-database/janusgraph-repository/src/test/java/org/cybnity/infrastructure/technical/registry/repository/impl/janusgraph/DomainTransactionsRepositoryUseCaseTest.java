@@ -24,6 +24,7 @@ import org.cybnity.framework.domain.infrastructure.util.DateConvention;
 import org.cybnity.framework.domain.model.DomainEntity;
 import org.cybnity.framework.domain.model.IDomainEventSubscriber;
 import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection.GraphProjectionBatcher;
 import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.infrastructure.impl.SampleDomainTransactionsRepository;
 import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.event.SampleDomainEventType;
 import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.event.SampleDomainQueryEventType;
@@ -31,6 +32,7 @@ import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.
 import org.junit.jupiter.api.*;
 
 import java.text.DateFormat;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -143,6 +145,115 @@ public class DomainTransactionsRepositoryUseCaseTest extends ContextualizedJanus
         Assertions.assertTrue(checker.isAllEventsToCheckHaveBeenFound(), checker.notAlreadyChecked.size() + " data view changes had not been notified to subscriber!");
     }
 
+    /**
+     * Test that the write model changes handled by a repository with projections batching are committed into the graph by groups of events,
+     * and that the data view changes are notified after the commit of each batch.
+     *
+     * @throws Exception When problem during test execution.
+     */
+    @Test
+    public void givenProjectionsBatching_whenManyDomainObjectsCreated_thenDataViewsCommittedByBatches() throws Exception {
+        List<String> toDetect = new LinkedList<>();
+        int qty = 25;
+        for (int i = 0; i < qty; i++) {
+            toDetect.add(SampleDomainEventType.SAMPLE_DATAVIEW_CREATED.name());
+        }
+        EventsCheck checker = new EventsCheck(toDetect);
+        repo.subscribe(checker);
+        GraphProjectionBatcher batcher = new GraphProjectionBatcher(10, Duration.ofSeconds(30));
+        repo.setProjectionsBatcher(batcher);
+        try {
+            DateFormat formatter = DateConvention.dateFormatter();
+            OffsetDateTime createdAt = OffsetDateTime.now();
+            for (int i = 0; i < qty; i++) {
+                Collection<Attribute> changeSpecification = new HashSet<>();
+                Identifier originAggregateId = IdentifierStringBased.generate(null);
+                changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.IDENTIFIED_BY.name(), originAggregateId.value().toString()));
+                changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.NAME.name(), "Imported " + i));
+                changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.CREATED.name(), formatter.format(Date.from(createdAt.toInstant()))));
+                changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.COMMIT_VERSION.name(), "v" + i));
+                changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.LAST_UPDATED_AT.name(), formatter.format(Date.from(createdAt.toInstant()))));
+                repo.handleEvent(createChangeEvent(SampleDomainEventType.SAMPLE_AGGREGATE_CREATED, IdentifierStringBased.generate(null), originAggregateId, createdAt, changeSpecification));
+            }
+            // Full batches are committed, and the last one is waiting its delay
+            Assertions.assertEquals(2, batcher.metrics().batchesCount());
+            Assertions.assertEquals(20, batcher.metrics().committedEventsCount());
+            batcher.flush();
+            Assertions.assertEquals(3, batcher.metrics().batchesCount());
+            Assertions.assertEquals(qty, batcher.metrics().committedEventsCount());
+            Assertions.assertEquals(10, batcher.metrics().maxBatchSize());
+            Assertions.assertEquals(0, batcher.metrics().failedBatchesCount());
+            Assertions.assertTrue(batcher.metrics().averageCommitLatency() > 0);
+
+            // Each data view is readable from the graph, and its creation have been notified
+            List<SampleDataView> results = repo.queryWhere(prepareQueryBasedOnLabel("Imported " + (qty - 1), SampleDataView.class.getSimpleName(), SampleDomainQueryEventType.SAMPLE_DATAVIEW_FIND_BY_LABEL), context());
+            Assertions.assertNotNull(results);
+            Assertions.assertEquals(1, results.size());
+            Assertions.assertEquals("v" + (qty - 1), results.get(0).valueOfProperty(SampleDataView.PropertyAttributeKey.COMMIT_VERSION));
+            Assertions.assertTrue(checker.isAllEventsToCheckHaveBeenFound(), checker.notAlreadyChecked.size() + " data view changes had not been notified to subscriber!");
+        } finally {
+            repo.setProjectionsBatcher(null);
+            repo.remove(checker);
+        }
+    }
+
+    /**
+     * Test that a repeated query is read from the query results cache of a repository,
+     * and that a write model change handled by a projection invalidates its cached results.
+     *
+     * @throws Exception When problem during test execution.
+     */
+    @Test
+    public void givenCachedQueryResult_whenDomainObjectChanged_thenCachedResultInvalidated() throws Exception {
+        QueryResultsCache cache = new QueryResultsCache(100, Duration.ofMinutes(5));
+        repo.setQueryResultsCache(cache);
+        try {
+            DateFormat formatter = DateConvention.dateFormatter();
+            OffsetDateTime createdAt = OffsetDateTime.now();
+            Identifier originAggregateId = IdentifierStringBased.generate(null);
+            String aggregateLabel = "Wayne Enterprises";
+            Collection<Attribute> changeSpecification = new HashSet<>();
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.IDENTIFIED_BY.name(), originAggregateId.value().toString()));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.NAME.name(), aggregateLabel));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.CREATED.name(), formatter.format(Date.from(createdAt.toInstant()))));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.COMMIT_VERSION.name(), "v1"));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.LAST_UPDATED_AT.name(), formatter.format(Date.from(createdAt.toInstant()))));
+            repo.handleEvent(createChangeEvent(SampleDomainEventType.SAMPLE_AGGREGATE_CREATED, IdentifierStringBased.generate(null), originAggregateId, createdAt, changeSpecification));
+
+            // First query executed on the projection, and second read from the cache
+            Map<String, String> queryParameters = prepareQueryBasedOnLabel(aggregateLabel, SampleDataView.class.getSimpleName(), SampleDomainQueryEventType.SAMPLE_DATAVIEW_FIND_BY_LABEL);
+            List<SampleDataView> results = repo.queryWhere(queryParameters, context());
+            Assertions.assertNotNull(results);
+            Assertions.assertEquals(1, results.size());
+            Assertions.assertEquals(1, cache.missesCount());
+            results = repo.queryWhere(queryParameters, context());
+            Assertions.assertEquals(1, results.size());
+            Assertions.assertEquals(1, cache.hitsCount());
+            Assertions.assertEquals(1, cache.size());
+
+            // Change of the data view invalidates the cached result
+            OffsetDateTime modifiedAt = OffsetDateTime.now();
+            changeSpecification.clear();
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.IDENTIFIED_BY.name(), originAggregateId.value().toString()));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.NAME.name(), aggregateLabel));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.CREATED.name(), formatter.format(Date.from(createdAt.toInstant()))));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.COMMIT_VERSION.name(), "v2"));
+            changeSpecification.add(new Attribute(SampleDataView.PropertyAttributeKey.LAST_UPDATED_AT.name(), formatter.format(Date.from(modifiedAt.toInstant()))));
+            repo.handleEvent(createChangeEvent(SampleDomainEventType.SAMPLE_AGGREGATE_CHANGED, IdentifierStringBased.generate(null), originAggregateId, modifiedAt, changeSpecification));
+            Assertions.assertEquals(0, cache.size());
+            Assertions.assertTrue(cache.invalidationsCount() > 0);
+
+            // Refreshed data view read from the projection
+            results = repo.queryWhere(queryParameters, context());
+            Assertions.assertEquals(1, results.size());
+            Assertions.assertEquals("v2", results.get(0).valueOfProperty(SampleDataView.PropertyAttributeKey.COMMIT_VERSION));
+            Assertions.assertEquals(2, cache.missesCount());
+            Assertions.assertEquals(1, cache.hitsCount());
+        } finally {
+            repo.setQueryResultsCache(null);
+        }
+    }
+
     /**
      * Prepare simple query based on a vertex label and type.
      *
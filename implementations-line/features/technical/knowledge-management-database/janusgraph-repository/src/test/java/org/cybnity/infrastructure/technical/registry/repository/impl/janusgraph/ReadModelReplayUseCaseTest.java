@@ -0,0 +1,226 @@
+package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.infrastructure.IndexedEventInMemoryStoreImpl;
+import org.cybnity.framework.domain.infrastructure.util.DateConvention;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.projection.GraphProjectionBatcher;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay.InMemoryReplayCheckpointStore;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay.ReadModelReplayEngine;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.replay.ReplayReport;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.infrastructure.impl.SampleDomainTransactionsRepository;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.infrastructure.impl.projections.SampleDomainGraphImpl;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.infrastructure.impl.projections.SampleDomainReadModelImpl;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.SampleDomain;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.event.SampleDomainEventType;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.event.SampleDomainQueryEventType;
+import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.model.SampleDataView;
+import org.junit.jupiter.api.*;
+
+import java.text.DateFormat;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Test of the rebuild of a read-model into a shadow graph from the events of a write-model store.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
+public class ReadModelReplayUseCaseTest extends ContextualizedJanusGraphActiveTestContainer {
+
+    private SampleDomainTransactionsRepository repo;
+    private IndexedEventInMemoryStoreImpl store;
+
+    @BeforeEach
+    public void initRepository() throws UnoperationalStateException {
+        repo = SampleDomainTransactionsRepository.instance(context(), null /* None observed domain objects store */);
+        store = IndexedEventInMemoryStoreImpl.instance();
+    }
+
+    @AfterEach
+    public void cleanResources() throws UnoperationalStateException {
+        repo.drop();
+        repo.freeUpResources();
+        repo = null;
+        store.freeUpResources();
+        store = null;
+    }
+
+    /**
+     * Store the creation event of a sample domain object.
+     *
+     * @param name Name of the object.
+     * @return Identifier of the object.
+     */
+    private String storeCreatedObject(String name) throws Exception {
+        return storeCreatedObject(name, true);
+    }
+
+    /**
+     * Store the creation event of a sample domain object.
+     *
+     * @param name  Name of the object.
+     * @param valid False when the event shall miss its mandatory creation date (failing its projection).
+     * @return Identifier of the object.
+     */
+    private String storeCreatedObject(String name, boolean valid) throws Exception {
+        Identifier originAggregateId = IdentifierStringBased.generate(null);
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        DateFormat formatter = DateConvention.dateFormatter();
+        ConcreteDomainChangeEvent changeEvt = new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)), SampleDomainEventType.SAMPLE_AGGREGATE_CREATED);
+        changeEvt.setChangeSourcePredecessorReferenceId(IdentifierStringBased.generate(null));
+        changeEvt.setChangeSourceIdentifier(originAggregateId);
+        changeEvt.setChangeSourceOccurredAt(createdAt);
+        changeEvt.appendSpecification(new Attribute(SampleDataView.PropertyAttributeKey.IDENTIFIED_BY.name(), originAggregateId.value().toString()));
+        changeEvt.appendSpecification(new Attribute(SampleDataView.PropertyAttributeKey.NAME.name(), name));
+        if (valid)
+            changeEvt.appendSpecification(new Attribute(SampleDataView.PropertyAttributeKey.CREATED.name(), formatter.format(Date.from(createdAt.toInstant()))));
+        changeEvt.appendSpecification(new Attribute(SampleDataView.PropertyAttributeKey.COMMIT_VERSION.name(), "v1"));
+        changeEvt.appendSpecification(new Attribute(SampleDataView.PropertyAttributeKey.LAST_UPDATED_AT.name(), formatter.format(Date.from(createdAt.toInstant()))));
+        List<DomainEvent> changes = new ArrayList<>();
+        changes.add(changeEvt);
+        store.appendToStream(originAggregateId, changes);
+        return originAggregateId.value().toString();
+    }
+
+    /**
+     * Find the data views of a name.
+     *
+     * @param name Name of data view.
+     * @return Found data views.
+     */
+    private List<SampleDataView> findByName(String name) throws Exception {
+        Map<String, String> queryParameters = new HashMap<>();
+        queryParameters.put(Command.TYPE, SampleDomainQueryEventType.SAMPLE_DATAVIEW_FIND_BY_LABEL.name());
+        queryParameters.put(SampleDataView.PropertyAttributeKey.NAME.name(), name);
+        queryParameters.put(SampleDataView.PropertyAttributeKey.DATAVIEW_TYPE.name(), SampleDataView.class.getSimpleName());
+        return repo.queryWhere(queryParameters, context());
+    }
+
+    /**
+     * Test that a replay resumed from a checkpoint replays only the subjects after the checkpoint of each partition into a shadow graph,
+     * and that the rebuilt read-model is queryable by the repository after its swap.
+     *
+     * @throws Exception When problem during test execution.
+     */
+    @Test
+    public void givenCheckpointOfInterruptedReplay_whenReplayResumed_thenRemainingSubjectsRebuiltIntoShadowGraph() throws Exception {
+        Map<String, String> namesPerSubject = new HashMap<>();
+        for (int i = 0; i < 6; i++) {
+            namesPerSubject.put(storeCreatedObject("Replayed " + i), "Replayed " + i);
+        }
+        ReadModelReplayEngine engine = new ReadModelReplayEngine(store, 2, 2);
+        String replayName = "sample-rebuild";
+
+        // Simulate a previous interrupted replay which completed the first subject of a partition
+        InMemoryReplayCheckpointStore checkpoints = new InMemoryReplayCheckpointStore();
+        String completedSubject = new TreeSet<>(namesPerSubject.keySet()).first();
+        int completedPartition = engine.partitionOf(completedSubject);
+        checkpoints.checkpoint(replayName, completedPartition, completedSubject);
+
+        // Rebuild the read-model into a shadow graph
+        SampleDomainGraphImpl shadowGraph = new SampleDomainGraphImpl(context());
+        SampleDomainReadModelImpl shadowReadModel = new SampleDomainReadModelImpl(context(), shadowGraph, new SampleDomain(), repo, null);
+        GraphProjectionBatcher batcher = new GraphProjectionBatcher(10, Duration.ofSeconds(30));
+        AbstractReadModelProjectionsSet previous = null;
+        try {
+            ReplayReport report = engine.replay(replayName, namesPerSubject.keySet(), shadowReadModel, batcher, checkpoints);
+            Assertions.assertEquals(1, report.skippedSubjectsCount());
+            Assertions.assertEquals(5, report.replayedSubjectsCount());
+            Assertions.assertEquals(5, report.replayedEventsCount());
+            Assertions.assertEquals(5, batcher.metrics().committedEventsCount());
+            Assertions.assertTrue(report.checkpointsCount() >= 2, "Each partition shall have saved its progress!");
+            // Completed replay checkpoints are removed
+            Assertions.assertNull(checkpoints.lastCompletedSubject(replayName, completedPartition));
+
+            // Swap the rebuilt read-model
+            previous = repo.swapManagedProjections(shadowReadModel);
+            for (Map.Entry<String, String> subject : namesPerSubject.entrySet()) {
+                List<SampleDataView> results = findByName(subject.getValue());
+                if (subject.getKey().equals(completedSubject)) {
+                    // Replayed before the checkpoint into another graph
+                    Assertions.assertTrue(results == null || results.isEmpty());
+                } else {
+                    Assertions.assertNotNull(results, "Rebuilt data view should have been found!");
+                    Assertions.assertEquals(1, results.size());
+                }
+            }
+        } finally {
+            batcher.freeUpResources();
+            if (previous != null) repo.swapManagedProjections(previous);
+            shadowGraph.drop();
+            shadowGraph.freeUpResources();
+        }
+    }
+
+    /**
+     * Test that a projection transaction failed during the flush of the batcher interrupts the replay without checkpoint of the failed subject.
+     *
+     * @throws Exception When problem during test execution.
+     */
+    @Test
+    public void givenFailedProjectionTransaction_whenReplayed_thenNotCheckpointed() throws Exception {
+        String failed = storeCreatedObject("Not projectable", false);
+        ReadModelReplayEngine engine = new ReadModelReplayEngine(store, 1, 1);
+        String replayName = "sample-failed-rebuild";
+        InMemoryReplayCheckpointStore checkpoints = new InMemoryReplayCheckpointStore();
+        SampleDomainGraphImpl shadowGraph = new SampleDomainGraphImpl(context());
+        SampleDomainReadModelImpl shadowReadModel = new SampleDomainReadModelImpl(context(), shadowGraph, new SampleDomain(), repo, null);
+        GraphProjectionBatcher batcher = new GraphProjectionBatcher(10, Duration.ofSeconds(30));
+        try {
+            Assertions.assertThrows(UnoperationalStateException.class, () -> engine.replay(replayName, Collections.singleton(failed), shadowReadModel, batcher, checkpoints));
+            Assertions.assertEquals(1, batcher.metrics().failedTransactionsCount());
+            // Failed subject shall be replayed again on resume
+            Assertions.assertNull(checkpoints.lastCompletedSubject(replayName, engine.partitionOf(failed)));
+        } finally {
+            batcher.freeUpResources();
+            shadowGraph.drop();
+            shadowGraph.freeUpResources();
+        }
+    }
+
+    /**
+     * Test that a projection transaction failed without batcher interrupts the replay without checkpoint of the failed subject.
+     *
+     * @throws Exception When problem during test execution.
+     */
+    @Test
+    public void givenFailedProjectionWithoutBatcher_whenReplayed_thenNotCheckpointed() throws Exception {
+        String failed = storeCreatedObject("Not projectable without batcher", false);
+        ReadModelReplayEngine engine = new ReadModelReplayEngine(store, 1, 1);
+        String replayName = "sample-unbatched-failed-rebuild";
+        InMemoryReplayCheckpointStore checkpoints = new InMemoryReplayCheckpointStore();
+        SampleDomainGraphImpl shadowGraph = new SampleDomainGraphImpl(context());
+        SampleDomainReadModelImpl shadowReadModel = new SampleDomainReadModelImpl(context(), shadowGraph, new SampleDomain(), repo, null);
+        try {
+            Assertions.assertThrows(UnoperationalStateException.class, () -> engine.replay(replayName, Collections.singleton(failed), shadowReadModel, null, checkpoints));
+            // Failed subject shall be replayed again on resume
+            Assertions.assertNull(checkpoints.lastCompletedSubject(replayName, engine.partitionOf(failed)));
+        } finally {
+            shadowGraph.drop();
+            shadowGraph.freeUpResources();
+        }
+    }
+
+    /**
+     * Test that the events of a stream loaded in descending order (IEventStore contract) are ordered from the oldest to the most recent, including the events of a same occurrence date.
+     *
+     * @throws Exception When problem during test execution.
+     */
+    @Test
+    public void givenDescendingStream_whenOrdered_thenOldestFirst() throws Exception {
+        List<DomainEvent> ascending = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ascending.add(new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null)), SampleDomainEventType.SAMPLE_AGGREGATE_CHANGED));
+        }
+        List<DomainEvent> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+        Assertions.assertEquals(ascending, ReadModelReplayEngine.inOccurrenceOrder(descending));
+    }
+}
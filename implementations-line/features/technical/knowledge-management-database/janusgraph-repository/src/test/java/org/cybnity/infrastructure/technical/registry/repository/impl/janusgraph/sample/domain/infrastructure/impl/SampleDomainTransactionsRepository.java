@@ -4,9 +4,7 @@ import org.cybnity.framework.IContext;
 import org.cybnity.framework.UnoperationalStateException;
 import org.cybnity.framework.domain.*;
 import org.cybnity.framework.domain.event.IEventType;
-import org.cybnity.framework.domain.event.QueryFactory;
 import org.cybnity.framework.domain.infrastructure.IDomainStore;
-import org.cybnity.framework.domain.model.DomainEntity;
 import org.cybnity.framework.domain.model.IDomainModel;
 import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.AbstractReadModelRepository;
@@ -17,7 +15,6 @@ import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.
 import org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph.sample.domain.service.api.model.SampleDataView;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Example of domain repository managing transactions relative to an object type (e.g supported by one or several read-model projections representing it and its relations scope) or to a domain or to a subdomain.
@@ -116,27 +113,11 @@ public class SampleDomainTransactionsRepository extends AbstractReadModelReposit
                 // Search a projection that is declared supporting the requested query type
                 final IReadModelProjection managedProjection = this.findBySupportedQuery(queryType);
                 if (managedProjection != null) {
-                    // Prepare instance of query command event to submit on found projection
-                    final Command queryToPerform = QueryFactory.create(/* Name of query type */ queryName, /* query command UUID */
-                            new DomainEntity(IdentifierStringBased.generate(null)),
-                            /* Prepare query command attributes set based on search criteria submitted */ this.prepareQueryParameters(searchCriteria),
-                            /* None prior command managed during this explicit query call */ null);
-
-                    // Execute the query via delegation to the found projection (owner of data structure and supported parameter types)
-                    // See https://www.callicoder.com/java-8-completablefuture-tutorial/ for help and possible implementation approaches for sync/async execution of query
-                    CompletableFuture<Optional<DataTransferObject>> executionResulting = CompletableFuture.supplyAsync(() -> {
-                        // Execute the query onto the projection and deliver the optional results
-                        try {
-                            return managedProjection.when(queryToPerform);
-                        } catch (UnoperationalStateException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }).thenApply(IQueryResponse::value);
+                    // Execute the query via delegation to the found projection (owner of data structure and supported parameter types), or read its cached result
+                    IQueryResponse response = executeQuery(managedProjection, queryName, /* Prepare query command attributes set based on search criteria submitted */ this.prepareQueryParameters(searchCriteria));
 
                     try {
-                        // Read results when available via CompletableFuture.get() blocking method invoked on IQueryResponse,
-                        // that waits until the Future is completed (return result after its completion)
-                        Optional<DataTransferObject> dto = executionResulting.get();
+                        Optional<DataTransferObject> dto = (response != null) ? response.value() : Optional.empty();
                         if (dto.isPresent()) {
                             // Build domain data view results to return
                             List<SampleDataView> results;
@@ -2,7 +2,6 @@ package org.cybnity.infrastructure.technical.registry.repository.impl.janusgraph
 
 import org.cybnity.framework.UnoperationalStateException;
 import org.cybnity.framework.domain.*;
-import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
 import org.cybnity.framework.domain.event.EventSpecification;
 import org.cybnity.framework.domain.event.IEventType;
 import org.cybnity.framework.domain.infrastructure.IDomainRepository;
@@ -116,15 +115,11 @@ public class SampleDataViewStateTransactionImpl extends AbstractGraphDataViewTra
             // Identify the type of event which should be source of interest (or not) regarding this projections managed perimeter
             // Normally interpretation of event can be based on its specific domain type (e.g concrete domain event type), or based on specific specification attribute read from event, to detect the source of interest
             // Here, for example, this implementation check the type of attribute relative to the type of origin domain object concerned by the domain event
-            IProjectionTransaction tx;
-            Attribute at = EventSpecification.findSpecificationByName(ConcreteDomainChangeEvent.TYPE, evt.specification());
-            if (at != null) {
-                // Identify existing transaction to execute about event type
-                tx = supportedTransactions().get(at.value());
-                if (tx != null) {
-                    // Execute the transaction that is interested in the monitored event
-                    tx.when(evt);
-                }
+            // Identify existing transaction to execute about event type
+            IProjectionTransaction tx = transactionOf(evt);
+            if (tx != null) {
+                // Execute the transaction that is interested in the monitored event
+                tx.when(evt);
             }
         }
     }
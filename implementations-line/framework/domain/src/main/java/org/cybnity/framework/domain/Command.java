@@ -50,6 +50,12 @@ public abstract class Command implements IHistoricalFact, IdentifiableFact, IRef
      */
     protected Entity identifiedBy;
 
+    /**
+     * Values shared by the accessors of this event when frozen, else null.
+     */
+    @JsonIgnore
+    private transient volatile FrozenFact frozen;
+
     /**
      * Standard name of the attribute specifying a correlation identifier generated and assigned to this command.
      */
@@ -87,6 +93,8 @@ public abstract class Command implements IHistoricalFact, IdentifiableFact, IRef
      * @throws ImmutabilityException When impossible creation of entity immutable version.
      */
     public Entity getIdentifiedBy() throws ImmutabilityException {
+        FrozenFact f = this.frozen;
+        if (f != null) return f.identifiedBy; // Shared immutable copy
         if (this.identifiedBy != null) {
             return (Entity) identifiedBy.immutable();
         }
@@ -102,6 +110,8 @@ public abstract class Command implements IHistoricalFact, IdentifiableFact, IRef
      */
     @Override
     public Identifier identified() throws ImmutabilityException {
+        FrozenFact f = this.frozen;
+        if (f != null) return f.identified;
         Entity entity = getIdentifiedBy();
         if (entity != null)
             return entity.identified();
@@ -144,6 +154,8 @@ public abstract class Command implements IHistoricalFact, IdentifiableFact, IRef
      */
     @Override
     public int hashCode() {
+        FrozenFact f = this.frozen;
+        if (f != null) return f.hashCode;
         return new EventHashingCapability().getHashCode(this);
     }
 
@@ -171,10 +183,47 @@ public abstract class Command implements IHistoricalFact, IdentifiableFact, IRef
      */
     @Override
     public OffsetDateTime occurredAt() {
+        FrozenFact f = this.frozen;
+        if (f != null) return f.occurredAt; // Immutable time shared
         // Return copy of the fact time
         return OffsetDateTime.parse(this.occurredOn.toString());
     }
 
+    /**
+     * Freeze this event when its build is finished (e.g done by the DomainEventPublisher before its notification to the subscribers, and by the mappers of the received messages).
+     * A frozen event can not be changed, and its accessors return the values computed one time by the freeze (e.g identity immutable copy, hash code) instead of new copies per call.
+     *
+     * @return This frozen event.
+     * @throws ImmutabilityException When impossible creation of immutable version of the identity.
+     */
+    public synchronized Command freeze() throws ImmutabilityException {
+        if (this.frozen == null) {
+            Entity identity = getIdentifiedBy();
+            int hash = new EventHashingCapability().getHashCode(this);
+            this.frozen = new FrozenFact(identity, (identity != null) ? identity.identified() : null, hash, this.occurredOn);
+        }
+        return this;
+    }
+
+    /**
+     * Is this event frozen?
+     *
+     * @return True when frozen.
+     */
+    @JsonIgnore
+    public boolean isFrozen() {
+        return this.frozen != null;
+    }
+
+    /**
+     * Check that this event can be changed.
+     *
+     * @throws IllegalStateException When this event is frozen.
+     */
+    protected void checkNotFrozen() throws IllegalStateException {
+        if (this.frozen != null) throw new IllegalStateException("Frozen event can not be changed!");
+    }
+
     @Override
     public EntityReference reference() throws ImmutabilityException {
         try {
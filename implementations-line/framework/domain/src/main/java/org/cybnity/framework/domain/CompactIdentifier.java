@@ -0,0 +1,419 @@
+package org.cybnity.framework.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.framework.immutable.utility.VersionConcreteStrategy;
+import org.cybnity.framework.support.annotation.Requirement;
+import org.cybnity.framework.support.annotation.RequirementCategory;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identifying information of fixed size (128 bits), derived from the identifier of a predecessor and from an optional origin identifier of a child (e.g ChildFact owned by a parent entity).
+ * Contrary to an identifier combining the predecessor and child values (see IdentifierStringBased.build(Collection)), its size and its equality cost are constant whatever the depth of the ownership chain.
+ * The derived identifiers are interned into a bounded pool (one shared instance per identifier) which records their lineage (predecessor and origin identifiers), allowing to retrieve the ownership chain of an identifier derived by the current process.
+ * When its capacity is reached, the pool evicts an approximately least recently used identifier (of which the lineage is no longer known): the pool is split into segments locked separately, and the evicted identifier is the least recently used of the eldest identifiers of a sample of segments.
+ * The value of this identifier is the hexadecimal text of its 128 bits (32 characters).
+ *
+ * @author olivier
+ */
+@Requirement(reqType = RequirementCategory.Scalability, reqId = "REQ_SCA_4")
+public final class CompactIdentifier extends ValueObject<String> implements Identifier {
+
+    @JsonIgnore
+    private static final long serialVersionUID = new VersionConcreteStrategy()
+            .composeCanonicalVersionHash(CompactIdentifier.class).hashCode();
+
+    /**
+     * Quantity of characters of the hexadecimal value.
+     */
+    public static final int VALUE_LENGTH = 32;
+
+    /**
+     * Default maximum quantity of identifiers interned by the pool.
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 65536;
+
+    /**
+     * Maximum quantity of identifiers interned by the pool. When reached, the least recently used identifier is evicted by each new interned identifier.
+     */
+    private static volatile int poolCapacity = DEFAULT_POOL_CAPACITY;
+
+    /**
+     * Quantity of pool segments (power of 2).
+     */
+    private static final int POOL_SEGMENTS = 64;
+
+    /**
+     * Quantity of not empty segments whose eldest identifier is candidate to an eviction.
+     */
+    private static final int EVICTION_SAMPLES = 8;
+
+    /**
+     * Interned identifiers with their lineage, distributed per segment according to their hash.
+     */
+    private static final Segment[] POOL = new Segment[POOL_SEGMENTS];
+
+    /**
+     * Quantity of interned identifiers over all the segments.
+     */
+    private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
+    /**
+     * Sequence ordering the accesses to the interned identifiers of all the segments.
+     */
+    private static final AtomicLong ACCESS_CLOCK = new AtomicLong();
+
+    static {
+        for (int i = 0; i < POOL_SEGMENTS; i++) {
+            POOL[i] = new Segment();
+        }
+    }
+
+    /**
+     * Digest function per thread deriving the identifiers.
+     */
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Algorithm required by any Java platform
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final String name;
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+
+    /**
+     * Hexadecimal value calculated at the first read.
+     */
+    private transient volatile String value;
+
+    private CompactIdentifier(String name, long mostSignificantBits, long leastSignificantBits) {
+        super();
+        this.name = name;
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    /**
+     * Derive the identifier of a child from the identifier of its predecessor.
+     * A same predecessor and origin always produce a same identifier.
+     *
+     * @param name             Mandatory name of the identifier.
+     * @param predecessorId    Mandatory identifier of the predecessor (e.g identifier of the parent entity; compact or not).
+     * @param childOriginalId  Optional origin identifier of the child.
+     * @return An interned identifier (when the pool capacity is not 0).
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static CompactIdentifier derive(String name, Identifier predecessorId, Identifier childOriginalId) throws IllegalArgumentException {
+        if (name == null || name.isEmpty())
+            throw new IllegalArgumentException("The name parameter is required!");
+        if (predecessorId == null || predecessorId.value() == null)
+            throw new IllegalArgumentException("The predecessorId parameter is required!");
+        MessageDigest digest = DIGESTS.get();
+        digest.reset();
+        if (predecessorId instanceof CompactIdentifier) {
+            // Fixed size contribution of a compact predecessor (constant cost whatever the ownership depth)
+            CompactIdentifier compact = (CompactIdentifier) predecessorId;
+            digest.update((byte) 'C');
+            update(digest, compact.mostSignificantBits);
+            update(digest, compact.leastSignificantBits);
+        } else {
+            digest.update((byte) 'S');
+            digest.update(predecessorId.value().toString().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+        if (childOriginalId != null && childOriginalId.value() != null)
+            digest.update(childOriginalId.value().toString().getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        CompactIdentifier derived = new CompactIdentifier(name, toLong(hash, 0), toLong(hash, 8));
+        return intern(derived, new Lineage(derived, predecessorId, childOriginalId));
+    }
+
+    /**
+     * Restore an identifier from its hexadecimal value (e.g deserialized identifier).
+     *
+     * @param name  Mandatory name of the identifier.
+     * @param value Mandatory hexadecimal value of 32 characters.
+     * @return The interned identifier when known, else a new identifier (without known lineage).
+     * @throws IllegalArgumentException When any mandatory parameter is missing or invalid.
+     */
+    public static CompactIdentifier of(String name, String value) throws IllegalArgumentException {
+        if (name == null || name.isEmpty())
+            throw new IllegalArgumentException("The name parameter is required!");
+        if (value == null || value.length() != VALUE_LENGTH)
+            throw new IllegalArgumentException("The value parameter shall be an hexadecimal value of " + VALUE_LENGTH + " characters!");
+        try {
+            CompactIdentifier restored = new CompactIdentifier(name, Long.parseUnsignedLong(value.substring(0, 16), 16), Long.parseUnsignedLong(value.substring(16), 16));
+            Lineage known = pooled(restored);
+            return (known != null) ? known.identifier : restored;
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException("The value parameter shall be an hexadecimal value!", nfe);
+        }
+    }
+
+    /**
+     * Get the lineage of this identifier.
+     *
+     * @return A lineage, or null when this identifier has not been derived by the current process (or was evicted from the pool).
+     */
+    public Lineage lineage() {
+        return pooled(this);
+    }
+
+    /**
+     * Get the chain of predecessor identifiers of this identifier.
+     *
+     * @return The predecessors from the direct predecessor to the first one of which the predecessor is not known (e.g root entity identifier, or evicted lineage). Empty when the lineage of this identifier is unknown.
+     */
+    public Optional<List<Identifier>> predecessors() {
+        Lineage current = lineage();
+        if (current == null) return Optional.empty();
+        List<Identifier> chain = new ArrayList<>();
+        while (current != null) {
+            chain.add(current.predecessor());
+            current = (current.predecessor() instanceof CompactIdentifier) ? ((CompactIdentifier) current.predecessor()).lineage() : null;
+        }
+        return Optional.of(chain);
+    }
+
+    /**
+     * Define the maximum quantity of identifiers interned by the pool.
+     *
+     * @param capacity Quantity (minimum 0).
+     * @throws IllegalArgumentException When invalid capacity.
+     */
+    public static void setPoolCapacity(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity parameter shall be minimum 0!");
+        poolCapacity = capacity;
+        // Evict the least recently used identifiers over the new capacity
+        evictOverCapacity(0);
+    }
+
+    /**
+     * Remove all the interned identifiers and their lineage.
+     */
+    public static void clearPool() {
+        for (Segment segment : POOL) {
+            synchronized (segment) {
+                POOL_SIZE.addAndGet(-segment.entries.size());
+                segment.entries.clear();
+                segment.size = 0;
+            }
+        }
+    }
+
+    /**
+     * Get the quantity of interned identifiers.
+     *
+     * @return A quantity (which can temporarily exceed the capacity during the concurrent interning of identifiers).
+     */
+    public static int pooledCount() {
+        return POOL_SIZE.get();
+    }
+
+    private static int segmentIndex(CompactIdentifier identifier) {
+        int h = identifier.hashCode();
+        // Spread of the hash high bits over the low bits used for the segment selection
+        return (h ^ (h >>> 16)) & (POOL_SEGMENTS - 1);
+    }
+
+    private static Lineage pooled(CompactIdentifier identifier) {
+        Segment segment = POOL[segmentIndex(identifier)];
+        synchronized (segment) {
+            Lineage known = segment.entries.get(identifier);
+            if (known != null) known.lastAccess = ACCESS_CLOCK.incrementAndGet();
+            return known;
+        }
+    }
+
+    private static CompactIdentifier intern(CompactIdentifier candidate, Lineage lineage) {
+        if (poolCapacity == 0) return candidate;
+        int index = segmentIndex(candidate);
+        Segment segment = POOL[index];
+        synchronized (segment) {
+            Lineage known = segment.entries.putIfAbsent(candidate, lineage);
+            if (known != null) {
+                known.lastAccess = ACCESS_CLOCK.incrementAndGet();
+                return known.identifier;
+            }
+            lineage.lastAccess = ACCESS_CLOCK.incrementAndGet();
+            segment.size = segment.entries.size();
+            POOL_SIZE.incrementAndGet();
+        }
+        evictOverCapacity(index);
+        return candidate;
+    }
+
+    /**
+     * Evict identifiers while the pool capacity is exceeded.
+     * Each evicted identifier is the least recently used of the eldest identifiers of the first not empty segments (quantity of samples) from a start segment, so the eviction is exact when the identifiers are interned into a few segments.
+     *
+     * @param startIndex Index of the first sampled segment.
+     */
+    private static void evictOverCapacity(int startIndex) {
+        while (POOL_SIZE.get() > poolCapacity) {
+            Segment victimSegment = null;
+            Lineage victim = null;
+            long victimAccess = 0;
+            int sampled = 0;
+            for (int i = 0; i < POOL_SEGMENTS && sampled < EVICTION_SAMPLES; i++) {
+                Segment segment = POOL[(startIndex + i) & (POOL_SEGMENTS - 1)];
+                if (segment.size == 0) continue;
+                synchronized (segment) {
+                    if (segment.entries.isEmpty()) continue;
+                    // Least recently used identifier of the segment (access order)
+                    Lineage eldest = segment.entries.values().iterator().next();
+                    if (victim == null || eldest.lastAccess < victimAccess) {
+                        victim = eldest;
+                        victimAccess = eldest.lastAccess;
+                        victimSegment = segment;
+                    }
+                }
+                sampled++;
+            }
+            if (victim == null) return; // Empty pool
+            synchronized (victimSegment) {
+                // Ignore a victim accessed or evicted since its sampling
+                if (victim.lastAccess == victimAccess && victimSegment.entries.remove(victim.identifier, victim)) {
+                    victimSegment.size = victimSegment.entries.size();
+                    POOL_SIZE.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, long bits) {
+        for (int i = 56; i >= 0; i -= 8) {
+            digest.update((byte) (bits >>> i));
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long bits = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            bits = (bits << 8) | (bytes[i] & 0xFF);
+        }
+        return bits;
+    }
+
+    /**
+     * Return this instance (immutable state).
+     */
+    @Override
+    public Serializable immutable() {
+        return this;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Get the hexadecimal value of this identifier.
+     *
+     * @return A value of 32 characters.
+     */
+    @Override
+    public Serializable value() {
+        String hex = this.value;
+        if (hex == null) {
+            hex = String.format("%016x%016x", mostSignificantBits, leastSignificantBits);
+            this.value = hex;
+        }
+        return hex;
+    }
+
+    @Override
+    public String[] valueHashCodeContributors() {
+        return new String[]{(String) value(), this.name};
+    }
+
+    /**
+     * Equality based on the identifier bits and name, without text comparison.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj instanceof CompactIdentifier) {
+            CompactIdentifier other = (CompactIdentifier) obj;
+            return mostSignificantBits == other.mostSignificantBits && leastSignificantBits == other.leastSignificantBits && name.equals(other.name);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(mostSignificantBits ^ leastSignificantBits) + name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name + ":" + value();
+    }
+
+    /**
+     * Part of the pool, whose accesses are synchronized on the segment (access order modified by the reads).
+     */
+    private static final class Segment {
+
+        /**
+         * Interned identifiers with their lineage, in access order (least recently used first).
+         */
+        private final Map<CompactIdentifier, Lineage> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * Quantity of entries, readable without synchronization.
+         */
+        private volatile int size;
+    }
+
+    /**
+     * Origin of a derived identifier.
+     */
+    public static final class Lineage {
+
+        private final CompactIdentifier identifier;
+        private final Identifier predecessor;
+        private final Identifier childOriginalId;
+
+        /**
+         * Sequence number of the last access to the interned identifier (see ACCESS_CLOCK).
+         */
+        private volatile long lastAccess;
+
+        private Lineage(CompactIdentifier identifier, Identifier predecessor, Identifier childOriginalId) {
+            this.identifier = identifier;
+            this.predecessor = predecessor;
+            this.childOriginalId = childOriginalId;
+        }
+
+        /**
+         * Get the identifier of the predecessor.
+         *
+         * @return An identifier.
+         */
+        public Identifier predecessor() {
+            return predecessor;
+        }
+
+        /**
+         * Get the origin identifier of the child.
+         *
+         * @return An identifier, or null when the identifier was derived only from its predecessor.
+         */
+        public Identifier childOriginalId() {
+            return childOriginalId;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.cybnity.framework.domain;
+
+import org.cybnity.framework.immutable.Entity;
+import org.cybnity.framework.immutable.Identifier;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Values of a frozen event, computed one time at the freeze and shared by the accessors of the event.
+ *
+ * @author olivier
+ */
+final class FrozenFact {
+
+    /**
+     * Immutable copy of the event identity, or null.
+     */
+    final Entity identifiedBy;
+
+    /**
+     * Identifier of the event identity, or null.
+     */
+    final Identifier identified;
+
+    /**
+     * Hash code of the event.
+     */
+    final int hashCode;
+
+    /**
+     * Time when the event occurred.
+     */
+    final OffsetDateTime occurredAt;
+
+    FrozenFact(Entity identifiedBy, Identifier identified, int hashCode, OffsetDateTime occurredAt) {
+        this.identifiedBy = identifiedBy;
+        this.identified = identified;
+        this.hashCode = hashCode;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -81,12 +81,19 @@ public class IdentifierStringBased extends ValueObject<String> implements Identi
      * same identifying name, the returned instance use the same name. When
      * several names are found from the source identifiers, the name of the
      * returned instance is equals to BaseConstants.IDENTIFIER_ID.name() .
+     * When a unique CompactIdentifier is based on, it is returned (preserving
+     * its compact representation).
      * @throws IllegalArgumentException When mandatory parameter is missing.
      */
     public static Identifier build(Collection<Identifier> basedOn) throws IllegalArgumentException {
         if (basedOn == null || basedOn.isEmpty())
             throw new IllegalArgumentException(
                     "basedOn parameter is required and shall contain a minimum one identifier!");
+        if (basedOn.size() == 1) {
+            Identifier unique = basedOn.iterator().next();
+            // Immutable compact identifier reusable without combination
+            if (unique instanceof CompactIdentifier) return unique;
+        }
         StringBuilder combinedId = new StringBuilder();
         String uniqueIdName = null;
         boolean uniqueNameFound = true;
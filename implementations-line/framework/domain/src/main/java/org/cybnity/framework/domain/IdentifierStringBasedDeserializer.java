@@ -10,6 +10,7 @@ import java.io.IOException;
 
 /**
  * Customer deserializer of Identifier object.
+ * A CompactIdentifier (identified by the @class type information) is restored as compact identifier.
  */
 public class IdentifierStringBasedDeserializer extends StdDeserializer<Identifier> {
     public IdentifierStringBasedDeserializer(Class<?> vc) {
@@ -25,6 +26,14 @@ public class IdentifierStringBasedDeserializer extends StdDeserializer<Identifie
         JsonNode node = jsonParser.getCodec().readTree(jsonParser);
         String name = node.get("name").asText();
         String value = node.get("value").asText();
+        JsonNode type = node.get("@class");
+        if (type != null && CompactIdentifier.class.getSimpleName().equals(type.asText())) {
+            try {
+                return CompactIdentifier.of(name, value);
+            } catch (IllegalArgumentException iae) {
+                throw new IOException(iae);
+            }
+        }
 
         return new IdentifierStringBased(name, value);
     }
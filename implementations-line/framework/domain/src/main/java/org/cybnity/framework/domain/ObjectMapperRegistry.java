@@ -0,0 +1,97 @@
+package org.cybnity.framework.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the pre-configured JSON readers and writers shared by the components of an application.
+ * Building a mapper is costly (modules registration) and each mapper maintains its own serializers and deserializers caches, so a unique mapper is built per profile and reused.
+ * The provided ObjectReader and ObjectWriter instances are immutable and thread-safe, allowing their usage by concurrent threads without synchronization.
+ *
+ * @author olivier
+ */
+public final class ObjectMapperRegistry {
+
+    /**
+     * Type of JSON formatting supported by the registry.
+     */
+    public enum Profile {
+        /**
+         * Indented format, easy to read by a human (e.g logs, stored attributes).
+         */
+        READABLE,
+
+        /**
+         * Compact format (without indentation) optimized for the transport of messages (e.g stream or channel message payload).
+         */
+        WIRE
+    }
+
+    /**
+     * Unique mapper per profile, created at the registry initialization and never reconfigured.
+     */
+    private static final Map<Profile, ObjectMapper> MAPPERS = new EnumMap<>(Profile.class);
+
+    /**
+     * Cache of readers per profile and per read type.
+     */
+    private static final Map<Profile, Map<Class<?>, ObjectReader>> READERS = new EnumMap<>(Profile.class);
+
+    /**
+     * Cache of writers per profile.
+     */
+    private static final Map<Profile, ObjectWriter> WRITERS = new EnumMap<>(Profile.class);
+
+    static {
+        MAPPERS.put(Profile.READABLE, new ObjectMapperBuilder()
+                .enableIndentation()
+                .dateFormat()
+                .preserveOrder(true)
+                .build());
+        MAPPERS.put(Profile.WIRE, new ObjectMapperBuilder()
+                .dateFormat()
+                .preserveOrder(true)
+                .build());
+        for (Profile p : Profile.values()) {
+            READERS.put(p, new ConcurrentHashMap<>());
+            WRITERS.put(p, MAPPERS.get(p).writer());
+        }
+    }
+
+    /**
+     * Private constructor of static utility class.
+     */
+    private ObjectMapperRegistry() {
+    }
+
+    /**
+     * Get a reader of JSON contents.
+     *
+     * @param type    Mandatory type of object to read.
+     * @param profile Mandatory profile of the read contents.
+     * @return A shared reader.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static ObjectReader readerFor(Class<?> type, Profile profile) throws IllegalArgumentException {
+        if (type == null) throw new IllegalArgumentException("Type parameter is required!");
+        if (profile == null) throw new IllegalArgumentException("Profile parameter is required!");
+        return READERS.get(profile).computeIfAbsent(type, t -> MAPPERS.get(profile).readerFor(t));
+    }
+
+    /**
+     * Get a writer of JSON contents, serializing each object according to its runtime type.
+     *
+     * @param profile Mandatory profile of the written contents.
+     * @return A shared writer.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static ObjectWriter writer(Profile profile) throws IllegalArgumentException {
+        if (profile == null) throw new IllegalArgumentException("Profile parameter is required!");
+        return WRITERS.get(profile);
+    }
+}
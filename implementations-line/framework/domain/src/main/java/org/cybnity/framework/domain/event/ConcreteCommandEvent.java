@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.Command;
 import org.cybnity.framework.domain.model.DomainEntity;
@@ -14,7 +15,6 @@ import org.cybnity.framework.immutable.utility.VersionConcreteStrategy;
 
 import java.io.Serializable;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -52,6 +52,7 @@ public class ConcreteCommandEvent extends Command {
      * unmodifiable attributes.
      */
     @JsonProperty
+    @JsonDeserialize(as = IndexedSpecification.class)
     protected Collection<Attribute> specification;
 
     /**
@@ -144,6 +145,7 @@ public class ConcreteCommandEvent extends Command {
      * @param ref A domain object reference.
      */
     public void setChangedModelElementRef(EntityReference ref) {
+        checkNotFrozen();
         this.changedModelElementRef = ref;
     }
 
@@ -153,6 +155,7 @@ public class ConcreteCommandEvent extends Command {
      * @param specification Description element relative to this command event.
      */
     public void setSpecification(Collection<Attribute> specification) {
+        checkNotFrozen();
         this.specification = specification;
     }
 
@@ -177,6 +180,7 @@ public class ConcreteCommandEvent extends Command {
      *            domain object to treat) or null.
      */
     public void setPriorCommandRef(EntityReference ref) {
+        checkNotFrozen();
         this.priorCommandRef = ref;
     }
 
@@ -206,9 +210,10 @@ public class ConcreteCommandEvent extends Command {
     @JsonIgnore
     @Override
     public boolean appendSpecification(Attribute specificationCriteria) {
+        checkNotFrozen();
         if (specification == null) {
             // Initialize the attribute container of unmodifiable specification
-            specification = new ArrayList<>();
+            specification = new IndexedSpecification();
         }
         return EventSpecification.appendSpecification(specificationCriteria, specification);
     }
@@ -217,6 +222,8 @@ public class ConcreteCommandEvent extends Command {
     public Collection<Attribute> specification() {
         if (this.specification != null && !this.specification.isEmpty()) {
             // Return immutable version
+            if (this.specification instanceof IndexedSpecification)
+                return ((IndexedSpecification) this.specification).unmodifiable(); // Searchable by name
             return Collections.unmodifiableCollection(this.specification);
         }
         return null;
@@ -228,6 +235,7 @@ public class ConcreteCommandEvent extends Command {
      * @param occurredOn A date.
      */
     public void setOccurredOn(OffsetDateTime occurredOn) {
+        checkNotFrozen();
         this.occurredOn = occurredOn;
     }
 
@@ -261,6 +269,7 @@ public class ConcreteCommandEvent extends Command {
      */
     @Override
     public void assignCorrelationId(String eventIdentifier) {
+        checkNotFrozen();
         if (eventIdentifier != null && !eventIdentifier.isEmpty()) {
             // Create and store attribute dedicated to correlation identifier
             appendSpecification(new Attribute(CORRELATION_ID, eventIdentifier));
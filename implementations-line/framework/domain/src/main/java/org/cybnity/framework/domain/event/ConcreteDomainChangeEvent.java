@@ -2,11 +2,11 @@ package org.cybnity.framework.domain.event;
 
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.Command;
 import org.cybnity.framework.domain.DomainEvent;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.framework.domain.model.CommonChildFactImpl;
 import org.cybnity.framework.domain.model.DomainEntity;
 import org.cybnity.framework.immutable.Entity;
@@ -17,7 +17,6 @@ import org.cybnity.framework.immutable.utility.VersionConcreteStrategy;
 
 import java.io.Serializable;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.logging.Level;
@@ -64,6 +63,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
      * unmodifiable attributes.
      */
     @JsonProperty
+    @JsonDeserialize(as = IndexedSpecification.class)
     protected Collection<Attribute> specification;
 
     @JsonCreator
@@ -162,6 +162,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
      * @param ref A domain object reference.
      */
     public void setChangedModelElementRef(EntityReference ref) {
+        checkNotFrozen();
         this.changedModelElementRef = ref;
     }
 
@@ -186,6 +187,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
      *            domain object to change one or several of its values) or null.
      */
     public void setChangeCommandRef(EntityReference ref) {
+        checkNotFrozen();
         this.changeCommandRef = ref;
     }
 
@@ -195,6 +197,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
      * @param specification Description element relative to this command event.
      */
     public void setSpecification(Collection<Attribute> specification) {
+        checkNotFrozen();
         this.specification = specification;
     }
 
@@ -224,9 +227,10 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
     @JsonIgnore
     @Override
     public boolean appendSpecification(Attribute specificationCriteria) {
+        checkNotFrozen();
         if (specification == null) {
             // Initialize the attribute container of unmodifiable specification
-            specification = new ArrayList<>();
+            specification = new IndexedSpecification();
         }
         return EventSpecification.appendSpecification(specificationCriteria, specification);
     }
@@ -235,6 +239,8 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
     public Collection<Attribute> specification() {
         if (this.specification != null && !this.specification.isEmpty()) {
             // Return immutable version
+            if (this.specification instanceof IndexedSpecification)
+                return ((IndexedSpecification) this.specification).unmodifiable(); // Searchable by name
             return Collections.unmodifiableCollection(this.specification);
         }
         return null;
@@ -246,6 +252,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
      * @param occurredOn A date.
      */
     public void setOccurredOn(OffsetDateTime occurredOn) {
+        checkNotFrozen();
         this.occurredOn = occurredOn;
     }
 
@@ -277,12 +284,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
         Attribute at = EventSpecification.findSpecificationByName(CommonChildFactImpl.Attribute.PARENT_REFERENCE_ID.name(), this.specification());
         if (at != null) {
             try {
-                ObjectMapper mapper = new ObjectMapperBuilder()
-                        .enableIndentation()
-                        .dateFormat()
-                        .preserveOrder(true)
-                        .build();
-                return mapper.readValue(at.value(), Identifier.class);
+                return ObjectMapperRegistry.readerFor(Identifier.class, ObjectMapperRegistry.Profile.READABLE).readValue(at.value());
             } catch (JsonProcessingException jpe) {
                 logger.log(Level.SEVERE, jpe.getMessage(), jpe);
             }
@@ -292,14 +294,10 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
 
     @Override
     public void setChangeSourcePredecessorReferenceId(Identifier id) {
+        checkNotFrozen();
         if (id != null) {
             try {
-                ObjectMapper mapper = new ObjectMapperBuilder()
-                        .enableIndentation()
-                        .dateFormat()
-                        .preserveOrder(true)
-                        .build();
-                appendSpecification(new org.cybnity.framework.domain.Attribute(CommonChildFactImpl.Attribute.PARENT_REFERENCE_ID.name(), /* Serialized predecessor identifier value */ mapper.writeValueAsString(id)));
+                appendSpecification(new org.cybnity.framework.domain.Attribute(CommonChildFactImpl.Attribute.PARENT_REFERENCE_ID.name(), /* Serialized predecessor identifier value */ ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.READABLE).writeValueAsString(id)));
             } catch (JsonProcessingException jpe) {
                 logger.log(Level.SEVERE, jpe.getMessage(), jpe);
             }
@@ -311,12 +309,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
         Attribute at = EventSpecification.findSpecificationByName(CommonChildFactImpl.Attribute.IDENTIFIER.name(), this.specification());
         if (at != null) {
             try {
-                ObjectMapper mapper = new ObjectMapperBuilder()
-                        .enableIndentation()
-                        .dateFormat()
-                        .preserveOrder(true)
-                        .build();
-                return mapper.readValue(at.value(), Identifier.class);
+                return ObjectMapperRegistry.readerFor(Identifier.class, ObjectMapperRegistry.Profile.READABLE).readValue(at.value());
             } catch (JsonProcessingException jpe) {
                 logger.log(Level.SEVERE, jpe.getMessage(), jpe);
             }
@@ -326,14 +319,10 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
 
     @Override
     public void setChangeSourceIdentifier(Identifier id) {
+        checkNotFrozen();
         if (id != null) {
             try {
-                ObjectMapper mapper = new ObjectMapperBuilder()
-                        .enableIndentation()
-                        .dateFormat()
-                        .preserveOrder(true)
-                        .build();
-                appendSpecification(new org.cybnity.framework.domain.Attribute(CommonChildFactImpl.Attribute.IDENTIFIER.name(), mapper.writeValueAsString(id)));
+                appendSpecification(new org.cybnity.framework.domain.Attribute(CommonChildFactImpl.Attribute.IDENTIFIER.name(), ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.READABLE).writeValueAsString(id)));
             } catch (JsonProcessingException jpe) {
                 logger.log(Level.SEVERE, jpe.getMessage(), jpe);
             }
@@ -345,12 +334,7 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
         Attribute at = EventSpecification.findSpecificationByName(CommonChildFactImpl.Attribute.OCCURRED_AT.name(), this.specification());
         if (at != null) {
             try {
-                ObjectMapper mapper = new ObjectMapperBuilder()
-                        .enableIndentation()
-                        .dateFormat()
-                        .preserveOrder(true)
-                        .build();
-                return mapper.readValue(at.value(), OffsetDateTime.class);
+                return ObjectMapperRegistry.readerFor(OffsetDateTime.class, ObjectMapperRegistry.Profile.READABLE).readValue(at.value());
             } catch (JsonProcessingException jpe) {
                 logger.log(Level.SEVERE, jpe.getMessage(), jpe);
             }
@@ -360,14 +344,10 @@ public class ConcreteDomainChangeEvent extends DomainEvent implements HydrationA
 
     @Override
     public void setChangeSourceOccurredAt(OffsetDateTime date) {
+        checkNotFrozen();
         if (date != null) {
             try {
-                ObjectMapper mapper = new ObjectMapperBuilder()
-                        .enableIndentation()
-                        .dateFormat()
-                        .preserveOrder(true)
-                        .build();
-                appendSpecification(new org.cybnity.framework.domain.Attribute(CommonChildFactImpl.Attribute.OCCURRED_AT.name(), mapper.writeValueAsString(date)));
+                appendSpecification(new org.cybnity.framework.domain.Attribute(CommonChildFactImpl.Attribute.OCCURRED_AT.name(), ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.READABLE).writeValueAsString(date)));
             } catch (JsonProcessingException jpe) {
                 logger.log(Level.SEVERE, jpe.getMessage(), jpe);
             }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.Command;
 import org.cybnity.framework.domain.model.DomainEntity;
@@ -14,7 +15,6 @@ import org.cybnity.framework.immutable.utility.VersionConcreteStrategy;
 
 import java.io.Serializable;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -52,6 +52,7 @@ public class ConcreteQueryEvent extends Command {
      * unmodifiable attributes.
      */
     @JsonProperty
+    @JsonDeserialize(as = IndexedSpecification.class)
     protected Collection<Attribute> specification;
 
     @JsonCreator
@@ -137,6 +138,7 @@ public class ConcreteQueryEvent extends Command {
      * @param ref A domain object reference.
      */
     public void setQueriedModelElementRef(EntityReference ref) {
+        checkNotFrozen();
         this.queriedModelElementRef = ref;
     }
 
@@ -146,6 +148,7 @@ public class ConcreteQueryEvent extends Command {
      * @param specification Description element relative to this query event.
      */
     public void setSpecification(Collection<Attribute> specification) {
+        checkNotFrozen();
         this.specification = specification;
     }
 
@@ -170,6 +173,7 @@ public class ConcreteQueryEvent extends Command {
      *            domain object to treat) or null.
      */
     public void setPriorCommandRef(EntityReference ref) {
+        checkNotFrozen();
         this.priorCommandRef = ref;
     }
 
@@ -199,9 +203,10 @@ public class ConcreteQueryEvent extends Command {
     @JsonIgnore
     @Override
     public boolean appendSpecification(Attribute specificationCriteria) {
+        checkNotFrozen();
         if (specification == null) {
             // Initialize the attribute container of unmodifiable specification
-            specification = new ArrayList<>();
+            specification = new IndexedSpecification();
         }
         return EventSpecification.appendSpecification(specificationCriteria, specification);
     }
@@ -210,6 +215,8 @@ public class ConcreteQueryEvent extends Command {
     public Collection<Attribute> specification() {
         if (this.specification != null && !this.specification.isEmpty()) {
             // Return immutable version
+            if (this.specification instanceof IndexedSpecification)
+                return ((IndexedSpecification) this.specification).unmodifiable(); // Searchable by name
             return Collections.unmodifiableCollection(this.specification);
         }
         return null;
@@ -221,6 +228,7 @@ public class ConcreteQueryEvent extends Command {
      * @param occurredOn A date.
      */
     public void setOccurredOn(OffsetDateTime occurredOn) {
+        checkNotFrozen();
         this.occurredOn = occurredOn;
     }
 
@@ -245,6 +253,7 @@ public class ConcreteQueryEvent extends Command {
      */
     @Override
     public void assignCorrelationId(String eventIdentifier) {
+        checkNotFrozen();
         if (eventIdentifier != null && !eventIdentifier.isEmpty()) {
             // Create and store attribute dedicated to correlation identifier
             appendSpecification(new Attribute(CORRELATION_ID, eventIdentifier));
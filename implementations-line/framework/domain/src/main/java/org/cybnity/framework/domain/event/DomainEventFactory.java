@@ -4,6 +4,7 @@ import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.model.DomainEntity;
 import org.cybnity.framework.immutable.EntityReference;
+import org.cybnity.framework.immutable.ImmutabilityException;
 
 import java.util.Collection;
 
@@ -20,11 +21,15 @@ public class DomainEventFactory {
      * @param definition             Collection of attributes defining the event.
      * @param priorCommandRef        Optional original event reference that was previous source of this event publication.
      * @param changedModelElementRef Optional Identify the element of the domain model which was subject of domain event.
-     * @return Instance of concrete event including all the attributes and standard additional elements.
-     * @throws IllegalArgumentException When any mandatory parameter is missing.
+     * @return Frozen instance of concrete event including all the attributes and standard additional elements.
+     * @throws IllegalArgumentException When any mandatory parameter is missing, or when the identity can not be frozen.
      */
     static public DomainEvent create(String type, DomainEntity identifiedBy, Collection<Attribute> definition, EntityReference priorCommandRef, EntityReference changedModelElementRef) throws IllegalArgumentException {
-        return ConcreteDomainChangeEvent.create(type, identifiedBy, definition, priorCommandRef, changedModelElementRef);
+        try {
+            return ConcreteDomainChangeEvent.create(type, identifiedBy, definition, priorCommandRef, changedModelElementRef).freeze();
+        } catch (ImmutabilityException ie) {
+            throw new IllegalArgumentException(ie);
+        }
     }
 
 }
@@ -39,6 +39,11 @@ public class EventSpecification {
     static public Attribute findSpecificationByName(String criteriaName, Collection<Attribute> specification) {
         Attribute found = null;
         if ((criteriaName != null && !criteriaName.isEmpty()) && specification != null) {
+            // Search via the index of the container when existing
+            if (specification instanceof IndexedSpecification)
+                return ((IndexedSpecification) specification).findByName(criteriaName);
+            if (specification instanceof IndexedSpecification.UnmodifiableView)
+                return ((IndexedSpecification.UnmodifiableView) specification).findByName(criteriaName);
             // Possible search execution
             for (Attribute at : specification) {
                 if (at != null && at.name() != null && at.name().equalsIgnoreCase(criteriaName)) {
@@ -0,0 +1,232 @@
+package org.cybnity.framework.domain.event;
+
+import org.cybnity.framework.domain.Attribute;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container of the attributes specifying an event, allowing a search of attribute by name (case-insensitive) without scan of all the attributes.
+ * The attributes are kept and iterated in their append order (e.g same JSON array than a list).
+ * A small container is searched by scan of its attributes; beyond SMALL_SIZE attributes, the search is executed via an index of the attributes per normalized name (lower-case key shared between the containers).
+ * The index is updated by each change of the container, so the searches are not modifying it (e.g concurrent reads of a published event).
+ *
+ * @author olivier
+ */
+public class IndexedSpecification extends AbstractCollection<Attribute> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Quantity of attributes searched by scan.
+     */
+    static final int SMALL_SIZE = 8;
+
+    /**
+     * Maximum quantity of shared normalized names (e.g standard attribute names of the events).
+     */
+    private static final int MAX_SHARED_KEYS = 1024;
+
+    /**
+     * Normalized names shared between the containers (Key = attribute name, Value = normalized name).
+     */
+    private static final Map<String, String> SHARED_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Attributes in append order.
+     */
+    private final ArrayList<Attribute> attributes;
+
+    /**
+     * First attribute per normalized name. Null when the container is small.
+     */
+    private transient Map<String, Attribute> index;
+
+    /**
+     * Default constructor (e.g used by the deserialization of an event).
+     */
+    public IndexedSpecification() {
+        this.attributes = new ArrayList<>();
+    }
+
+    /**
+     * Constructor with initial attributes.
+     *
+     * @param attributes Attributes to add. Ignored when null.
+     */
+    public IndexedSpecification(Collection<Attribute> attributes) {
+        this.attributes = new ArrayList<>((attributes != null) ? attributes.size() : 10);
+        if (attributes != null) addAll(attributes);
+    }
+
+    /**
+     * Get the normalized version of an attribute name.
+     *
+     * @param name Mandatory name.
+     * @return A lower-case name.
+     */
+    static String normalize(String name) {
+        String key = SHARED_KEYS.get(name);
+        if (key == null) {
+            key = name.toLowerCase(Locale.ROOT);
+            if (SHARED_KEYS.size() < MAX_SHARED_KEYS) {
+                // Share the key with the next containers
+                String shared = SHARED_KEYS.putIfAbsent(name, key);
+                if (shared != null) key = shared;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Search the first attribute of a name.
+     *
+     * @param name Name of the attribute (case-insensitive).
+     * @return Found attribute or null.
+     */
+    public Attribute findByName(String name) {
+        if (name == null || name.isEmpty()) return null;
+        Map<String, Attribute> idx = this.index;
+        if (idx != null) return idx.get(normalize(name));
+        for (Attribute at : attributes) {
+            if (at != null && at.name() != null && (at.name() == name || at.name().equalsIgnoreCase(name))) {
+                return at;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean add(Attribute attribute) {
+        attributes.add(attribute);
+        if (index != null) {
+            indexed(index, attribute);
+        } else if (attributes.size() > SMALL_SIZE) {
+            index = buildIndex();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (index != null && o instanceof Attribute) {
+            Attribute at = (Attribute) o;
+            if (at.name() == null) return attributes.contains(o);
+            Attribute first = index.get(normalize(at.name()));
+            if (first == null) return false; // None attribute of the same name
+            if (first.equals(at)) return true;
+            // Other attribute of the same name can be equals
+        }
+        return attributes.contains(o);
+    }
+
+    @Override
+    public Iterator<Attribute> iterator() {
+        final Iterator<Attribute> it = attributes.iterator();
+        return new Iterator<Attribute>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Attribute next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                // Rebuild the index without the removed attribute
+                index = (attributes.size() > SMALL_SIZE) ? buildIndex() : null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return attributes.size();
+    }
+
+    @Override
+    public void clear() {
+        attributes.clear();
+        index = null;
+    }
+
+    /**
+     * Get a read-only view of this container, supporting the search by name.
+     *
+     * @return An unmodifiable view.
+     */
+    public Collection<Attribute> unmodifiable() {
+        return new UnmodifiableView(this);
+    }
+
+    private Map<String, Attribute> buildIndex() {
+        Map<String, Attribute> idx = new HashMap<>(attributes.size() * 2);
+        for (Attribute at : attributes) {
+            indexed(idx, at);
+        }
+        return idx;
+    }
+
+    /**
+     * Add an attribute into an index, when none previous attribute of the same name.
+     */
+    private static void indexed(Map<String, Attribute> idx, Attribute at) {
+        if (at != null && at.name() != null) idx.putIfAbsent(normalize(at.name()), at);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (attributes.size() > SMALL_SIZE) index = buildIndex();
+    }
+
+    /**
+     * Read-only view of a specification container.
+     */
+    public static final class UnmodifiableView extends AbstractCollection<Attribute> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IndexedSpecification specification;
+
+        private UnmodifiableView(IndexedSpecification specification) {
+            this.specification = specification;
+        }
+
+        /**
+         * Search the first attribute of a name.
+         *
+         * @param name Name of the attribute (case-insensitive).
+         * @return Found attribute or null.
+         */
+        public Attribute findByName(String name) {
+            return specification.findByName(name);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return specification.contains(o);
+        }
+
+        @Override
+        public Iterator<Attribute> iterator() {
+            return Collections.unmodifiableCollection(specification.attributes).iterator();
+        }
+
+        @Override
+        public int size() {
+            return specification.size();
+        }
+
+        @Override
+        public boolean add(Attribute attribute) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
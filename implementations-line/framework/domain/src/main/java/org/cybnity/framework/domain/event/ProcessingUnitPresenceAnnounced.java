@@ -93,6 +93,7 @@ public class ProcessingUnitPresenceAnnounced extends ConcreteDomainChangeEvent {
      * @param routingDefinitions Description elements relative each supported event type per channel entrypoint (e.g event type name per recipient channel short name).
      */
     public void setEventsRoutingPaths(Collection<Attribute> routingDefinitions) {
+        checkNotFrozen();
         this.eventsRoutingPaths = routingDefinitions;
     }
 
@@ -104,6 +105,7 @@ public class ProcessingUnitPresenceAnnounced extends ConcreteDomainChangeEvent {
      */
     @JsonIgnore
     public boolean appendEventRoutingPath(Attribute routingDefinition) {
+        checkNotFrozen();
         if (eventsRoutingPaths == null) {
             // Initialize the attributes container of unmodifiable specification
             eventsRoutingPaths = new ArrayList<>();
@@ -153,6 +155,7 @@ public class ProcessingUnitPresenceAnnounced extends ConcreteDomainChangeEvent {
      */
     @JsonIgnore
     public void setServiceName(String name) {
+        checkNotFrozen();
         if (name != null) {
             appendSpecification(new Attribute(SpecificationAttribute.SERVICE_NAME.name(), name));
         }
@@ -179,6 +182,7 @@ public class ProcessingUnitPresenceAnnounced extends ConcreteDomainChangeEvent {
      */
     @JsonIgnore
     public void setPresenceStatus(IPresenceObservability.PresenceState status) {
+        checkNotFrozen();
         if (status != null) {
             appendSpecification(new Attribute(SpecificationAttribute.PRESENCE_STATUS.name(), status.name()));
         }
@@ -0,0 +1,129 @@
+package org.cybnity.framework.domain.infrastructure;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.model.ISnapshot;
+import org.cybnity.framework.immutable.persistence.FactRecord;
+import org.cybnity.framework.immutable.persistence.TypeVersion;
+
+import java.io.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary codec of snapshots, storing them without text encoding (e.g Base64) and with an optional compression of their content.
+ * Each encoded snapshot starts with a header describing its format and the version of its subject type:
+ * <ul>
+ *     <li>format version (byte) and options flags (byte);</li>
+ *     <li>name and TypeVersion hash of the subject type (e.g aggregate class which is body of the snapshot record);</li>
+ *     <li>the snapshot content serialized by Java serialization (ObjectOutputStream), compressed when the option is enabled.</li>
+ * </ul>
+ * The codec reduces the size of the stored snapshots (no Base64 encoding, optional compression) but does not change their serialization format.
+ * A snapshot whose subject type hash is different from the current version of the type is not decoded (obsolete snapshot).
+ *
+ * @author olivier
+ */
+public class CompactSnapshotCodec implements ISnapshotCodec {
+
+    /**
+     * Version of the encoding format.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    /**
+     * Flag of a compressed content.
+     */
+    private static final byte COMPRESSED_FLAG = 0x01;
+
+    /**
+     * Is the content compressed during encoding.
+     */
+    private final boolean compressed;
+
+    /**
+     * Default constructor of a codec compressing the snapshots content.
+     */
+    public CompactSnapshotCodec() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param compressed True when the snapshots content shall be compressed during encoding.
+     */
+    public CompactSnapshotCodec(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public byte[] encode(ISnapshot snapshot) throws IllegalArgumentException, UnoperationalStateException {
+        if (snapshot == null) throw new IllegalArgumentException("Snapshot parameter is required!");
+        Class<?> subjectType = subjectType(snapshot);
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream()) {
+            DataOutputStream header = new DataOutputStream(bytes);
+            header.writeByte(FORMAT_VERSION);
+            header.writeByte(compressed ? COMPRESSED_FLAG : 0);
+            header.writeUTF(subjectType.getName());
+            header.writeUTF(TypeVersion.of(subjectType).hash());
+            header.flush();
+            // Deflater not owned by the compression stream (native memory released only when ended)
+            Deflater deflater = compressed ? new Deflater(Deflater.BEST_SPEED) : null;
+            try {
+                OutputStream content = (deflater != null) ? new DeflaterOutputStream(bytes, deflater) : bytes;
+                try (ObjectOutputStream oos = new ObjectOutputStream(content)) {
+                    oos.writeObject(snapshot);
+                }
+            } finally {
+                if (deflater != null) deflater.end();
+            }
+            return bytes.toByteArray();
+        } catch (IOException ioe) {
+            throw new UnoperationalStateException(ioe);
+        }
+    }
+
+    @Override
+    public ISnapshot decode(byte[] data) throws IllegalArgumentException, UnoperationalStateException {
+        if (data == null || data.length == 0) throw new IllegalArgumentException("Data parameter is required!");
+        try (ByteArrayInputStream bytes = new ByteArrayInputStream(data)) {
+            DataInputStream header = new DataInputStream(bytes);
+            byte format = header.readByte();
+            if (format != FORMAT_VERSION)
+                throw new IllegalArgumentException("Unsupported snapshot format version (" + format + ")!");
+            boolean compressedContent = (header.readByte() & COMPRESSED_FLAG) != 0;
+            String subjectTypeName = header.readUTF();
+            String subjectTypeHash = header.readUTF();
+            // Verify that the snapshot is compatible with the current version of its subject type
+            try {
+                Class<?> subjectType = Class.forName(subjectTypeName, false, getClass().getClassLoader());
+                if (!TypeVersion.of(subjectType).hash().equals(subjectTypeHash)) return null;
+            } catch (ClassNotFoundException cnfe) {
+                return null; // Unknown subject type
+            }
+            InputStream content = compressedContent ? new InflaterInputStream(bytes) : bytes;
+            try (ObjectInputStream ois = new ObjectInputStream(content)) {
+                Object snapshot = ois.readObject();
+                if (!ISnapshot.class.isAssignableFrom(snapshot.getClass()))
+                    throw new IllegalArgumentException("Decoded object is not a snapshot!");
+                return (ISnapshot) snapshot;
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UnoperationalStateException(e);
+        }
+    }
+
+    /**
+     * Get the type whose version identifies the compatibility of a snapshot.
+     *
+     * @param snapshot Mandatory snapshot.
+     * @return Type of the snapshot body when the snapshot is a fact record with body, else the snapshot type.
+     */
+    private Class<?> subjectType(ISnapshot snapshot) {
+        if (FactRecord.class.isAssignableFrom(snapshot.getClass())) {
+            Serializable body = ((FactRecord) snapshot).body();
+            if (body != null) return body.getClass();
+        }
+        return snapshot.getClass();
+    }
+}
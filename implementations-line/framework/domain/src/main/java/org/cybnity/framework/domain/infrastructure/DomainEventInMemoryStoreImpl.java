@@ -11,10 +11,7 @@ import org.cybnity.framework.immutable.ImmutabilityException;
 import org.cybnity.framework.support.annotation.Requirement;
 import org.cybnity.framework.support.annotation.RequirementCategory;
 
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -66,6 +63,18 @@ public class DomainEventInMemoryStoreImpl extends EventStore {
 
     @Override
     public void appendToStream(Identifier domainSubjectId, List<DomainEvent> changes) throws IllegalArgumentException, ImmutabilityException, UnoperationalStateException {
+        long start = System.nanoTime();
+        try {
+            append(domainSubjectId, changes);
+        } finally {
+            appendTimer().recordSince(start);
+        }
+    }
+
+    /**
+     * Store the changes at the end of the subject stream and promote them to the subscribers.
+     */
+    private void append(Identifier domainSubjectId, List<DomainEvent> changes) throws IllegalArgumentException, ImmutabilityException, UnoperationalStateException {
         if (domainSubjectId == null) throw new IllegalArgumentException("domainSubjectId parameter is required!");
         if (changes == null) throw new IllegalArgumentException("changes parameter is required!");
         if (changes.isEmpty()) return; // noting to change on domain event
@@ -92,6 +101,7 @@ public class DomainEventInMemoryStoreImpl extends EventStore {
 
         // Save all domain event changes into registry stream regarding domain event uid
         registries.put(domainSubjectId.value().toString(), eventTypeDataset);
+        changesAppended(domainSubjectId, changes.size(), 0);
 
         // Promote to subscribers (e.g read-model repositories) the change events that have been stored
         for (DomainEvent changeEvt : changes) {
@@ -101,6 +111,18 @@ public class DomainEventInMemoryStoreImpl extends EventStore {
 
     @Override
     public EventStream loadEventStream(String domainSubjectId) throws IllegalArgumentException, UnoperationalStateException {
+        long start = System.nanoTime();
+        try {
+            return load(domainSubjectId);
+        } finally {
+            loadTimer().recordSince(start);
+        }
+    }
+
+    /**
+     * Read the subject stream.
+     */
+    private EventStream load(String domainSubjectId) throws IllegalArgumentException, UnoperationalStateException {
         if (domainSubjectId == null || domainSubjectId.isEmpty())
             throw new IllegalArgumentException("domainSubjectId parameter is required!");
         // Search event stream according to all event record versions supported (all columns per event record class version)
@@ -138,27 +160,29 @@ public class DomainEventInMemoryStoreImpl extends EventStore {
             throw new IllegalArgumentException("domainSubjectId parameter is required!");
         if (snapshotExpectedVersion == null || snapshotExpectedVersion.isEmpty())
             throw new IllegalArgumentException("snapshotExpectedVersion parameter is required!");
-        // Search latest event stream supporting event type after the snapshot version requested
+        // Read the existing recorded events relative to the domain object (without any change on recorded order)
+        LinkedList<EventRecord> storedEventRecordsColumn = registries.get(domainSubjectId);
+        if (storedEventRecordsColumn == null) return null;
+        List<EventRecord> storedEvents = new ArrayList<>(storedEventRecordsColumn);
+        // When the version is the identifier of a stored change event (e.g snapshot commit version), select it and the events appended after it
+        int commitIndex = -1;
+        try {
+            for (int i = storedEvents.size() - 1; i >= 0 && commitIndex < 0; i--) {
+                Identifier id = ((DomainEvent) storedEvents.get(i).body()).identified();
+                if (id != null && snapshotExpectedVersion.equals(id.value().toString())) commitIndex = i;
+            }
+        } catch (ImmutabilityException ie) {
+            throw new UnoperationalStateException(ie);
+        }
+        // Else select the historized events with a version equals or superior to the snapshot version
         LinkedList<DomainEvent> foundEventDomainHistory = new LinkedList<>();
         EventStream domainObjEventsHistory = new EventStream();
-        for (Map.Entry<String, LinkedList<EventRecord>> storeColumn : registries.entrySet()) {
-            // For any stream version supported by the registry regarding a domain object
-            if (domainSubjectId.equals(storeColumn.getKey())) { // Detected the id of domain object owner of event records column
-                // Read the existing recorded events relative to domain events
-                LinkedList<EventRecord> storedEventRecordsColumn = storeColumn.getValue();
-                // Select historized event records regarding an origin domain object's identifier
-                // Without any change on recorded order
-                for (EventRecord historizedEvent : storedEventRecordsColumn) {
-                    // Read recorded event
-                    // Compare if equals the record event origin domain event have equals identifier
-                    // It's a domain event without consideration of event record container's version used by the storage system
-                    // But check that object version if equals or superior to the filtered snapshot version parameter
-                    if (historizedEvent.factTypeVersion().hash().equals(snapshotExpectedVersion) || (historizedEvent.factTypeVersion().hash().compareTo(snapshotExpectedVersion) > 0)) {
-                        foundEventDomainHistory.add((DomainEvent) historizedEvent.body());
-                        // Synchronize the event stream version based on the type of record type version hash (aligned with the domain object class serial UID)
-                        domainObjEventsHistory.setVersion(historizedEvent.factTypeVersion().hash());
-                    }
-                }
+        for (int i = Math.max(commitIndex, 0); i < storedEvents.size(); i++) {
+            EventRecord historizedEvent = storedEvents.get(i);
+            if (commitIndex >= 0 || historizedEvent.factTypeVersion().hash().compareTo(snapshotExpectedVersion) >= 0) {
+                foundEventDomainHistory.add((DomainEvent) historizedEvent.body());
+                // Synchronize the event stream version based on the type of record type version hash (aligned with the domain object class serial UID)
+                domainObjEventsHistory.setVersion(historizedEvent.factTypeVersion().hash());
             }
         }
         if (!foundEventDomainHistory.isEmpty()) {
@@ -0,0 +1,33 @@
+package org.cybnity.framework.domain.infrastructure;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.model.ISnapshot;
+
+/**
+ * Encoder and decoder of snapshots into a binary representation storable by a snapshots repository.
+ * A codec can refuse the decoding of a snapshot that is not compatible with the current version of its subject type (e.g snapshot taken by a previous version of an aggregate class), allowing the repository to consider the snapshot as not existing (and its subject to be rehydrated from its full events history).
+ *
+ * @author olivier
+ */
+public interface ISnapshotCodec {
+
+    /**
+     * Encode a snapshot.
+     *
+     * @param snapshot Mandatory snapshot to encode.
+     * @return A binary representation of the snapshot.
+     * @throws IllegalArgumentException    When mandatory parameter is missing. When the snapshot is not supported by this codec.
+     * @throws UnoperationalStateException When impossible encoding.
+     */
+    byte[] encode(ISnapshot snapshot) throws IllegalArgumentException, UnoperationalStateException;
+
+    /**
+     * Decode a snapshot.
+     *
+     * @param data Mandatory binary representation of a snapshot, encoded by this codec.
+     * @return The decoded snapshot, or null when the snapshot is not compatible with the current version of its subject type.
+     * @throws IllegalArgumentException    When mandatory parameter is missing. When the data format is not supported by this codec.
+     * @throws UnoperationalStateException When impossible decoding.
+     */
+    ISnapshot decode(byte[] data) throws IllegalArgumentException, UnoperationalStateException;
+}
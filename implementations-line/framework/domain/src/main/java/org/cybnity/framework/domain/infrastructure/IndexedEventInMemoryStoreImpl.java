@@ -0,0 +1,402 @@
+package org.cybnity.framework.domain.infrastructure;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.ValueObject;
+import org.cybnity.framework.domain.model.ConcurrencyConflictException;
+import org.cybnity.framework.domain.model.EventRecord;
+import org.cybnity.framework.domain.model.EventStore;
+import org.cybnity.framework.domain.model.EventStream;
+import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.framework.immutable.ImmutabilityException;
+import org.cybnity.framework.support.annotation.Requirement;
+import org.cybnity.framework.support.annotation.RequirementCategory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory store of events indexed per subject, usable as fast test double or as hot cache of a persistent store.
+ * <p>
+ * The history of each subject is directly found by its identifier, and is stored in append-only chunks (never copied when the history grows).
+ * The writers of a same subject are serialized by a lock selected from a fixed set of locks (lock striping), so that the writers of different subjects are executed in parallel without loss of events.
+ * The version of a subject stream is equals to the quantity of its stored events, and can be controlled by a writer at the append time (optimistic concurrency).
+ * Each stored event receives a global sequence number (ordered over all the subjects) allowing the catch-up reads by the consumers (e.g read-model projections).
+ *
+ * @author olivier
+ */
+public class IndexedEventInMemoryStoreImpl extends EventStore {
+
+    /**
+     * Expected version allowing an append without control of the subject stream version.
+     */
+    public static final long ANY_VERSION = -1L;
+
+    /**
+     * Expected version of a subject stream that does not exist (none stored event).
+     */
+    public static final long NO_STREAM = 0L;
+
+    /**
+     * Quantity of locks shared by the subjects streams.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Quantity of events per chunk of a subject history (power of two).
+     */
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    /**
+     * Histories per subject (key=changed domain object id, value=history of record events)
+     */
+    private final ConcurrentHashMap<String, SubjectStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Locks protecting the subjects streams.
+     */
+    private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+
+    /**
+     * All the stored events ordered by global sequence number.
+     */
+    private final ConcurrentSkipListMap<Long, DomainEvent> globalLog = new ConcurrentSkipListMap<>();
+
+    /**
+     * Last global sequence number allocated.
+     * The sequence numbers of an append are allocated as one contiguous block without lock between the appends of different subjects, so an allocated number can be not yet visible into the global log (append in progress).
+     */
+    private final AtomicLong globalSequence = new AtomicLong();
+
+    /**
+     * Default constructor.
+     */
+    protected IndexedEventInMemoryStoreImpl() {
+        super();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Get an instance of the event store, ready for operating.
+     *
+     * @return An instance ensuring the storage of events.
+     */
+    public static IndexedEventInMemoryStoreImpl instance() {
+        return new IndexedEventInMemoryStoreImpl();
+    }
+
+    @Override
+    public ValueObject<String> snapshotVersionsStorageNamespace() {
+        return null; // Memory space
+    }
+
+    @Override
+    public void freeUpResources() {
+        // Exclude the appends of all the subjects, so that none sequence number allocated before the reset is stored after it
+        for (ReadWriteLock lock : locks) {
+            lock.writeLock().lock();
+        }
+        try {
+            streams.clear();
+            globalLog.clear();
+            globalSequence.set(0);
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void appendToStream(Identifier domainSubjectId, List<DomainEvent> changes) throws IllegalArgumentException, ImmutabilityException, UnoperationalStateException {
+        try {
+            appendToStream(domainSubjectId, changes, ANY_VERSION);
+        } catch (ConcurrencyConflictException cce) {
+            // Never thrown without control of version
+            throw new UnoperationalStateException(cce);
+        }
+    }
+
+    /**
+     * Add events at the end of a subject stream when the stream is at the expected version.
+     *
+     * @param domainSubjectId Mandatory identifier of the domain object which is subject of the changes.
+     * @param changes         Mandatory ordered new events to commit at end of the stream.
+     * @param expectedVersion Version of the stream known by the writer (quantity of events already stored; NO_STREAM for a new subject), or ANY_VERSION for an append without control.
+     * @return The new version of the subject stream.
+     * @throws IllegalArgumentException      When mandatory parameter is missing, or when an event is not eligible to storage (e.g not identified).
+     * @throws ImmutabilityException         When problem of immutable version of stored event is occurred.
+     * @throws ConcurrencyConflictException When the stream version is not equals to the expected version.
+     */
+    @Requirement(reqType = RequirementCategory.Consistency, reqId = "REQ_CONS_8")
+    public long appendToStream(Identifier domainSubjectId, List<DomainEvent> changes, long expectedVersion) throws IllegalArgumentException, ImmutabilityException, ConcurrencyConflictException {
+        long start = System.nanoTime();
+        try {
+            return append(domainSubjectId, changes, expectedVersion);
+        } finally {
+            appendTimer().recordSince(start);
+        }
+    }
+
+    /**
+     * Store the changes at the end of the subject stream (when at the expected version) and promote them to the subscribers.
+     */
+    private long append(Identifier domainSubjectId, List<DomainEvent> changes, long expectedVersion) throws IllegalArgumentException, ImmutabilityException, ConcurrencyConflictException {
+        if (domainSubjectId == null) throw new IllegalArgumentException("domainSubjectId parameter is required!");
+        if (changes == null) throw new IllegalArgumentException("changes parameter is required!");
+        if (expectedVersion < ANY_VERSION)
+            throw new IllegalArgumentException("Invalid expectedVersion parameter!");
+        String subjectId = domainSubjectId.value().toString();
+
+        // Prepare the records before locking (only the stream update is executed under lock)
+        EventRecord[] records = new EventRecord[changes.size()];
+        int i = 0;
+        for (DomainEvent changeEvt : changes) {
+            records[i++] = new EventRecord(changeEvt); // type version auto-based on change class type version
+        }
+
+        long newVersion;
+        ReadWriteLock lock = lockOf(subjectId);
+        lock.writeLock().lock();
+        try {
+            SubjectStream stream = streams.get(subjectId);
+            long currentVersion = (stream != null) ? stream.size : NO_STREAM;
+            if (expectedVersion != ANY_VERSION && expectedVersion != currentVersion)
+                throw new ConcurrencyConflictException(subjectId, expectedVersion, currentVersion);
+            if (records.length == 0) return currentVersion; // nothing to change on domain event
+            if (stream == null) {
+                stream = new SubjectStream();
+                streams.put(subjectId, stream);
+            }
+            // Allocate a contiguous block of global sequence numbers (ordered per subject by the stream lock)
+            long sequence = globalSequence.getAndAdd(records.length);
+            for (EventRecord record : records) {
+                stream.add(record);
+                globalLog.put(++sequence, (DomainEvent) record.body());
+            }
+            newVersion = stream.size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changesAppended(domainSubjectId, records.length, 0);
+
+        // Promote to subscribers (e.g read-model repositories) the change events that have been stored
+        for (DomainEvent changeEvt : changes) {
+            subscribersManager().publish(changeEvt);
+        }
+        return newVersion;
+    }
+
+    /**
+     * Get the current version of a subject stream.
+     *
+     * @param domainSubjectId Mandatory identifier of the subject.
+     * @return A quantity of stored events, or NO_STREAM when unknown subject.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public long streamVersion(String domainSubjectId) throws IllegalArgumentException {
+        if (domainSubjectId == null || domainSubjectId.isEmpty())
+            throw new IllegalArgumentException("domainSubjectId parameter is required!");
+        ReadWriteLock lock = lockOf(domainSubjectId);
+        lock.readLock().lock();
+        try {
+            SubjectStream stream = streams.get(domainSubjectId);
+            return (stream != null) ? stream.size : NO_STREAM;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the global sequence number of the last stored event.
+     *
+     * @return A sequence number (including the events of appends in progress), or 0 when none event have been stored.
+     */
+    public long lastGlobalSequence() {
+        return globalSequence.get();
+    }
+
+    /**
+     * Read the events (of any subject) stored after a global sequence number, in their storage order.
+     * The read stops before the first sequence number not yet visible (append in progress), so that a caller continuing from the last returned sequence never skips an event.
+     *
+     * @param afterSequence Sequence number of the last event already read by the caller (0 to read from the beginning).
+     * @param maxCount      Maximum quantity of events to return (minimum 1).
+     * @return Events per global sequence number in ascending order. Empty when none event is stored after the sequence.
+     * @throws IllegalArgumentException When invalid parameter.
+     */
+    public SortedMap<Long, DomainEvent> readAllAfter(long afterSequence, int maxCount) throws IllegalArgumentException {
+        if (maxCount < 1) throw new IllegalArgumentException("maxCount parameter shall be minimum 1!");
+        SortedMap<Long, DomainEvent> result = new TreeMap<>();
+        long expected = afterSequence + 1;
+        for (Map.Entry<Long, DomainEvent> entry : globalLog.tailMap(afterSequence, false).entrySet()) {
+            if (result.size() == maxCount || entry.getKey() != expected) break;
+            result.put(entry.getKey(), entry.getValue());
+            expected++;
+        }
+        return result;
+    }
+
+    @Override
+    public EventStream loadEventStream(String domainSubjectId) throws IllegalArgumentException, UnoperationalStateException {
+        return loadEventStream(domainSubjectId, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Load a subset of the subject history.
+     *
+     * @param domainSubjectId Mandatory identifier of the event stream subset to load.
+     * @param skipEvents      Quantity of oldest events to skip (minimum 0).
+     * @param maxCount        Maximum quantity of events to take after the skipped events, in the occurrence order (minimum 1).
+     * @return A found stream in descending ordering (last event is first of list) or null.
+     * @throws IllegalArgumentException    When mandatory parameter is missing or invalid.
+     * @throws UnoperationalStateException When technical problem is occurred regarding this store usage.
+     */
+    @Override
+    public EventStream loadEventStream(String domainSubjectId, int skipEvents, int maxCount) throws IllegalArgumentException, UnoperationalStateException {
+        long start = System.nanoTime();
+        try {
+            return load(domainSubjectId, skipEvents, maxCount);
+        } finally {
+            loadTimer().recordSince(start);
+        }
+    }
+
+    /**
+     * Read a subset of the subject stream.
+     */
+    private EventStream load(String domainSubjectId, int skipEvents, int maxCount) throws IllegalArgumentException, UnoperationalStateException {
+        if (domainSubjectId == null || domainSubjectId.isEmpty())
+            throw new IllegalArgumentException("domainSubjectId parameter is required!");
+        if (skipEvents < 0) throw new IllegalArgumentException("skipEvents parameter shall be positive!");
+        if (maxCount < 1) throw new IllegalArgumentException("maxCount parameter shall be minimum 1!");
+        EventRecord[] range;
+        ReadWriteLock lock = lockOf(domainSubjectId);
+        lock.readLock().lock();
+        try {
+            SubjectStream stream = streams.get(domainSubjectId);
+            if (stream == null || skipEvents >= stream.size) return null;
+            int to = (int) Math.min((long) skipEvents + maxCount, stream.size);
+            range = stream.copy(skipEvents, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Build the history in descending order (last event is first of list)
+        ArrayList<DomainEvent> history = new ArrayList<>(range.length);
+        for (int i = range.length - 1; i >= 0; i--) {
+            history.add((DomainEvent) range[i].body());
+        }
+        EventStream domainObjEventsHistory = new EventStream();
+        domainObjEventsHistory.setEvents(history);
+        // Synchronize the event stream version based on the type of record type version hash (aligned with the domain object class serial UID)
+        domainObjEventsHistory.setVersion(range[range.length - 1].factTypeVersion().hash());
+        return domainObjEventsHistory;
+    }
+
+    @Override
+    public EventStream loadEventStreamAfterVersion(String domainSubjectId, String snapshotExpectedVersion) throws IllegalArgumentException, UnoperationalStateException {
+        if (domainSubjectId == null || domainSubjectId.isEmpty())
+            throw new IllegalArgumentException("domainSubjectId parameter is required!");
+        if (snapshotExpectedVersion == null || snapshotExpectedVersion.isEmpty())
+            throw new IllegalArgumentException("snapshotExpectedVersion parameter is required!");
+        EventRecord[] all;
+        ReadWriteLock lock = lockOf(domainSubjectId);
+        lock.readLock().lock();
+        try {
+            SubjectStream stream = streams.get(domainSubjectId);
+            if (stream == null) return null;
+            all = stream.copy(0, stream.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+        // When the version is the identifier of a stored change event (e.g snapshot commit version), select it and the events appended after it
+        int commitIndex = -1;
+        try {
+            for (int i = all.length - 1; i >= 0 && commitIndex < 0; i--) {
+                Identifier id = ((DomainEvent) all[i].body()).identified();
+                if (id != null && snapshotExpectedVersion.equals(id.value().toString())) commitIndex = i;
+            }
+        } catch (ImmutabilityException ie) {
+            throw new UnoperationalStateException(ie);
+        }
+        // Else select the historized events (without change of the recorded order) with a version equals or superior to the snapshot version
+        LinkedList<DomainEvent> foundEventDomainHistory = new LinkedList<>();
+        EventStream domainObjEventsHistory = new EventStream();
+        for (int i = Math.max(commitIndex, 0); i < all.length; i++) {
+            EventRecord historizedEvent = all[i];
+            if (commitIndex >= 0 || historizedEvent.factTypeVersion().hash().compareTo(snapshotExpectedVersion) >= 0) {
+                foundEventDomainHistory.add((DomainEvent) historizedEvent.body());
+                domainObjEventsHistory.setVersion(historizedEvent.factTypeVersion().hash());
+            }
+        }
+        if (!foundEventDomainHistory.isEmpty()) {
+            domainObjEventsHistory.setEvents(foundEventDomainHistory);
+            return domainObjEventsHistory;
+        }
+        return null;
+    }
+
+    /**
+     * Get the lock protecting a subject stream.
+     *
+     * @param subjectId Identifier of the subject.
+     * @return A lock shared with other subjects.
+     */
+    private ReadWriteLock lockOf(String subjectId) {
+        int h = subjectId.hashCode();
+        // Spread of the hash high bits over the low bits used for the stripe selection
+        return locks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Append-only history of a subject, stored in fixed size chunks.
+     * Not thread-safe: its accesses are protected by the lock of the subject.
+     */
+    private static final class SubjectStream {
+
+        private EventRecord[][] chunks = new EventRecord[4][];
+
+        /**
+         * Quantity of stored events.
+         */
+        private int size;
+
+        private void add(EventRecord record) {
+            int chunkIndex = size >>> CHUNK_SHIFT;
+            if (chunkIndex == chunks.length) {
+                // Only the chunks references are copied
+                chunks = Arrays.copyOf(chunks, chunks.length << 1);
+            }
+            if (chunks[chunkIndex] == null) chunks[chunkIndex] = new EventRecord[CHUNK_SIZE];
+            chunks[chunkIndex][size & (CHUNK_SIZE - 1)] = record;
+            size++;
+        }
+
+        /**
+         * Copy a range of records.
+         *
+         * @param from Index of the first record (included).
+         * @param to   Index of the last record (excluded).
+         * @return Records in occurrence order.
+         */
+        private EventRecord[] copy(int from, int to) {
+            EventRecord[] result = new EventRecord[to - from];
+            int position = from, copied = 0, chunkOffset, length;
+            while (position < to) {
+                chunkOffset = position & (CHUNK_SIZE - 1);
+                length = Math.min(CHUNK_SIZE - chunkOffset, to - position);
+                System.arraycopy(chunks[position >>> CHUNK_SHIFT], chunkOffset, result, copied, length);
+                position += length;
+                copied += length;
+            }
+            return result;
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package org.cybnity.framework.domain.infrastructure;
 
 import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.model.*;
+import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.framework.immutable.ImmutabilityException;
+import org.cybnity.framework.immutable.persistence.FactRecord;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation class of a snapshot process which produce and manage snapshots.
+ * When a previous snapshot of the streamed object exists, the new snapshot is generated from a copy of its state brought up to date with only the change events appended since it was taken (incremental replay; the previous snapshot is never modified).
+ * Else, the full history of the streamed object is replayed.
  */
 public abstract class SnapshotProcessEventStreamPersistenceBased extends AbstractSnapshotProcess {
 
@@ -29,6 +39,26 @@ public abstract class SnapshotProcessEventStreamPersistenceBased extends Abstrac
      */
     private final Long expireInSeconds;
 
+    /**
+     * Quantity of change events replayed by all the snapshot generations.
+     */
+    private final AtomicLong replayedEvents = new AtomicLong();
+
+    /**
+     * Quantity of snapshot generations based on a previous snapshot.
+     */
+    private final AtomicLong incrementalGenerations = new AtomicLong();
+
+    /**
+     * Quantity of snapshot generations based on the full history replay.
+     */
+    private final AtomicLong fullGenerations = new AtomicLong();
+
+    /**
+     * Quantity of change events replayed by the last snapshot generation.
+     */
+    private volatile long lastReplayedEvents;
+
     /**
      * Default constructor.
      *
@@ -63,30 +93,157 @@ public abstract class SnapshotProcessEventStreamPersistenceBased extends Abstrac
     public void generateSnapshot(String streamedObjectIdentifier) throws IllegalArgumentException, UnoperationalStateException {
         if (streamedObjectIdentifier == null || streamedObjectIdentifier.isEmpty())
             throw new IllegalArgumentException("Streamed object identifier parameter is required!");
-        // Load all events from the source domain object's life history
-        EventStream stream = streamStore.loadEventStream(streamedObjectIdentifier);
-        if (stream != null) {
+        HydrationCapability hydratedInstance = null;
+        // Start from the latest snapshot when existing
+        ISnapshot latest = snapshotsPersistenceSystem.getLatestSnapshotById(streamedObjectIdentifier, /* namespace of snapshots */ snapshotsNamespace());
+        HydrationCapability snapshotState = stateOf(latest);
+        if (snapshotState != null) {
+            // Load only the events appended since the snapshot was taken
+            List<DomainEvent> changes;
+            try {
+                changes = changesAfter(streamStore.loadEventStreamAfterVersion(streamedObjectIdentifier, latest.commitVersion()), latest.commitVersion());
+            } catch (ImmutabilityException ie) {
+                throw new IllegalArgumentException(ie);
+            }
+            if (changes != null) {
+                this.lastReplayedEvents = changes.size();
+                if (changes.isEmpty()) return; // Latest snapshot is already up to date
+                // Replay these events on a copy of the snapshot state (the snapshot can be shared with the repository and its readers)
+                HydrationCapability updatedState = copyOf(snapshotState);
+                EventStream history = new EventStream();
+                history.setEvents(changes);
+                updatedState.replayEvents(history);
+                hydratedInstance = updatedState;
+                replayedEvents.addAndGet(changes.size());
+                incrementalGenerations.incrementAndGet();
+            }
+            // Else commit event unknown by the store (e.g trimmed history): the snapshot state is not usable as origin
+        }
+        if (hydratedInstance == null) {
+            // Load all events from the source domain object's life history
+            EventStream stream = streamStore.loadEventStream(streamedObjectIdentifier);
+            if (stream == null)
+                throw new IllegalArgumentException("Original object was not found from the stream, and can't be subject of snapshot!");
             // Get re-hydrated version of instance type based on change events history
-            HydrationCapability hydratedInstance = getRehydratedInstanceFrom(stream, mutedInstanceFactory);
-
-            // Detect which type of streamed object is eligible to snapshot support
-            if (Aggregate.class.isAssignableFrom(hydratedInstance.getClass())) {
-                try {
-                    Aggregate agr = (Aggregate) hydratedInstance;
-                    if (agr.getCommitVersion() != null)
-                        // Save full state version of instance into the stream store
-                        snapshotsPersistenceSystem.saveSnapshot(new ConcreteSnapshot(agr), /* namespace of snapshots */ snapshotsNamespace(), this.expireInSeconds);
-                } catch (ImmutabilityException ie) {
-                    throw new IllegalArgumentException(ie);
-                }
-            } else {
-                throw new IllegalArgumentException("The found original object is not supporting the ISnapshot contract and was not saved!");
+            hydratedInstance = getRehydratedInstanceFrom(stream, mutedInstanceFactory);
+            this.lastReplayedEvents = stream.getEvents().size();
+            replayedEvents.addAndGet(this.lastReplayedEvents);
+            fullGenerations.incrementAndGet();
+        }
+
+        // Detect which type of streamed object is eligible to snapshot support
+        if (Aggregate.class.isAssignableFrom(hydratedInstance.getClass())) {
+            try {
+                Aggregate agr = (Aggregate) hydratedInstance;
+                if (agr.getCommitVersion() != null)
+                    // Save full state version of instance into the stream store
+                    snapshotsPersistenceSystem.saveSnapshot(new ConcreteSnapshot(agr), /* namespace of snapshots */ snapshotsNamespace(), this.expireInSeconds);
+            } catch (ImmutabilityException ie) {
+                throw new IllegalArgumentException(ie);
             }
         } else {
-            throw new IllegalArgumentException("Original object was not found from the stream, and can't be subject of snapshot!");
+            throw new IllegalArgumentException("The found original object is not supporting the ISnapshot contract and was not saved!");
         }
     }
 
+    /**
+     * Read the full state of a streamed object from its snapshot.
+     *
+     * @param snapshot Snapshot. Ignored when null.
+     * @return Hydratable state of the snapshot subject, or null when the snapshot is not usable as origin state (e.g unknown commit version, unsupported body type).
+     */
+    private HydrationCapability stateOf(ISnapshot snapshot) {
+        if (snapshot != null && snapshot.commitVersion() != null && !snapshot.commitVersion().isEmpty() && FactRecord.class.isAssignableFrom(snapshot.getClass())) {
+            Serializable body = ((FactRecord) snapshot).body();
+            if (body != null && HydrationCapability.class.isAssignableFrom(body.getClass()))
+                return (HydrationCapability) body;
+        }
+        return null;
+    }
+
+    /**
+     * Deep copy a snapshot state via its serialization.
+     *
+     * @param state Mandatory state.
+     * @return A copy independent of the origin state.
+     * @throws UnoperationalStateException When the state is not serializable.
+     */
+    private static HydrationCapability copyOf(HydrationCapability state) throws UnoperationalStateException {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream()) {
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(state);
+            }
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (HydrationCapability) ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UnoperationalStateException(e);
+        }
+    }
+
+    /**
+     * Select the change events following a commit version.
+     * The loaded events shall include the commit event (see IEventStore.loadEventStreamAfterVersion()), so only the events following it are selected.
+     *
+     * @param loaded        Loaded events in ascending order. Ignored when null.
+     * @param commitVersion Mandatory identifier of the last change event applied on the snapshot.
+     * @return Events in ascending order (empty list when none event follows the commit event), or null when the commit event is not included in the loaded events (e.g unknown by the store, so the events already applied on the snapshot can't be identified).
+     * @throws ImmutabilityException When impossible read of an event identifier.
+     */
+    private List<DomainEvent> changesAfter(EventStream loaded, String commitVersion) throws ImmutabilityException {
+        List<DomainEvent> changes = new ArrayList<>();
+        boolean commitFound = false;
+        if (loaded != null && loaded.getEvents() != null) {
+            for (DomainEvent evt : loaded.getEvents()) {
+                Identifier id = (evt != null) ? evt.identified() : null;
+                if (id != null && commitVersion.equals(id.value().toString())) {
+                    // Ignore the events already applied on the snapshot
+                    changes.clear();
+                    commitFound = true;
+                } else if (evt != null) {
+                    changes.add(evt);
+                }
+            }
+        }
+        return (commitFound) ? changes : null;
+    }
+
+    /**
+     * Get the quantity of change events replayed by all the snapshot generations executed by this process.
+     *
+     * @return A quantity.
+     */
+    public long replayedEventsCount() {
+        return this.replayedEvents.get();
+    }
+
+    /**
+     * Get the quantity of change events replayed by the last snapshot generation.
+     *
+     * @return A quantity.
+     */
+    public long lastReplayedEventsCount() {
+        return this.lastReplayedEvents;
+    }
+
+    /**
+     * Get the quantity of snapshots generated from a previous snapshot state (replay of the recent events only).
+     *
+     * @return A quantity.
+     */
+    public long incrementalGenerationsCount() {
+        return this.incrementalGenerations.get();
+    }
+
+    /**
+     * Get the quantity of snapshots generated from the full history replay.
+     *
+     * @return A quantity.
+     */
+    public long fullGenerationsCount() {
+        return this.fullGenerations.get();
+    }
+
     /**
      * Build instance type according to the type as a rehydrated full state version.
      * The method ensure the instantiation of new object according to the supported class type, and ensure its rehydration before to return it.
@@ -0,0 +1,169 @@
+package org.cybnity.framework.domain.infrastructure;
+
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.ICleanup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Trigger of snapshots generation following the evolutions of event streams.
+ * The quantity of events and of bytes appended since the latest snapshot are accumulated per streamed object, and a snapshot generation is requested from a background thread when a threshold is reached.
+ * A streamed object having a snapshot generation already waiting for execution is not requested again.
+ *
+ * @author olivier
+ */
+public class SnapshotScheduler implements ICleanup {
+
+    /**
+     * Technical logging
+     */
+    private static final Logger logger = Logger.getLogger(SnapshotScheduler.class.getName());
+
+    /**
+     * Process executed by the background thread.
+     */
+    private final AbstractSnapshotProcess process;
+
+    /**
+     * Quantity of appended events triggering a snapshot. 0 when not applied.
+     */
+    private final int eventsThreshold;
+
+    /**
+     * Quantity of appended bytes triggering a snapshot. 0 when not applied.
+     */
+    private final long bytesThreshold;
+
+    /**
+     * Quantity of events and of bytes appended since the latest triggered snapshot (Key = streamed object identifier).
+     */
+    private final Map<String, long[]> accumulations = new ConcurrentHashMap<>();
+
+    /**
+     * Identifiers of the streamed objects having a snapshot generation waiting for execution.
+     */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Background thread executing the snapshots generation.
+     */
+    private final ExecutorService executor;
+
+    private final AtomicLong generatedSnapshots = new AtomicLong();
+    private final AtomicLong failedSnapshots = new AtomicLong();
+
+    /**
+     * Default constructor.
+     *
+     * @param process         Mandatory process generating the snapshots.
+     * @param eventsThreshold Quantity of appended events triggering a snapshot of a streamed object. 0 when not applied.
+     * @param bytesThreshold  Quantity of appended bytes triggering a snapshot of a streamed object. 0 when not applied.
+     * @throws IllegalArgumentException When mandatory parameter is missing. When none threshold is defined, or when a threshold is negative.
+     */
+    public SnapshotScheduler(AbstractSnapshotProcess process, int eventsThreshold, long bytesThreshold) throws IllegalArgumentException {
+        if (process == null) throw new IllegalArgumentException("Process parameter is required!");
+        if (eventsThreshold < 0 || bytesThreshold < 0)
+            throw new IllegalArgumentException("Thresholds parameters shall be positive!");
+        if (eventsThreshold == 0 && bytesThreshold == 0)
+            throw new IllegalArgumentException("A minimum threshold parameter is required!");
+        this.process = process;
+        this.eventsThreshold = eventsThreshold;
+        this.bytesThreshold = bytesThreshold;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-scheduler");
+            // Do not prevent the stop of the process
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Notify the append of change events into the stream of an object, and request its snapshot generation when a threshold is reached.
+     *
+     * @param streamedObjectIdentifier Mandatory identifier of the streamed object.
+     * @param eventsQty                Quantity of appended events.
+     * @param bytesQty                 Quantity of appended bytes (e.g size of the serialized events). 0 when unknown.
+     * @return True when a snapshot generation have been requested.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public boolean changesAppended(String streamedObjectIdentifier, int eventsQty, long bytesQty) throws IllegalArgumentException {
+        if (streamedObjectIdentifier == null || streamedObjectIdentifier.isEmpty())
+            throw new IllegalArgumentException("Streamed object identifier parameter is required!");
+        boolean[] reached = {false};
+        accumulations.compute(streamedObjectIdentifier, (id, accumulated) -> {
+            long[] current = (accumulated != null) ? accumulated : new long[2];
+            current[0] += eventsQty;
+            current[1] += bytesQty;
+            if ((eventsThreshold > 0 && current[0] >= eventsThreshold) || (bytesThreshold > 0 && current[1] >= bytesThreshold)) {
+                // Restart the accumulation from the new snapshot
+                reached[0] = true;
+                return null;
+            }
+            return current;
+        });
+        return reached[0] && request(streamedObjectIdentifier);
+    }
+
+    /**
+     * Request the snapshot generation of a streamed object from the background thread.
+     *
+     * @param streamedObjectIdentifier Mandatory identifier of the streamed object.
+     * @return True when requested. False when a generation is already waiting, or when this scheduler is stopped.
+     */
+    private boolean request(String streamedObjectIdentifier) {
+        if (!pending.add(streamedObjectIdentifier)) return false; // Already waiting generation
+        try {
+            executor.execute(() -> {
+                // Allow a new request for the changes appended during the generation
+                pending.remove(streamedObjectIdentifier);
+                try {
+                    process.generateSnapshot(streamedObjectIdentifier);
+                    generatedSnapshots.incrementAndGet();
+                } catch (IllegalArgumentException | UnoperationalStateException e) {
+                    failedSnapshots.incrementAndGet();
+                    logger.log(Level.WARNING, "Snapshot generation of " + streamedObjectIdentifier + " failed!", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ree) {
+            pending.remove(streamedObjectIdentifier);
+            return false;
+        }
+    }
+
+    /**
+     * Get the quantity of snapshots generated by the background thread.
+     *
+     * @return A quantity.
+     */
+    public long generatedSnapshotsCount() {
+        return this.generatedSnapshots.get();
+    }
+
+    /**
+     * Get the quantity of snapshot generations in failure.
+     *
+     * @return A quantity.
+     */
+    public long failedSnapshotsCount() {
+        return this.failedSnapshots.get();
+    }
+
+    /**
+     * Stop the background thread. The waiting snapshot generations are not executed.
+     */
+    @Override
+    public void freeUpResources() {
+        executor.shutdownNow();
+        accumulations.clear();
+        pending.clear();
+    }
+}
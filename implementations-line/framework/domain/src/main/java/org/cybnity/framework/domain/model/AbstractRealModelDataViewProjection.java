@@ -2,6 +2,8 @@ package org.cybnity.framework.domain.model;
 
 import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.IReadModelProjection;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.Timer;
 
 /**
  * Stereotype of implementation class defining a read-model projection with automatic managed lifecycle (e.g refreshed/upgraded according to data view source changes; queryable via explicit command).
@@ -19,6 +21,11 @@ public abstract class AbstractRealModelDataViewProjection implements IReadModelP
      */
     private ITransactionStateObserver observer;
 
+    /**
+     * Latency of the events application by this projection.
+     */
+    private final Timer applyTimer;
+
     /**
      * Default constructor regarding a standard read model projection.
      *
@@ -32,6 +39,17 @@ public abstract class AbstractRealModelDataViewProjection implements IReadModelP
         prepareDescription(label, ownership);
         // Reference the potential observer of this data view projection changes
         this.observer = observer;
+        // Measure shared by the instances of a same projection type
+        this.applyTimer = Metrics.registry().timer("projection_apply_seconds", "projection", getClass().getSimpleName());
+    }
+
+    /**
+     * Get the timer measuring the latency of the events application by this projection (to be recorded by the caller of handleEvent()).
+     *
+     * @return A timer.
+     */
+    public Timer applyTimer() {
+        return this.applyTimer;
     }
 
     /**
@@ -0,0 +1,56 @@
+package org.cybnity.framework.domain.model;
+
+import org.cybnity.framework.immutable.utility.VersionConcreteStrategy;
+
+/**
+ * Exception regarding a change refused by a store because the stream of the subject have been modified by another writer since the version known by the caller (optimistic concurrency control).
+ * The caller can reload the subject history, re-evaluate its changes and retry the append.
+ *
+ * @author olivier
+ */
+public class ConcurrencyConflictException extends Exception {
+
+    private static final long serialVersionUID = new VersionConcreteStrategy()
+            .composeCanonicalVersionHash(ConcurrencyConflictException.class).hashCode();
+
+    /**
+     * Version of the stream expected by the writer.
+     */
+    private final long expectedVersion;
+
+    /**
+     * Version of the stream when the change was refused.
+     */
+    private final long actualVersion;
+
+    /**
+     * Default constructor.
+     *
+     * @param subjectId       Identifier of the subject which is origin of the conflict.
+     * @param expectedVersion Version of the stream expected by the writer.
+     * @param actualVersion   Version of the stream when the change was refused.
+     */
+    public ConcurrencyConflictException(String subjectId, long expectedVersion, long actualVersion) {
+        super("Stream of subject " + subjectId + " is at version " + actualVersion + " (expected version: " + expectedVersion + ")!");
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    /**
+     * Get the version of the stream expected by the writer.
+     *
+     * @return A version.
+     */
+    public long expectedVersion() {
+        return this.expectedVersion;
+    }
+
+    /**
+     * Get the version of the stream when the change was refused.
+     *
+     * @return A version.
+     */
+    public long actualVersion() {
+        return this.actualVersion;
+    }
+}
@@ -1,26 +1,82 @@
 package org.cybnity.framework.domain.model;
 
+import org.cybnity.framework.domain.Command;
 import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.ISubscribable;
+import org.cybnity.framework.immutable.ImmutabilityException;
 import org.cybnity.framework.support.annotation.Requirement;
 import org.cybnity.framework.support.annotation.RequirementCategory;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.Timer;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Represent a publishing service from a domain model. Repository service for
  * Aggregates that need to notify any subscribers about change events. It's a
  * utility class managing subscribers registrations lifecycle.
+ * <p>
+ * The interested subscribers of each published event type are resolved once and indexed (a subscriber is interested by the events of its subscribed type and of its subtypes).
+ * By default, the subscribers are notified by the publishing thread. When the asynchronous dispatch is started, each published event is buffered into a bounded buffer per interested subscriber and the publishing thread returns without waiting for the notifications;
+ * each subscriber is notified by a pool of threads in the events publication order (a subscriber is never notified concurrently), and the publishing thread waits when the buffer of a subscriber is full.
+ * An event published by a subscriber (during its notification) into its own full buffer is notified immediately by the publishing thread, instead of waiting for a buffer space that only this thread could release.
  *
  * @author olivier
  */
 @Requirement(reqType = RequirementCategory.Scalability, reqId = "REQ_SCA_4")
 public class DomainEventPublisher implements ISubscribable {
 
-    private ConcurrentLinkedQueue<IDomainEventSubscriber> subscribers;
+    /**
+     * Maximum quantity of events notified to a subscriber per execution of its asynchronous dispatch (giving threads to the other subscribers).
+     */
+    private static final int DISPATCH_BATCH_SIZE = 64;
+
+    /**
+     * Technical logging
+     */
+    private static final Logger logger = Logger.getLogger(DomainEventPublisher.class.getName());
+
+    private final ConcurrentLinkedQueue<IDomainEventSubscriber> subscribers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Interested subscribers per published event type, computed at the first publication of the type.
+     * Replaced by a new empty index (never cleared) when the subscribers registry is modified, so that a result computed by a publication concurrent to the modification is only retained by the discarded index.
+     */
+    private volatile Map<Class<?>, IDomainEventSubscriber[]> subscribersIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Buffers of the events to notify per subscriber in asynchronous dispatch.
+     */
+    private final Map<IDomainEventSubscriber, SubscriberLane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Pool of threads notifying the subscribers in asynchronous dispatch. Null when synchronous dispatch.
+     */
+    private volatile ExecutorService dispatchers;
+
+    /**
+     * Capacity of each subscriber buffer in asynchronous dispatch.
+     */
+    private volatile int bufferCapacity;
+
+    /**
+     * Latency of the events fan-out to the interested subscribers (notification or buffering).
+     */
+    private final Timer publishTimer = Metrics.registry().timer("domainevent_publish_seconds");
 
     private static final ThreadLocal<Boolean> publishing = ThreadLocal.withInitial(() -> Boolean.FALSE);
 
+    /**
+     * Buffer drained by the current thread (when it is notifying a subscriber in asynchronous dispatch).
+     */
+    private static final ThreadLocal<Object> drainedLane = new ThreadLocal<>();
+
     /**
      * Get an instance of the domain event publisher.
      *
@@ -42,10 +98,8 @@ public class DomainEventPublisher implements ISubscribable {
     @Override
     public <T> void subscribe(IDomainEventSubscriber<T> aSubscriber) {
         if (aSubscriber != null) {
-            if (subscribers == null) {
-                subscribers = new ConcurrentLinkedQueue<>();
-            }
             subscribers.add(aSubscriber);
+            subscribersIndex = new ConcurrentHashMap<>();
         }
     }
 
@@ -57,9 +111,10 @@ public class DomainEventPublisher implements ISubscribable {
     @Override
     public <T> void remove(IDomainEventSubscriber<T> aSubscriber) {
         if (aSubscriber != null) {
-            if (subscribers != null) {
-                subscribers.remove(aSubscriber);
-            }
+            subscribers.remove(aSubscriber);
+            subscribersIndex = new ConcurrentHashMap<>();
+            // Already buffered events remain notified to the removed subscriber
+            lanes.remove(aSubscriber);
         }
     }
 
@@ -71,25 +126,165 @@ public class DomainEventPublisher implements ISubscribable {
      * @param <T>          Type of event.
      */
     public <T> void publish(final T aDomainEvent) {
+        if (aDomainEvent == null) return;
+        long start = System.nanoTime();
         try {
             // Indicate a current start of publishing status
             publishing.set(Boolean.TRUE);
-            // Identify the potential interested subscribers about the published event
-            if (subscribers != null) {
-                Class<?> eventType = aDomainEvent.getClass();
-                for (IDomainEventSubscriber subscriber : subscribers) {
-                    Class<?> subscribedTo = subscriber.subscribeToEventType();
-                    // Check interest of the subscriber regarding the type of event published
-                    if (/* Any event type interest */ subscribedTo == null || subscribedTo == eventType || subscribedTo == DomainEvent.class) {
-                        // Notify subscriber about published event
-                        subscriber.handleEvent(aDomainEvent);
-                    }
+            // Shared by the subscribers without change
+            freeze(aDomainEvent);
+            // Identify the interested subscribers about the published event
+            IDomainEventSubscriber[] interested = subscribersIndex.computeIfAbsent(aDomainEvent.getClass(), this::interestedBy);
+            ExecutorService pool = this.dispatchers;
+            SubscriberLane lane;
+            for (IDomainEventSubscriber subscriber : interested) {
+                // During the stop of the asynchronous dispatch, the events of a subscriber still having a buffer follow its buffered events
+                lane = (pool != null) ? lane(subscriber) : lanes.get(subscriber);
+                if (lane != null) {
+                    // Buffer the event for notification by the pool
+                    lane.offer(aDomainEvent);
+                } else {
+                    // Notify subscriber about published event
+                    subscriber.handleEvent(aDomainEvent);
                 }
             }
         } finally {
             // Notify finalized publishing status
             publishing.set(Boolean.FALSE);
+            publishTimer.recordSince(start);
+        }
+    }
+
+    /**
+     * Freeze a published fact (domain event or command), so that its accessors values are computed one time for all the subscribers.
+     *
+     * @param fact Published fact.
+     */
+    private static void freeze(Object fact) {
+        try {
+            if (fact instanceof DomainEvent) {
+                ((DomainEvent) fact).freeze();
+            } else if (fact instanceof Command) {
+                ((Command) fact).freeze();
+            }
+        } catch (ImmutabilityException ie) {
+            // Fact published without shared accessors values
+            logger.log(Level.FINE, "Published fact not frozen!", ie);
+        }
+    }
+
+    /**
+     * Select the registered subscribers interested by a type of event.
+     *
+     * @param eventType Mandatory type of published event.
+     * @return Interested subscribers, in registration order.
+     */
+    private IDomainEventSubscriber[] interestedBy(Class<?> eventType) {
+        List<IDomainEventSubscriber> interested = new ArrayList<>();
+        for (IDomainEventSubscriber subscriber : subscribers) {
+            Class<?> subscribedTo = subscriber.subscribeToEventType();
+            // Check interest of the subscriber regarding the type of event published (or one of its super types)
+            if (/* Any event type interest */ subscribedTo == null || subscribedTo == DomainEvent.class || subscribedTo.isAssignableFrom(eventType)) {
+                interested.add(subscriber);
+            }
         }
+        return interested.toArray(new IDomainEventSubscriber[0]);
+    }
+
+    /**
+     * Get the buffer of a subscriber in asynchronous dispatch.
+     *
+     * @param subscriber Mandatory subscriber.
+     * @return A buffer.
+     */
+    private SubscriberLane lane(IDomainEventSubscriber subscriber) {
+        return lanes.computeIfAbsent(subscriber, s -> new SubscriberLane(s, bufferCapacity));
+    }
+
+    /**
+     * Start the asynchronous notification of the subscribers. The next published events are notified by a pool of threads.
+     * Ignored when the asynchronous dispatch is already started.
+     *
+     * @param bufferCapacity Maximum quantity of events waiting for notification per subscriber (minimum 1).
+     * @param threads        Quantity of threads notifying the subscribers (minimum 1).
+     * @throws IllegalArgumentException When invalid parameter.
+     */
+    public synchronized void startAsynchronousDispatch(int bufferCapacity, int threads) throws IllegalArgumentException {
+        if (bufferCapacity < 1) throw new IllegalArgumentException("Buffer capacity parameter shall be minimum 1!");
+        if (threads < 1) throw new IllegalArgumentException("Threads parameter shall be minimum 1!");
+        if (this.dispatchers != null) return;
+        this.bufferCapacity = bufferCapacity;
+        this.dispatchers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "domain-event-dispatcher");
+            // Do not prevent the stop of the process
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stop the asynchronous notification of the subscribers. The next published events are notified by the publishing thread.
+     * The already buffered events are notified before the switch to the synchronous dispatch, and the events published during the switch are notified after them (in publication order) before the pool stop.
+     *
+     * @param timeout Maximum duration of the buffered events notification.
+     * @param unit    Mandatory unit of the timeout.
+     * @return True when all the buffered events have been notified before the timeout.
+     * @throws InterruptedException When interrupted during the wait.
+     */
+    public boolean stopAsynchronousDispatch(long timeout, TimeUnit unit) throws InterruptedException {
+        ExecutorService pool = this.dispatchers;
+        if (pool == null) return true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        // Notify the buffered events while the publications are still buffered
+        boolean flushed = awaitDispatch(timeout, unit, pool);
+        synchronized (this) {
+            if (this.dispatchers != pool) return flushed; // Stopped by a concurrent call
+            // Switch to synchronous dispatch
+            this.dispatchers = null;
+        }
+        // Notify the events buffered during the switch
+        flushed = awaitDispatch(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS, pool) && flushed;
+        pool.shutdown();
+        lanes.clear();
+        return flushed;
+    }
+
+    /**
+     * Wait for the notification of all the buffered events.
+     *
+     * @param timeout Maximum duration of the wait.
+     * @param unit    Mandatory unit of the timeout.
+     * @return True when none buffered event remains. False when the timeout is reached.
+     * @throws InterruptedException When interrupted during the wait.
+     */
+    public boolean awaitDispatch(long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitDispatch(timeout, unit, this.dispatchers);
+    }
+
+    private boolean awaitDispatch(long timeout, TimeUnit unit, ExecutorService pool) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (pool != null) {
+            boolean idle = true;
+            for (SubscriberLane lane : lanes.values()) {
+                if (lane.isBusy()) {
+                    idle = false;
+                    break;
+                }
+            }
+            if (idle) return true;
+            if (System.nanoTime() - deadline >= 0) return false;
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Is the asynchronous dispatch started.
+     *
+     * @return True when the subscribers are notified by a pool of threads.
+     */
+    public boolean isAsynchronous() {
+        return this.dispatchers != null;
     }
 
     /**
@@ -103,9 +298,97 @@ public class DomainEventPublisher implements ISubscribable {
     public DomainEventPublisher reset() {
         // Clean only when none publishing action is in progress
         if (!publishing.get()) {
-            subscribers.remove();
+            subscribers.clear();
+            subscribersIndex = new ConcurrentHashMap<>();
         }
         return this;
     }
 
+    /**
+     * Bounded buffer of the events to notify to a subscriber, drained by one pool thread at a time (preserving the publication order).
+     */
+    private final class SubscriberLane implements Runnable {
+
+        private final IDomainEventSubscriber subscriber;
+        private final BlockingQueue<Object> buffer;
+
+        /**
+         * Is a drain of this buffer scheduled or running.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private SubscriberLane(IDomainEventSubscriber subscriber, int capacity) {
+            this.subscriber = subscriber;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Buffer an event and schedule its notification.
+         *
+         * @param event Mandatory event.
+         */
+        private void offer(Object event) {
+            if (drainedLane.get() == this) {
+                // Event published by the subscriber during its notification: only the current thread releases buffer space
+                if (!buffer.offer(event)) {
+                    // Full buffer: notify the event now rather than waiting forever
+                    notify(event);
+                    return;
+                }
+            } else {
+                try {
+                    // Wait for buffer space when the subscriber is slower than the publications
+                    buffer.put(event);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        private void notify(Object event) {
+            try {
+                subscriber.handleEvent(event);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Event notification failed by subscriber " + subscriber.getClass().getName() + "!", e);
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                ExecutorService pool = dispatchers;
+                try {
+                    if (pool == null) throw new RejectedExecutionException("Stopped dispatch");
+                    pool.execute(this);
+                } catch (RejectedExecutionException ree) {
+                    // Stopped pool: notify from the current thread
+                    run();
+                }
+            }
+        }
+
+        private boolean isBusy() {
+            return scheduled.get() || !buffer.isEmpty();
+        }
+
+        @Override
+        public void run() {
+            Object previousLane = drainedLane.get();
+            drainedLane.set(this);
+            try {
+                Object event;
+                int notified = 0;
+                while (notified < DISPATCH_BATCH_SIZE && (event = buffer.poll()) != null) {
+                    notify(event);
+                    notified++;
+                }
+            } finally {
+                drainedLane.set(previousLane);
+                scheduled.set(false);
+                // Continue with the events buffered in the meantime
+                if (!buffer.isEmpty()) schedule();
+            }
+        }
+    }
 }
@@ -1,8 +1,12 @@
 package org.cybnity.framework.domain.model;
 
 import org.cybnity.framework.domain.ISubscribable;
+import org.cybnity.framework.domain.infrastructure.SnapshotScheduler;
+import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.framework.support.annotation.Requirement;
 import org.cybnity.framework.support.annotation.RequirementCategory;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.Timer;
 
 /**
  * Persistence system of implementing Event Sourcing pattern that return the stream of events associated
@@ -31,7 +35,9 @@ import org.cybnity.framework.support.annotation.RequirementCategory;
  * <p>
  * When an event is stored (via append method), the store shall publish event
  * after it have been saved (e.g allowing to read model store to automatically
- * refresh dependent contents).
+ * refresh dependent contents), and shall notify the optional snapshot scheduler
+ * (see changesAppended() method) allowing the snapshots generation every N
+ * appended events or bytes.
  *
  * @author olivier
  */
@@ -43,6 +49,21 @@ public abstract class EventStore implements ISubscribable, IEventStore {
      */
     private final DomainEventPublisher promotionManager;
 
+    /**
+     * Latency of the events append into the store.
+     */
+    private final Timer appendTimer;
+
+    /**
+     * Latency of the events stream loading from the store.
+     */
+    private final Timer loadTimer;
+
+    /**
+     * Optional trigger of the snapshots generation according to the appended changes.
+     */
+    private volatile SnapshotScheduler snapshotScheduler;
+
     /**
      * Default constructor managing the store configuration during its
      * instantiation. To be defined by the child class implementing the initialization of storage
@@ -53,6 +74,58 @@ public abstract class EventStore implements ISubscribable, IEventStore {
         // Initialize a delegate for promotion of events changes (e.g to read model's
         // repository)
         this.promotionManager = DomainEventPublisher.instance();
+        // Measures shared by the instances of a same store type
+        this.appendTimer = Metrics.registry().timer("eventstore_append_seconds", "store", getClass().getSimpleName());
+        this.loadTimer = Metrics.registry().timer("eventstore_load_seconds", "store", getClass().getSimpleName());
+    }
+
+    /**
+     * Get the timer measuring the latency of the events append (to be recorded by the implementation).
+     *
+     * @return A timer.
+     */
+    protected Timer appendTimer() {
+        return this.appendTimer;
+    }
+
+    /**
+     * Get the timer measuring the latency of the events stream loading (to be recorded by the implementation).
+     *
+     * @return A timer.
+     */
+    protected Timer loadTimer() {
+        return this.loadTimer;
+    }
+
+    /**
+     * Define the trigger of the snapshots generation notified about the changes appended into the store.
+     *
+     * @param scheduler Scheduler of snapshots. Null to stop the snapshots triggering.
+     */
+    public void setSnapshotScheduler(SnapshotScheduler scheduler) {
+        this.snapshotScheduler = scheduler;
+    }
+
+    /**
+     * Get the trigger of the snapshots generation.
+     *
+     * @return A scheduler, or null when none snapshot is triggered by the appends.
+     */
+    protected SnapshotScheduler snapshotScheduler() {
+        return this.snapshotScheduler;
+    }
+
+    /**
+     * Notify the snapshot scheduler (when defined) about changes stored into the stream of a subject (to be called by the implementation after each append).
+     *
+     * @param domainSubjectId Identifier of the subject. Ignored when null.
+     * @param eventsQty       Quantity of appended events.
+     * @param bytesQty        Quantity of appended bytes (e.g size of the serialized events). 0 when unknown.
+     */
+    protected void changesAppended(Identifier domainSubjectId, int eventsQty, long bytesQty) {
+        SnapshotScheduler scheduler = this.snapshotScheduler;
+        if (scheduler != null && domainSubjectId != null && domainSubjectId.value() != null && eventsQty > 0)
+            scheduler.changesAppended(domainSubjectId.value().toString(), eventsQty, bytesQty);
     }
 
     /**
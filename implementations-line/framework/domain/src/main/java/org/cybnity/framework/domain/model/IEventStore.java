@@ -53,10 +53,12 @@ public interface IEventStore extends ICleanup  {
 
     /**
      * Load all the events since a snapshot version that was taken.
+     * When the version is the identifier of a stored change event (e.g commit version of a snapshot), the found stream starts with this event, followed by the events appended after it (ascending order).
+     * A found stream which does not include the change event means that the change event is unknown by the store.
      *
      * @param domainSubjectId   Mandatory identifier of the stored subject's stream to load (e.g path name of stream).
      * @param snapshotExpectedVersion Mandatory version of the snapshot stored event.
-     * @return A found stream or null.
+     * @return A found stream in ascending ordering or null.
      * @throws IllegalArgumentException    When missing mandatory parameter.
      * @throws UnoperationalStateException When technical problem is occurred regarding this store usage.
      */
@@ -1,5 +1,6 @@
 package org.cybnity.framework.domain.model;
 
+import org.cybnity.framework.domain.CompactIdentifier;
 import org.cybnity.framework.domain.IdentifierStringBased;
 import org.cybnity.framework.immutable.BaseConstants;
 import org.cybnity.framework.immutable.Entity;
@@ -90,4 +91,50 @@ public class Predecessors {
         return Predecessors.generateIdentifierPredecessorBased(predecessor,
                 IdentifierStringBased.build(childOriginalIds));
     }
+
+    /**
+     * Generate a compact identifier (fixed size whatever the depth of the
+     * predecessors chain) based on a predecessor identifier and an optional child
+     * original identifier. Usable by a ChildFact (e.g via its
+     * generateIdentifierPredecessorBased() implementation) as alternative to a
+     * combined identifier growing with each predecessor level.
+     *
+     * @param predecessor     Mandatory base predecessor.
+     * @param childOriginalId Optional identifier of a child that identifier need to
+     *                        be included into the generated identifier.
+     * @return A compact identifier named as the child original identifier, or
+     * named BaseConstants.IDENTIFIER_ID.name() by default.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static CompactIdentifier generateCompactIdentifierPredecessorBased(Entity predecessor, Identifier childOriginalId)
+            throws IllegalArgumentException {
+        if (predecessor == null)
+            throw new IllegalArgumentException(
+                    "Mandatory predecessor parameter is required to generate a child identifier!");
+        // Read identifier relative to predecessor (compact when the predecessor is identified by a compact identifier)
+        Identifier parentId = IdentifierStringBased.build(predecessor.identifiers());
+        String childIdName = (childOriginalId != null) ? childOriginalId.name() : null;
+        if (childIdName == null || childIdName.isEmpty()) {
+            // Define a specific new convention name
+            childIdName = BaseConstants.IDENTIFIER_ID.name();
+        }
+        return CompactIdentifier.derive(childIdName, parentId, childOriginalId);
+    }
+
+    /**
+     * Generate a compact identifier (fixed size whatever the depth of the
+     * predecessors chain) based on a predecessor identifier and optional child
+     * original identifiers.
+     *
+     * @param predecessor      Mandatory base predecessor.
+     * @param childOriginalIds Optional identifiers of a child that need to be
+     *                         included into the generated identifier.
+     * @return A compact identifier.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static CompactIdentifier generateCompactIdentifierPredecessorBased(Entity predecessor, Collection<Identifier> childOriginalIds)
+            throws IllegalArgumentException {
+        return Predecessors.generateCompactIdentifierPredecessorBased(predecessor,
+                (childOriginalIds != null && !childOriginalIds.isEmpty()) ? IdentifierStringBased.build(childOriginalIds) : null);
+    }
 }
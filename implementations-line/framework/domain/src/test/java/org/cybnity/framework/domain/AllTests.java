@@ -1,6 +1,7 @@
 package org.cybnity.framework.domain;
 
 import org.cybnity.framework.domain.event.CorrelationIdFactoryUseCaseTest;
+import org.cybnity.framework.domain.event.IndexedSpecificationUseCaseTest;
 import org.cybnity.framework.domain.model.*;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -12,10 +13,10 @@ import org.junit.platform.suite.api.Suite;
  * @author olivier
  */
 @Suite
-@SelectClasses({IdentifierStringBasedUseCaseTest.class, ValueObjectUseCaseTest.class, DomainEventUseCaseTest.class,
+@SelectClasses({IdentifierStringBasedUseCaseTest.class, CompactIdentifierUseCaseTest.class, ValueObjectUseCaseTest.class, DomainEventUseCaseTest.class,
         NotificationLogUseCaseTest.class, UnidentifiableFactNotificationLogUseCaseTest.class,
-        EventStoreUseCaseTest.class, ContextUseCaseTest.class, UserAccountAggregateUseCaseTest.class,
-        StringBasedNaturalKeyBuilderUseCaseTest.class, TenantUseCaseTest.class, ObjectMapperBuilderUseCaseTest.class,
-        CorrelationIdFactoryUseCaseTest.class, TenantHydrationUseCaseTest.class, ReadModelProjectionDescriptorUseCaseTest.class})
+        EventStoreUseCaseTest.class, DomainEventPublisherUseCaseTest.class, IndexedEventInMemoryStoreUseCaseTest.class, SnapshotProcessUseCaseTest.class, CompactSnapshotCodecUseCaseTest.class, ContextUseCaseTest.class, UserAccountAggregateUseCaseTest.class,
+        StringBasedNaturalKeyBuilderUseCaseTest.class, TenantUseCaseTest.class, ObjectMapperBuilderUseCaseTest.class, ObjectMapperRegistryUseCaseTest.class,
+        CorrelationIdFactoryUseCaseTest.class, IndexedSpecificationUseCaseTest.class, TenantHydrationUseCaseTest.class, ReadModelProjectionDescriptorUseCaseTest.class})
 public class AllTests {
 }
\ No newline at end of file
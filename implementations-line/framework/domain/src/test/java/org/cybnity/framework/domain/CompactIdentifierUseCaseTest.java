@@ -0,0 +1,170 @@
+package org.cybnity.framework.domain;
+
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.domain.model.Predecessors;
+import org.cybnity.framework.immutable.BaseConstants;
+import org.cybnity.framework.immutable.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of CompactIdentifier behaviors regarding its supported
+ * requirements.
+ *
+ * @author olivier
+ */
+public class CompactIdentifierUseCaseTest {
+
+    @AfterEach
+    public void clean() {
+        CompactIdentifier.clearPool();
+        CompactIdentifier.setPoolCapacity(CompactIdentifier.DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Check that the size of a child identifier is constant whatever the depth of
+     * its predecessors chain, and that its lineage allows to retrieve the chain.
+     */
+    @Test
+    public void givenDeepPredecessorsChain_whenCompactIdentifierGenerated_thenConstantSizeAndKnownLineage() {
+        DomainEntity root = new DomainEntity(IdentifierStringBased.generate(null));
+        DomainEntity current = root;
+        int depth = 10;
+        for (int i = 0; i < depth; i++) {
+            CompactIdentifier childId = Predecessors.generateCompactIdentifierPredecessorBased(current,
+                    new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), "child" + i));
+            assertEquals(CompactIdentifier.VALUE_LENGTH, childId.value().toString().length());
+            current = new DomainEntity(childId);
+        }
+        CompactIdentifier deepest = (CompactIdentifier) current.identified();
+        List<Identifier> predecessors = deepest.predecessors().orElseThrow();
+        assertEquals(depth, predecessors.size());
+        assertEquals(root.identified(), predecessors.get(depth - 1));
+        assertEquals("child" + (depth - 1), deepest.lineage().childOriginalId().value());
+    }
+
+    /**
+     * Check that a same predecessor and origin produce a same interned instance,
+     * and that equality is based on the value and name.
+     */
+    @Test
+    public void givenSameOrigin_whenDerived_thenSameInternedInstance() {
+        Identifier parent = new IdentifierStringBased("uid", "KJHGF8765456789");
+        Identifier origin = new IdentifierStringBased("uid", "OIUYTRFD98754");
+        CompactIdentifier id = CompactIdentifier.derive("uid", parent, origin);
+        assertSame(id, CompactIdentifier.derive("uid", parent, origin));
+        assertSame(id, CompactIdentifier.of("uid", id.value().toString()));
+        assertSame(id, id.immutable());
+        assertNotEquals(id, CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "other")));
+        assertNotEquals(id, CompactIdentifier.of("other", id.value().toString()));
+
+        // Not interned identifier when pool is disabled
+        CompactIdentifier.setPoolCapacity(0);
+        assertEquals(0, CompactIdentifier.pooledCount());
+        CompactIdentifier notInterned = CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "new"));
+        assertNull(notInterned.lineage());
+        assertEquals(notInterned, CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "new")));
+    }
+
+    /**
+     * Check that the pool evicts the least recently used identifiers when its
+     * capacity is reached, and keeps interning the new identifiers.
+     */
+    @Test
+    public void givenFullPool_whenDerived_thenLeastRecentlyUsedEvicted() {
+        Identifier parent = new IdentifierStringBased("uid", "KJHGF8765456789");
+        CompactIdentifier.setPoolCapacity(2);
+        CompactIdentifier first = CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "first"));
+        CompactIdentifier second = CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "second"));
+        // Recent use of the first identifier
+        assertNotNull(first.lineage());
+
+        CompactIdentifier third = CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "third"));
+        assertEquals(2, CompactIdentifier.pooledCount());
+        assertNotNull(third.lineage(), "New identifier shall be interned!");
+        assertNotNull(first.lineage());
+        assertNull(second.lineage(), "Least recently used identifier shall be evicted!");
+
+        // Capacity reduction evicting the least recently used identifiers
+        CompactIdentifier.setPoolCapacity(1);
+        assertEquals(1, CompactIdentifier.pooledCount());
+        assertNotNull(first.lineage());
+        assertNull(third.lineage());
+    }
+
+    /**
+     * Check that the pool stays bounded by its capacity when identifiers are
+     * interned concurrently.
+     */
+    @Test
+    public void givenConcurrentDerivations_whenPoolFull_thenCapacityRespected() throws Exception {
+        Identifier parent = new IdentifierStringBased("uid", "KJHGF8765456789");
+        CompactIdentifier.setPoolCapacity(500);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> derivations = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                derivations.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        CompactIdentifier id = CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", thread + "-" + i));
+                        assertEquals(id, CompactIdentifier.of("uid", id.value().toString()));
+                    }
+                }));
+            }
+            for (Future<?> derivation : derivations) {
+                derivation.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(CompactIdentifier.pooledCount() <= 500, "Pool capacity shall be respected!");
+        assertTrue(CompactIdentifier.pooledCount() > 0);
+        // Most recently derived identifier is interned
+        assertNotNull(CompactIdentifier.derive("uid", parent, new IdentifierStringBased("uid", "last")).lineage());
+    }
+
+    /**
+     * Check that the predecessors of an identifier of unknown lineage are not
+     * confused with an identifier without predecessor.
+     */
+    @Test
+    public void givenUnknownLineage_whenPredecessorsRead_thenUndefined() {
+        Identifier root = new IdentifierStringBased("uid", "KJHGF8765456789");
+        CompactIdentifier child = CompactIdentifier.derive("uid", root, null);
+        CompactIdentifier grandChild = CompactIdentifier.derive("uid", child, null);
+        assertEquals(List.of(child, root), grandChild.predecessors().orElseThrow());
+
+        // Identifier restored without known lineage
+        CompactIdentifier restored = CompactIdentifier.of("uid", "0123456789abcdef0123456789abcdef");
+        assertTrue(restored.predecessors().isEmpty());
+
+        // Evicted lineage of an intermediate predecessor (least recently used)
+        assertNotNull(grandChild.lineage());
+        CompactIdentifier.setPoolCapacity(1);
+        assertEquals(List.of(child), grandChild.predecessors().orElseThrow());
+        CompactIdentifier.clearPool();
+        assertTrue(grandChild.predecessors().isEmpty());
+    }
+
+    /**
+     * Check that a compact identifier is restored as compact identifier after JSON
+     * serialization.
+     */
+    @Test
+    public void givenCompactIdentifier_whenJSONSerialized_thenRestoredAsCompactIdentifier() throws Exception {
+        CompactIdentifier id = CompactIdentifier.derive("uid", IdentifierStringBased.generate(null), null);
+        String json = ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE).writeValueAsString(id);
+        Identifier restored = ObjectMapperRegistry.readerFor(Identifier.class, ObjectMapperRegistry.Profile.WIRE).readValue(json);
+        assertTrue(restored instanceof CompactIdentifier);
+        assertEquals(id, restored);
+    }
+}
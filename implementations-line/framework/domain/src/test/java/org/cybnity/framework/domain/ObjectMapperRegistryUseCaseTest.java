@@ -0,0 +1,56 @@
+package org.cybnity.framework.domain;
+
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test regarding behavior of the shared readers and writers registry.
+ */
+public class ObjectMapperRegistryUseCaseTest {
+
+    private Command sample() {
+        Collection<Attribute> definition = new ArrayList<>();
+        definition.add(new Attribute("OrganizationNaming", "CYBNITY"));
+        return CommandFactory.create("REGISTER_ORGANIZATION",
+                new DomainEntity(IdentifierStringBased.generate(null)),
+                definition,
+                /* none prior command to reference*/ null,
+                /* None pre-identified organization because new creation */ null
+        );
+    }
+
+    /**
+     * Check that the same reader and writer instances are reused for a same profile.
+     */
+    @Test
+    public void givenSameProfile_whenGetReaderOrWriter_thenSharedInstanceReturned() {
+        assertSame(ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.WIRE), ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.WIRE));
+        assertSame(ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE), ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE));
+        assertNotSame(ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE), ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.READABLE));
+        assertThrows(IllegalArgumentException.class, () -> ObjectMapperRegistry.readerFor(null, ObjectMapperRegistry.Profile.WIRE));
+        assertThrows(IllegalArgumentException.class, () -> ObjectMapperRegistry.writer(null));
+    }
+
+    /**
+     * Check that the wire profile produces a compact JSON version that is readable by any profile, and equals to the origin object.
+     */
+    @Test
+    public void givenCommandEvent_whenWireProfileUsed_thenCompactJsonReadableByAllProfiles() throws Exception {
+        Command event = sample();
+        String compact = ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE).writeValueAsString(event);
+        String readable = ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.READABLE).writeValueAsString(event);
+        assertFalse(compact.contains("\n"), "Shall not be indented!");
+        assertTrue(compact.length() < readable.length());
+
+        Command fromCompact = ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.READABLE).readValue(compact);
+        Command fromReadable = ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.WIRE).readValue(readable);
+        assertEquals(event, fromCompact);
+        assertEquals(event, fromReadable);
+    }
+}
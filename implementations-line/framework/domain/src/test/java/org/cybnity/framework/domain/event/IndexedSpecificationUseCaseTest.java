@@ -0,0 +1,73 @@
+package org.cybnity.framework.domain.event;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Behavior test of the event specification container.
+ */
+public class IndexedSpecificationUseCaseTest {
+
+    /**
+     * Check that the attributes are found by name whatever the case, before and after the indexing of the container.
+     */
+    @Test
+    public void givenSpecification_whenFindByNameIgnoringCase_thenFirstAttributeOfNameFound() {
+        IndexedSpecification spec = new IndexedSpecification();
+        for (int i = 0; i < IndexedSpecification.SMALL_SIZE; i++) {
+            spec.add(new Attribute("attribute" + i, "value" + i));
+        }
+        // Small container
+        Assertions.assertEquals("value1", spec.findByName("ATTRIBUTE1").value());
+        // Indexed container
+        spec.add(new Attribute("Attribute1", "duplicated"));
+        spec.add(new Attribute("last", "value"));
+        Assertions.assertEquals("value1", spec.findByName("ATTRIBUTE1").value(), "First attribute of the name shall be found!");
+        Assertions.assertEquals("value", EventSpecification.findSpecificationByName("Last", spec).value());
+        Assertions.assertNull(spec.findByName("unknown"));
+        Assertions.assertTrue(spec.contains(new Attribute("Attribute1", "duplicated")));
+        Assertions.assertFalse(spec.contains(new Attribute("attribute1", "other")));
+        Assertions.assertFalse(EventSpecification.appendSpecification(new Attribute("last", "value"), spec), "Existing attribute shall not be appended!");
+
+        // Removed attribute is not found
+        Iterator<Attribute> it = spec.iterator();
+        it.next();
+        it.remove();
+        Assertions.assertNull(spec.findByName("attribute0"));
+        Assertions.assertEquals(IndexedSpecification.SMALL_SIZE + 1, spec.size());
+    }
+
+    /**
+     * Check that the specification of an event is searchable and not modifiable, and keeps its JSON shape and append order.
+     */
+    @Test
+    public void givenEventSpecification_whenReadAndSerialized_thenUnmodifiableAndOrderKept() throws Exception {
+        List<Attribute> definition = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            definition.add(new Attribute("criteria" + i, "value" + i));
+        }
+        Command query = QueryFactory.create("FIND_ALL", new DomainEntity(IdentifierStringBased.generate(null)), definition, null);
+        Collection<Attribute> view = query.specification();
+        Assertions.assertEquals("value11", EventSpecification.findSpecificationByName("CRITERIA11", view).value());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.add(new Attribute("other", "value")));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.remove(definition.get(0)));
+
+        String json = ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE).writeValueAsString(query);
+        Assertions.assertTrue(json.contains("\"specification\":["), "Specification shall be a JSON array!");
+        Command read = ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.WIRE).readValue(json);
+        Assertions.assertEquals(query, read);
+        Assertions.assertEquals(new ArrayList<>(view), new ArrayList<>(read.specification()), "Append order shall be kept!");
+        Assertions.assertEquals("FIND_ALL", read.type().value());
+        Assertions.assertEquals("value5", EventSpecification.findSpecificationByName("criteria5", read.specification()).value());
+    }
+}
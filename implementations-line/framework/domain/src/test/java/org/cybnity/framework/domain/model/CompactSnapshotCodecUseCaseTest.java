@@ -0,0 +1,72 @@
+package org.cybnity.framework.domain.model;
+
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.infrastructure.CompactSnapshotCodec;
+import org.cybnity.framework.immutable.persistence.FactRecord;
+import org.cybnity.framework.immutable.utility.Base64StringConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+/**
+ * Unit test of the binary encoding of snapshots.
+ *
+ * @author olivier
+ */
+public class CompactSnapshotCodecUseCaseTest {
+
+    /**
+     * Create a snapshot of a tenant.
+     *
+     * @return A snapshot.
+     */
+    private ConcreteSnapshot snapshot() throws Exception {
+        TenantBuilder builder = new TenantBuilder("CYBNITY", new DomainEntity(IdentifierStringBased.generate(null)), Boolean.TRUE);
+        builder.buildInstance();
+        return new ConcreteSnapshot(builder.getResult());
+    }
+
+    /**
+     * Test that an encoded snapshot is decoded in an equals state, and that its compressed version is smaller than its Base64 text version.
+     */
+    @Test
+    public void givenSnapshot_whenEncodedAndDecoded_thenEqualsStateRestored() throws Exception {
+        ConcreteSnapshot snapshot = snapshot();
+        for (CompactSnapshotCodec codec : new CompactSnapshotCodec[]{new CompactSnapshotCodec(true), new CompactSnapshotCodec(false)}) {
+            byte[] encoded = codec.encode(snapshot);
+            ISnapshot decoded = codec.decode(encoded);
+            Assertions.assertNotNull(decoded);
+            Assertions.assertEquals(snapshot.commitVersion(), decoded.commitVersion());
+            Assertions.assertEquals(snapshot.versionedObjectUID(), decoded.versionedObjectUID());
+            Assertions.assertEquals(((FactRecord) snapshot).body(), ((FactRecord) decoded).body());
+        }
+        Assertions.assertTrue(new CompactSnapshotCodec(true).encode(snapshot).length < Base64StringConverter.convertToString(snapshot).get().length(), "Compressed binary version shall be smaller than text version!");
+    }
+
+    /**
+     * Test that a snapshot encoded by a previous version of its subject type is not decoded.
+     */
+    @Test
+    public void givenObsoleteSubjectTypeVersion_whenDecoded_thenIgnored() throws Exception {
+        CompactSnapshotCodec codec = new CompactSnapshotCodec(false);
+        byte[] encoded = codec.encode(snapshot());
+
+        // Replace the subject type hash of the header
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+        ByteArrayOutputStream altered = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(altered);
+        out.writeByte(in.readByte());
+        out.writeByte(in.readByte());
+        out.writeUTF(in.readUTF());
+        in.readUTF();
+        out.writeUTF("previous-version-hash");
+        out.write(in.readAllBytes());
+        out.flush();
+
+        Assertions.assertNull(codec.decode(altered.toByteArray()), "Obsolete snapshot shall not be decoded!");
+    }
+}
@@ -0,0 +1,210 @@
+package org.cybnity.framework.domain.model;
+
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.event.ProcessingUnitPresenceAnnounced;
+import org.cybnity.framework.domain.model.sample.writemodel.UserAccountChanged;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test of the events dispatch by a publisher to its interested subscribers.
+ *
+ * @author olivier
+ */
+public class DomainEventPublisherUseCaseTest {
+
+    private DomainEventPublisher publisher;
+
+    @BeforeEach
+    public void initPublisher() {
+        this.publisher = DomainEventPublisher.instance();
+    }
+
+    @AfterEach
+    public void cleanPublisher() throws Exception {
+        this.publisher.stopAsynchronousDispatch(5, TimeUnit.SECONDS);
+        this.publisher.reset();
+        this.publisher = null;
+    }
+
+    /**
+     * Create a subscriber collecting the notified events.
+     *
+     * @param type     Type of event subscribed.
+     * @param received Mandatory collection of notified events.
+     * @return A subscriber.
+     */
+    private <T> IDomainEventSubscriber<T> subscriber(Class<T> type, List<Object> received) {
+        return new IDomainEventSubscriber<T>() {
+            @Override
+            public void handleEvent(T event) {
+                received.add(event);
+            }
+
+            @Override
+            public Class<?> subscribeToEventType() {
+                return type;
+            }
+        };
+    }
+
+    /**
+     * Test that a subscriber is notified about the events of its subscribed type and of its subtypes only.
+     */
+    @Test
+    public void givenSubscribedSuperType_whenSubtypeEventPublished_thenSubscriberNotified() {
+        List<Object> changes = new ArrayList<>();
+        List<Object> accounts = new ArrayList<>();
+        publisher.subscribe(subscriber(ConcreteDomainChangeEvent.class, changes));
+        publisher.subscribe(subscriber(UserAccountChanged.class, accounts));
+
+        publisher.publish(new ProcessingUnitPresenceAnnounced());
+        publisher.publish(new ConcreteDomainChangeEvent());
+        publisher.publish(new UserAccountChanged());
+
+        Assertions.assertEquals(2, changes.size());
+        Assertions.assertEquals(1, accounts.size());
+
+        // Index is updated after a new subscription
+        List<Object> any = new ArrayList<>();
+        publisher.subscribe(subscriber(null, any));
+        publisher.publish(new ProcessingUnitPresenceAnnounced());
+        Assertions.assertEquals(1, any.size());
+        Assertions.assertEquals(3, changes.size());
+    }
+
+    /**
+     * Test that the publishing thread is not blocked by a slow subscriber in asynchronous dispatch, and that the events are notified in publication order.
+     */
+    @Test
+    public void givenAsynchronousDispatch_whenEventsPublished_thenNotifiedInOrderWithoutPublisherWait() throws Exception {
+        publisher.startAsynchronousDispatch(100, 2);
+        Assertions.assertTrue(publisher.isAsynchronous());
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        publisher.subscribe(new IDomainEventSubscriber<ConcreteDomainChangeEvent>() {
+            @Override
+            public void handleEvent(ConcreteDomainChangeEvent event) {
+                try {
+                    // Slow subscriber
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(event);
+            }
+
+            @Override
+            public Class<?> subscribeToEventType() {
+                return ConcreteDomainChangeEvent.class;
+            }
+        });
+
+        List<ConcreteDomainChangeEvent> published = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ConcreteDomainChangeEvent event = new ConcreteDomainChangeEvent();
+            published.add(event);
+            publisher.publish(event);
+        }
+        // Publications returned before the subscriber notifications
+        Assertions.assertTrue(received.size() < published.size());
+
+        release.countDown();
+        Assertions.assertTrue(publisher.awaitDispatch(5, TimeUnit.SECONDS), "Timeout reached before events notified!");
+        Assertions.assertEquals(published.size(), received.size());
+        for (int i = 0; i < published.size(); i++) {
+            Assertions.assertSame(published.get(i), received.get(i), "Publication order shall be preserved!");
+        }
+
+        // Synchronous dispatch restored after stop
+        Assertions.assertTrue(publisher.stopAsynchronousDispatch(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(publisher.isAsynchronous());
+        publisher.publish(new ConcreteDomainChangeEvent());
+        Assertions.assertEquals(published.size() + 1, received.size());
+    }
+
+    /**
+     * Test that a subscriber publishing events into its own full buffer (during its notification) is not blocked, and that all the events are notified.
+     */
+    @Test
+    public void givenFullOwnBuffer_whenSubscriberPublishes_thenNotBlocked() throws Exception {
+        publisher.startAsynchronousDispatch(1, 1);
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        publisher.subscribe(new IDomainEventSubscriber<ConcreteDomainChangeEvent>() {
+            @Override
+            public void handleEvent(ConcreteDomainChangeEvent event) {
+                received.add(event);
+                if (received.size() == 1) {
+                    // Cascading publications exceeding the buffer capacity
+                    for (int i = 0; i < 3; i++) {
+                        publisher.publish(new ConcreteDomainChangeEvent());
+                    }
+                }
+            }
+
+            @Override
+            public Class<?> subscribeToEventType() {
+                return ConcreteDomainChangeEvent.class;
+            }
+        });
+        publisher.publish(new ConcreteDomainChangeEvent());
+        Assertions.assertTrue(publisher.awaitDispatch(5, TimeUnit.SECONDS), "Subscriber blocked by its own publications!");
+        Assertions.assertEquals(4, received.size());
+    }
+
+    /**
+     * Test that the events buffered at the stop of the asynchronous dispatch are notified before the next synchronously published events.
+     */
+    @Test
+    public void givenBufferedEvents_whenAsynchronousDispatchStopped_thenNotifiedBeforeNextEvents() throws Exception {
+        publisher.startAsynchronousDispatch(100, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        publisher.subscribe(new IDomainEventSubscriber<ConcreteDomainChangeEvent>() {
+            @Override
+            public void handleEvent(ConcreteDomainChangeEvent event) {
+                try {
+                    // Slow subscriber
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(event);
+            }
+
+            @Override
+            public Class<?> subscribeToEventType() {
+                return ConcreteDomainChangeEvent.class;
+            }
+        });
+        List<ConcreteDomainChangeEvent> published = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ConcreteDomainChangeEvent event = new ConcreteDomainChangeEvent();
+            published.add(event);
+            publisher.publish(event);
+        }
+        Thread stopping = new Thread(() -> {
+            try {
+                publisher.stopAsynchronousDispatch(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stopping.start();
+        release.countDown();
+        stopping.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertFalse(publisher.isAsynchronous());
+        ConcreteDomainChangeEvent next = new ConcreteDomainChangeEvent();
+        published.add(next);
+        publisher.publish(next);
+        Assertions.assertEquals(published, received, "Buffered events shall be notified before the next events!");
+    }
+}
@@ -1,6 +1,8 @@
 package org.cybnity.framework.domain.model;
 
+import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
 import org.cybnity.framework.domain.model.sample.writemodel.UserAccountChanged;
 import org.cybnity.framework.domain.model.sample.writemodel.UserAccountIdentity;
 import org.cybnity.framework.immutable.BaseConstants;
@@ -8,6 +10,8 @@ import org.cybnity.framework.immutable.Entity;
 import org.cybnity.framework.immutable.Identifier;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -24,6 +28,8 @@ public class DomainEventUseCaseTest {
         assertNotNull(event.occurredAt()); // When event occurred
         assertNotNull(event.versionHash()); // Which version of event type
         assertNull(event.identified()); // not identified event
+        // Not identified event has no functional hash contributors
+        assertEquals(0, event.valueHashCodeContributors().length);
     }
 
     @Test
@@ -39,4 +45,39 @@ public class DomainEventUseCaseTest {
         assertEquals(event.identified(), id, "Lost identity!");
     }
 
+    @Test
+    public void givenFrozenEvent_whenAccessorsCalled_thenSharedValuesReturnedAndChangeRefused() throws Exception {
+        Identifier id = new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), "FRZ4321");
+        ConcreteDomainChangeEvent event = new ConcreteDomainChangeEvent(new UserAccountIdentity(id), "USER_ACCOUNT_CHANGED");
+        int hash = event.hashCode();
+        assertNotSame(event.getIdentifiedBy(), event.getIdentifiedBy()); // Copy per call
+        assertFalse(event.isFrozen());
+
+        assertSame(event, event.freeze());
+        assertTrue(event.isFrozen());
+        // Values computed by the freeze are shared
+        assertSame(event.getIdentifiedBy(), event.getIdentifiedBy());
+        assertSame(event.identified(), event.identified());
+        assertSame(event.occurredAt(), event.occurredAt());
+        assertEquals(id, event.identified());
+        assertEquals(hash, event.hashCode());
+        // Frozen event is not modifiable
+        assertThrows(IllegalStateException.class, () -> event.appendSpecification(new Attribute("name", "value")));
+        assertThrows(IllegalStateException.class, () -> event.setOccurredOn(OffsetDateTime.now()));
+        assertThrows(IllegalStateException.class, () -> event.setChangeSourceIdentifier(id));
+        assertEquals("USER_ACCOUNT_CHANGED", event.type().value());
+    }
+
+    @Test
+    public void givenPublishedEvent_whenNotified_thenFrozen() throws Exception {
+        ConcreteDomainChangeEvent event = new ConcreteDomainChangeEvent(new UserAccountIdentity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), "PUB4321")), "USER_ACCOUNT_CHANGED");
+        DomainEventPublisher publisher = DomainEventPublisher.instance();
+        try {
+            publisher.publish(event);
+            assertTrue(event.isFrozen());
+        } finally {
+            publisher.reset();
+        }
+    }
+
 }
@@ -0,0 +1,161 @@
+package org.cybnity.framework.domain.model;
+
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.domain.infrastructure.IndexedEventInMemoryStoreImpl;
+import org.cybnity.framework.immutable.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test of IndexedEventInMemoryStoreImpl behaviors regarding its supported requirements.
+ *
+ * @author olivier
+ */
+public class IndexedEventInMemoryStoreUseCaseTest {
+
+    private IndexedEventInMemoryStoreImpl store;
+
+    @BeforeEach
+    public void initStore() {
+        this.store = IndexedEventInMemoryStoreImpl.instance();
+    }
+
+    @AfterEach
+    public void cleanStore() {
+        this.store.freeUpResources();
+        this.store = null;
+    }
+
+    /**
+     * Create a list of identified change events.
+     *
+     * @param qty Quantity of events.
+     * @return Events in creation order.
+     */
+    private List<DomainEvent> changes(int qty) {
+        List<DomainEvent> changes = new ArrayList<>();
+        for (int i = 0; i < qty; i++) {
+            changes.add(new ConcreteDomainChangeEvent(new DomainEntity(IdentifierStringBased.generate(null))));
+        }
+        return changes;
+    }
+
+    /**
+     * Test that a subject history is retrieved in descending order, and that a range of history is retrieved according to the skipped and max quantity of events.
+     */
+    @Test
+    public void givenStoredHistory_whenLoadRange_thenSubsetInDescendingOrder() throws Exception {
+        Identifier subject = IdentifierStringBased.generate(null);
+        // Store a history of more than one chunk
+        List<DomainEvent> history = changes(150);
+        store.appendToStream(subject, history);
+        String subjectId = subject.value().toString();
+        Assertions.assertEquals(150, store.streamVersion(subjectId));
+
+        // Full history (last event is first of list)
+        EventStream all = store.loadEventStream(subjectId);
+        Assertions.assertNotNull(all);
+        Assertions.assertEquals(150, all.getEvents().size());
+        Assertions.assertSame(history.get(149), all.getEvents().get(0));
+        Assertions.assertSame(history.get(0), all.getEvents().get(149));
+
+        // Range over two chunks
+        EventStream range = store.loadEventStream(subjectId, 60, 10);
+        Assertions.assertEquals(10, range.getEvents().size());
+        Assertions.assertSame(history.get(69), range.getEvents().get(0));
+        Assertions.assertSame(history.get(60), range.getEvents().get(9));
+
+        // Range exceeding the history end
+        Assertions.assertEquals(5, store.loadEventStream(subjectId, 145, 100).getEvents().size());
+        Assertions.assertNull(store.loadEventStream(subjectId, 150, 10), "None event after the history end!");
+        Assertions.assertNull(store.loadEventStream("unknown"), "Unknown subject shall not have history!");
+    }
+
+    /**
+     * Test that the release of the store resources restarts the global sequence, so that a reader of the global log does not skip the events stored after the release.
+     */
+    @Test
+    public void givenReleasedStore_whenAppend_thenGlobalSequenceRestarted() throws Exception {
+        store.appendToStream(IdentifierStringBased.generate(null), changes(3));
+        Assertions.assertEquals(3, store.lastGlobalSequence());
+        store.freeUpResources();
+        Assertions.assertEquals(0, store.lastGlobalSequence());
+        Assertions.assertTrue(store.readAllAfter(0, 10).isEmpty());
+        List<DomainEvent> history = changes(2);
+        store.appendToStream(IdentifierStringBased.generate(null), history);
+        SortedMap<Long, DomainEvent> log = store.readAllAfter(0, 10);
+        Assertions.assertEquals(2, log.size());
+        Assertions.assertSame(history.get(0), log.get(1L));
+        Assertions.assertSame(history.get(1), log.get(2L));
+    }
+
+    /**
+     * Test that an append based on an obsolete version of the subject stream is refused.
+     */
+    @Test
+    public void givenObsoleteExpectedVersion_whenAppend_thenConflictDetected() throws Exception {
+        Identifier subject = IdentifierStringBased.generate(null);
+        long version = store.appendToStream(subject, changes(2), IndexedEventInMemoryStoreImpl.NO_STREAM);
+        Assertions.assertEquals(2, version);
+        // Append from the current version
+        version = store.appendToStream(subject, changes(1), version);
+        Assertions.assertEquals(3, version);
+        // Append from an obsolete version
+        ConcurrencyConflictException conflict = Assertions.assertThrows(ConcurrencyConflictException.class, () -> store.appendToStream(subject, changes(1), 2));
+        Assertions.assertEquals(2, conflict.expectedVersion());
+        Assertions.assertEquals(3, conflict.actualVersion());
+        Assertions.assertEquals(3, store.streamVersion(subject.value().toString()), "Refused changes shall not be stored!");
+    }
+
+    /**
+     * Test that concurrent writers of a same subject do not lose events, and that all the events are readable in the global sequence order.
+     */
+    @Test
+    public void givenConcurrentWriters_whenAppendToSameSubject_thenNoneEventLost() throws Exception {
+        Identifier subject = IdentifierStringBased.generate(null);
+        int writers = 8, appendsPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch done = new CountDownLatch(writers);
+        for (int w = 0; w < writers; w++) {
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < appendsPerWriter; i++) {
+                        store.appendToStream(subject, changes(2));
+                    }
+                } catch (Exception e) {
+                    Assertions.fail(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        int expectedQty = writers * appendsPerWriter * 2;
+        Assertions.assertEquals(expectedQty, store.streamVersion(subject.value().toString()));
+        Assertions.assertEquals(expectedQty, store.lastGlobalSequence());
+
+        // Catch-up read by pages
+        long lastRead = 0;
+        int readQty = 0;
+        SortedMap<Long, DomainEvent> page;
+        while (!(page = store.readAllAfter(lastRead, 100)).isEmpty()) {
+            Assertions.assertEquals(lastRead + 1, page.firstKey(), "Global sequence shall be continuous!");
+            readQty += page.size();
+            lastRead = page.lastKey();
+        }
+        Assertions.assertEquals(expectedQty, readQty);
+    }
+}
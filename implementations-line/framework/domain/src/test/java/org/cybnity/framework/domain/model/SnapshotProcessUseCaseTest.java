@@ -0,0 +1,238 @@
+package org.cybnity.framework.domain.model;
+
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.infrastructure.DomainEventInMemoryStoreImpl;
+import org.cybnity.framework.domain.infrastructure.ISnapshotRepository;
+import org.cybnity.framework.domain.infrastructure.IndexedEventInMemoryStoreImpl;
+import org.cybnity.framework.domain.infrastructure.SnapshotProcessEventStreamPersistenceBased;
+import org.cybnity.framework.domain.infrastructure.SnapshotScheduler;
+import org.cybnity.framework.immutable.HistoryState;
+import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.framework.immutable.persistence.FactRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit test of the snapshots generation based on the previous snapshot of an aggregate, and of their automatic triggering.
+ *
+ * @author olivier
+ */
+public class SnapshotProcessUseCaseTest {
+
+    private static final String NAMESPACE = "snapshots";
+
+    private EventStore store;
+    private Map<String, ISnapshot> snapshots;
+    private ISnapshotRepository repository;
+
+    @BeforeEach
+    public void initStores() {
+        this.store = IndexedEventInMemoryStoreImpl.instance();
+        this.snapshots = new ConcurrentHashMap<>();
+        this.repository = new ISnapshotRepository() {
+            @Override
+            public ISnapshot getLatestSnapshotById(String originObjectIdentifier, String resourceNamespaceName) {
+                return snapshots.get(originObjectIdentifier);
+            }
+
+            @Override
+            public void saveSnapshot(ISnapshot snapshot, String resourceNamespaceName, Long expireIn) {
+                snapshots.put(snapshot.versionedObjectUID(), snapshot);
+            }
+
+            @Override
+            public void freeUpResources() {
+                snapshots.clear();
+            }
+        };
+    }
+
+    @AfterEach
+    public void cleanStores() {
+        this.store.freeUpResources();
+        this.repository.freeUpResources();
+        this.store = null;
+    }
+
+    /**
+     * Create a snapshot process of tenants.
+     *
+     * @param tenantId Identifier of the tenant.
+     * @return A process.
+     */
+    private SnapshotProcessEventStreamPersistenceBased process(Identifier tenantId) {
+        return new SnapshotProcessEventStreamPersistenceBased(store, repository, new Tenant.MutedTenantFactory(), null) {
+            @Override
+            protected HydrationCapability getRehydratedInstanceFrom(EventStream history, MutedAggregateFactory mutedInstanceFactory) throws IllegalArgumentException {
+                // Loaded stream is in descending order
+                List<DomainEvent> changes = new ArrayList<>(history.getEvents());
+                Collections.reverse(changes);
+                return mutedInstanceFactory.instanceOf(tenantId, changes);
+            }
+
+            @Override
+            protected String snapshotsNamespace() {
+                return NAMESPACE;
+            }
+        };
+    }
+
+    /**
+     * Create a tenant and store its change events.
+     *
+     * @return A tenant.
+     */
+    private Tenant storedTenant() throws Exception {
+        TenantBuilder builder = new TenantBuilder("CYBNITY", new DomainEntity(IdentifierStringBased.generate(null)), Boolean.TRUE);
+        builder.buildInstance();
+        Tenant tenant = builder.getResult();
+        store.appendToStream(tenant.identified(), tenant.changeEvents());
+        return tenant;
+    }
+
+    /**
+     * Change the label of a tenant and store the change events.
+     *
+     * @param tenant Tenant.
+     * @param label  New label.
+     * @return Quantity of stored change events.
+     */
+    private int changeLabel(Tenant tenant, String label) throws Exception {
+        int knownChanges = tenant.changeEvents().size();
+        HashMap<String, Object> propertyCurrentValue = new HashMap<>();
+        propertyCurrentValue.put(TenantDescriptor.PropertyAttributeKey.LABEL.name(), label);
+        tenant.setLabel(new TenantDescriptor(tenant.parent(), propertyCurrentValue, HistoryState.COMMITTED));
+        List<DomainEvent> newChanges = new ArrayList<>(tenant.changeEvents().subList(knownChanges, tenant.changeEvents().size()));
+        store.appendToStream(tenant.identified(), newChanges);
+        return newChanges.size();
+    }
+
+    /**
+     * Test that a new snapshot is generated from the previous snapshot with replay of only the events appended since it was taken.
+     */
+    @Test
+    public void givenPreviousSnapshot_whenGenerateSnapshot_thenOnlyRecentEventsReplayed() throws Exception {
+        assertIncrementalGenerations();
+    }
+
+    /**
+     * Test the incremental generation of the snapshots based on the default in-memory store.
+     */
+    @Test
+    public void givenPreviousSnapshotAndDefaultStore_whenGenerateSnapshot_thenOnlyRecentEventsReplayed() throws Exception {
+        this.store.freeUpResources();
+        this.store = DomainEventInMemoryStoreImpl.instance();
+        assertIncrementalGenerations();
+    }
+
+    /**
+     * Test that a snapshot of which the commit event is unknown by the store (e.g trimmed history) is not used as origin state, so its events are not applied twice.
+     */
+    @Test
+    public void givenSnapshotCommitUnknownByStore_whenGenerateSnapshot_thenFullHistoryReplayed() throws Exception {
+        this.store.freeUpResources();
+        this.store = DomainEventInMemoryStoreImpl.instance();
+        Tenant tenant = storedTenant();
+        String tenantId = tenant.identified().value().toString();
+        List<DomainEvent> creationEvents = new ArrayList<>(tenant.changeEvents());
+        changeLabel(tenant, "CYBNITY2");
+        process(tenant.identified()).generateSnapshot(tenantId);
+
+        // Store including only the history known before the snapshot commit event
+        this.store.freeUpResources();
+        this.store = DomainEventInMemoryStoreImpl.instance();
+        this.store.appendToStream(tenant.identified(), creationEvents);
+        SnapshotProcessEventStreamPersistenceBased process = process(tenant.identified());
+        process.generateSnapshot(tenantId);
+        Assertions.assertEquals(0, process.incrementalGenerationsCount());
+        Assertions.assertEquals(1, process.fullGenerationsCount());
+        Assertions.assertEquals(creationEvents.size(), process.lastReplayedEventsCount());
+        Assertions.assertEquals("CYBNITY", ((Tenant) ((FactRecord) repository.getLatestSnapshotById(tenantId, NAMESPACE)).body()).label().getLabel());
+    }
+
+    /**
+     * Check the generation of a first snapshot from the full history, then of the next snapshots from the previous one.
+     */
+    private void assertIncrementalGenerations() throws Exception {
+        Tenant tenant = storedTenant();
+        String tenantId = tenant.identified().value().toString();
+        SnapshotProcessEventStreamPersistenceBased process = process(tenant.identified());
+
+        // First snapshot based on the full history
+        process.generateSnapshot(tenantId);
+        Assertions.assertEquals(1, process.fullGenerationsCount());
+        Assertions.assertEquals(tenant.changeEvents().size(), process.lastReplayedEventsCount());
+        ISnapshot first = repository.getLatestSnapshotById(tenantId, NAMESPACE);
+        Assertions.assertNotNull(first);
+
+        // Second snapshot based on the first one
+        int changesQty = changeLabel(tenant, "CYBNITY2");
+        process.generateSnapshot(tenantId);
+        Assertions.assertEquals(1, process.incrementalGenerationsCount());
+        Assertions.assertEquals(changesQty, process.lastReplayedEventsCount());
+        ISnapshot latest = repository.getLatestSnapshotById(tenantId, NAMESPACE);
+        Assertions.assertEquals(tenant.getCommitVersion(), latest.commitVersion());
+        Assertions.assertEquals("CYBNITY2", ((Tenant) ((FactRecord) latest).body()).label().getLabel());
+        // Previous snapshot state have not been modified by the replay
+        Assertions.assertEquals("CYBNITY", ((Tenant) ((FactRecord) first).body()).label().getLabel());
+
+        // Up-to-date snapshot is not replaced
+        process.generateSnapshot(tenantId);
+        Assertions.assertEquals(0, process.lastReplayedEventsCount());
+        Assertions.assertSame(latest, repository.getLatestSnapshotById(tenantId, NAMESPACE));
+    }
+
+    /**
+     * Test that a snapshot is automatically generated in background when the threshold of appended events is reached.
+     */
+    @Test
+    public void givenEventsThreshold_whenChangesAppended_thenSnapshotGeneratedInBackground() throws Exception {
+        Tenant tenant = storedTenant();
+        String tenantId = tenant.identified().value().toString();
+        SnapshotScheduler scheduler = new SnapshotScheduler(process(tenant.identified()), 3, 0);
+        try {
+            Assertions.assertFalse(scheduler.changesAppended(tenantId, 2, 0), "Threshold not reached!");
+            Assertions.assertTrue(scheduler.changesAppended(tenantId, 1, 0), "Threshold reached!");
+            long timeout = System.currentTimeMillis() + 5000;
+            while (scheduler.generatedSnapshotsCount() < 1 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(20);
+            }
+            Assertions.assertEquals(1, scheduler.generatedSnapshotsCount());
+            Assertions.assertNotNull(repository.getLatestSnapshotById(tenantId, NAMESPACE));
+            // Accumulation restarted after the trigger
+            Assertions.assertFalse(scheduler.changesAppended(tenantId, 1, 0));
+        } finally {
+            scheduler.freeUpResources();
+        }
+    }
+
+    /**
+     * Test that the appends into a store having a snapshot scheduler trigger the snapshots generation.
+     */
+    @Test
+    public void givenStoreWithScheduler_whenChangesAppended_thenSnapshotGenerated() throws Exception {
+        Tenant tenant = storedTenant();
+        String tenantId = tenant.identified().value().toString();
+        SnapshotScheduler scheduler = new SnapshotScheduler(process(tenant.identified()), 2, 0);
+        store.setSnapshotScheduler(scheduler);
+        try {
+            changeLabel(tenant, "CYBNITY2");
+            changeLabel(tenant, "CYBNITY3");
+            long timeout = System.currentTimeMillis() + 5000;
+            while (scheduler.generatedSnapshotsCount() < 1 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(20);
+            }
+            Assertions.assertTrue(scheduler.generatedSnapshotsCount() >= 1, "Snapshot shall have been triggered by the appends!");
+            Assertions.assertNotNull(repository.getLatestSnapshotById(tenantId, NAMESPACE));
+        } finally {
+            store.setSnapshotScheduler(null);
+            scheduler.freeUpResources();
+        }
+    }
+}
@@ -91,7 +91,7 @@ public class FactRecord implements IHistoricalFact, IUniqueness, Cloneable {
         this.body = originFact;
         this.bodyHash = this.body.hashCode();
         this.factOccurredAt = originFact.occurredAt();
-        this.factTypeVersion = (targetedVersion != null) ? targetedVersion : new TypeVersion(originFact.getClass());
+        this.factTypeVersion = (targetedVersion != null) ? targetedVersion : TypeVersion.of(originFact.getClass());
         if (IdentifiableFact.class.isAssignableFrom(originFact.getClass())) {
             IdentifiableFact identifiedFact = (IdentifiableFact) originFact;
             Identifier id = identifiedFact.identified();
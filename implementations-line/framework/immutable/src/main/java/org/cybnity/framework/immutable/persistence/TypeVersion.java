@@ -42,6 +42,16 @@ public class TypeVersion implements Serializable {
      */
     private final FactType factType;
 
+    /**
+     * Cache of the default version per class type, shared by the facts of a same type.
+     */
+    private static final ClassValue<TypeVersion> DEFAULT_VERSIONS = new ClassValue<>() {
+        @Override
+        protected TypeVersion computeValue(Class<?> type) {
+            return new TypeVersion(type);
+        }
+    };
+
     /**
      * Constructor of a version relative to an existing fact type and identified version.
      * This constructor can be used during a deserialization process of a previous existing type version instance that already auto-generated fact type, hash value and identifier via usage of the default constructor.
@@ -108,6 +118,20 @@ public class TypeVersion implements Serializable {
         this(subject, null);
     }
 
+    /**
+     * Get the default version of a type, with a location-independent identifier generated at the first request and reused for any next request regarding the same type.
+     * Avoid the cost of hash and identifier generation for each recorded fact of a same type.
+     *
+     * @param subject Mandatory type regarding the subject of versioning.
+     * @return A shared immutable version.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static TypeVersion of(Class<?> subject) throws IllegalArgumentException {
+        if (subject == null)
+            throw new IllegalArgumentException("subject parameter is required!");
+        return DEFAULT_VERSIONS.get(subject);
+    }
+
     /**
      * Get the type of origin fact.
      *
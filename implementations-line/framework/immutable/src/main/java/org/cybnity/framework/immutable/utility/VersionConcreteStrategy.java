@@ -19,18 +19,39 @@ import java.util.*;
  */
 public class VersionConcreteStrategy extends StructuralVersionStrategy {
 
+    /**
+     * Cache of the version hash per class type.
+     * The structure of a loaded class can't change, so its hash is computed only one time (at the first request) and is released with the class.
+     */
+    private static final ClassValue<String> VERSION_HASHES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return computeCanonicalVersionHash(type);
+        }
+    };
+
     public VersionConcreteStrategy() {
         super();
     }
 
     /**
-     * Implementation returning a base64 result.
+     * Implementation returning a base64 result, read from the cache of the already computed class types.
      */
     @Requirement(reqType = RequirementCategory.Robusteness, reqId = "REQ_CONS_8")
     @Override
     public String composeCanonicalVersionHash(Class<?> factType) throws IllegalArgumentException {
         if (factType == null)
             throw new IllegalArgumentException("Mandatory factType parameter is required!");
+        return VERSION_HASHES.get(factType);
+    }
+
+    /**
+     * Compute the version hash of a class type without usage of cache.
+     *
+     * @param factType Mandatory class type.
+     * @return A base64 hash value. Null when the digest algorithm is not supported by the runtime.
+     */
+    private static String computeCanonicalVersionHash(Class<?> factType) {
         try {
             StringBuilder versionHashValue = new StringBuilder();
             // Get the type name of the class
@@ -71,7 +92,7 @@ public class VersionConcreteStrategy extends StructuralVersionStrategy {
         }
     }
 
-    private List<Field> getAllFields(Class<?> clazz) {
+    private static List<Field> getAllFields(Class<?> clazz) {
         if (clazz == null) {
             return Collections.emptyList();
         }
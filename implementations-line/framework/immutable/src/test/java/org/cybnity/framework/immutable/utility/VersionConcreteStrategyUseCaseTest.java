@@ -1,11 +1,13 @@
 package org.cybnity.framework.immutable.utility;
 
+import org.cybnity.framework.immutable.persistence.TypeVersion;
 import org.cybnity.framework.immutable.sample.ChildAggregate;
 import org.cybnity.framework.immutable.sample.Employee;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Unit test of VersionConcreteStrategy behaviors regarding its immutability
@@ -36,4 +38,12 @@ public class VersionConcreteStrategyUseCaseTest {
 	String versionHash2 = new VersionConcreteStrategy().composeCanonicalVersionHash(ChildAggregate.class);
 	assertEquals(versionHash, versionHash2, "Shall not be different!");
     }
+
+    @Test
+    public void giveClassType_whenDefaultTypeVersionRequested_thenSharedVersionDelivered() throws Exception {
+	TypeVersion version = TypeVersion.of(ChildAggregate.class);
+	assertSame(version, TypeVersion.of(ChildAggregate.class), "Shall be reused for the same type!");
+	assertEquals(new VersionConcreteStrategy().composeCanonicalVersionHash(ChildAggregate.class), version.hash());
+	assertEquals(new TypeVersion(ChildAggregate.class).hash(), version.hash(), "Shall be equals to a not shared version!");
+    }
 }
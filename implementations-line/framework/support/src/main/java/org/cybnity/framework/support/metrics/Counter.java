@@ -0,0 +1,38 @@
+package org.cybnity.framework.support.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic quantity of occurrences (e.g appended messages, failures), incrementable by concurrent threads without contention.
+ *
+ * @author olivier
+ */
+public final class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Add one occurrence.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Add occurrences.
+     *
+     * @param quantity Quantity of occurrences. Ignored when negative.
+     */
+    public void add(long quantity) {
+        if (quantity > 0) count.add(quantity);
+    }
+
+    /**
+     * Get the quantity of occurrences.
+     *
+     * @return A quantity.
+     */
+    public long count() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,61 @@
+package org.cybnity.framework.support.metrics;
+
+import java.io.IOException;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Service provider interface of the registry of the measures of the components.
+ * A measure is identified by a name (e.g uis_append_seconds) and by optional tags (pairs of label name and value, e.g "stream", "ac-entrypoint").
+ * An implementation can be provided via the java.util.ServiceLoader mechanism (see Metrics.registry()).
+ *
+ * @author olivier
+ */
+public interface IMetricsRegistry {
+
+    /**
+     * Get or create a counter.
+     *
+     * @param name Mandatory name of the measure.
+     * @param tags Optional pairs of label name and value.
+     * @return A counter shared by the callers of the same name and tags.
+     * @throws IllegalArgumentException When invalid name or tags.
+     */
+    public Counter counter(String name, String... tags) throws IllegalArgumentException;
+
+    /**
+     * Get or create a timer.
+     *
+     * @param name Mandatory name of the measure.
+     * @param tags Optional pairs of label name and value.
+     * @return A timer shared by the callers of the same name and tags.
+     * @throws IllegalArgumentException When invalid name or tags.
+     */
+    public Timer timer(String name, String... tags) throws IllegalArgumentException;
+
+    /**
+     * Register a gauge read at each scrape (e.g size of a queue). A gauge registered with the same name and tags replaces the previous one.
+     *
+     * @param name  Mandatory name of the measure.
+     * @param value Mandatory provider of the current value.
+     * @param tags  Optional pairs of label name and value.
+     * @throws IllegalArgumentException When invalid name, value or tags.
+     */
+    public void gauge(String name, DoubleSupplier value, String... tags) throws IllegalArgumentException;
+
+    /**
+     * Unregister a gauge (e.g gauge of a stopped component), which is not read by the next scrapes.
+     *
+     * @param name Name of the measure.
+     * @param tags Optional pairs of label name and value of the gauge.
+     * @throws IllegalArgumentException When invalid tags.
+     */
+    public void removeGauge(String name, String... tags) throws IllegalArgumentException;
+
+    /**
+     * Write all the measures in text exposition format (Prometheus format version 0.0.4).
+     *
+     * @param out Mandatory output.
+     * @throws IOException When problem of write.
+     */
+    public void scrape(Appendable out) throws IOException;
+}
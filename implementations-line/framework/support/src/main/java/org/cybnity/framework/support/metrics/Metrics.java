@@ -0,0 +1,53 @@
+package org.cybnity.framework.support.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Access to the registry of measures shared by the components of a process.
+ * The registry is the first IMetricsRegistry implementation declared via java.util.ServiceLoader (META-INF/services/org.cybnity.framework.support.metrics.IMetricsRegistry), else a default in-memory MetricsRegistry.
+ *
+ * @author olivier
+ */
+public final class Metrics {
+
+    private static volatile IMetricsRegistry registry;
+
+    /**
+     * Private constructor of static utility class.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Get the registry of the process.
+     *
+     * @return A registry.
+     */
+    public static IMetricsRegistry registry() {
+        IMetricsRegistry current = registry;
+        if (current == null) {
+            synchronized (Metrics.class) {
+                current = registry;
+                if (current == null) {
+                    Iterator<IMetricsRegistry> providers = ServiceLoader.load(IMetricsRegistry.class).iterator();
+                    current = providers.hasNext() ? providers.next() : new MetricsRegistry();
+                    registry = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Replace the registry of the process (e.g registry bridged with a monitoring library, or new registry per test).
+     * The measures obtained from the previous registry are not transferred.
+     *
+     * @param aRegistry Mandatory registry.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public static void setRegistry(IMetricsRegistry aRegistry) throws IllegalArgumentException {
+        if (aRegistry == null) throw new IllegalArgumentException("Registry parameter is required!");
+        registry = aRegistry;
+    }
+}
@@ -0,0 +1,175 @@
+package org.cybnity.framework.support.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Default registry of measures kept into the memory of the process.
+ * The timers are exposed as summaries (quantiles 0.5, 0.9, 0.99 and 0.999, sum and count in seconds) completed by a gauge of the highest duration (name_max).
+ *
+ * @author olivier
+ */
+public class MetricsRegistry implements IMetricsRegistry {
+
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * Type of measure per name.
+     */
+    private final Map<String, String> types = new ConcurrentHashMap<>();
+
+    /**
+     * Measures per name and per formatted labels.
+     */
+    private final Map<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, DoubleSupplier>> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name, String... tags) throws IllegalArgumentException {
+        return counters.computeIfAbsent(checkType(name, "counter"), n -> new ConcurrentHashMap<>())
+                .computeIfAbsent(labels(tags), l -> new Counter());
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) throws IllegalArgumentException {
+        return timers.computeIfAbsent(checkType(name, "summary"), n -> new ConcurrentHashMap<>())
+                .computeIfAbsent(labels(tags), l -> new Timer());
+    }
+
+    @Override
+    public void gauge(String name, DoubleSupplier value, String... tags) throws IllegalArgumentException {
+        if (value == null) throw new IllegalArgumentException("Value parameter is required!");
+        gauges.computeIfAbsent(checkType(name, "gauge"), n -> new ConcurrentHashMap<>())
+                .put(labels(tags), value);
+    }
+
+    @Override
+    public void removeGauge(String name, String... tags) throws IllegalArgumentException {
+        if (name == null) return;
+        String labels = labels(tags);
+        gauges.computeIfPresent(name, (n, measures) -> {
+            measures.remove(labels);
+            // Family without measure is not exposed
+            return (measures.isEmpty()) ? null : measures;
+        });
+    }
+
+    @Override
+    public void scrape(Appendable out) throws IOException {
+        if (out == null) throw new IllegalArgumentException("Out parameter is required!");
+        for (Map.Entry<String, Map<String, Counter>> family : new TreeMap<>(counters).entrySet()) {
+            out.append("# TYPE ").append(family.getKey()).append(" counter\n");
+            for (Map.Entry<String, Counter> measure : new TreeMap<>(family.getValue()).entrySet()) {
+                sample(out, family.getKey(), measure.getKey(), null, Long.toString(measure.getValue().count()));
+            }
+        }
+        for (Map.Entry<String, Map<String, DoubleSupplier>> family : new TreeMap<>(gauges).entrySet()) {
+            out.append("# TYPE ").append(family.getKey()).append(" gauge\n");
+            for (Map.Entry<String, DoubleSupplier> measure : new TreeMap<>(family.getValue()).entrySet()) {
+                double value;
+                try {
+                    value = measure.getValue().getAsDouble();
+                } catch (RuntimeException e) {
+                    value = Double.NaN; // Unreadable value
+                }
+                sample(out, family.getKey(), measure.getKey(), null, format(value));
+            }
+        }
+        for (Map.Entry<String, Map<String, Timer>> family : new TreeMap<>(timers).entrySet()) {
+            String name = family.getKey();
+            Map<String, Timer> measures = new TreeMap<>(family.getValue());
+            out.append("# TYPE ").append(name).append(" summary\n");
+            for (Map.Entry<String, Timer> measure : measures.entrySet()) {
+                Timer timer = measure.getValue();
+                for (double quantile : QUANTILES) {
+                    sample(out, name, measure.getKey(), "quantile=\"" + quantile + "\"", format(timer.percentileNanos(quantile) / NANOS_PER_SECOND));
+                }
+                sample(out, name + "_sum", measure.getKey(), null, format(timer.totalNanos() / NANOS_PER_SECOND));
+                sample(out, name + "_count", measure.getKey(), null, Long.toString(timer.count()));
+            }
+            out.append("# TYPE ").append(name).append("_max gauge\n");
+            for (Map.Entry<String, Timer> measure : measures.entrySet()) {
+                sample(out, name + "_max", measure.getKey(), null, format(measure.getValue().maxNanos() / NANOS_PER_SECOND));
+            }
+        }
+    }
+
+    /**
+     * Write a sample line.
+     */
+    private static void sample(Appendable out, String name, String labels, String extraLabel, String value) throws IOException {
+        out.append(name);
+        if (!labels.isEmpty() || extraLabel != null) {
+            out.append('{').append(labels);
+            if (extraLabel != null) {
+                if (!labels.isEmpty()) out.append(',');
+                out.append(extraLabel);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return (value > 0) ? "+Inf" : "-Inf";
+        return Double.toString(value);
+    }
+
+    /**
+     * Check that a name is not used by a measure of another type.
+     *
+     * @param name Name of measure.
+     * @param type Type of the measure.
+     * @return The name.
+     * @throws IllegalArgumentException When invalid name, or when used by another type.
+     */
+    private String checkType(String name, String type) throws IllegalArgumentException {
+        if (name == null || !NAME.matcher(name).matches())
+            throw new IllegalArgumentException("Invalid name parameter (" + name + ")!");
+        String existing = types.putIfAbsent(name, type);
+        if (existing != null && !existing.equals(type))
+            throw new IllegalArgumentException("Name " + name + " is already used by a " + existing + "!");
+        return name;
+    }
+
+    /**
+     * Format the tags into labels.
+     *
+     * @param tags Pairs of label name and value.
+     * @return Labels (e.g name1="value1",name2="value2"), or empty string.
+     * @throws IllegalArgumentException When invalid tags.
+     */
+    private static String labels(String... tags) throws IllegalArgumentException {
+        if (tags == null || tags.length == 0) return "";
+        if (tags.length % 2 != 0) throw new IllegalArgumentException("Tags parameter shall be pairs of name and value!");
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < tags.length; i += 2) {
+            if (tags[i] == null || !LABEL.matcher(tags[i]).matches())
+                throw new IllegalArgumentException("Invalid label name (" + tags[i] + ")!");
+            if (i > 0) labels.append(',');
+            labels.append(tags[i]).append("=\"");
+            String value = (tags[i + 1] != null) ? tags[i + 1] : "";
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '\\' || ch == '"') {
+                    labels.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    labels.append("\\n");
+                } else {
+                    labels.append(ch);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+}
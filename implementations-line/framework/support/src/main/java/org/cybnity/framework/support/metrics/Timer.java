@@ -0,0 +1,144 @@
+package org.cybnity.framework.support.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of durations (e.g latency of a message append), recordable by concurrent threads without lock.
+ * The durations are counted into a log-linear histogram (8 linear sub-buckets per power of two of nanoseconds, as HDR histograms with one significant digit), allowing percentiles read with a maximum relative error of 12.5%, in a fixed memory size.
+ *
+ * @author olivier
+ */
+public final class Timer {
+
+    /**
+     * Quantity of linear sub-buckets per power of two, as power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Highest power of two of the counted durations (about 73 minutes). Higher durations are counted into the last bucket.
+     */
+    private static final int MAX_EXPONENT = 42;
+
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos Duration in nanoseconds (e.g difference between two System.nanoTime()). Ignored when negative.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) return;
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param duration Duration. Ignored when null.
+     */
+    public void record(Duration duration) {
+        if (duration != null) record(duration.toNanos());
+    }
+
+    /**
+     * Record the duration elapsed since a start time.
+     *
+     * @param startNanos Start time read via System.nanoTime().
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Get the quantity of recorded durations.
+     *
+     * @return A quantity.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Get the sum of the recorded durations.
+     *
+     * @return A duration in nanoseconds.
+     */
+    public long totalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * Get the highest recorded duration.
+     *
+     * @return A duration in nanoseconds.
+     */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Get the duration under which a ratio of the recorded durations are.
+     *
+     * @param quantile Ratio between 0 and 1 (e.g 0.99 for the 99th percentile).
+     * @return A duration in nanoseconds (upper bound of the histogram bucket, limited to the highest recorded duration). Zero when none recorded duration.
+     * @throws IllegalArgumentException When invalid quantile.
+     */
+    public long percentileNanos(double quantile) throws IllegalArgumentException {
+        if (quantile < 0 || quantile > 1) throw new IllegalArgumentException("Quantile parameter shall be between 0 and 1!");
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        if (recorded == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * recorded));
+        long cumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulated += counts[i];
+            if (cumulated >= rank) return Math.min(upperBoundOf(i), maxNanos());
+        }
+        return maxNanos();
+    }
+
+    /**
+     * Get the index of the bucket counting a duration.
+     *
+     * @param nanos Positive duration.
+     * @return An index.
+     */
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) return BUCKETS - 1;
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the highest duration counted by a bucket.
+     *
+     * @param index Index of the bucket.
+     * @return A duration in nanoseconds.
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKETS + subBucket) << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Package of the instrumentation of the components (counters, timers and gauges) without dependency to a metrics library, readable in text exposition format (e.g by a scrape endpoint of a monitoring system).
+ */
+@Requirement(reqType = RequirementCategory.Observability, reqId = "REQ_OBS_1")
+package org.cybnity.framework.support.metrics;
+
+import org.cybnity.framework.support.annotation.Requirement;
+import org.cybnity.framework.support.annotation.RequirementCategory;
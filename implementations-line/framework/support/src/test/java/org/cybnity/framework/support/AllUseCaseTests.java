@@ -0,0 +1,16 @@
+package org.cybnity.framework.support;
+
+import org.cybnity.framework.support.metrics.MetricsRegistryUseCaseTest;
+import org.cybnity.framework.support.metrics.TimerUseCaseTest;
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+
+/**
+ * Suite of all technical and behavior unit tests regarding the support components capabilities.
+ *
+ * @author olivier
+ */
+@Suite
+@SelectClasses({TimerUseCaseTest.class, MetricsRegistryUseCaseTest.class})
+public class AllUseCaseTests {
+}
@@ -0,0 +1,108 @@
+package org.cybnity.framework.support.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test of the registry of measures and of their exposition in text format.
+ *
+ * @author olivier
+ */
+public class MetricsRegistryUseCaseTest {
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void init() {
+        registry = new MetricsRegistry();
+    }
+
+    /**
+     * Validate that a same measure is shared by the callers of the same name and tags, and that the invalid definitions are refused.
+     */
+    @Test
+    public void givenSameNameAndTags_whenMeasureRequested_thenShared() {
+        Counter counter = registry.counter("app_requests_total", "path", "/a");
+        Assertions.assertSame(counter, registry.counter("app_requests_total", "path", "/a"));
+        Assertions.assertNotSame(counter, registry.counter("app_requests_total", "path", "/b"));
+        Assertions.assertSame(registry.timer("app_latency_seconds"), registry.timer("app_latency_seconds"));
+        // Name already used by another type of measure
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.timer("app_requests_total"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.gauge("app_requests_total", () -> 1));
+        // Invalid definitions
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.counter("1invalid"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.counter(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.counter("app_total", "path"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.counter("app_total", "invalid-label", "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.gauge("app_size", null));
+    }
+
+    /**
+     * Validate the text exposition format of the counters, gauges and timers.
+     */
+    @Test
+    public void givenMeasures_whenScraped_thenTextExpositionFormat() throws Exception {
+        registry.counter("app_requests_total", "path", "a\"b\\c\nd").add(2);
+        registry.gauge("app_queue_size", () -> 3);
+        registry.gauge("app_queue_size", () -> {
+            throw new IllegalStateException("Unreadable");
+        }, "queue", "broken");
+        registry.timer("app_latency_seconds", "stream", "s1").record(1_000_000L);
+
+        StringBuilder out = new StringBuilder();
+        registry.scrape(out);
+        String expected = "# TYPE app_requests_total counter\n"
+                + "app_requests_total{path=\"a\\\"b\\\\c\\nd\"} 2\n"
+                + "# TYPE app_queue_size gauge\n"
+                + "app_queue_size 3.0\n"
+                + "app_queue_size{queue=\"broken\"} NaN\n"
+                + "# TYPE app_latency_seconds summary\n"
+                + "app_latency_seconds{stream=\"s1\",quantile=\"0.5\"} 0.001\n"
+                + "app_latency_seconds{stream=\"s1\",quantile=\"0.9\"} 0.001\n"
+                + "app_latency_seconds{stream=\"s1\",quantile=\"0.99\"} 0.001\n"
+                + "app_latency_seconds{stream=\"s1\",quantile=\"0.999\"} 0.001\n"
+                + "app_latency_seconds_sum{stream=\"s1\"} 0.001\n"
+                + "app_latency_seconds_count{stream=\"s1\"} 1\n"
+                + "# TYPE app_latency_seconds_max gauge\n"
+                + "app_latency_seconds_max{stream=\"s1\"} 0.001\n";
+        Assertions.assertEquals(expected, out.toString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.scrape(null));
+    }
+
+    /**
+     * Validate that a removed gauge is not exposed anymore, without impact on the other gauges of the same name.
+     */
+    @Test
+    public void givenRemovedGauge_whenScraped_thenNotExposed() throws Exception {
+        registry.gauge("app_pending", () -> 1, "consumer", "c1");
+        registry.gauge("app_pending", () -> 2, "consumer", "c2");
+        registry.removeGauge("app_pending", "consumer", "c1");
+        StringBuilder out = new StringBuilder();
+        registry.scrape(out);
+        Assertions.assertEquals("# TYPE app_pending gauge\napp_pending{consumer=\"c2\"} 2.0\n", out.toString());
+
+        // Family without remaining gauge is not exposed
+        registry.removeGauge("app_pending", "consumer", "c2");
+        registry.removeGauge("app_unknown");
+        out = new StringBuilder();
+        registry.scrape(out);
+        Assertions.assertEquals("", out.toString());
+    }
+
+    /**
+     * Validate that the registry of the process is replaceable.
+     */
+    @Test
+    public void givenReplacedRegistry_whenRead_thenNewRegistryUsed() {
+        IMetricsRegistry previous = Metrics.registry();
+        Assertions.assertNotNull(previous);
+        try {
+            Metrics.setRegistry(registry);
+            Assertions.assertSame(registry, Metrics.registry());
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Metrics.setRegistry(null));
+        } finally {
+            Metrics.setRegistry(previous);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.cybnity.framework.support.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Unit test of the histogram of durations and of the counters.
+ *
+ * @author olivier
+ */
+public class TimerUseCaseTest {
+
+    /**
+     * Validate that each duration is counted by the bucket covering it, with a relative error limited to 12.5%.
+     */
+    @Test
+    public void givenDurations_whenBucketed_thenCoveredWithBoundedError() {
+        for (long nanos = 0; nanos < (1L << 24); nanos += (nanos < 4096) ? 1 : 997) {
+            int index = Timer.bucketOf(nanos);
+            long upper = Timer.upperBoundOf(index);
+            Assertions.assertTrue(upper >= nanos, "Upper bound shall cover the duration " + nanos + "!");
+            if (index > 0)
+                Assertions.assertTrue(Timer.upperBoundOf(index - 1) < nanos, "Previous bucket shall not cover the duration " + nanos + "!");
+            Assertions.assertTrue(upper - nanos <= nanos / 8, "Relative error shall be limited to 12.5% for " + nanos + "!");
+        }
+        // Contiguous buckets at the power of two limits
+        Assertions.assertEquals(7, Timer.upperBoundOf(Timer.bucketOf(7)));
+        Assertions.assertEquals(8, Timer.upperBoundOf(Timer.bucketOf(8)));
+        Assertions.assertEquals(Timer.bucketOf(1023) + 1, Timer.bucketOf(1024));
+        // Highest durations counted into the last bucket
+        Assertions.assertEquals(Timer.bucketOf(1L << 43), Timer.bucketOf(Long.MAX_VALUE));
+    }
+
+    /**
+     * Validate the percentiles of a uniform distribution of durations.
+     */
+    @Test
+    public void givenUniformDurations_whenPercentileRead_thenApproximatedByBucketBound() {
+        Timer timer = new Timer();
+        Assertions.assertEquals(0, timer.percentileNanos(0.99), "None recorded duration!");
+        for (int i = 1; i <= 1000; i++) {
+            timer.record(Duration.ofNanos(i * 1000L));
+        }
+        Assertions.assertEquals(1000, timer.count());
+        Assertions.assertEquals(500500_000L, timer.totalNanos());
+        Assertions.assertEquals(1_000_000L, timer.maxNanos());
+        assertApproximated(500_000L, timer.percentileNanos(0.5));
+        assertApproximated(900_000L, timer.percentileNanos(0.9));
+        assertApproximated(990_000L, timer.percentileNanos(0.99));
+        // Percentiles limited to the highest recorded duration
+        Assertions.assertEquals(1_000_000L, timer.percentileNanos(1));
+        Assertions.assertTrue(timer.percentileNanos(0.999) <= timer.maxNanos());
+        // Lowest percentile read from the first recorded bucket
+        assertApproximated(1_000L, timer.percentileNanos(0));
+    }
+
+    /**
+     * Validate that the invalid measures are ignored or refused.
+     */
+    @Test
+    public void givenInvalidMeasures_whenRecorded_thenIgnoredOrRefused() {
+        Timer timer = new Timer();
+        timer.record(-1);
+        timer.record((Duration) null);
+        Assertions.assertEquals(0, timer.count());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> timer.percentileNanos(1.1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> timer.percentileNanos(-0.1));
+
+        Counter counter = new Counter();
+        counter.increment();
+        counter.add(5);
+        counter.add(-3);
+        Assertions.assertEquals(6, counter.count());
+    }
+
+    /**
+     * Check that a percentile is approximated by the upper bound of its bucket.
+     */
+    private static void assertApproximated(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected && actual - expected <= expected / 8, "Percentile " + actual + " shall approximate " + expected + "!");
+    }
+}
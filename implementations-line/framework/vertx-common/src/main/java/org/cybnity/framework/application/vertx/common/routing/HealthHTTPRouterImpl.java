@@ -1,15 +1,24 @@
 package org.cybnity.framework.application.vertx.common.routing;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.handler.StaticHandler;
 import io.vertx.ext.web.impl.RouterImpl;
+import org.cybnity.framework.support.metrics.Metrics;
+
+import java.io.IOException;
 
 /**
  * Router implementation which define the list of resources supported by a component accessible for health supervision.
  */
 public class HealthHTTPRouterImpl extends RouterImpl {
 
+    /**
+     * Path of the resource exposing the measures of the component (text exposition format readable by a Prometheus server).
+     */
+    public static final String METRICS_PATH = "/metrics";
+
     /**
      * Default constructor.
      *
@@ -40,6 +49,18 @@ public class HealthHTTPRouterImpl extends RouterImpl {
         route("/static/*").handler(staticWebContentsHandler).failureHandler(failure -> {
             sendError(404, failure.response());
         });
+
+        // Expose the measures of the component
+        get(METRICS_PATH).handler(ctx -> {
+            StringBuilder measures = new StringBuilder();
+            try {
+                Metrics.registry().scrape(measures);
+            } catch (IOException ioe) {
+                sendError(500, ctx.response());
+                return;
+            }
+            ctx.response().putHeader(HttpHeaders.CONTENT_TYPE, "text/plain; version=0.0.4; charset=utf-8").end(measures.toString());
+        });
     }
 
     /**
@@ -18,6 +18,8 @@ import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.UISAd
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,6 +53,16 @@ public abstract class AbstractEndpointPipelineImpl extends AbstractMessageConsum
      */
     private IContext context;
 
+    /**
+     * Maximum duration of the processing of the already received facts, during the pipeline stop.
+     */
+    private static final long PIPELINE_DRAIN_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Executor of the pipelined process over parallel lanes. Null when the facts are processed by the observer thread.
+     */
+    private volatile PartitionedPipelineExecutor pipelineExecutor;
+
     /**
      * Less instantiation constructor required by Vertx deployment without pre-determined context.
      *
@@ -119,6 +131,12 @@ public abstract class AbstractEndpointPipelineImpl extends AbstractMessageConsum
         // Tag the current operational and active status
         currentPresenceStatus = PresenceState.AVAILABLE;
 
+        // Prepare the parallel execution of the pipelined process before the consumption of the entrypoint stream
+        FactBaseHandler pipe = pipelinedProcess();
+        if (pipe != null && pipelineLanesCount() > 1) {
+            pipelineExecutor = new PartitionedPipelineExecutor(pipe, pipelineLanesCount(), pipelineLaneCapacity(), null);
+        }
+
         // Execute by default the start operations relative to channels and streams consumers
         super.start();
 
@@ -145,6 +163,21 @@ public abstract class AbstractEndpointPipelineImpl extends AbstractMessageConsum
         // Execute by default the stop operations relative to channels and streams previously observed
         super.stop();
 
+        // Finalize the processing of the already received facts (confirmations acknowledged by the stopped stream observations)
+        PartitionedPipelineExecutor executor = pipelineExecutor;
+        pipelineExecutor = null;
+        if (executor != null) {
+            try {
+                if (!executor.shutdown(PIPELINE_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    Logger logger = logger();
+                    if (logger != null)
+                        logger.warning(featureModuleLogicalName() + " pipeline stopped before the processing of " + executor.pendingFacts() + " received facts");
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
         // Notify any other component about the processing unit presence in end of lifecycle status
         try {
             // Promote announce about the supported event types consumption end by this pipeline
@@ -230,7 +263,8 @@ public abstract class AbstractEndpointPipelineImpl extends AbstractMessageConsum
         entryPointStreamConsumers.add(this);// Feature entrypoint observer
 
         // Define usable mapper supporting the read of stream message received from the Users Interactions Space and translated into domain event types
-        MessageMapper eventMapper = getMessageMapperProvider().getMapper(StreamMessage.class, IDescribed.class);
+        // (or into views decoding their payload only when required by the pipeline)
+        MessageMapper eventMapper = getMessageMapperProvider().getMapper(StreamMessage.class, lazyFactDecoding() ? LazyFact.class : IDescribed.class);
         Logger logger = logger();
 
         try {
@@ -272,28 +306,97 @@ public abstract class AbstractEndpointPipelineImpl extends AbstractMessageConsum
      */
     protected abstract FactBaseHandler pipelinedProcess();
 
+    /**
+     * Know if the facts received from the entrypoint stream are notified to the pipelined process as lazy views (see LazyFact).
+     * A view exposes the routing headers of the fact (e.g type, origin subject, correlation identifier) read from the stream message, and decodes the payload only when the fact body is required, so the facts filtered by their type (e.g InterestEventFilter, AccessControlChecker) are not decoded.
+     * The handlers requiring the concrete fact (e.g command instance) shall read it via FactBaseHandler.decoded(IDescribed).
+     *
+     * @return False by default (each fact is decoded before its notification).
+     */
+    protected boolean lazyFactDecoding() {
+        return false;
+    }
+
+    /**
+     * Get the quantity of lanes executing the pipelined process in parallel (e.g quantity of available processors).
+     * The facts relative to a same subject (or correlation identifier) are processed in their reception order by the same lane.
+     * With several lanes, a fact is acknowledged to the entrypoint stream by its lane after its processing.
+     *
+     * @return 1 by default (each fact is processed by the thread of the entrypoint stream observation).
+     */
+    protected int pipelineLanesCount() {
+        return 1;
+    }
+
+    /**
+     * Get the maximum quantity of received facts waiting in each lane, before to suspend the entrypoint stream reading.
+     *
+     * @return A capacity (PartitionedPipelineExecutor.DEFAULT_LANE_CAPACITY by default).
+     */
+    protected int pipelineLaneCapacity() {
+        return PartitionedPipelineExecutor.DEFAULT_LANE_CAPACITY;
+    }
+
     /**
      * Define and execute the pipelined commands according to a responsibility chain pattern.
      * Default entrypoint processing chain executed for each fact event received via the feature stream.
-     * This implementation is a long-time running process executed into the current thread.
+     * This implementation is a long-time running process executed into the current thread, or by a lane of the pipeline executor when several lanes are defined (see pipelineLanesCount()).
      *
      * @param event To process.
      */
     @Override
     public void notify(Object event) {
+        notify(event, null);
+    }
+
+    /**
+     * Execute the pipelined commands, and confirm the end of the fact processing allowing its acknowledgement to the entrypoint stream.
+     * When several lanes are defined, the confirmation is executed by the lane after the processing (at-least-once delivery of the facts not processed before a stop).
+     *
+     * @param event           To process.
+     * @param acknowledgement Optional confirmation of the fact processing.
+     */
+    @Override
+    public void notify(Object event, Runnable acknowledgement) {
+        notify(event, acknowledgement, null);
+    }
+
+    /**
+     * Execute the pipelined commands, and confirm the end of the fact processing allowing its acknowledgement to the entrypoint stream.
+     * When several lanes are defined, the fact is released by its lane when its processing fails (allowing its delivery again by the recovery of abandoned facts).
+     *
+     * @param event           To process.
+     * @param acknowledgement Optional confirmation of the fact processing.
+     * @param release         Optional release of the fact not processed.
+     */
+    @Override
+    public void notify(Object event, Runnable acknowledgement, Runnable release) {
         try {
-            FactBaseHandler pipe = pipelinedProcess();
-            if (pipe != null) {
-                if (IDescribed.class.isAssignableFrom(event.getClass()))
-                    // Execute the feature execution process/pipeline according to the received event type
-                    pipe.handle((IDescribed) event);
+            if (event != null && IDescribed.class.isAssignableFrom(event.getClass())) {
+                PartitionedPipelineExecutor executor = pipelineExecutor;
+                if (executor != null) {
+                    // Delegate the execution and the acknowledgement to the lane of the fact
+                    executor.submit((IDescribed) event, acknowledgement, release);
+                    return;
+                } else {
+                    FactBaseHandler pipe = pipelinedProcess();
+                    if (pipe != null)
+                        // Execute the feature execution process/pipeline according to the received event type
+                        pipe.handle((IDescribed) event);
+                }
             }
+        } catch (RejectedExecutionException ree) {
+            // Pipeline stopped during the fact reception; the unacknowledged fact is delivered again at the next observation
+            if (release != null) release.run();
+            throw ree;
         } catch (Exception e) {
             // UnoperationalStateException or IllegalArgumentException thrown by responsibility chain members
             Logger logger = logger();
             if (logger != null)
                 logger.log(Level.SEVERE, e.getMessage());
         }
+        // Fact processed by the current thread
+        if (acknowledgement != null) acknowledgement.run();
     }
 
     /**
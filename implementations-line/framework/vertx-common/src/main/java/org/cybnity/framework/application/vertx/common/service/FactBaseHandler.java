@@ -1,6 +1,12 @@
 package org.cybnity.framework.application.vertx.common.service;
 
+import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.support.metrics.Counter;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.Timer;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -21,9 +27,22 @@ public abstract class FactBaseHandler implements FactHandler {
      */
     private final Logger logger;
 
+    /**
+     * Latency of the fact processing by this handler (excluding the next handlers).
+     */
+    private final Timer processTimer;
+
+    /**
+     * Quantity of fact processing failures by this handler.
+     */
+    private final Counter failures;
+
     public FactBaseHandler() {
         // Init the logger
         logger = Logger.getLogger(this.getClass().getName());
+        // Init the measures shared by the handlers of a same type
+        processTimer = Metrics.registry().timer("fact_handler_process_seconds", "handler", this.getClass().getSimpleName());
+        failures = Metrics.registry().counter("fact_handler_failures_total", "handler", this.getClass().getSimpleName());
     }
 
     /**
@@ -48,12 +67,20 @@ public abstract class FactBaseHandler implements FactHandler {
      */
     @Override
     public void handle(IDescribed fact) {
+        boolean processing = true;
+        long start = System.nanoTime();
         try {
             // Perform the processing of the fact
-            if (process(fact)) {
-                if (next != null) next.handle(fact);
-            }
+            boolean processed = process(fact);
+            processTimer.recordSince(start);
+            processing = false;
+            if (processed && next != null) next.handle(fact);
         } catch (Exception e) {
+            if (processing) {
+                // Failure of this handler (the next handlers measure their own processing)
+                processTimer.recordSince(start);
+                failures.increment();
+            }
             logger().log(Level.WARNING, "Fact processing problem", e);
             // TODO feed errors into logs store according to type of exception (e.g technical, conformity)
         }
@@ -69,6 +96,30 @@ public abstract class FactBaseHandler implements FactHandler {
      */
     public abstract boolean process(IDescribed fact);
 
+    /**
+     * Read the name of the type of a fact.
+     *
+     * @param fact Fact.
+     * @return A name, or null when undefined fact or type.
+     */
+    protected static String factTypeName(IDescribed fact) {
+        if (fact == null) return null;
+        Attribute eventType = fact.type();
+        return (eventType != null && eventType.value() != null && !eventType.value().isEmpty()) ? eventType.value() : null;
+    }
+
+    /**
+     * Get the complete fact (e.g command or domain event instance) to process.
+     * A fact received as lazy view (see AbstractEndpointPipelineImpl.lazyFactDecoding()) is decoded by this call; the handlers which only read the fact type (e.g filters) shall not call it.
+     *
+     * @param fact Fact.
+     * @return The decoded fact of a lazy view, else the fact parameter.
+     * @throws MappingException When impossible decoding of a lazy view.
+     */
+    protected static IDescribed decoded(IDescribed fact) throws MappingException {
+        return (fact instanceof LazyFact) ? ((LazyFact) fact).decoded() : fact;
+    }
+
     /**
      * Check if the fact can be processed by this handler (evaluation based on specific fact description elements).
      *
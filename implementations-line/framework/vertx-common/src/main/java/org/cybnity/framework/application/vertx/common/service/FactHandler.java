@@ -5,6 +5,7 @@ import org.cybnity.framework.domain.IDescribed;
 /**
  * Fact event handler that decide to process a fact and/or to continue the call of next Responsibility Chain contributors.
  * It's an element of the Responsibility Chain design pattern.
+ * A handler shall be stateless regarding the handled facts (none state of a fact kept in fields), because a chain can be executed by several threads at the same time (see PartitionedPipelineExecutor).
  */
 public interface FactHandler {
 
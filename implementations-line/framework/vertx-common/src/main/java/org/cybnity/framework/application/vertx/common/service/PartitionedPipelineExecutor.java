@@ -0,0 +1,247 @@
+package org.cybnity.framework.application.vertx.common.service;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.event.ConcreteCommandEvent;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
+import org.cybnity.framework.immutable.EntityReference;
+import org.cybnity.framework.immutable.Identifier;
+import org.cybnity.framework.immutable.ImmutabilityException;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executor of a responsibility chain over several lanes processing the facts in parallel.
+ * Each fact is assigned to a lane according to its partition key (e.g origin subject identifier, or correlation identifier), so the facts of a same key are processed in their submission order by a single thread.
+ * The facts without partition key are distributed over the lanes without order guarantee.
+ * Each lane buffers its facts into a bounded queue; the submitting thread waits when the queue of the lane is full (back-pressure on the stream observation).
+ * The handlers of the chain are shared by the lanes, and shall be stateless regarding the handled facts (see FactHandler).
+ */
+public class PartitionedPipelineExecutor {
+
+    /**
+     * Default capacity of the queue of each lane.
+     */
+    public static final int DEFAULT_LANE_CAPACITY = 1024;
+
+    /**
+     * Interval (in milliseconds) of the shutdown checks by a thread waiting for a place in a full lane.
+     */
+    private static final long CAPACITY_CHECK_INTERVAL = 100;
+
+    /**
+     * Responsibility chain executed for each fact.
+     */
+    private final FactHandler pipeline;
+
+    /**
+     * Single thread executors in charge of the lanes.
+     */
+    private final ThreadPoolExecutor[] lanes;
+
+    /**
+     * Resolver of the key of a fact (e.g identifier of the subject). Null key when the fact has no ordering constraint.
+     */
+    private final Function<IDescribed, Object> partitionKey;
+
+    /**
+     * Sequence distributing the facts without partition key.
+     */
+    private final AtomicInteger unkeyedSequence = new AtomicInteger();
+
+    /**
+     * Default constructor.
+     *
+     * @param pipeline     Mandatory responsibility chain to execute.
+     * @param lanesCount   Quantity of lanes (minimum 1).
+     * @param laneCapacity Maximum quantity of facts waiting in each lane (minimum 1).
+     * @param partitionKey Optional resolver of the partition key of a fact. When null, the default partition key is used (see defaultPartitionKey(IDescribed)).
+     * @throws IllegalArgumentException When mandatory parameter is missing or invalid.
+     */
+    public PartitionedPipelineExecutor(FactHandler pipeline, int lanesCount, int laneCapacity, Function<IDescribed, Object> partitionKey) throws IllegalArgumentException {
+        if (pipeline == null) throw new IllegalArgumentException("Pipeline parameter is required!");
+        if (lanesCount < 1) throw new IllegalArgumentException("LanesCount parameter shall be minimum 1!");
+        if (laneCapacity < 1) throw new IllegalArgumentException("LaneCapacity parameter shall be minimum 1!");
+        this.pipeline = pipeline;
+        this.partitionKey = (partitionKey != null) ? partitionKey : PartitionedPipelineExecutor::defaultPartitionKey;
+        this.lanes = new ThreadPoolExecutor[lanesCount];
+        for (int i = 0; i < lanesCount; i++) {
+            final String threadName = "pipeline-lane-" + i;
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(laneCapacity), r -> {
+                Thread t = new Thread(r, threadName);
+                t.setDaemon(true);
+                return t;
+            }, PartitionedPipelineExecutor::waitForCapacity);
+        }
+    }
+
+    /**
+     * Constructor with default capacity of lanes and default partition key.
+     *
+     * @param pipeline   Mandatory responsibility chain to execute.
+     * @param lanesCount Quantity of lanes (minimum 1).
+     * @throws IllegalArgumentException When mandatory parameter is missing or invalid.
+     */
+    public PartitionedPipelineExecutor(FactHandler pipeline, int lanesCount) throws IllegalArgumentException {
+        this(pipeline, lanesCount, DEFAULT_LANE_CAPACITY, null);
+    }
+
+    /**
+     * Resolve the default partition key of a fact: the identifier of the domain object subject of the fact when known (ordering per subject), else its correlation identifier.
+     * The key of a lazy fact view is read from its headers (origin subject identifier, else correlation identifier) without decoding of its payload.
+     *
+     * @param fact Fact.
+     * @return A key, or null when none is defined by the fact.
+     */
+    public static Object defaultPartitionKey(IDescribed fact) {
+        if (fact instanceof LazyFact) {
+            LazyFact view = (LazyFact) fact;
+            return (view.originSubjectId() != null) ? view.originSubjectId() : view.correlationId();
+        }
+        try {
+            EntityReference subject = null;
+            if (fact instanceof ConcreteCommandEvent) {
+                subject = ((ConcreteCommandEvent) fact).changedModelElementReference();
+            } else if (fact instanceof ConcreteDomainChangeEvent) {
+                subject = ((ConcreteDomainChangeEvent) fact).changedModelElementReference();
+            }
+            if (subject != null && subject.getEntity() != null) {
+                Identifier id = subject.getEntity().identified();
+                if (id != null && id.value() != null) return id.value();
+            }
+        } catch (ImmutabilityException ie) {
+            // Unreadable subject; use the correlation identifier
+        }
+        Attribute correlationId = null;
+        if (fact instanceof Command) {
+            correlationId = ((Command) fact).correlationId();
+        } else if (fact instanceof DomainEvent) {
+            correlationId = ((DomainEvent) fact).correlationId();
+        }
+        return (correlationId != null) ? correlationId.value() : null;
+    }
+
+    /**
+     * Add a fact at the end of its lane. Wait while the lane is full.
+     *
+     * @param fact Mandatory fact to process.
+     * @throws IllegalArgumentException   When mandatory parameter is missing.
+     * @throws RejectedExecutionException When the executor is shut down, or when the waiting thread is interrupted.
+     */
+    public void submit(IDescribed fact) throws IllegalArgumentException, RejectedExecutionException {
+        submit(fact, null);
+    }
+
+    /**
+     * Add a fact at the end of its lane, with a confirmation executed by the lane after the processing of the fact (e.g acknowledgement of the stream message). Wait while the lane is full.
+     * The confirmation is not executed when the processing is interrupted by an exception thrown by the pipeline.
+     *
+     * @param fact       Mandatory fact to process.
+     * @param completion Optional confirmation executed after the processing.
+     * @throws IllegalArgumentException   When mandatory parameter is missing.
+     * @throws RejectedExecutionException When the executor is shut down, or when the waiting thread is interrupted.
+     */
+    public void submit(IDescribed fact, Runnable completion) throws IllegalArgumentException, RejectedExecutionException {
+        submit(fact, completion, null);
+    }
+
+    /**
+     * Add a fact at the end of its lane, with a confirmation executed by the lane after the processing of the fact, and a release executed by the lane when the processing is interrupted by an exception thrown by the pipeline (e.g allowing the delivery again of the stream message). Wait while the lane is full.
+     *
+     * @param fact       Mandatory fact to process.
+     * @param completion Optional confirmation executed after the processing.
+     * @param release    Optional release executed after a processing failure.
+     * @throws IllegalArgumentException   When mandatory parameter is missing.
+     * @throws RejectedExecutionException When the executor is shut down, or when the waiting thread is interrupted.
+     */
+    public void submit(IDescribed fact, Runnable completion, Runnable release) throws IllegalArgumentException, RejectedExecutionException {
+        if (fact == null) throw new IllegalArgumentException("Fact parameter is required!");
+        lanes[laneOf(fact)].execute(() -> {
+            try {
+                pipeline.handle(fact);
+            } catch (RuntimeException re) {
+                if (release != null) release.run();
+                throw re;
+            }
+            if (completion != null) completion.run();
+        });
+    }
+
+    /**
+     * Get the index of the lane in charge of a fact.
+     *
+     * @param fact Mandatory fact.
+     * @return An index.
+     */
+    int laneOf(IDescribed fact) {
+        if (lanes.length == 1) return 0;
+        Object key = partitionKey.apply(fact);
+        int hash = (key != null) ? key.hashCode() : unkeyedSequence.getAndIncrement();
+        // Spread the high bits (as HashMap) before the selection of the lane
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    /**
+     * Get the quantity of lanes.
+     *
+     * @return A quantity.
+     */
+    public int lanesCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Get the quantity of facts waiting in the lanes.
+     *
+     * @return A quantity.
+     */
+    public int pendingFacts() {
+        int pending = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            pending += lane.getQueue().size();
+        }
+        return pending;
+    }
+
+    /**
+     * Stop the acceptance of new facts, and wait the processing of the already submitted facts.
+     *
+     * @param timeout Maximum waiting duration.
+     * @param unit    Mandatory unit of the timeout.
+     * @return True when all the submitted facts have been processed. False when the timeout elapsed before (the remaining facts continue to be processed).
+     * @throws InterruptedException When interrupted while waiting.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Block the submitting thread until a place is available in the lane queue (without breaking the lane order, which is processed by a single thread).
+     * The shutdown of the lane is checked during the wait and after the add, because a task added after the termination of the lane would never be executed.
+     */
+    private static void waitForCapacity(Runnable task, ThreadPoolExecutor lane) throws RejectedExecutionException {
+        try {
+            do {
+                if (lane.isShutdown()) throw new RejectedExecutionException("Pipeline executor is shut down!");
+            } while (!lane.getQueue().offer(task, CAPACITY_CHECK_INTERVAL, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(ie);
+        }
+        // Withdraw the task added during a concurrent shutdown, when not already taken by the lane
+        if (lane.isShutdown() && lane.getQueue().remove(task))
+            throw new RejectedExecutionException("Pipeline executor is shut down!");
+    }
+}
@@ -1,7 +1,6 @@
 package org.cybnity.framework.application.vertx.common.service.filter;
 
 import org.cybnity.framework.application.vertx.common.service.FactBaseHandler;
-import org.cybnity.framework.domain.Attribute;
 import org.cybnity.framework.domain.ConformityViolation;
 import org.cybnity.framework.domain.IDescribed;
 import org.cybnity.framework.domain.event.IEventType;
@@ -20,11 +19,6 @@ public class InterestEventFilter extends FactBaseHandler {
      */
     private final Collection<IEventType> sourcesOfInterest;
 
-    /**
-     * Current handled event type name.
-     */
-    private String detectedFactEventTypeName;
-
     /**
      * Default constructor.
      *
@@ -46,6 +40,7 @@ public class InterestEventFilter extends FactBaseHandler {
     public boolean process(IDescribed fact) {
         if (canHandle(fact)) {
             // Identify event type
+            String detectedFactEventTypeName = factTypeName(fact);
             if (detectedFactEventTypeName != null) {
                 // Check if event is source of interest
                 for (IEventType soi :
@@ -82,12 +77,7 @@ public class InterestEventFilter extends FactBaseHandler {
      */
     @Override
     protected boolean canHandle(IDescribed fact) {
-        detectedFactEventTypeName = null; // Clean temp container
-        if (fact != null) {
-            // Identify event type
-            Attribute eventType = fact.type();
-            detectedFactEventTypeName = (eventType != null && !eventType.value().isEmpty()) ? eventType.value() : null;
-        }
-        return (detectedFactEventTypeName != null && !detectedFactEventTypeName.isEmpty());
+        // Identify event type
+        return (factTypeName(fact) != null);
     }
 }
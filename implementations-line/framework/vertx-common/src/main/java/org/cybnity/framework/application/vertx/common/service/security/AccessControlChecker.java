@@ -28,11 +28,6 @@ public class AccessControlChecker extends FactBaseHandler {
      */
     private Collection<String> eventTypeNamesUnderAccessControl;
 
-    /**
-     * Current handled event type name.
-     */
-    private String detectedFactEventTypeName;
-
     /**
      * Default constructor.
      *
@@ -51,7 +46,7 @@ public class AccessControlChecker extends FactBaseHandler {
     public boolean process(IDescribed fact) {
         if (canHandle(fact)) {
             // Identify if the detected event type name shall be treated according to access control verification
-            if (this.eventTypeNamesUnderAccessControl != null && this.eventTypeNamesUnderAccessControl.contains(detectedFactEventTypeName)) {
+            if (this.eventTypeNamesUnderAccessControl != null && this.eventTypeNamesUnderAccessControl.contains(factTypeName(fact))) {
                 // --- THE CAPABILITY TO PERFORM IS UNDER SECURED ACCESS ---
                 // Access control credential identification for security check
                 String credentialValue = null;
@@ -92,12 +87,7 @@ public class AccessControlChecker extends FactBaseHandler {
 
     @Override
     protected boolean canHandle(IDescribed fact) {
-        detectedFactEventTypeName = null; // Clean temp container
-        if (fact != null) {
-            // Identify event type
-            Attribute eventType = fact.type();
-            detectedFactEventTypeName = (eventType != null && !eventType.value().isEmpty()) ? eventType.value() : null;
-        }
-        return (detectedFactEventTypeName != null);
+        // Identify event type
+        return (factTypeName(fact) != null);
     }
 }
@@ -1,6 +1,8 @@
 package org.cybnity.framework.application.vertx.common;
 
+import org.cybnity.framework.application.vertx.common.routing.MetricsRouteUseCaseTest;
 import org.cybnity.framework.application.vertx.common.routing.RouteRecipientListUseCaseTest;
+import org.cybnity.framework.application.vertx.common.service.PartitionedPipelineExecutorUseCaseTest;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
@@ -11,6 +13,6 @@ import org.junit.platform.suite.api.Suite;
  * @author olivier
  */
 @Suite
-@SelectClasses({RouteRecipientListUseCaseTest.class})
+@SelectClasses({RouteRecipientListUseCaseTest.class, MetricsRouteUseCaseTest.class, PartitionedPipelineExecutorUseCaseTest.class})
 public class AllUseCaseTests {
 }
\ No newline at end of file
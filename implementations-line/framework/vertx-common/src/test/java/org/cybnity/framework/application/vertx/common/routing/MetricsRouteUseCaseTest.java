@@ -0,0 +1,65 @@
+package org.cybnity.framework.application.vertx.common.routing;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import org.cybnity.framework.support.metrics.IMetricsRegistry;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test of the exposition of the component measures by the health supervision router.
+ */
+public class MetricsRouteUseCaseTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private IMetricsRegistry previousRegistry;
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void init() throws Exception {
+        previousRegistry = Metrics.registry();
+        registry = new MetricsRegistry();
+        Metrics.setRegistry(registry);
+        vertx = Vertx.vertx();
+        // Listen on a free port
+        server = vertx.createHttpServer().requestHandler(new HealthHTTPRouterImpl(vertx)).listen(0)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void clean() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        Metrics.setRegistry(previousRegistry);
+    }
+
+    /**
+     * Validate that the measures of the process registry are readable in text exposition format.
+     */
+    @Test
+    public void givenRegisteredMeasures_whenMetricsRequested_thenTextExpositionReturned() throws Exception {
+        registry.counter("app_requests_total", "path", "/a").add(3);
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.actualPort() + HealthHTTPRouterImpl.METRICS_PATH).openConnection();
+        try {
+            Assertions.assertEquals(200, connection.getResponseCode());
+            Assertions.assertEquals("text/plain; version=0.0.4; charset=utf-8", connection.getContentType());
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Assertions.assertEquals("# TYPE app_requests_total counter\napp_requests_total{path=\"/a\"} 3\n", body);
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.cybnity.framework.application.vertx.common.service;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.IDescribed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Test of the parallel execution of a pipeline over partitioned lanes.
+ */
+public class PartitionedPipelineExecutorUseCaseTest {
+
+    private static final String KEY = "key";
+    private static final String SEQUENCE = "sequence";
+
+    /**
+     * Processed sequence numbers per key, and threads having processed each key.
+     */
+    private Map<String, List<Integer>> processed;
+    private Map<String, Set<String>> processingThreads;
+    private PartitionedPipelineExecutor executor;
+
+    @BeforeEach
+    void init() {
+        processed = new ConcurrentHashMap<>();
+        processingThreads = new ConcurrentHashMap<>();
+        FactBaseHandler recorder = new FactBaseHandler() {
+            @Override
+            public boolean process(IDescribed fact) {
+                String key = attribute(fact, KEY);
+                processed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(Integer.valueOf(attribute(fact, SEQUENCE)));
+                processingThreads.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+                return true;
+            }
+
+            @Override
+            protected boolean canHandle(IDescribed fact) {
+                return true;
+            }
+        };
+        executor = new PartitionedPipelineExecutor(recorder, 4, 8, fact -> attribute(fact, KEY));
+    }
+
+    @AfterEach
+    void clean() throws InterruptedException {
+        executor.shutdown(1, TimeUnit.SECONDS);
+        executor = null;
+    }
+
+    /**
+     * Validate that the facts of a same key are processed by a single lane in their submission order, whatever the lanes are full.
+     */
+    @Test
+    public void givenFactsOfSeveralKeys_whenSubmitted_thenOrderPreservedPerKey() throws Exception {
+        int keys = 16, factsPerKey = 200;
+        for (int i = 0; i < factsPerKey; i++) {
+            for (int k = 0; k < keys; k++) {
+                executor.submit(fact("subject-" + k, i));
+            }
+        }
+        Assertions.assertTrue(executor.shutdown(10, TimeUnit.SECONDS), "All the submitted facts shall have been processed!");
+        Assertions.assertEquals(keys, processed.size());
+        for (Map.Entry<String, List<Integer>> history : processed.entrySet()) {
+            List<Integer> sequences = history.getValue();
+            Assertions.assertEquals(factsPerKey, sequences.size());
+            for (int i = 0; i < factsPerKey; i++) {
+                Assertions.assertEquals(i, sequences.get(i), "Invalid processing order of " + history.getKey());
+            }
+            Assertions.assertEquals(1, processingThreads.get(history.getKey()).size(), "A key shall be processed by one lane!");
+        }
+    }
+
+    /**
+     * Validate that the confirmation of a fact (e.g stream message acknowledgement) is executed by its lane after its processing.
+     */
+    @Test
+    public void givenFactsWithCompletion_whenProcessed_thenConfirmedAfterProcessing() throws Exception {
+        int factsCount = 100;
+        Set<Integer> confirmed = ConcurrentHashMap.newKeySet();
+        Set<Integer> confirmedBeforeProcessing = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < factsCount; i++) {
+            final int sequence = i;
+            String key = "subject-" + (i % 8);
+            executor.submit(fact(key, sequence), () -> {
+                List<Integer> history = processed.get(key);
+                if (history == null || !history.contains(sequence)) confirmedBeforeProcessing.add(sequence);
+                confirmed.add(sequence);
+            });
+        }
+        Assertions.assertTrue(executor.shutdown(10, TimeUnit.SECONDS), "All the submitted facts shall have been processed!");
+        Assertions.assertEquals(factsCount, confirmed.size());
+        Assertions.assertTrue(confirmedBeforeProcessing.isEmpty(), "Facts shall be confirmed after their processing!");
+    }
+
+    /**
+     * Validate that a fact whose processing fails is released by its lane (e.g allowing its delivery again) without confirmation, and that the lane continues the processing of the next facts.
+     */
+    @Test
+    public void givenFailingProcessing_whenProcessed_thenReleasedWithoutConfirmation() throws Exception {
+        FactHandler failing = new FactHandler() {
+            @Override
+            public void setNext(FactHandler processor) {
+            }
+
+            @Override
+            public void handle(IDescribed fact) {
+                if ("0".equals(attribute(fact, SEQUENCE))) throw new IllegalStateException("Processing failure");
+                processed.computeIfAbsent(attribute(fact, KEY), k -> Collections.synchronizedList(new ArrayList<>())).add(Integer.valueOf(attribute(fact, SEQUENCE)));
+            }
+        };
+        PartitionedPipelineExecutor lane = new PartitionedPipelineExecutor(failing, 1, 8, null);
+        Set<Integer> confirmed = ConcurrentHashMap.newKeySet();
+        Set<Integer> released = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 2; i++) {
+            final int sequence = i;
+            lane.submit(fact("subject", sequence), () -> confirmed.add(sequence), () -> released.add(sequence));
+        }
+        Assertions.assertTrue(lane.shutdown(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Set.of(1), confirmed);
+        Assertions.assertEquals(Set.of(0), released);
+        Assertions.assertEquals(List.of(1), processed.get("subject"));
+    }
+
+    /**
+     * Validate that a submission waiting for a place in a full lane is rejected when the executor is shut down during the wait.
+     */
+    @Test
+    public void givenFullLane_whenShutdownDuringWait_thenSubmissionRejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FactBaseHandler blocking = new FactBaseHandler() {
+            @Override
+            public boolean process(IDescribed fact) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                processed.computeIfAbsent(attribute(fact, KEY), k -> Collections.synchronizedList(new ArrayList<>())).add(Integer.valueOf(attribute(fact, SEQUENCE)));
+                return true;
+            }
+
+            @Override
+            protected boolean canHandle(IDescribed fact) {
+                return true;
+            }
+        };
+        PartitionedPipelineExecutor lane = new PartitionedPipelineExecutor(blocking, 1, 1, null);
+        ExecutorService submitter = Executors.newSingleThreadExecutor();
+        try {
+            lane.submit(fact("subject", 0)); // Processed (blocked)
+            lane.submit(fact("subject", 1)); // Queued
+            Future<?> waiting = submitter.submit(() -> lane.submit(fact("subject", 2)));
+            Thread.sleep(200); // Submission waiting for a place
+            Assertions.assertFalse(waiting.isDone());
+            Assertions.assertFalse(lane.shutdown(0, TimeUnit.SECONDS));
+            ExecutionException rejection = Assertions.assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(rejection.getCause() instanceof RejectedExecutionException);
+        } finally {
+            release.countDown();
+            submitter.shutdownNow();
+        }
+        Assertions.assertTrue(lane.shutdown(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(0, 1), processed.get("subject"), "Rejected fact shall not be processed!");
+    }
+
+    private static IDescribed fact(String key, int sequence) {
+        Collection<Attribute> specification = List.of(new Attribute(KEY, key), new Attribute(SEQUENCE, Integer.toString(sequence)));
+        return new IDescribed() {
+            @Override
+            public Collection<Attribute> specification() {
+                return specification;
+            }
+
+            @Override
+            public boolean appendSpecification(Attribute specificationCriteria) {
+                return false;
+            }
+
+            @Override
+            public Attribute type() {
+                return new Attribute("type", "TEST_FACT");
+            }
+        };
+    }
+
+    private static String attribute(IDescribed fact, String name) {
+        for (Attribute att : fact.specification()) {
+            if (name.equals(att.name())) return att.value();
+        }
+        return null;
+    }
+}
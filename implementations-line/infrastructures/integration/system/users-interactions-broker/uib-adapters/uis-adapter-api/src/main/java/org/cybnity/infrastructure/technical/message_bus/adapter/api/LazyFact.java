@@ -0,0 +1,54 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.api;
+
+import org.cybnity.framework.domain.IDescribed;
+
+/**
+ * View of a fact received from a message, exposing its routing headers (e.g type, origin subject, correlation identifier) read from the message without decoding of its payload.
+ * The payload is decoded only when the fact body is required (e.g read of the specification, or explicit call of decoded()), allowing the consumers to filter the facts by their headers at a low cost.
+ * The type() method of a view returns the fact type header.
+ */
+public interface LazyFact extends IDescribed {
+
+    /**
+     * Get the name of the fact kind (e.g command, domain event) read from the message header.
+     *
+     * @return A name, or null when not defined by the message.
+     */
+    String kind();
+
+    /**
+     * Get the identifier of the origin subject (e.g domain aggregate identifier) read from the message header.
+     *
+     * @return An identifier, or null when not defined by the message.
+     */
+    String originSubjectId();
+
+    /**
+     * Get the correlation identifier of the fact read from the message header.
+     *
+     * @return An identifier, or null when not defined by the message.
+     */
+    String correlationId();
+
+    /**
+     * Get the identifier of the fact record read from the message header.
+     *
+     * @return An identifier, or null when not defined by the message.
+     */
+    String factRecordId();
+
+    /**
+     * Get the fact restored from the message payload. The payload is decoded at the first call.
+     *
+     * @return A fact (e.g command, domain event).
+     * @throws MappingException When impossible decoding of the payload.
+     */
+    IDescribed decoded() throws MappingException;
+
+    /**
+     * Know if the payload has already been decoded.
+     *
+     * @return True when decoded.
+     */
+    boolean isDecoded();
+}
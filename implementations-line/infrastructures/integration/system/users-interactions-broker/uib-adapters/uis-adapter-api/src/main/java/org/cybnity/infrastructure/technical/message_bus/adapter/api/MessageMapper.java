@@ -3,6 +3,7 @@ package org.cybnity.infrastructure.technical.message_bus.adapter.api;
 /**
  * Contract allowing to transform an object manageable by the space according to a type of data structure supported by Redis.
  * For example, translate a CommandEvent object into a Map (message body).
+ * A stateless mapper (see isStateless()) returns its result directly via map(Object) and can be shared by several threads; the two-step transform() then getResult() usage is only safe with a mapper instance dedicated to the calling thread.
  */
 public interface MessageMapper {
 
@@ -22,4 +23,27 @@ public interface MessageMapper {
      * @return Transformed origin data into targeted class type. Null when transformation process was not previously executed.
      */
     Object getResult();
+
+    /**
+     * Transform an origin object to the defined target type, and return the result.
+     * Default implementation executes transform() then getResult(), and is not thread-safe; a stateless mapper overrides it without any state kept between calls.
+     *
+     * @param origin Source object to transform.
+     * @return Transformed origin data into targeted class type.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported and compatible with this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
+    default Object map(Object origin) throws IllegalArgumentException, MappingException {
+        transform(origin);
+        return getResult();
+    }
+
+    /**
+     * Indicate whether this mapper keeps none state between its calls, so it can be shared by several threads.
+     *
+     * @return False by default.
+     */
+    default boolean isStateless() {
+        return false;
+    }
 }
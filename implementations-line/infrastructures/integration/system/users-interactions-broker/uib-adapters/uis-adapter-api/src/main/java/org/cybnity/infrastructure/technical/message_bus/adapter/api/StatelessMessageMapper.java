@@ -0,0 +1,41 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.api;
+
+/**
+ * Basis mapper which keeps none state between its transformations, so a single instance can be shared by several threads (e.g parallel stream consumers, batch appends).
+ * The subclass implements map(Object) that returns its result directly.
+ * The two-step transform() then getResult() usage is supported for compatibility, with a result kept per calling thread until its read by getResult() (so a shared mapper does not retain the last mapped object of each thread).
+ */
+public abstract class StatelessMessageMapper implements MessageMapper {
+
+    /**
+     * Last result of the transform() method per calling thread.
+     */
+    private final ThreadLocal<Object> lastResult = new ThreadLocal<>();
+
+    @Override
+    public abstract Object map(Object origin) throws IllegalArgumentException, MappingException;
+
+    @Override
+    public final void transform(Object origin) throws IllegalArgumentException, MappingException {
+        // Delete potential previous prepared result
+        lastResult.remove();
+        lastResult.set(map(origin));
+    }
+
+    /**
+     * Get the result of the last transform() executed by the calling thread, and release it (result returned once).
+     *
+     * @return Transformed origin data into targeted class type. Null when transformation process was not previously executed by the calling thread, or when its result was already read.
+     */
+    @Override
+    public final Object getResult() {
+        Object result = lastResult.get();
+        lastResult.remove();
+        return result;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+}
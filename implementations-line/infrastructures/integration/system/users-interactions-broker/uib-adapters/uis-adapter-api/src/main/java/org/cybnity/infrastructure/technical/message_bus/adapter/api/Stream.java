@@ -33,7 +33,27 @@ public class Stream implements INaming {
         /**
          * Key name regarding an information (e.g event payload) regarding any fact record stored, and retrieved by a Stream.
          */
-        MESSAGE_PAYLOAD_KEY_NAME
+        MESSAGE_PAYLOAD_KEY_NAME,
+
+        /**
+         * Key name regarding the kind of fact (e.g command, domain event) of a stored record, readable without decoding of its payload.
+         */
+        FACT_KIND_KEY_NAME,
+
+        /**
+         * Key name regarding the type name of a stored fact (e.g command type), readable without decoding of its payload.
+         */
+        FACT_TYPE_KEY_NAME,
+
+        /**
+         * Key name regarding the correlation identifier of a stored fact (e.g command correlated with its result events), readable without decoding of its payload.
+         */
+        CORRELATION_ID_KEY_NAME,
+
+        /**
+         * Key name regarding the encoding (e.g compression algorithm) of the payload of a stored record. Undefined when the payload is a plain JSON value.
+         */
+        PAYLOAD_ENCODING_KEY_NAME
     }
 
     private final String name;
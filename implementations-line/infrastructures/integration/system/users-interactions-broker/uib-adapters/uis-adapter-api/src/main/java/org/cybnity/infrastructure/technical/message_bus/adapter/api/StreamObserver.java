@@ -38,4 +38,45 @@ public interface StreamObserver {
      * @param event Event. Ignored when null.
      */
     void notify(Object event);
+
+    /**
+     * Notify this observer regarding a stream entry, which is acknowledged to the stream when the observer confirms the end of its processing.
+     * An observer processing the entries asynchronously (e.g by another thread) shall run the acknowledgement after the processing; when never run (e.g processing failure), the entry is delivered again by the recovery of the abandoned entries (at-least-once delivery).
+     *
+     * @param event           Event. Ignored when null.
+     * @param acknowledgement Mandatory confirmation of the entry processing, executable by any thread.
+     */
+    default void notify(Object event, Runnable acknowledgement) {
+        // Entry processed by the notifying thread
+        notify(event);
+        acknowledgement.run();
+    }
+
+    /**
+     * Notify this observer regarding a stream entry, which is acknowledged when the observer confirms the end of its processing, or released when its processing is abandoned (e.g processing failure).
+     * A released entry is delivered again by the recovery of the abandoned entries.
+     * By default, the entry is released when the notification fails.
+     *
+     * @param event           Event. Ignored when null.
+     * @param acknowledgement Mandatory confirmation of the entry processing, executable by any thread.
+     * @param release         Mandatory release of the entry not processed, executable by any thread.
+     */
+    default void notify(Object event, Runnable acknowledgement, Runnable release) {
+        try {
+            notify(event, acknowledgement);
+        } catch (RuntimeException re) {
+            release.run();
+            throw re;
+        }
+    }
+
+    /**
+     * Get the quantity of messages that this observer is ready to receive, allowing to slow down the messages delivery when the observer is saturated (backpressure).
+     * The stream reads are limited to this quantity, and are postponed while it is equals to 0.
+     *
+     * @return A quantity of messages. By default, unlimited.
+     */
+    default int availableCapacity() {
+        return Integer.MAX_VALUE;
+    }
 }
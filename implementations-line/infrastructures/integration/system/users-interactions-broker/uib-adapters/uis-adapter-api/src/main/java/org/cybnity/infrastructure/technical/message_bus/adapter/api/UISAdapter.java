@@ -5,6 +5,7 @@ import org.cybnity.framework.domain.ICleanup;
 import org.cybnity.framework.domain.IDescribed;
 import org.cybnity.framework.domain.IHealthControl;
 import org.cybnity.framework.domain.SerializedResource;
+import org.cybnity.framework.domain.infrastructure.ResourceDescriptor;
 import org.cybnity.framework.immutable.Identifier;
 
 import java.util.Collection;
@@ -112,6 +113,20 @@ public interface UISAdapter extends ICleanup, IHealthControl {
      */
     List<String> append(Object fact, List<Stream> recipients, MessageMapper eventMapper) throws IllegalArgumentException, MappingException, UnoperationalStateException;
 
+    /**
+     * Add an ordered set of facts into a space entrypoint with persistence guarantee, as an atomic operation.
+     * All the facts are transmitted in one interaction with the space and are appended in a same transaction (none fact is appended when the operation fails).
+     *
+     * @param facts       Mandatory ordered list of facts to add into the stream. When empty, none operation is executed.
+     * @param recipient   Mandatory stream where the facts shall be appended.
+     * @param eventMapper Mandatory mapper regarding the facts supported by the caller that shall be transformed into message types supported by streams.
+     * @return Specific technical identifiers of the messages transmitted into the recipient, in the order of the facts.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws MappingException            When a fact transformation for data structure supported by the recipient is failed.
+     * @throws UnoperationalStateException When system access via adapter is in failure. When the transaction has been discarded by the space.
+     */
+    List<String> append(List<?> facts, Stream recipient, MessageMapper eventMapper) throws IllegalArgumentException, MappingException, UnoperationalStateException;
+
     /**
      * Read all arriving items from one stream identified by its name.
      *
@@ -173,6 +188,29 @@ public interface UISAdapter extends ICleanup, IHealthControl {
      */
     void saveResource(SerializedResource resource, String resourceNamespaceLabel, Long expireIn) throws IllegalArgumentException, UnoperationalStateException;
 
+    /**
+     * Find the binary value of a resource (e.g stored as encoded value) according to its unique logical identifier.
+     *
+     * @param resourceUniqueIdentifier Mandatory logical identifier (e.g business object UID as resource key) to find.
+     * @param resourceNamespaceLabel   Optional namespace of the resource to find.
+     * @return A found binary value, or null when none resource or when the resource have not been stored as binary value.
+     * @throws IllegalArgumentException    When any mandatory parameter is missing.
+     * @throws UnoperationalStateException When system access via adapter is in failure.
+     */
+    byte[] readResourceBinaryValue(String resourceUniqueIdentifier, String resourceNamespaceLabel) throws IllegalArgumentException, UnoperationalStateException;
+
+    /**
+     * Store an identified resource as binary value (e.g encoded value), without text conversion.
+     *
+     * @param description            Mandatory description of the resource including mandatory identifier.
+     * @param value                  Mandatory binary value of the resource.
+     * @param resourceNamespaceLabel Optional namespace of the resource to save.
+     * @param expireIn               Optional quantity of seconds before the saved resource shall expire.
+     * @throws IllegalArgumentException    When any mandatory parameter is missing.
+     * @throws UnoperationalStateException When system access via adapter is in failure.
+     */
+    void saveResource(ResourceDescriptor description, byte[] value, String resourceNamespaceLabel, Long expireIn) throws IllegalArgumentException, UnoperationalStateException;
+
     /**
      * Publish an event to be processed into a space entrypoint without persistence and treatment guarantee (e.g if none channel subscriber are active).
      *
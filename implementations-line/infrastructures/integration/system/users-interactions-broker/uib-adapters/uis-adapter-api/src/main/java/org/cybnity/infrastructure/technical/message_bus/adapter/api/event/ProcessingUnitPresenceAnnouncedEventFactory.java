@@ -29,7 +29,7 @@ public class ProcessingUnitPresenceAnnouncedEventFactory {
      * @param supportedEventTypesToRoutingPath Optional set of routing map regarding supported event types by the announced PU, and including entrypoint channel paths.
      * @param puServiceName                    Optional logical name of the processing unit that is able to treat the announced event types.
      * @param currentStatus                    Mandatory current status of presence which is defined by the built announce.
-     * @return A prepared instance of change event.
+     * @return A prepared and frozen instance of change event.
      * @throws IllegalArgumentException When mandatory parameter is missing.
      * @throws ImmutabilityException When impossible read of priorEventRef identity.
      */
@@ -75,6 +75,8 @@ public class ProcessingUnitPresenceAnnouncedEventFactory {
         // Generate a correlation identifier about the announced presence, that can be reused by PU's presence observers and referenced in case of child event promoted (e.g about presence registration realized as delegate processing unit)
         announced.appendSpecification(new Attribute(Command.CORRELATION_ID, CorrelationIdFactory.generate(uidValue /* event uid as salt */)));
 
+        // Built announce shared without change
+        announced.freeze();
         return announced;
     }
 }
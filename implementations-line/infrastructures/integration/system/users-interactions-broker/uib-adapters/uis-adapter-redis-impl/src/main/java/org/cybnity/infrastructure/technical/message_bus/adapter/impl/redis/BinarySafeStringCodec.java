@@ -0,0 +1,51 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.PayloadCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codec of the text keys and values exchanged with the Redis server (UTF-8), preserving the binary values (e.g compressed payloads written without text encoding).
+ * A value starting with the byte 0xFF (never included into a UTF-8 text) is a binary value, decoded as a text of one character per byte (see PayloadCodec.BINARY_VALUE_MARKER), and encoded back to the same bytes.
+ *
+ * @author olivier
+ */
+public final class BinarySafeStringCodec implements RedisCodec<String, String> {
+
+    /**
+     * Shared stateless instance.
+     */
+    public static final BinarySafeStringCodec INSTANCE = new BinarySafeStringCodec();
+
+    private static final StringCodec TEXT = StringCodec.UTF8;
+
+    private BinarySafeStringCodec() {
+    }
+
+    @Override
+    public String decodeKey(ByteBuffer bytes) {
+        return TEXT.decodeKey(bytes);
+    }
+
+    @Override
+    public String decodeValue(ByteBuffer bytes) {
+        if (bytes.hasRemaining() && bytes.get(bytes.position()) == (byte) PayloadCodec.BINARY_VALUE_MARKER) {
+            // Binary value read without loss
+            return StandardCharsets.ISO_8859_1.decode(bytes).toString();
+        }
+        return TEXT.decodeValue(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(String key) {
+        return TEXT.encodeKey(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(String value) {
+        return (value != null && PayloadCodec.isBinary(value)) ? ByteBuffer.wrap(PayloadCodec.toBytes(value)) : TEXT.encodeValue(value);
+    }
+}
@@ -1,10 +1,6 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
 
-import io.lettuce.core.RedisClient;
-import io.lettuce.core.RedisFuture;
 import io.lettuce.core.pubsub.RedisPubSubListener;
-import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
-import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.ChannelObserver;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
@@ -16,11 +12,12 @@ import java.util.logging.Logger;
 /**
  * Task ensuring independent observation of a Redis topic in a permanent way.
  * Listen on channel messages (with optional pattern applied for messages selection) that receive all inbound messages.
- * The observation stops triggering events when the subscriber unsubscribes from it.
+ * The observation stops triggering events when the subscriber unsubscribes from it (see stop() method).
+ * The channel is subscribed over the pub/sub connection shared by all the channels observations of the connections manager.
  */
 public class ChannelObservationTask implements Callable<Void> {
 
-    private final RedisClient client;
+    private final RedisConnectionManager connections;
     private final ChannelObserver delegate;
     /**
      * Technical logging
@@ -29,19 +26,34 @@ public class ChannelObservationTask implements Callable<Void> {
 
     private final MessageMapper mapper;
 
+    /**
+     * Name of the observed channel (including the observation pattern of the delegate).
+     */
+    private String subscribedChannel;
+
+    /**
+     * Listener subscribed over the shared connection. Null when not subscribed.
+     */
+    private RedisPubSubListener<String, String> subscribedListener;
+
+    /**
+     * Stop status of this task.
+     */
+    private boolean stopped = false;
+
     /**
      * Default constructor.
      *
-     * @param client           Mandatory client allowing connection to the channel provider (e.g UIS server).
+     * @param connections      Mandatory manager providing the subscription connection to the channel provider (e.g UIS server).
      * @param delegateToNotify Mandatory delegate to notify when received message from the observed channel.
      * @param eventMapper      Mandatory message mapper allowing read of messages and their transformation to event types.
      * @throws IllegalArgumentException When mandatory parameter is missing.
      */
-    public ChannelObservationTask(RedisClient client, ChannelObserver delegateToNotify, MessageMapper eventMapper) throws IllegalArgumentException {
-        if (client == null) throw new IllegalArgumentException("Client parameter is required!");
+    public ChannelObservationTask(RedisConnectionManager connections, ChannelObserver delegateToNotify, MessageMapper eventMapper) throws IllegalArgumentException {
+        if (connections == null) throw new IllegalArgumentException("Connections parameter is required!");
         if (delegateToNotify == null) throw new IllegalArgumentException("DelegateToNotify parameter is required!");
         if (eventMapper == null) throw new IllegalArgumentException("Event mapper parameter is required!");
-        this.client = client;
+        this.connections = connections;
         this.delegate = delegateToNotify;
         this.mapper = eventMapper;
     }
@@ -55,6 +67,18 @@ public class ChannelObservationTask implements Callable<Void> {
         return this.delegate;
     }
 
+    /**
+     * Stop the observation: remove the listener of this task from the shared connection (the channel is unsubscribed when none other task observes it).
+     * A subscription in progress is stopped at its end.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        if (subscribedListener != null) {
+            connections.unsubscribe(subscribedChannel, subscribedListener);
+            subscribedListener = null;
+        }
+    }
+
     /**
      * See <a href="https://github.com/lettuce-io/lettuce-core/wiki/Pub-Sub">Lettuce documentation</a> for more details about this implementation
      */
@@ -86,19 +110,19 @@ public class ChannelObservationTask implements Callable<Void> {
             topicPathName += observationPattern;
         }
 
-        // Initialize a connection to the space
-        StatefulRedisPubSubConnection<String, String> connection = client.connectPubSub();
+        final String observedChannel = topicPathName;
         // Prepare observation delegation
-        connection.addListener(new RedisPubSubListener<>() {
+        RedisPubSubListener<String, String> listener = new RedisPubSubListener<>() {
             /**
              * Message received from a channel subscription.
+             * The messages of the other channels subscribed over the shared connection are ignored.
              *
              * @param channel Channel
              * @param message Message
              */
             @Override
             public void message(String channel, String message) {
-                if (message != null && !message.isEmpty()) {
+                if (observedChannel.equals(channel) && message != null && !message.isEmpty()) {
                     // Process the message
                     processMessage(message);
                 }
@@ -113,7 +137,7 @@ public class ChannelObservationTask implements Callable<Void> {
              */
             @Override
             public void message(String pattern, String channel, String message) {
-                if (message != null && !message.isEmpty()) {
+                if (observedChannel.equals(pattern) && message != null && !message.isEmpty()) {
                     // Process the message
                     processMessage(message);
                 }
@@ -130,10 +154,10 @@ public class ChannelObservationTask implements Callable<Void> {
                     throw new IllegalArgumentException("Message parameter is required!");
 
                 try {
-                    // Transform event into supported message type
-                    mapper.transform(message);
-                    // Transmit collected event to the observer
-                    delegate.notify(mapper.getResult());
+                    // Transform event into supported message type, and transmit collected event to the observer
+                    Object event = mapper.map(message);
+                    // Ignore the fact types not handled by the mapper
+                    if (event != null) delegate.notify(event);
                 } catch (MappingException mape) {
                     logger.log(Level.SEVERE, "Invalid message type collected from " + delegate.observed().name() + " channel!", mape);
                 }
@@ -141,9 +165,10 @@ public class ChannelObservationTask implements Callable<Void> {
 
             @Override
             public void subscribed(String channel, long count) {
-                logger.fine(
-                        "Observation task is waiting for new message from channel (" + channel + ")"
-                );
+                if (observedChannel.equals(channel))
+                    logger.fine(
+                            "Observation task is waiting for new message from channel (" + channel + ")"
+                    );
             }
 
             @Override
@@ -155,9 +180,10 @@ public class ChannelObservationTask implements Callable<Void> {
 
             @Override
             public void unsubscribed(String channel, long count) {
-                logger.fine(
-                        "Observation task is stopped regarding channel (" + channel + ")"
-                );
+                if (observedChannel.equals(channel))
+                    logger.fine(
+                            "Observation task is stopped regarding channel (" + channel + ")"
+                    );
             }
 
             @Override
@@ -166,12 +192,16 @@ public class ChannelObservationTask implements Callable<Void> {
                         "Observation task is stopped regarding channel pattern (" + pattern + ")"
                 );
             }
-        });
-
-        // Subscribe to channel
-        // Asynchronous subscription mode (avoid blocking of EventLoop by synchronous API call of Lettuce; allow to fetch data from Redis from inside the observer callback)
-        RedisPubSubAsyncCommands<String, String> async = connection.async();
-        RedisFuture<Void> f = async.subscribe(topicPathName);
-        return f.get();
+        };
+
+        // Subscribe to channel over the shared connection (the messages are delivered by the client event loop)
+        synchronized (this) {
+            if (!stopped) {
+                connections.subscribe(observedChannel, listener);
+                this.subscribedChannel = observedChannel;
+                this.subscribedListener = listener;
+            }
+        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import org.cybnity.framework.IReadableConfiguration;
+
+/**
+ * Enumeration defining a set of optional variables regarding the connections opened by the adapter with the Redis server.
+ * When a variable is not defined by the environment, its default value is applied.
+ *
+ * @author olivier
+ */
+public enum ConnectionsConfigurationVariable implements IReadableConfiguration {
+
+    /**
+     * Maximum quantity of dedicated connections usable at the same time (e.g by the blocking observers, and by the transactions) (see RedisConnectionManager). 16 by default.
+     * In DEDICATED_THREADS execution mode, each stream observer reserves a connection; the observers started beyond this size are executed by the shared pool.
+     */
+    UIS_DEDICATED_CONNECTIONS_POOL_SIZE("UIS_DEDICATED_CONNECTIONS_POOL_SIZE"),
+    /**
+     * Maximum duration (in milliseconds) of waiting for a dedicated connection release when all the pool connections are in use. 30000 by default.
+     */
+    UIS_DEDICATED_CONNECTION_WAIT_TIMEOUT("UIS_DEDICATED_CONNECTION_WAIT_TIMEOUT");
+
+    /**
+     * Name of this environment variable currently hosted by the system environment.
+     */
+    private final String name;
+
+    /**
+     * Default constructor of a configuration variable that is readable from the
+     * system environment variables set.
+     *
+     * @param aName Mandatory name of the environment variable that is readable from
+     *              the current system environment (e.g defined by the runtime
+     *              container or operating system).
+     * @throws IllegalArgumentException When mandatory parameter is not defined.
+     */
+    private ConnectionsConfigurationVariable(String aName) throws IllegalArgumentException {
+        if (aName == null || "".equalsIgnoreCase(aName))
+            throw new IllegalArgumentException("The name of this variable shall be defined!");
+        this.name = aName;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+}
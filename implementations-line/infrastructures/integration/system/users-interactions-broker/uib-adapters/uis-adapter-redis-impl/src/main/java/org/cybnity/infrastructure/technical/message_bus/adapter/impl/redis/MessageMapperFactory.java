@@ -5,15 +5,32 @@ import org.cybnity.framework.domain.IDescribed;
 import org.cybnity.framework.domain.event.ProcessingUnitPresenceAnnounced;
 import org.cybnity.framework.domain.model.EventRecord;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.IMessageMapperProvider;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
 import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.*;
 
 /**
  * Utility class allowing to transform an object manageable by the space according to a type of data structure supported by Redis.
  * For example, translate a CommandEvent object into a String (message body).
+ * The provided mappers are stateless singletons, which can be shared by several threads.
  */
 public class MessageMapperFactory implements IMessageMapperProvider {
 
+    /**
+     * Shared stateless mappers.
+     */
+    private static final MessageMapper EVENT_RECORD_TO_STREAM_MESSAGE = new EventRecordToStreamMessageTransformer();
+    private static final MessageMapper EVENT_RECORD_TO_JSON_MESSAGE = new EventRecordToJSONMessageTransformer();
+    private static final MessageMapper IDESCRIBED_TO_STREAM_MESSAGE = new IDescribedToStreamMessageTransformer();
+    private static final MessageMapper IDESCRIBED_TO_JSON_MESSAGE = new IDescribedToJSONMessageTransformer();
+    private static final MessageMapper STREAM_MESSAGE_TO_PROCESSING_UNIT_PRESENCE_ANNOUNCED = new StreamMessageToProcessingUnitPresenceAnnouncedTransformer();
+    private static final MessageMapper STREAM_MESSAGE_TO_IDESCRIBED = new StreamMessageToIDescribedTransformer();
+    private static final MessageMapper STREAM_MESSAGE_TO_LAZY_FACT = new StreamMessageToLazyFactTransformer();
+    private static final MessageMapper STREAM_MESSAGE_TO_EVENT_RECORD = new StreamMessageToEventRecordTransformer();
+    private static final MessageMapper JSON_MESSAGE_TO_PROCESSING_UNIT_PRESENCE_ANNOUNCED = new JSONMessageToProcessingUnitPresenceAnnouncedTransformer();
+    private static final MessageMapper JSON_MESSAGE_TO_IDESCRIBED = new JSONMessageToIDescribedTransformer();
+    private static final MessageMapper JSON_MESSAGE_TO_EVENT_RECORD = new JSONMessageToEventRecordTransformer();
+
     public MessageMapperFactory() {
     }
 
@@ -24,34 +41,37 @@ public class MessageMapperFactory implements IMessageMapperProvider {
             if (EventRecord.class.isAssignableFrom(transformable)) {
                 // Select the provided mapper allowing transformation to targeted type
                 if (StreamMessage.class.isAssignableFrom(transformableAs)) {
-                    return new EventRecordToStreamMessageTransformer();
+                    return EVENT_RECORD_TO_STREAM_MESSAGE;
                 } else if (String.class.isAssignableFrom(transformableAs)) {
-                    return new EventRecordToJSONMessageTransformer();
+                    return EVENT_RECORD_TO_JSON_MESSAGE;
                 }
             } else if (IDescribed.class.isAssignableFrom(transformable)) {
                 // Select the provided mapper allowing transformation to targeted type
                 if (StreamMessage.class.isAssignableFrom(transformableAs)) {
-                    return new IDescribedToStreamMessageTransformer();
+                    return IDESCRIBED_TO_STREAM_MESSAGE;
                 } else if (String.class.isAssignableFrom(transformableAs)) {
-                    return new IDescribedToJSONMessageTransformer();
+                    return IDESCRIBED_TO_JSON_MESSAGE;
                 }
             } else if (StreamMessage.class.isAssignableFrom(transformable)) {
                 // Select the mapper allowing transformation to targeted type
                 if (ProcessingUnitPresenceAnnounced.class.isAssignableFrom(transformableAs)) {
-                    return new StreamMessageToProcessingUnitPresenceAnnouncedTransformer();
+                    return STREAM_MESSAGE_TO_PROCESSING_UNIT_PRESENCE_ANNOUNCED;
+                } else if (LazyFact.class.isAssignableFrom(transformableAs)) {
+                    // View decoding the payload only when required
+                    return STREAM_MESSAGE_TO_LAZY_FACT;
                 } else if (IDescribed.class.isAssignableFrom(transformableAs)) {
-                    return new StreamMessageToIDescribedTransformer();
+                    return STREAM_MESSAGE_TO_IDESCRIBED;
                 } else if (EventRecord.class.isAssignableFrom(transformableAs)) {
-                    return new StreamMessageToEventRecordTransformer();
+                    return STREAM_MESSAGE_TO_EVENT_RECORD;
                 }
             } else if (String.class.isAssignableFrom(transformable)) {
                 // Select the mapper allowing transformation to targeted type
                 if (ProcessingUnitPresenceAnnounced.class.isAssignableFrom(transformableAs)) {
-                    return new JSONMessageToProcessingUnitPresenceAnnouncedTransformer();
+                    return JSON_MESSAGE_TO_PROCESSING_UNIT_PRESENCE_ANNOUNCED;
                 } else if (IDescribed.class.isAssignableFrom(transformableAs)) {
-                    return new JSONMessageToIDescribedTransformer();
+                    return JSON_MESSAGE_TO_IDESCRIBED;
                 } if (EventRecord.class.isAssignableFrom(transformableAs)) {
-                    return new JSONMessageToEventRecordTransformer();
+                    return JSON_MESSAGE_TO_EVENT_RECORD;
                 }
             }
         }
@@ -0,0 +1,43 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import org.cybnity.framework.IReadableConfiguration;
+
+/**
+ * Enumeration defining a set of optional variables regarding the payloads of the messages written by the adapter.
+ * When a variable is not defined by the environment, its default value is applied.
+ *
+ * @author olivier
+ */
+public enum MessagePayloadConfigurationVariable implements IReadableConfiguration {
+
+    /**
+     * Minimum size (quantity of characters) of a payload compressed by the adapter before its write into a stream or a channel (see PayloadCodec). Compression disabled by default.
+     * The compression shall be enabled when all the consumers of the streams and channels support the compressed payloads.
+     */
+    UIS_PAYLOAD_COMPRESSION_THRESHOLD("UIS_PAYLOAD_COMPRESSION_THRESHOLD");
+
+    /**
+     * Name of this environment variable currently hosted by the system environment.
+     */
+    private final String name;
+
+    /**
+     * Default constructor of a configuration variable that is readable from the
+     * system environment variables set.
+     *
+     * @param aName Mandatory name of the environment variable that is readable from
+     *              the current system environment (e.g defined by the runtime
+     *              container or operating system).
+     * @throws IllegalArgumentException When mandatory parameter is not defined.
+     */
+    private MessagePayloadConfigurationVariable(String aName) throws IllegalArgumentException {
+        if (aName == null || "".equalsIgnoreCase(aName))
+            throw new IllegalArgumentException("The name of this variable shall be defined!");
+        this.name = aName;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+}
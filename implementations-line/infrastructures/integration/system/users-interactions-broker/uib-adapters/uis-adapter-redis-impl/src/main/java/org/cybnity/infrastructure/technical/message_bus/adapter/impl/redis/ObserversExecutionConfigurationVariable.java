@@ -0,0 +1,46 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import org.cybnity.framework.IReadableConfiguration;
+
+/**
+ * Enumeration defining a set of optional variables regarding the execution of the observers started by the adapter.
+ * When a variable is not defined by the environment, its default value is applied.
+ *
+ * @author olivier
+ */
+public enum ObserversExecutionConfigurationVariable implements IReadableConfiguration {
+
+    /**
+     * Name of the observers execution mode (see ObserversExecutionMode values). DEDICATED_THREADS by default.
+     */
+    UIS_OBSERVERS_EXECUTION_MODE("UIS_OBSERVERS_EXECUTION_MODE"),
+    /**
+     * Quantity of threads of the pool shared by the observers in SHARED_POOL execution mode. Quantity of available processors by default.
+     */
+    UIS_OBSERVERS_POOL_SIZE("UIS_OBSERVERS_POOL_SIZE");
+
+    /**
+     * Name of this environment variable currently hosted by the system environment.
+     */
+    private final String name;
+
+    /**
+     * Default constructor of a configuration variable that is readable from the
+     * system environment variables set.
+     *
+     * @param aName Mandatory name of the environment variable that is readable from
+     *              the current system environment (e.g defined by the runtime
+     *              container or operating system).
+     * @throws IllegalArgumentException When mandatory parameter is not defined.
+     */
+    private ObserversExecutionConfigurationVariable(String aName) throws IllegalArgumentException {
+        if (aName == null || "".equalsIgnoreCase(aName))
+            throw new IllegalArgumentException("The name of this variable shall be defined!");
+        this.name = aName;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+}
@@ -0,0 +1,23 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+/**
+ * Execution modes of the observation tasks (streams and channels observers) started by an adapter.
+ *
+ * @author olivier
+ */
+public enum ObserversExecutionMode {
+
+    /**
+     * Each stream observer is executed by a dedicated thread, which waits for new messages with blocking reads over a dedicated connection.
+     * Lowest latency of messages delivery, but one thread and one connection are parked per observer.
+     * The observers started when all the dedicated connections are reserved (see ConnectionsConfigurationVariable.UIS_DEDICATED_CONNECTIONS_POOL_SIZE) are executed as in SHARED_POOL mode.
+     */
+    DEDICATED_THREADS,
+
+    /**
+     * All the observers are executed by a bounded pool of threads shared by the adapter.
+     * Each stream observation is executed as a sequence of short turns (non-blocking read of a batch over the shared connection, then re-scheduling), and an idle stream is polled with a progressively increased pause (limited to the block timeout of its consumption options).
+     * Allows the hosting of thousands of observers by a process, with a delivery latency of an idle stream limited by its block timeout.
+     */
+    SHARED_POOL
+}
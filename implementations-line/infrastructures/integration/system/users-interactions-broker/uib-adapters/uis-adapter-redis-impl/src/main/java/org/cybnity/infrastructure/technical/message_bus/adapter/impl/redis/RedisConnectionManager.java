@@ -0,0 +1,423 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.cybnity.framework.UnoperationalStateException;
+import org.cybnity.framework.domain.ICleanup;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Lifecycle manager of the connections opened by an adapter with a Redis server.
+ * Lettuce connections are thread-safe and multiplexed, so that all the non-blocking commands (e.g XADD, XRANGE, HSET) share a unique long-lived connection, all the publications share a unique pub/sub connection, and all the channels subscriptions share another pub/sub connection (a subscribed connection can not publish).
+ * Blocking commands (e.g XREADGROUP of a stream consumer) and transactions (e.g MULTI/EXEC) would stop or alter the shared connection usage by the other threads, so they are executed over dedicated connections provided by a bounded pool.
+ * The text connections preserve the binary values (e.g compressed payloads) written over the binary connection (see BinarySafeStringCodec).
+ * The shared connections are automatically re-opened by Lettuce when the link with the server is lost; when a shared connection have been closed (e.g server shutdown), it is replaced at its next request.
+ * A closed manager (see freeUpResources()) does not provide connections anymore, and closes the dedicated connections released after its close.
+ *
+ * @author olivier
+ */
+public class RedisConnectionManager implements ICleanup {
+
+    /**
+     * Default maximum quantity of dedicated connections usable at the same time (e.g by blocking consumers).
+     */
+    public static final int DEFAULT_DEDICATED_POOL_SIZE = 16;
+
+    /**
+     * Default maximum duration of waiting for a dedicated connection release.
+     */
+    public static final Duration DEFAULT_DEDICATED_CONNECTION_WAIT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Technical logging
+     */
+    private static final Logger logger = Logger.getLogger(RedisConnectionManager.class.getName());
+
+    /**
+     * Client allowing to open connections with the server.
+     */
+    private final RedisClient client;
+
+    /**
+     * Shared connection supporting the non-blocking commands.
+     */
+    private volatile StatefulRedisConnection<String, String> commandConnection;
+
+    /**
+     * Shared connection supporting the non-blocking commands over binary keys and values (e.g encoded resources).
+     */
+    private volatile StatefulRedisConnection<byte[], byte[]> binaryCommandConnection;
+
+    /**
+     * Shared connection supporting the messages publication.
+     */
+    private volatile StatefulRedisPubSubConnection<String, String> publicationConnection;
+
+    /**
+     * Shared connection supporting the channels subscriptions.
+     */
+    private StatefulRedisPubSubConnection<String, String> subscriptionConnection;
+
+    /**
+     * Quantity of listeners subscribed per channel over the subscription connection.
+     */
+    private final Map<String, Integer> subscribedChannels = new HashMap<>();
+
+    /**
+     * Close status of this manager.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Idle connections of the dedicated pool, ready for reuse.
+     */
+    private final Queue<StatefulRedisConnection<String, String>> idleDedicatedConnections = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Permits limiting the quantity of dedicated connections in use.
+     */
+    private final Semaphore dedicatedPermits;
+
+    /**
+     * Maximum duration of waiting for a dedicated connection release.
+     */
+    private final Duration dedicatedConnectionWaitTimeout;
+
+    /**
+     * Quantity of connections opened since the manager creation (including the automatic reconnections).
+     */
+    private final AtomicLong openedConnections = new AtomicLong();
+
+    /**
+     * Quantity of connections lost since the manager creation.
+     */
+    private final AtomicLong lostConnections = new AtomicLong();
+
+    /**
+     * Time (in nanoseconds) and quantity of opened connections at the last rate measure.
+     */
+    private long lastRateMeasureTime;
+    private long lastRateMeasureCount;
+
+    /**
+     * Default constructor.
+     *
+     * @param client            Mandatory client allowing to open connections.
+     * @param dedicatedPoolSize Maximum quantity of dedicated connections usable at the same time (e.g by blocking consumers) (minimum 1).
+     * @param waitTimeout       Mandatory maximum duration of waiting for a dedicated connection release when all the pool connections are in use.
+     * @throws IllegalArgumentException When mandatory parameter is missing or invalid.
+     */
+    public RedisConnectionManager(RedisClient client, int dedicatedPoolSize, Duration waitTimeout) throws IllegalArgumentException {
+        if (client == null) throw new IllegalArgumentException("Client parameter is required!");
+        if (dedicatedPoolSize < 1)
+            throw new IllegalArgumentException("Dedicated pool size parameter shall be minimum 1!");
+        if (waitTimeout == null || waitTimeout.isNegative())
+            throw new IllegalArgumentException("Wait timeout parameter is required and shall be positive!");
+        this.client = client;
+        this.dedicatedPermits = new Semaphore(dedicatedPoolSize, true);
+        this.dedicatedConnectionWaitTimeout = waitTimeout;
+        this.lastRateMeasureTime = System.nanoTime();
+        // Follow the lifecycle of all the connections opened by the client (including automatic reconnection)
+        this.client.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+                openedConnections.incrementAndGet();
+            }
+
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+                lostConnections.incrementAndGet();
+            }
+
+            @Override
+            public void onRedisExceptionCaught(RedisChannelHandler<?, ?> connection, Throwable cause) {
+                logger.fine("Redis connection problem: " + cause.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Constructor with default waiting timeout of a dedicated connection.
+     *
+     * @param client            Mandatory client allowing to open connections.
+     * @param dedicatedPoolSize Maximum quantity of dedicated connections usable at the same time (e.g by blocking consumers) (minimum 1).
+     * @throws IllegalArgumentException When mandatory parameter is missing or invalid.
+     */
+    public RedisConnectionManager(RedisClient client, int dedicatedPoolSize) throws IllegalArgumentException {
+        this(client, dedicatedPoolSize, DEFAULT_DEDICATED_CONNECTION_WAIT_TIMEOUT);
+    }
+
+    /**
+     * Constructor with default size of dedicated connections pool.
+     *
+     * @param client Mandatory client allowing to open connections.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public RedisConnectionManager(RedisClient client) throws IllegalArgumentException {
+        this(client, DEFAULT_DEDICATED_POOL_SIZE);
+    }
+
+    /**
+     * Get the shared connection usable for non-blocking commands.
+     * The returned connection shall not be closed by the caller.
+     *
+     * @return An open connection.
+     * @throws IllegalStateException When this manager is closed.
+     */
+    public StatefulRedisConnection<String, String> commandConnection() throws IllegalStateException {
+        checkOpen();
+        StatefulRedisConnection<String, String> current = this.commandConnection;
+        if (current == null || !current.isOpen()) {
+            synchronized (this) {
+                current = this.commandConnection;
+                if (current == null || !current.isOpen()) {
+                    current = client.connect(BinarySafeStringCodec.INSTANCE);
+                    this.commandConnection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get the shared connection usable for non-blocking commands over binary values (without text encoding).
+     * The returned connection shall not be closed by the caller.
+     *
+     * @return An open connection.
+     * @throws IllegalStateException When this manager is closed.
+     */
+    public StatefulRedisConnection<byte[], byte[]> binaryCommandConnection() throws IllegalStateException {
+        checkOpen();
+        StatefulRedisConnection<byte[], byte[]> current = this.binaryCommandConnection;
+        if (current == null || !current.isOpen()) {
+            synchronized (this) {
+                current = this.binaryCommandConnection;
+                if (current == null || !current.isOpen()) {
+                    current = client.connect(ByteArrayCodec.INSTANCE);
+                    this.binaryCommandConnection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get the shared connection usable for messages publication.
+     * The returned connection shall not be closed by the caller, and shall not be used for subscriptions.
+     *
+     * @return An open connection.
+     * @throws IllegalStateException When this manager is closed.
+     */
+    public StatefulRedisPubSubConnection<String, String> publicationConnection() throws IllegalStateException {
+        checkOpen();
+        StatefulRedisPubSubConnection<String, String> current = this.publicationConnection;
+        if (current == null || !current.isOpen()) {
+            synchronized (this) {
+                current = this.publicationConnection;
+                if (current == null || !current.isOpen()) {
+                    current = client.connectPubSub(BinarySafeStringCodec.INSTANCE);
+                    this.publicationConnection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Subscribe a listener to a channel over the shared subscription connection.
+     * The listener is notified about the messages of all the channels subscribed over the connection, so it shall ignore the messages of the other channels.
+     *
+     * @param channel  Mandatory name of the channel.
+     * @param listener Mandatory listener of the channel messages.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws UnoperationalStateException When this manager is closed, or when the subscription failed.
+     */
+    public synchronized void subscribe(String channel, RedisPubSubListener<String, String> listener) throws IllegalArgumentException, UnoperationalStateException {
+        if (channel == null || channel.isEmpty()) throw new IllegalArgumentException("Channel parameter is required!");
+        if (listener == null) throw new IllegalArgumentException("Listener parameter is required!");
+        if (closed) throw new UnoperationalStateException("Connection manager is closed!");
+        try {
+            if (subscriptionConnection == null || !subscriptionConnection.isOpen()) {
+                // Replace the closed connection (its subscriptions are lost)
+                subscriptionConnection = client.connectPubSub(BinarySafeStringCodec.INSTANCE);
+                subscribedChannels.clear();
+            }
+            // Subscribe the channel once for all its listeners
+            if (!subscribedChannels.containsKey(channel)) subscriptionConnection.sync().subscribe(channel);
+            subscriptionConnection.addListener(listener);
+            subscribedChannels.merge(channel, 1, Integer::sum);
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        }
+    }
+
+    /**
+     * Remove a listener of a channel previously subscribed over the shared subscription connection.
+     * The channel is unsubscribed when none other listener is subscribed to it.
+     *
+     * @param channel  Name of the channel. Ignored when null.
+     * @param listener Listener to remove. Ignored when null.
+     */
+    public synchronized void unsubscribe(String channel, RedisPubSubListener<String, String> listener) {
+        if (channel == null || listener == null || subscriptionConnection == null) return;
+        subscriptionConnection.removeListener(listener);
+        Integer listeners = subscribedChannels.computeIfPresent(channel, (name, count) -> (count > 1) ? count - 1 : null);
+        if (listeners == null && subscriptionConnection.isOpen()) {
+            // Last listener of the channel
+            subscriptionConnection.async().unsubscribe(channel);
+        }
+    }
+
+    /**
+     * Borrow a dedicated connection usable for blocking commands (e.g XREADGROUP) or transactions (e.g MULTI/EXEC).
+     * When all the pool connections are in use, this method waits for a connection release during the maximum waiting timeout of the manager.
+     * The borrowed connection shall be returned via releaseDedicatedConnection() method.
+     *
+     * @return An open connection.
+     * @throws InterruptedException        When the waiting thread is interrupted.
+     * @throws UnoperationalStateException When this manager is closed. When none connection have been released before the waiting timeout (e.g pool size lower than the quantity of blocking consumers).
+     */
+    public StatefulRedisConnection<String, String> borrowDedicatedConnection() throws InterruptedException, UnoperationalStateException {
+        if (closed) throw new UnoperationalStateException("Connection manager is closed!");
+        if (!dedicatedPermits.tryAcquire(dedicatedConnectionWaitTimeout.toMillis(), TimeUnit.MILLISECONDS))
+            throw new UnoperationalStateException("None dedicated connection released after " + dedicatedConnectionWaitTimeout.toMillis() + " ms (all the pool connections are in use)!");
+        if (closed) {
+            // Closed during the wait
+            dedicatedPermits.release();
+            throw new UnoperationalStateException("Connection manager is closed!");
+        }
+        try {
+            StatefulRedisConnection<String, String> connection;
+            while ((connection = idleDedicatedConnections.poll()) != null) {
+                if (connection.isOpen()) return connection;
+            }
+            return client.connect(BinarySafeStringCodec.INSTANCE);
+        } catch (RuntimeException e) {
+            dedicatedPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a connection previously borrowed from the dedicated pool.
+     * The connection is closed when this manager is closed.
+     *
+     * @param connection Connection to release. Ignored when null.
+     */
+    public void releaseDedicatedConnection(StatefulRedisConnection<String, String> connection) {
+        if (connection == null) return;
+        if (closed) {
+            connection.close();
+        } else if (connection.isOpen()) {
+            idleDedicatedConnections.offer(connection);
+            // Closed during the release: close the idle connections which are not closed by freeUpResources()
+            if (closed) closeIdleDedicatedConnections();
+        }
+        dedicatedPermits.release();
+    }
+
+    /**
+     * Close the idle connections of the dedicated pool.
+     */
+    private void closeIdleDedicatedConnections() {
+        StatefulRedisConnection<String, String> connection;
+        while ((connection = idleDedicatedConnections.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Verify that this manager is not closed.
+     *
+     * @throws IllegalStateException When this manager is closed.
+     */
+    private void checkOpen() throws IllegalStateException {
+        if (closed) throw new IllegalStateException("Connection manager is closed!");
+    }
+
+    /**
+     * Get the quantity of connections opened (including automatic reconnections) since the manager creation.
+     *
+     * @return A quantity.
+     */
+    public long openedConnectionsCount() {
+        return this.openedConnections.get();
+    }
+
+    /**
+     * Get the quantity of connections lost since the manager creation.
+     *
+     * @return A quantity.
+     */
+    public long lostConnectionsCount() {
+        return this.lostConnections.get();
+    }
+
+    /**
+     * Get the rate of connections opened since the previous call of this method (or since the manager creation for the first call).
+     *
+     * @return A quantity of opened connections per second.
+     */
+    public synchronized double connectionsOpenedPerSecond() {
+        long now = System.nanoTime();
+        long count = openedConnections.get();
+        double elapsedSeconds = (now - lastRateMeasureTime) / 1_000_000_000d;
+        double rate = (elapsedSeconds > 0) ? (count - lastRateMeasureCount) / elapsedSeconds : 0d;
+        lastRateMeasureTime = now;
+        lastRateMeasureCount = count;
+        return rate;
+    }
+
+    /**
+     * Verify that the server is reachable over the shared command connection.
+     * When the verification fails, the shared connection is closed allowing its replacement at the next request.
+     *
+     * @throws UnoperationalStateException When the server is not reachable.
+     */
+    public void checkConnectivity() throws UnoperationalStateException {
+        StatefulRedisConnection<String, String> connection = null;
+        try {
+            connection = commandConnection();
+            connection.sync().ping();
+        } catch (Exception e) {
+            if (connection != null) connection.closeAsync();
+            throw new UnoperationalStateException(e);
+        }
+    }
+
+    @Override
+    public void freeUpResources() {
+        // Refuse the next connection requests, and close the dedicated connections released later
+        closed = true;
+        // Close the shared connections
+        synchronized (this) {
+            if (subscriptionConnection != null) subscriptionConnection.close();
+            subscriptionConnection = null;
+            subscribedChannels.clear();
+            if (commandConnection != null) commandConnection.close();
+            commandConnection = null;
+            if (binaryCommandConnection != null) binaryCommandConnection.close();
+            binaryCommandConnection = null;
+            if (publicationConnection != null) publicationConnection.close();
+            publicationConnection = null;
+        }
+        // Close the idle connections of the dedicated pool
+        closeIdleDedicatedConnections();
+    }
+}
@@ -0,0 +1,176 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures of the messages consumption executed by a stream observation task.
+ * The measures are updated by the observation task and are readable by any thread.
+ *
+ * @author olivier
+ */
+public class StreamConsumptionMetrics {
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong readMessages = new AtomicLong();
+    private final AtomicLong processedMessages = new AtomicLong();
+    private final AtomicLong acknowledgedMessages = new AtomicLong();
+    private final AtomicLong rejectedMessages = new AtomicLong();
+    private final AtomicLong claimedMessages = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong throttledReads = new AtomicLong();
+    private volatile long lag = -1;
+    private volatile long pending = -1;
+
+    /**
+     * Record a batch of messages read from the stream.
+     *
+     * @param size Quantity of messages of the batch.
+     */
+    void batchRead(int size) {
+        batches.incrementAndGet();
+        readMessages.addAndGet(size);
+        lastBatchSize.set(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    /**
+     * Record the result of a batch processing.
+     *
+     * @param processed    Quantity of messages notified to the observer.
+     * @param acknowledged Quantity of messages acknowledged.
+     * @param rejected     Quantity of messages not supported by the mapper.
+     */
+    void batchProcessed(int processed, long acknowledged, int rejected) {
+        processedMessages.addAndGet(processed);
+        acknowledgedMessages.addAndGet(acknowledged);
+        rejectedMessages.addAndGet(rejected);
+    }
+
+    /**
+     * Record messages claimed from abandoned pending entries.
+     *
+     * @param qty Quantity of claimed messages.
+     */
+    void claimed(int qty) {
+        claimedMessages.addAndGet(qty);
+    }
+
+    /**
+     * Record a read postponed because the observer had none available capacity.
+     */
+    void throttled() {
+        throttledReads.incrementAndGet();
+    }
+
+    /**
+     * Update the state of the consumers group.
+     *
+     * @param lag     Quantity of stream entries not yet delivered to the group, or -1 when unknown.
+     * @param pending Quantity of entries delivered to the group and not yet acknowledged, or -1 when unknown.
+     */
+    void groupState(long lag, long pending) {
+        this.lag = lag;
+        this.pending = pending;
+    }
+
+    /**
+     * Get the quantity of read batches.
+     *
+     * @return A quantity.
+     */
+    public long batchesCount() {
+        return batches.get();
+    }
+
+    /**
+     * Get the quantity of messages notified to the observer.
+     *
+     * @return A quantity.
+     */
+    public long processedMessagesCount() {
+        return processedMessages.get();
+    }
+
+    /**
+     * Get the quantity of acknowledged messages.
+     *
+     * @return A quantity.
+     */
+    public long acknowledgedMessagesCount() {
+        return acknowledgedMessages.get();
+    }
+
+    /**
+     * Get the quantity of messages not supported by the mapper (acknowledged without notification).
+     *
+     * @return A quantity.
+     */
+    public long rejectedMessagesCount() {
+        return rejectedMessages.get();
+    }
+
+    /**
+     * Get the quantity of messages claimed from abandoned pending entries.
+     *
+     * @return A quantity.
+     */
+    public long claimedMessagesCount() {
+        return claimedMessages.get();
+    }
+
+    /**
+     * Get the quantity of reads postponed because the observer had none available capacity.
+     *
+     * @return A quantity.
+     */
+    public long throttledReadsCount() {
+        return throttledReads.get();
+    }
+
+    /**
+     * Get the size of the last read batch.
+     *
+     * @return A quantity of messages.
+     */
+    public long lastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    /**
+     * Get the size of the biggest read batch.
+     *
+     * @return A quantity of messages.
+     */
+    public long maxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Get the average size of the read batches.
+     *
+     * @return A quantity of messages per batch, or 0 when none batch have been read.
+     */
+    public double averageBatchSize() {
+        long count = batches.get();
+        return (count > 0) ? (double) readMessages.get() / count : 0d;
+    }
+
+    /**
+     * Get the quantity of stream entries not yet delivered to the consumers group (measured at the last recovery).
+     *
+     * @return A quantity, or -1 when unknown (e.g not supported by the server version).
+     */
+    public long lag() {
+        return this.lag;
+    }
+
+    /**
+     * Get the quantity of entries delivered to the consumers group and not yet acknowledged (measured at the last recovery).
+     *
+     * @return A quantity, or -1 when unknown.
+     */
+    public long pending() {
+        return this.pending;
+    }
+}
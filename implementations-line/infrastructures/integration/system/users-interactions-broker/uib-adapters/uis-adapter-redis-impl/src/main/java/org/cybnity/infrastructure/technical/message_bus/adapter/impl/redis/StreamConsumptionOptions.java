@@ -0,0 +1,106 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the messages consumption executed by a stream observation task (consumer of a group).
+ * The consumer waits on the server side for new messages (blocking read with timeout), reads them by batch and acknowledges each processed batch in one command.
+ * The messages delivered to a consumer which have not been acknowledged since a maximum idle duration (e.g consumer crashed) are periodically claimed and processed.
+ *
+ * @author olivier
+ */
+public class StreamConsumptionOptions {
+
+    /**
+     * Default maximum duration of a blocking read waiting for new messages.
+     */
+    public static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(2);
+
+    /**
+     * Default maximum quantity of messages read per batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * Default idle duration of a pending message after which it is considered as abandoned by its consumer.
+     */
+    public static final Duration DEFAULT_PENDING_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Default interval between two recoveries of the abandoned pending messages.
+     */
+    public static final Duration DEFAULT_RECOVERY_INTERVAL = Duration.ofSeconds(30);
+
+    private final Duration blockTimeout;
+    private final int batchSize;
+    private final Duration pendingIdleTimeout;
+    private final Duration recoveryInterval;
+
+    /**
+     * Default constructor.
+     *
+     * @param blockTimeout       Mandatory maximum duration of a blocking read (minimum 1 millisecond).
+     * @param batchSize          Maximum quantity of messages read per batch (minimum 1).
+     * @param pendingIdleTimeout Mandatory idle duration of a pending message after which it is claimed by another consumer of the group.
+     * @param recoveryInterval   Mandatory interval between two recoveries of the abandoned pending messages.
+     * @throws IllegalArgumentException When a mandatory parameter is missing or invalid.
+     */
+    public StreamConsumptionOptions(Duration blockTimeout, int batchSize, Duration pendingIdleTimeout, Duration recoveryInterval) throws IllegalArgumentException {
+        if (blockTimeout == null || blockTimeout.toMillis() < 1)
+            throw new IllegalArgumentException("Block timeout parameter shall be minimum 1 millisecond!");
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size parameter shall be minimum 1!");
+        if (pendingIdleTimeout == null || pendingIdleTimeout.isNegative())
+            throw new IllegalArgumentException("Pending idle timeout parameter is required!");
+        if (recoveryInterval == null || recoveryInterval.isNegative())
+            throw new IllegalArgumentException("Recovery interval parameter is required!");
+        this.blockTimeout = blockTimeout;
+        this.batchSize = batchSize;
+        this.pendingIdleTimeout = pendingIdleTimeout;
+        this.recoveryInterval = recoveryInterval;
+    }
+
+    /**
+     * Get the default options.
+     *
+     * @return Options based on default values.
+     */
+    public static StreamConsumptionOptions defaults() {
+        return new StreamConsumptionOptions(DEFAULT_BLOCK_TIMEOUT, DEFAULT_BATCH_SIZE, DEFAULT_PENDING_IDLE_TIMEOUT, DEFAULT_RECOVERY_INTERVAL);
+    }
+
+    /**
+     * Get the maximum duration of a blocking read.
+     *
+     * @return A duration.
+     */
+    public Duration blockTimeout() {
+        return this.blockTimeout;
+    }
+
+    /**
+     * Get the maximum quantity of messages read per batch.
+     *
+     * @return A quantity.
+     */
+    public int batchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Get the idle duration of a pending message after which it is claimed by another consumer of the group.
+     *
+     * @return A duration.
+     */
+    public Duration pendingIdleTimeout() {
+        return this.pendingIdleTimeout;
+    }
+
+    /**
+     * Get the interval between two recoveries of the abandoned pending messages.
+     *
+     * @return A duration.
+     */
+    public Duration recoveryInterval() {
+        return this.recoveryInterval;
+    }
+}
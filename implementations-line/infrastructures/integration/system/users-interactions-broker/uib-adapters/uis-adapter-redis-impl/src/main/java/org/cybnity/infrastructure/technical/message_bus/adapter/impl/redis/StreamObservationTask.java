@@ -3,13 +3,28 @@ package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
 import io.lettuce.core.*;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.models.stream.PendingMessage;
 import org.cybnity.framework.domain.event.CorrelationIdFactory;
+import org.cybnity.framework.support.metrics.Counter;
+import org.cybnity.framework.support.metrics.IMetricsRegistry;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.Timer;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.StreamObserver;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -17,12 +32,38 @@ import java.util.logging.Logger;
  * Task ensuring independent observation of a Redis stream in a permanent way.
  * Listen on channel messages (with optional pattern applied for messages selection) that receive all inbound messages.
  * The observation stops triggering events when the subscriber unsubscribes from it.
+ * <p>
+ * The messages are read by batch with a blocking read (the task waits on the server side for new messages without consuming processor when the stream is idle), and each processed batch is acknowledged in one command.
+ * The size of each read is limited by the capacity announced by the observer (backpressure).
+ * The messages delivered to a consumer of the group and not acknowledged since a maximum idle duration (e.g crashed consumer, observer failure) are periodically claimed and processed again, excepted the messages still processed by the observer of this task (e.g waiting in a lane of the observer).
+ * The task is executable by a dedicated thread (see call() method), or by a pool of threads shared with other observations (see schedule() method).
  */
 public class StreamObservationTask implements Callable<Void> {
 
-    private final RedisClient client;
+    /**
+     * Pause (in milliseconds) of the reads when the observer has none available capacity.
+     */
+    private static final long THROTTLE_PAUSE = 50;
+
+    /**
+     * Minimum pause (in milliseconds) between two reads of an idle stream, when the observation is executed by a shared pool.
+     */
+    private static final long MIN_IDLE_PAUSE = 10;
+
+    /**
+     * Field of a consumers group information regarding its lag (supported by Redis 7+).
+     */
+    private static final String GROUP_LAG_FIELD = "lag";
+
+    private final RedisConnectionManager connections;
     private final StreamObserver delegate;
     private final String consumersGroupName;
+
+    /**
+     * Technical name of the consumer instance of this task into the consumers group.
+     */
+    private final String consumerInstanceName;
+
     /**
      * Technical logging
      */
@@ -30,25 +71,130 @@ public class StreamObservationTask implements Callable<Void> {
 
     private final MessageMapper mapper;
 
+    /**
+     * Configuration of the messages consumption.
+     */
+    private final StreamConsumptionOptions options;
+
+    /**
+     * Measures of the messages consumption.
+     */
+    private final StreamConsumptionMetrics metrics = new StreamConsumptionMetrics();
+
+    /**
+     * Quantity of messages notified to the observer.
+     */
+    private final Counter deliveredMessages;
+
+    /**
+     * Delay between the append of a message into the stream and its notification to the observer.
+     */
+    private final Timer deliveryLag;
+
+    /**
+     * Identifiers of the messages whose processing has been confirmed by the observer, and which are not yet acknowledged to the stream.
+     */
+    private final Queue<String> processedMessages = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Identifiers of the messages notified to the observer whose processing is not yet confirmed or released (e.g waiting in a lane of the observer).
+     * They are never claimed by the recovery of abandoned messages, which would process them twice and break their order.
+     */
+    private final Set<String> inFlightMessages = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Stop status of this task. The processing confirmed after the stop are directly acknowledged to the stream.
+     */
+    private volatile boolean stopped = false;
+
     /**
      * Default constructor.
      *
-     * @param client           Mandatory client allowing connection to the stream provider (e.g UIS server).
+     * @param connections      Mandatory manager providing the connection to the stream provider (e.g UIS server).
      * @param delegateToNotify Mandatory delegate to notify when received message from the observed stream.
      * @param eventMapper      Mandatory message mapper allowing read of messages and their transformation to event types.
+     * @param options          Optional configuration of the messages consumption. When null, default options are applied.
      * @throws IllegalArgumentException When mandatory parameter is missing. When the consumer group name of the delegate to notify is not defined.
      */
-    public StreamObservationTask(RedisClient client, StreamObserver delegateToNotify, MessageMapper eventMapper) throws IllegalArgumentException {
-        if (client == null) throw new IllegalArgumentException("Client parameter is required!");
+    public StreamObservationTask(RedisConnectionManager connections, StreamObserver delegateToNotify, MessageMapper eventMapper, StreamConsumptionOptions options) throws IllegalArgumentException {
+        if (connections == null) throw new IllegalArgumentException("Connections parameter is required!");
         if (delegateToNotify == null) throw new IllegalArgumentException("DelegateToNotify parameter is required!");
         // Control the presence of consumer group name that is mandatory for streams listening
         if (/* Optionally defined */ delegateToNotify.consumerGroupName() == null || delegateToNotify.consumerGroupName().isEmpty())
             throw new IllegalArgumentException("Consumer group name is required!");
         if (eventMapper == null) throw new IllegalArgumentException("Event mapper parameter is required!");
-        this.client = client;
+        this.connections = connections;
         this.delegate = delegateToNotify;
         this.consumersGroupName = delegate.consumerGroupName();
+        this.consumerInstanceName = CorrelationIdFactory.generate(String.valueOf(this.delegate.hashCode()));
         this.mapper = eventMapper;
+        this.options = (options != null) ? options : StreamConsumptionOptions.defaults();
+        // Measures shared by the tasks of a same consumers group
+        IMetricsRegistry registry = Metrics.registry();
+        String streamPathName = this.delegate.observed().name();
+        this.deliveredMessages = registry.counter("uis_delivered_messages_total", "stream", streamPathName, "group", consumersGroupName);
+        this.deliveryLag = registry.timer("uis_delivery_lag_seconds", "stream", streamPathName, "group", consumersGroupName);
+        // Measures of the consumers group state read by this task (one per consumer, avoiding replacement by the other tasks of the group)
+        registry.gauge("uis_consumer_group_lag", metrics::lag, gaugeTags());
+        registry.gauge("uis_consumer_group_pending", metrics::pending, gaugeTags());
+    }
+
+    /**
+     * Get the labels of the gauges of this task.
+     *
+     * @return Pairs of label name and value.
+     */
+    private String[] gaugeTags() {
+        return new String[]{"stream", this.delegate.observed().name(), "group", consumersGroupName, "consumer", consumerInstanceName};
+    }
+
+    /**
+     * Release the resources of this task after the stop of its observation (e.g gauges reading its measures).
+     * The messages confirmed by the observer since the last read are acknowledged; the messages confirmed later by the observer (e.g lanes drained after the stop of the observation) are acknowledged at their confirmation.
+     */
+    public void stop() {
+        stopped = true;
+        flushAcknowledgements();
+        IMetricsRegistry registry = Metrics.registry();
+        registry.removeGauge("uis_consumer_group_lag", gaugeTags());
+        registry.removeGauge("uis_consumer_group_pending", gaugeTags());
+    }
+
+    /**
+     * Confirm the processing of a notified message, which is acknowledged with the next read, or immediately when the observation is stopped.
+     *
+     * @param messageId Identifier of the processed message.
+     */
+    private void confirm(String messageId) {
+        processedMessages.add(messageId);
+        inFlightMessages.remove(messageId);
+        // Added before the read of the stop status, so never missed by the flush of the stop
+        if (stopped) flushAcknowledgements();
+    }
+
+    /**
+     * Acknowledge the messages confirmed by the observer and not yet acknowledged, over the shared command connection.
+     * When the acknowledgement fails (e.g connections closed), the messages are delivered again by the recovery of abandoned messages (at-least-once delivery).
+     */
+    private void flushAcknowledgements() {
+        if (processedMessages.isEmpty()) return;
+        try {
+            acknowledge(connections.commandConnection().sync(), this.delegate.observed().name(), new ArrayList<>());
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Processed messages of " + this.delegate.observed().name() + " stream not acknowledged (delivered again later)!", e);
+        }
+    }
+
+    /**
+     * Constructor with default consumption options.
+     *
+     * @param connections      Mandatory manager providing the connection to the stream provider (e.g UIS server).
+     * @param delegateToNotify Mandatory delegate to notify when received message from the observed stream.
+     * @param eventMapper      Mandatory message mapper allowing read of messages and their transformation to event types.
+     * @throws IllegalArgumentException When mandatory parameter is missing. When the consumer group name of the delegate to notify is not defined.
+     */
+    public StreamObservationTask(RedisConnectionManager connections, StreamObserver delegateToNotify, MessageMapper eventMapper) throws IllegalArgumentException {
+        this(connections, delegateToNotify, eventMapper, null);
     }
 
     /**
@@ -60,6 +206,15 @@ public class StreamObservationTask implements Callable<Void> {
         return this.delegate;
     }
 
+    /**
+     * Get the measures of the messages consumption executed by this task.
+     *
+     * @return A set of measures.
+     */
+    public StreamConsumptionMetrics metrics() {
+        return this.metrics;
+    }
+
     @Override
     public Void call() throws Exception {
         // Identify the path to the observed stream
@@ -68,10 +223,85 @@ public class StreamObservationTask implements Callable<Void> {
         // TODO Change current standard Stream implementation (that is not observing clusterized redis nodes' topics) for Redis Cluster usage
         // For example, when a stream in not created on the same Redis node than the observes, some event could be not received
 
-        // Initialize a connection to the space
-        StatefulRedisConnection<String, String> connection = this.client.connect();
-        final RedisCommands<String, String> syncCommands = connection.sync();
+        // Borrow a connection dedicated to the blocking reads (waiting for a pool connection release when all are in use, until the pool wait timeout)
+        StatefulRedisConnection<String, String> connection = this.connections.borrowDedicatedConnection();
+        try {
+            return observe(connection.sync(), streamPathName);
+        } finally {
+            // Give back the connection to the pool for reuse by another observer
+            this.connections.releaseDedicatedConnection(connection);
+        }
+    }
 
+    /**
+     * Start the observation as a sequence of short turns executed by a shared pool of threads, instead of a permanent execution by a dedicated thread.
+     * Each turn reads (without blocking) a batch of messages over the shared command connection, processes it and schedules the next turn:
+     * immediately when messages have been read, else after a pause progressively increased while the stream is idle (limited to the block timeout of the consumption options).
+     *
+     * @param scheduler Mandatory pool executing the observation turns.
+     * @return Handle of the observation, which is stopped when cancelled.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public Future<Void> schedule(ScheduledExecutorService scheduler) throws IllegalArgumentException {
+        if (scheduler == null) throw new IllegalArgumentException("Scheduler parameter is required!");
+        ObservationTurn turn = new ObservationTurn(scheduler);
+        scheduler.execute(turn);
+        return turn.completion;
+    }
+
+    /**
+     * Read and notify the messages of the observed stream until the task interruption.
+     *
+     * @param syncCommands   Mandatory commands over a connection dedicated to this task.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @return Null when the task is interrupted.
+     * @throws Exception When impossible observation.
+     */
+    private Void observe(RedisCommands<String, String> syncCommands, String streamPathName) throws Exception {
+        Consumer<String> consumer = joinConsumersGroup(syncCommands, streamPathName);
+        long nextRecovery = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // Periodically take over the messages abandoned by the consumers of the group
+                if (System.nanoTime() - nextRecovery >= 0) {
+                    recoverAbandonedMessages(syncCommands, streamPathName, consumer);
+                    nextRecovery = System.nanoTime() + options.recoveryInterval().toNanos();
+                }
+
+                // Limit the read to the capacity of the observer
+                int capacity = Math.min(options.batchSize(), this.delegate.availableCapacity());
+                if (capacity < 1) {
+                    metrics.throttled();
+                    Thread.sleep(THROTTLE_PAUSE);
+                    continue;
+                }
+                // Wait for new messages on the server side (without consumption of processor when the stream is idle)
+                readBatch(syncCommands, streamPathName, consumer, XReadArgs.Builder.block(options.blockTimeout()).count(capacity));
+            } catch (InterruptedException | RedisCommandInterruptedException ie) {
+                // Stop of the observation
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // Temporary connection close/re-opening can generate a temporary exception for connection close status
+                // Pause before retry, avoiding an intensive loop during the unavailability of the server
+                try {
+                    Thread.sleep(options.blockTimeout().toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Create the consumers group of the observed stream when not existing, and define the consumer identity of this task.
+     *
+     * @param syncCommands   Mandatory commands over a connection.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @return A consumer of the group.
+     * @throws Exception When none consumers group name is defined by the delegate.
+     */
+    private Consumer<String> joinConsumersGroup(RedisCommands<String, String> syncCommands, String streamPathName) throws Exception {
         if (consumersGroupName != null && !consumersGroupName.isEmpty()) {
             // Create consumer group when not existing
             try {
@@ -85,41 +315,237 @@ public class StreamObservationTask implements Callable<Void> {
             throw new Exception("A consumers group name need to be defined by the delegate as mandatory for stream messages observation!");
         }
 
-        // Define a technical name of the consumer instance
-        String consumerInstanceName = CorrelationIdFactory.generate(String.valueOf(this.delegate.hashCode()));
         this.logger.fine(
                 "Observation task (consumer name: " + consumerInstanceName +
                         ", consumer group: " + consumersGroupName + ") is waiting for new message from stream (" + streamPathName + ")"
         );
+        return Consumer.from(consumersGroupName, consumerInstanceName);
+    }
 
-        while(true) {
-            try {
-                List<StreamMessage<String, String>> messages = syncCommands.xreadgroup(
-                        Consumer.from(consumersGroupName, consumerInstanceName),
-                        XReadArgs.StreamOffset.lastConsumed(streamPathName)
-                );
-                if (!messages.isEmpty()) {
-                    // Prepare a mapper supporting messages transformation
-                    for (StreamMessage<String, String> message : messages) {
-                        if (message != null) {
+    /**
+     * Read a batch of new messages delivered to the consumer, and process it.
+     *
+     * @param syncCommands   Mandatory commands over a connection.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @param consumer       Mandatory consumer of the group.
+     * @param readArgs       Mandatory read arguments (e.g blocking duration, maximum quantity of messages).
+     * @return Quantity of read messages.
+     */
+    private int readBatch(RedisCommands<String, String> syncCommands, String streamPathName, Consumer<String> consumer, XReadArgs readArgs) {
+        List<StreamMessage<String, String>> messages = syncCommands.xreadgroup(consumer, readArgs, XReadArgs.StreamOffset.lastConsumed(streamPathName));
+        if (messages == null || messages.isEmpty()) {
+            // Acknowledge the messages processed asynchronously by the observer since the previous read
+            metrics.batchProcessed(0, acknowledge(syncCommands, streamPathName, new ArrayList<>()), 0);
+            return 0;
+        }
+        metrics.batchRead(messages.size());
+        processBatch(syncCommands, streamPathName, messages);
+        return messages.size();
+    }
+
+    /**
+     * Notify the observer about a batch of messages, and acknowledge the processed messages in one command.
+     * The messages not supported by the mapper are acknowledged without notification (they would never be supported by a retry).
+     * The messages of a fact type not handled by the mapper (null result) are acknowledged without notification.
+     * A notified message is acknowledged when its processing is confirmed by the observer; the messages confirmed later (asynchronous processing) are acknowledged with the next batch or at the next idle read.
+     * The messages which have not been processed by the observer (e.g failure) are not acknowledged, so they are retried by the recovery of abandoned messages.
+     * A message still in flight into the observer (e.g claimed again while waiting in a lane) is not notified twice.
+     *
+     * @param syncCommands   Mandatory commands over a connection dedicated to this task.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @param messages       Mandatory messages to process.
+     */
+    private void processBatch(RedisCommands<String, String> syncCommands, String streamPathName, List<StreamMessage<String, String>> messages) {
+        List<String> processedIds = new ArrayList<>(messages.size());
+        int notified = 0, rejected = 0;
+        for (StreamMessage<String, String> message : messages) {
+            if (message != null) {
+                try {
+                    // Transform event into supported message type, and transmit collected event to the observer
+                    Object event = mapper.map(message);
+                    String messageId = message.getId();
+                    if (event != null) {
+                        if (inFlightMessages.add(messageId)) {
                             try {
-                                // Transform event into supported message type
-                                mapper.transform(message);
-                                // Transmit collected event to the observer
-                                this.delegate.notify(mapper.getResult());
-
-                                // Confirm that the message has been read and processed using XACK (remove the message from the pending list of the consumer group)
-                                syncCommands.xack(streamPathName, consumersGroupName, message.getId());
-                            } catch (MappingException mape) {
-                                logger.log(Level.SEVERE, "Invalid message type collected from " + this.delegate.observed().name() + " stream!", mape);
+                                this.delegate.notify(event, () -> confirm(messageId), () -> inFlightMessages.remove(messageId));
+                            } catch (RuntimeException re) {
+                                // Not taken by the observer
+                                inFlightMessages.remove(messageId);
+                                throw re;
                             }
+                            notified++;
                         }
+                    } else {
+                        // Fact type not handled by the mapper (ignored without decoding)
+                        processedIds.add(messageId);
                     }
+                    recordDelivery(messageId);
+                } catch (MappingException mape) {
+                    logger.log(Level.SEVERE, "Invalid message type collected from " + this.delegate.observed().name() + " stream!", mape);
+                    rejected++;
+                    processedIds.add(message.getId());
+                } catch (RuntimeException re) {
+                    logger.log(Level.WARNING, "Message " + message.getId() + " of " + this.delegate.observed().name() + " stream not processed by the observer (retried later)!", re);
+                }
+            }
+        }
+        metrics.batchProcessed(notified, acknowledge(syncCommands, streamPathName, processedIds), rejected);
+    }
+
+    /**
+     * Acknowledge messages, and the messages whose processing has been confirmed by the observer.
+     *
+     * @param syncCommands   Mandatory commands over a connection dedicated to this task.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @param processedIds   Mandatory identifiers of messages to acknowledge, completed with the confirmed messages.
+     * @return Quantity of acknowledged messages.
+     */
+    private long acknowledge(RedisCommands<String, String> syncCommands, String streamPathName, List<String> processedIds) {
+        String confirmedId;
+        while ((confirmedId = processedMessages.poll()) != null) {
+            processedIds.add(confirmedId);
+        }
+        if (processedIds.isEmpty()) return 0;
+        // Confirm that the messages have been read and processed using XACK (remove the messages from the pending list of the consumer group)
+        Long ackCount = syncCommands.xack(streamPathName, consumersGroupName, processedIds.toArray(new String[0]));
+        return (ackCount != null) ? ackCount : 0;
+    }
+
+    /**
+     * Measure the delivery of a message, according to the append time included into its identifier (milliseconds-sequence format).
+     *
+     * @param messageId Identifier of the delivered message.
+     */
+    private void recordDelivery(String messageId) {
+        deliveredMessages.increment();
+        int separator = (messageId != null) ? messageId.indexOf('-') : -1;
+        if (separator > 0) {
+            try {
+                long appendedAt = Long.parseLong(messageId.substring(0, separator));
+                deliveryLag.record(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - appendedAt));
+            } catch (NumberFormatException nfe) {
+                // Identifier not generated by the stream (delay not measurable)
+            }
+        }
+    }
+
+    /**
+     * Claim and process the messages delivered to consumers of the group which have not been acknowledged since the pending idle timeout (e.g crashed consumer).
+     * The messages delivered to this task and still in flight into the observer (e.g waiting in a busy lane beyond the pending idle timeout) are excluded.
+     * Update the measures of the consumers group state.
+     *
+     * @param syncCommands   Mandatory commands over a connection dedicated to this task.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @param consumer       Mandatory consumer taking over the abandoned messages.
+     */
+    private void recoverAbandonedMessages(RedisCommands<String, String> syncCommands, String streamPathName, Consumer<String> consumer) {
+        long minIdleTime = options.pendingIdleTimeout().toMillis();
+        List<PendingMessage> pendingMessages = syncCommands.xpending(streamPathName, consumersGroupName, Range.create("-", "+"), Limit.from(options.batchSize()));
+        List<String> abandonedIds = new ArrayList<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            if (pendingMessage.getMsSinceLastDelivery() >= minIdleTime && !inFlightMessages.contains(pendingMessage.getId()))
+                abandonedIds.add(pendingMessage.getId());
+        }
+        if (!abandonedIds.isEmpty()) {
+            // Take ownership of the messages that are still idle (not claimed by another consumer in the meantime)
+            List<StreamMessage<String, String>> claimed = syncCommands.xclaim(streamPathName, consumer, minIdleTime, abandonedIds.toArray(new String[0]));
+            if (claimed != null && !claimed.isEmpty()) {
+                metrics.claimed(claimed.size());
+                processBatch(syncCommands, streamPathName, claimed);
+            }
+        }
+        metrics.groupState(groupLag(syncCommands, streamPathName), syncCommands.xpending(streamPathName, consumersGroupName).getCount());
+    }
+
+    /**
+     * Read the lag of the consumers group (quantity of stream entries not yet delivered to the group).
+     *
+     * @param syncCommands   Mandatory commands over a connection dedicated to this task.
+     * @param streamPathName Mandatory name of the observed stream.
+     * @return A quantity of entries, or -1 when not provided by the server (e.g version lower than Redis 7).
+     */
+    private long groupLag(RedisCommands<String, String> syncCommands, String streamPathName) {
+        for (Object group : syncCommands.xinfoGroups(streamPathName)) {
+            // Each group information is a list of fields names and values
+            List<?> fields = (List<?>) group;
+            Object name = null, lag = null;
+            for (int i = 0; i + 1 < fields.size(); i += 2) {
+                if ("name".equals(fields.get(i))) name = fields.get(i + 1);
+                if (GROUP_LAG_FIELD.equals(fields.get(i))) lag = fields.get(i + 1);
+            }
+            if (consumersGroupName.equals(name)) return (lag instanceof Long) ? (Long) lag : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Turn of an observation executed by a shared pool, which schedules its next turn until the observation cancellation.
+     * A turn is never executed concurrently with the next one, so its state is only modified by one thread at a time.
+     */
+    private class ObservationTurn implements Runnable {
+
+        private final ScheduledExecutorService scheduler;
+
+        /**
+         * Handle of the observation, cancelled to stop the observation, or completed when the pool is stopped.
+         */
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private String streamPathName;
+        private Consumer<String> consumer;
+        private long nextRecovery = System.nanoTime();
+
+        /**
+         * Current pause (in milliseconds) between two reads of the idle stream.
+         */
+        private long idlePause = 0;
+
+        private ObservationTurn(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            if (completion.isDone()) return; // Cancelled observation
+            long nextTurnDelay;
+            try {
+                // Non-blocking commands are multiplexed over the connection shared with the other observers
+                RedisCommands<String, String> syncCommands = connections.commandConnection().sync();
+                if (consumer == null) {
+                    streamPathName = delegate.observed().name();
+                    consumer = joinConsumersGroup(syncCommands, streamPathName);
+                }
+                // Periodically take over the messages abandoned by the consumers of the group
+                if (System.nanoTime() - nextRecovery >= 0) {
+                    recoverAbandonedMessages(syncCommands, streamPathName, consumer);
+                    nextRecovery = System.nanoTime() + options.recoveryInterval().toNanos();
+                }
+                // Limit the read to the capacity of the observer
+                int capacity = Math.min(options.batchSize(), delegate.availableCapacity());
+                if (capacity < 1) {
+                    metrics.throttled();
+                    nextTurnDelay = THROTTLE_PAUSE;
+                } else if (readBatch(syncCommands, streamPathName, consumer, XReadArgs.Builder.count(capacity)) > 0) {
+                    // Continue immediately the consumption of the stream
+                    idlePause = 0;
+                    nextTurnDelay = 0;
+                } else {
+                    // Idle stream: space the next reads
+                    idlePause = Math.min(Math.max(MIN_IDLE_PAUSE, idlePause * 2), options.blockTimeout().toMillis());
+                    nextTurnDelay = idlePause;
                 }
             } catch (Exception e) {
-                // Temporary connection close/re-opening can generate a temporary exception for connection close status
-                //logger.log(Level.SEVERE, "Problem during stream message read from group!", e.getMessage());
+                // Pause before retry, avoiding an intensive loop during the unavailability of the server
+                nextTurnDelay = options.blockTimeout().toMillis();
+            }
+            if (!completion.isDone()) {
+                try {
+                    scheduler.schedule(this, nextTurnDelay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException ree) {
+                    // Stopped pool
+                    completion.complete(null);
+                }
             }
         }
     }
-}
\ No newline at end of file
+}
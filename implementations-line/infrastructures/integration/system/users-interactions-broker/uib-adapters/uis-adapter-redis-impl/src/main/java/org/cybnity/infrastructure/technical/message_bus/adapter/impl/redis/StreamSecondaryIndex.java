@@ -0,0 +1,422 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.*;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.NamingConventions;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.PayloadCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Secondary indexes of the entries appended into a Redis stream, maintained by Lua scripts executed on the server side.
+ * Each entry is appended (XADD) with the update of its indexes in one atomic script execution:
+ * <ul>
+ *     <li>a hash mapping each fact record identifier (FACT_RECORD_ID_KEY_NAME entry field) to its stream entry identifier, allowing to find a commit version without read of the stream;</li>
+ *     <li>a sorted set per origin subject (ORIGIN_SUBJECT_ID_KEY_NAME entry field) of its stream entries identifiers, ordered by identifier (members of fixed size with a same score, compared lexicographically), allowing to read only the entries of a subject from a lower identifier via a range query;</li>
+ *     <li>a set of the subject indexes keys of the stream, allowing their removal with the stream.</li>
+ * </ul>
+ * The index keys are named with the stream name as hash tag (e.g {ac:tenant}:index:fact), so they are stored on the same cluster slot as their stream.
+ * A stream is considered as indexed only when a readiness marker key exists: the marker is set by the first append into a new stream, or at the end of the backfill of the entries appended before the indexes creation (e.g streams fed by a previous version; see rebuild() method), so that an indexed read never ignores an entry.
+ * The backfill is not executed by the reads, which read the not indexed streams without indexes.
+ * The trim and the delete of an indexed stream shall be executed via this class (see trim() and delete() methods), so that its indexes do not reference removed entries.
+ *
+ * @author olivier
+ */
+public class StreamSecondaryIndex {
+
+    /**
+     * Label of the index keys.
+     */
+    public static final String INDEX_LABEL = "index";
+
+    /**
+     * Label of the index of fact record identifiers.
+     */
+    public static final String FACT_INDEX_LABEL = "fact";
+
+    /**
+     * Label of the indexes of origin subject identifiers.
+     */
+    public static final String SUBJECT_INDEX_LABEL = "subject";
+
+    /**
+     * Label of the readiness marker of the indexes.
+     */
+    public static final String READY_INDEX_LABEL = "ready";
+
+    /**
+     * Label of the set of subject indexes keys.
+     */
+    public static final String SUBJECTS_INDEX_LABEL = "subjects";
+
+    /**
+     * Quantity of digits of each part (milliseconds and sequence number) of an entry identifier into a subject index member.
+     */
+    private static final int MEMBER_PART_SIZE = 20;
+
+    /**
+     * Script appending entries into a stream and updating their indexes.
+     * KEYS[1]=stream, KEYS[2]=facts index, KEYS[3]=readiness marker, KEYS[4]=set of subject indexes, KEYS[5..n]=subject index of each entry having a subject.
+     * ARGV[1]=quantity of entries, followed for each entry by: fact record id (or empty), subject flag (1 or 0), quantity of fields, fields names and values.
+     * Return the identifiers of the appended entries.
+     */
+    private static final String APPEND_SCRIPT =
+            "local function member(id)\n" +
+            "  local ms, seq = string.match(id, '(%d+)-(%d+)')\n" +
+            "  return string.rep('0', " + MEMBER_PART_SIZE + " - #ms) .. ms .. '-' .. string.rep('0', " + MEMBER_PART_SIZE + " - #seq) .. seq\n" +
+            "end\n" +
+            "local ids = {}\n" +
+            "local a = 2\n" +
+            "local k = 5\n" +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[3], '1') end\n" +
+            "for e = 1, tonumber(ARGV[1]) do\n" +
+            "  local factId = ARGV[a]\n" +
+            "  local fieldsQty = tonumber(ARGV[a + 2])\n" +
+            "  local id = redis.call('XADD', KEYS[1], '*', unpack(ARGV, a + 3, a + 2 + fieldsQty * 2))\n" +
+            "  if factId ~= '' then redis.call('HSET', KEYS[2], factId, id) end\n" +
+            "  if ARGV[a + 1] == '1' then\n" +
+            "    redis.call('ZADD', KEYS[k], 0, member(id))\n" +
+            "    redis.call('SADD', KEYS[4], KEYS[k])\n" +
+            "    k = k + 1\n" +
+            "  end\n" +
+            "  ids[e] = id\n" +
+            "  a = a + 3 + fieldsQty * 2\n" +
+            "end\n" +
+            "return ids\n";
+
+    /**
+     * Script reading a page of the entries of a subject, from a lower index member.
+     * KEYS[1]=stream, KEYS[2]=subject index. ARGV[1]=lower index member bound ('-' for all the entries, '[' prefix when included, '(' prefix when excluded), ARGV[2]=maximum quantity of index members to read.
+     * Return the last read index member (empty when none), the quantity of read index members, and the found entries (identifier and fields) in append order.
+     */
+    private static final String READ_SUBJECT_SCRIPT =
+            "local function part(p)\n" +
+            "  local v = string.gsub(p, '^0+', '')\n" +
+            "  if v == '' then return '0' end\n" +
+            "  return v\n" +
+            "end\n" +
+            "local members = redis.call('ZRANGEBYLEX', KEYS[2], ARGV[1], '+', 'LIMIT', 0, tonumber(ARGV[2]))\n" +
+            "local entries = {}\n" +
+            "for _, m in ipairs(members) do\n" +
+            "  local id = part(string.sub(m, 1, " + MEMBER_PART_SIZE + ")) .. '-' .. part(string.sub(m, " + (MEMBER_PART_SIZE + 2) + "))\n" +
+            "  local found = redis.call('XRANGE', KEYS[1], id, id)\n" +
+            "  if #found > 0 then entries[#entries + 1] = found[1] end\n" +
+            "end\n" +
+            "local last = ''\n" +
+            "if #members > 0 then last = members[#members] end\n" +
+            "return {last, #members, entries}\n";
+
+    /**
+     * Script removing the oldest entries of a stream beyond a maximum length, and their references from the indexes.
+     * KEYS[1]=stream, KEYS[2]=facts index, KEYS[3]=set of subject indexes.
+     * ARGV[1]=maximum length of the stream, ARGV[2]=maximum quantity of entries to remove by this execution, ARGV[3]=fact record identifier field name, ARGV[4]=origin subject identifier field name, ARGV[5]=prefix of the subject indexes keys.
+     * Return the quantity of removed entries.
+     */
+    private static final String TRIM_SCRIPT =
+            "local function member(id)\n" +
+            "  local ms, seq = string.match(id, '(%d+)-(%d+)')\n" +
+            "  return string.rep('0', " + MEMBER_PART_SIZE + " - #ms) .. ms .. '-' .. string.rep('0', " + MEMBER_PART_SIZE + " - #seq) .. seq\n" +
+            "end\n" +
+            "local excess = redis.call('XLEN', KEYS[1]) - tonumber(ARGV[1])\n" +
+            "if excess <= 0 then return 0 end\n" +
+            "local entries = redis.call('XRANGE', KEYS[1], '-', '+', 'COUNT', math.min(excess, tonumber(ARGV[2])))\n" +
+            "for _, e in ipairs(entries) do\n" +
+            "  local fields = e[2]\n" +
+            "  for i = 1, #fields - 1, 2 do\n" +
+            "    if fields[i] == ARGV[3] then redis.call('HDEL', KEYS[2], fields[i + 1]) end\n" +
+            "    if fields[i] == ARGV[4] then\n" +
+            "      local subjectIndex = ARGV[5] .. fields[i + 1]\n" +
+            "      redis.call('ZREM', subjectIndex, member(e[1]))\n" +
+            "      if redis.call('EXISTS', subjectIndex) == 0 then redis.call('SREM', KEYS[3], subjectIndex) end\n" +
+            "    end\n" +
+            "  end\n" +
+            "  redis.call('XDEL', KEYS[1], e[1])\n" +
+            "end\n" +
+            "return #entries\n";
+
+    /**
+     * Quantity of entries read per request during an indexes rebuild.
+     */
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    /**
+     * Quantity of index members read per request during the read of a subject entries.
+     */
+    private static final int SUBJECT_READ_PAGE_SIZE = 500;
+
+    /**
+     * Quantity of entries removed per request during a stream trim.
+     */
+    private static final int TRIM_PAGE_SIZE = 500;
+
+    /**
+     * Private constructor of static utility class.
+     */
+    private StreamSecondaryIndex() {
+    }
+
+    /**
+     * Get the name of the key indexing the fact records of a stream.
+     *
+     * @param streamName Mandatory name of the indexed stream.
+     * @return A key name (e.g {ac:tenant}:index:fact).
+     */
+    public static String factIndexKey(String streamName) {
+        return "{" + streamName + "}" + NamingConventions.KEY_NAME_SEPARATOR + INDEX_LABEL + NamingConventions.KEY_NAME_SEPARATOR + FACT_INDEX_LABEL;
+    }
+
+    /**
+     * Get the name of the key indexing the entries of an origin subject.
+     *
+     * @param streamName Mandatory name of the indexed stream.
+     * @param subjectId  Mandatory identifier of the origin subject.
+     * @return A key name (e.g {ac:tenant}:index:subject:IYUTFGX754FDFGH).
+     */
+    public static String subjectIndexKey(String streamName, String subjectId) {
+        return "{" + streamName + "}" + NamingConventions.KEY_NAME_SEPARATOR + INDEX_LABEL + NamingConventions.KEY_NAME_SEPARATOR + SUBJECT_INDEX_LABEL + NamingConventions.KEY_NAME_SEPARATOR + subjectId;
+    }
+
+    /**
+     * Get the name of the key marking the indexes of a stream as complete.
+     *
+     * @param streamName Mandatory name of the indexed stream.
+     * @return A key name (e.g {ac:tenant}:index:ready).
+     */
+    public static String readyIndexKey(String streamName) {
+        return "{" + streamName + "}" + NamingConventions.KEY_NAME_SEPARATOR + INDEX_LABEL + NamingConventions.KEY_NAME_SEPARATOR + READY_INDEX_LABEL;
+    }
+
+    /**
+     * Get the name of the key listing the subject indexes keys of a stream.
+     *
+     * @param streamName Mandatory name of the indexed stream.
+     * @return A key name (e.g {ac:tenant}:index:subjects).
+     */
+    public static String subjectsIndexKey(String streamName) {
+        return "{" + streamName + "}" + NamingConventions.KEY_NAME_SEPARATOR + INDEX_LABEL + NamingConventions.KEY_NAME_SEPARATOR + SUBJECTS_INDEX_LABEL;
+    }
+
+    /**
+     * Get the member of a subject index regarding a stream entry.
+     * The two parts of the entry identifier are left-padded with zeros, so that the lexicographical order of the members is the order of the entries.
+     *
+     * @param entryId Mandatory stream entry identifier (e.g 1700000000000-0).
+     * @return A member (e.g 00000001700000000000-00000000000000000000).
+     */
+    static String subjectIndexMember(String entryId) {
+        int separator = entryId.indexOf('-');
+        String ms = (separator < 0) ? entryId : entryId.substring(0, separator);
+        String seq = (separator < 0) ? "0" : entryId.substring(separator + 1);
+        StringBuilder member = new StringBuilder(MEMBER_PART_SIZE * 2 + 1);
+        for (int i = ms.length(); i < MEMBER_PART_SIZE; i++) member.append('0');
+        member.append(ms).append('-');
+        for (int i = seq.length(); i < MEMBER_PART_SIZE; i++) member.append('0');
+        return member.append(seq).toString();
+    }
+
+    /**
+     * Append entries at the end of a stream and index them, in one atomic execution.
+     * The entries are written over a connection without text encoding, so the binary fields values (e.g compressed payloads) are written without conversion (see PayloadCodec.toBytes(String)).
+     *
+     * @param commands Mandatory commands of a binary connection.
+     * @param stream   Mandatory name of the stream to feed.
+     * @param bodies   Mandatory fields of each entry to append, in append order.
+     * @return Identifiers of the appended entries, in append order.
+     */
+    public static List<String> append(RedisCommands<byte[], byte[]> commands, String stream, List<Map<String, String>> bodies) {
+        List<byte[]> keys = new ArrayList<>();
+        keys.add(bytes(stream));
+        keys.add(bytes(factIndexKey(stream)));
+        keys.add(bytes(readyIndexKey(stream)));
+        keys.add(bytes(subjectsIndexKey(stream)));
+        List<byte[]> args = new ArrayList<>();
+        args.add(bytes(Integer.toString(bodies.size())));
+        String factId, subjectId;
+        for (Map<String, String> body : bodies) {
+            factId = body.get(Stream.Specification.FACT_RECORD_ID_KEY_NAME.name());
+            subjectId = body.get(Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name());
+            args.add(bytes((factId != null) ? factId : ""));
+            if (subjectId != null && !subjectId.isEmpty()) {
+                args.add(bytes("1"));
+                keys.add(bytes(subjectIndexKey(stream, subjectId)));
+            } else {
+                args.add(bytes("0"));
+            }
+            args.add(bytes(Integer.toString(body.size())));
+            for (Map.Entry<String, String> field : body.entrySet()) {
+                args.add(bytes(field.getKey()));
+                args.add(PayloadCodec.toBytes(field.getValue()));
+            }
+        }
+        List<Object> ids = execute(commands, APPEND_SCRIPT, ScriptOutputType.MULTI, keys.toArray(new byte[0][]), args.toArray(new byte[0][]));
+        List<String> result = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            result.add(new String((byte[]) id, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verify if all the entries of a stream are indexed (e.g stream created via this index, or backfilled).
+     *
+     * @param commands Mandatory commands of a connection.
+     * @param stream   Mandatory name of the stream.
+     * @return True when the readiness marker of the stream indexes exists.
+     */
+    public static boolean isIndexed(RedisCommands<String, String> commands, String stream) {
+        Long existing = commands.exists(readyIndexKey(stream));
+        return existing != null && existing > 0;
+    }
+
+    /**
+     * Find the stream entry identifier of a fact record.
+     *
+     * @param commands     Mandatory commands of a connection.
+     * @param stream       Mandatory name of the stream.
+     * @param factRecordId Mandatory identifier of the fact record.
+     * @return An entry identifier or null when the fact record is not indexed.
+     */
+    public static String findEntryId(RedisCommands<String, String> commands, String stream, String factRecordId) {
+        return commands.hget(factIndexKey(stream), factRecordId);
+    }
+
+    /**
+     * Read the entries of an origin subject, by pages of index members.
+     *
+     * @param commands     Mandatory commands of a connection.
+     * @param stream       Mandatory name of the stream.
+     * @param subjectId    Mandatory identifier of the origin subject.
+     * @param fromEntryId  Optional identifier of the first entry to read (included). When null, all the entries of the subject are read.
+     * @return Entries of the subject in append order. Empty list when none indexed entry.
+     */
+    public static List<StreamMessage<String, String>> readSubjectEntries(RedisCommands<String, String> commands, String stream, String subjectId, String fromEntryId) {
+        String[] keys = new String[]{stream, subjectIndexKey(stream, subjectId)};
+        String lower = (fromEntryId != null) ? "[" + subjectIndexMember(fromEntryId) : "-";
+        List<StreamMessage<String, String>> result = new ArrayList<>();
+        long readMembers;
+        do {
+            List<Object> page = execute(commands, READ_SUBJECT_SCRIPT, ScriptOutputType.MULTI, keys, new String[]{lower, Integer.toString(SUBJECT_READ_PAGE_SIZE)});
+            readMembers = (Long) page.get(1);
+            for (Object entry : (List<?>) page.get(2)) {
+                // Each entry is an array of its identifier and of its fields names and values
+                List<?> item = (List<?>) entry;
+                List<?> fields = (List<?>) item.get(1);
+                Map<String, String> body = new LinkedHashMap<>();
+                for (int i = 0; i + 1 < fields.size(); i += 2) {
+                    body.put((String) fields.get(i), (String) fields.get(i + 1));
+                }
+                result.add(new StreamMessage<>(stream, (String) item.get(0), body));
+            }
+            // Next page after the last read member (excluded)
+            lower = "(" + page.get(0);
+        } while (readMembers == SUBJECT_READ_PAGE_SIZE);
+        return result;
+    }
+
+    /**
+     * Remove the oldest entries of a stream beyond a maximum length, with their references from the indexes.
+     * The entries are removed by pages, each page in one atomic execution.
+     *
+     * @param commands  Mandatory commands of a connection.
+     * @param stream    Mandatory name of the stream.
+     * @param maxLength Quantity of most recent entries to keep (minimum 0).
+     * @return Quantity of removed entries.
+     */
+    public static long trim(RedisCommands<String, String> commands, String stream, long maxLength) {
+        String[] keys = new String[]{stream, factIndexKey(stream), subjectsIndexKey(stream)};
+        String[] args = new String[]{Long.toString(maxLength), Integer.toString(TRIM_PAGE_SIZE), Stream.Specification.FACT_RECORD_ID_KEY_NAME.name(), Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name(), subjectIndexKey(stream, "")};
+        long removed = 0, page;
+        do {
+            Long count = execute(commands, TRIM_SCRIPT, ScriptOutputType.INTEGER, keys, args);
+            page = (count != null) ? count : 0;
+            removed += page;
+        } while (page == TRIM_PAGE_SIZE);
+        return removed;
+    }
+
+    /**
+     * Delete a stream and all its indexes keys.
+     * The stream and its readiness marker are deleted first, so that a concurrent read does not use the indexes being deleted.
+     *
+     * @param commands Mandatory commands of a connection.
+     * @param stream   Mandatory name of the stream.
+     */
+    public static void delete(RedisCommands<String, String> commands, String stream) {
+        commands.del(stream, readyIndexKey(stream));
+        String subjectsIndex = subjectsIndexKey(stream);
+        ValueScanCursor<String> cursor = null;
+        do {
+            // Delete the subject indexes by pages
+            cursor = (cursor == null) ? commands.sscan(subjectsIndex) : commands.sscan(subjectsIndex, cursor);
+            if (!cursor.getValues().isEmpty()) commands.del(cursor.getValues().toArray(new String[0]));
+        } while (!cursor.isFinished());
+        commands.del(factIndexKey(stream), subjectsIndex);
+    }
+
+    /**
+     * Index all the entries of a stream (e.g stream fed before the indexes creation), and mark the stream as indexed at the end of the backfill.
+     * The indexes update is idempotent, so the rebuild can be executed while writers are appending into the stream (the entries appended during the rebuild are indexed by their append).
+     *
+     * @param commands Mandatory commands of a connection.
+     * @param stream   Mandatory name of the stream.
+     * @return Quantity of indexed entries.
+     */
+    public static int rebuild(RedisCommands<String, String> commands, String stream) {
+        int indexed = 0;
+        String lower = "-";
+        List<StreamMessage<String, String>> page;
+        do {
+            // Read and index the stream by pages
+            page = commands.xrange(stream, Range.create(lower, "+"), Limit.from(REBUILD_PAGE_SIZE));
+            Map<String, List<ScoredValue<String>>> membersPerSubject = new HashMap<>();
+            Map<String, String> entryPerFact = new HashMap<>();
+            for (StreamMessage<String, String> entry : page) {
+                if ("-".equals(lower) || !entry.getId().equals(lower)) {
+                    String factId = entry.getBody().get(Stream.Specification.FACT_RECORD_ID_KEY_NAME.name());
+                    if (factId != null && !factId.isEmpty()) entryPerFact.put(factId, entry.getId());
+                    String subjectId = entry.getBody().get(Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name());
+                    if (subjectId != null && !subjectId.isEmpty())
+                        membersPerSubject.computeIfAbsent(subjectId, k -> new ArrayList<>()).add(ScoredValue.just(0, subjectIndexMember(entry.getId())));
+                    indexed++;
+                }
+            }
+            for (Map.Entry<String, List<ScoredValue<String>>> subject : membersPerSubject.entrySet()) {
+                String subjectIndex = subjectIndexKey(stream, subject.getKey());
+                commands.zadd(subjectIndex, subject.getValue().toArray());
+                commands.sadd(subjectsIndexKey(stream), subjectIndex);
+            }
+            if (!entryPerFact.isEmpty()) commands.hset(factIndexKey(stream), entryPerFact);
+            // Next page starts from the last read entry (included, so ignored)
+            if (!page.isEmpty()) lower = page.get(page.size() - 1).getId();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        // All the entries existing before the rebuild are indexed
+        commands.set(readyIndexKey(stream), "1");
+        return indexed;
+    }
+
+    /**
+     * Execute a script from its digest, and load it when not already known by the server (e.g first execution, server restarted).
+     *
+     * @param commands Mandatory commands of a connection.
+     * @param script   Mandatory script.
+     * @param type     Mandatory type of the script result.
+     * @param keys     Keys read or written by the script.
+     * @param args     Arguments of the script.
+     * @return The script result.
+     */
+    private static <K, V, T> T execute(RedisCommands<K, V> commands, String script, ScriptOutputType type, K[] keys, V[] args) {
+        try {
+            return commands.evalsha(commands.digest(script), type, keys, args);
+        } catch (RedisNoScriptException nse) {
+            // Script not cached by the server: send it
+            return commands.eval(script, type, keys, args);
+        }
+    }
+}
@@ -5,9 +5,6 @@ import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.api.sync.RedisHashCommands;
 import io.lettuce.core.api.sync.RedisKeyCommands;
-import io.lettuce.core.api.sync.RedisStreamCommands;
-import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
 import org.cybnity.framework.IContext;
@@ -18,17 +15,18 @@ import org.cybnity.framework.domain.SerializedResource;
 import org.cybnity.framework.domain.infrastructure.ResourceDescriptor;
 import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.framework.immutable.utility.Base64StringConverter;
+import org.cybnity.framework.support.metrics.Metrics;
+import org.cybnity.framework.support.metrics.Timer;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.*;
 import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.filter.MessageSpecificationEqualsFilter;
 import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.IDescribedToStreamMessageTransformer;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.PayloadCodec;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.*;
 import java.util.logging.Logger;
 
 /**
@@ -54,6 +52,11 @@ public class UISAdapterRedisImpl implements UISAdapter {
      */
     private static final String RESOURCE_VALUE_KEY_NAME = "value";
 
+    /**
+     * Key name of the hash attribute storing the binary value of a resource (without text conversion).
+     */
+    private static final String RESOURCE_BINARY_VALUE_KEY_NAME = "binaryValue";
+
     /**
      * Current context of adapter runtime.
      */
@@ -69,6 +72,11 @@ public class UISAdapterRedisImpl implements UISAdapter {
      */
     private RedisClient client;
 
+    /**
+     * Manager of the connections shared by the adapter commands and observers.
+     */
+    private RedisConnectionManager connections;
+
     private Duration connectionTimeout;
 
     /**
@@ -81,6 +89,48 @@ public class UISAdapterRedisImpl implements UISAdapter {
      */
     private final ExecutorService currentChannelObserversPool = Executors.newCachedThreadPool();
 
+    /**
+     * Execution mode of the streams and channels observation tasks.
+     */
+    private final ObserversExecutionMode observersExecutionMode;
+
+    /**
+     * Quantity of threads of the pool shared by the observers in SHARED_POOL execution mode.
+     */
+    private final int sharedObserversPoolSize;
+
+    /**
+     * Maximum quantity of dedicated connections usable at the same time (e.g by the blocking observers).
+     */
+    private final int dedicatedConnectionsPoolSize;
+
+    /**
+     * Maximum duration of waiting for a dedicated connection release.
+     */
+    private final Duration dedicatedConnectionWaitTimeout;
+
+    /**
+     * Codec of the payloads written by this adapter, compressing them according to the configured threshold.
+     */
+    private final PayloadCodec payloadCodec;
+
+    /**
+     * Pool of threads shared by the observation tasks in SHARED_POOL execution mode.
+     * Created on first observer registration.
+     */
+    private ScheduledExecutorService sharedObserversPool;
+
+    /**
+     * Thread executing the backfills of the secondary indexes of the streams fed before their indexing.
+     * Created on first backfill request.
+     */
+    private ExecutorService indexesBackfillThread;
+
+    /**
+     * Names of the streams whose indexes backfill is requested or in progress.
+     */
+    private final Set<String> backfilledStreams = ConcurrentHashMap.newKeySet();
+
     /**
      * Concurrent accessible set of started futures regarding registered stream observations.
      * Key = stream path name, Value = started thread.
@@ -89,6 +139,17 @@ public class UISAdapterRedisImpl implements UISAdapter {
      */
     private final Map<StreamObserver, Future<Void>> currentStreamObserversThreads = new ConcurrentHashMap<>();
 
+    /**
+     * Started stream observation tasks (Key = observer), providing their consumption measures.
+     */
+    private final Map<StreamObserver, StreamObservationTask> currentStreamObservationTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Registered stream observers executed by a dedicated thread, each one holding a connection of the dedicated pool during its whole observation.
+     * Their quantity is limited to the size of the dedicated connections pool; the other observers are executed by the shared pool.
+     */
+    private final Set<StreamObserver> dedicatedStreamObservers = new HashSet<>();
+
     /**
      * Concurrent accessible set of started futures regarding registered channel observations.
      * Key = channel path name, Value = started thread.
@@ -97,6 +158,26 @@ public class UISAdapterRedisImpl implements UISAdapter {
      */
     private final Map<ChannelObserver, Future<Void>> currentChannelObserversThreads = new ConcurrentHashMap<>();
 
+    /**
+     * Started channel observation tasks (Key = observer), allowing to stop their subscription.
+     */
+    private final Map<ChannelObserver, ChannelObservationTask> currentChannelObservationTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Latency of the facts append into streams (round trip of the XADD script, including the indexes update).
+     */
+    private final Timer appendTimer = Metrics.registry().timer("uis_append_seconds");
+
+    /**
+     * Latency of the streams read (including the mapping of the read entries).
+     */
+    private final Timer readTimer = Metrics.registry().timer("uis_read_seconds");
+
+    /**
+     * Latency of the events publication onto channels (including the event mapping).
+     */
+    private final Timer publishTimer = Metrics.registry().timer("uis_publish_seconds");
+
     /**
      * Default constructor of the adapter ready to manage interactions with the
      * Redis instance(s).
@@ -116,6 +197,168 @@ public class UISAdapterRedisImpl implements UISAdapter {
         // Check the minimum required data allowing connection to the targeted Redis
         // server
         checkHealthyState();
+
+        // Read the optional configuration of the observers execution
+        String mode = context.get(ObserversExecutionConfigurationVariable.UIS_OBSERVERS_EXECUTION_MODE);
+        String poolSize = context.get(ObserversExecutionConfigurationVariable.UIS_OBSERVERS_POOL_SIZE);
+        try {
+            this.observersExecutionMode = (mode != null && !mode.isEmpty()) ? ObserversExecutionMode.valueOf(mode.trim().toUpperCase()) : ObserversExecutionMode.DEDICATED_THREADS;
+            this.sharedObserversPoolSize = (poolSize != null && !poolSize.isEmpty()) ? Integer.parseInt(poolSize.trim()) : Runtime.getRuntime().availableProcessors();
+        } catch (IllegalArgumentException iae) {
+            throw new UnoperationalStateException("Invalid configuration of the observers execution (" + iae.getMessage() + ")!", iae);
+        }
+        if (this.sharedObserversPoolSize < 1)
+            throw new UnoperationalStateException("Invalid configuration of the observers execution (pool size shall be minimum 1)!");
+
+        // Read the optional configuration of the dedicated connections pool
+        String dedicatedPoolSize = context.get(ConnectionsConfigurationVariable.UIS_DEDICATED_CONNECTIONS_POOL_SIZE);
+        String dedicatedWaitTimeout = context.get(ConnectionsConfigurationVariable.UIS_DEDICATED_CONNECTION_WAIT_TIMEOUT);
+        try {
+            this.dedicatedConnectionsPoolSize = (dedicatedPoolSize != null && !dedicatedPoolSize.isEmpty()) ? Integer.parseInt(dedicatedPoolSize.trim()) : RedisConnectionManager.DEFAULT_DEDICATED_POOL_SIZE;
+            this.dedicatedConnectionWaitTimeout = (dedicatedWaitTimeout != null && !dedicatedWaitTimeout.isEmpty()) ? Duration.ofMillis(Long.parseLong(dedicatedWaitTimeout.trim())) : RedisConnectionManager.DEFAULT_DEDICATED_CONNECTION_WAIT_TIMEOUT;
+        } catch (IllegalArgumentException iae) {
+            throw new UnoperationalStateException("Invalid configuration of the dedicated connections (" + iae.getMessage() + ")!", iae);
+        }
+        if (this.dedicatedConnectionsPoolSize < 1 || this.dedicatedConnectionWaitTimeout.isNegative())
+            throw new UnoperationalStateException("Invalid configuration of the dedicated connections (pool size shall be minimum 1, and wait timeout shall be positive)!");
+
+        // Read the optional compression threshold of the payloads written by this adapter
+        String compressionThreshold = context.get(MessagePayloadConfigurationVariable.UIS_PAYLOAD_COMPRESSION_THRESHOLD);
+        try {
+            this.payloadCodec = new PayloadCodec((compressionThreshold != null && !compressionThreshold.isEmpty()) ? Integer.parseInt(compressionThreshold.trim()) : PayloadCodec.COMPRESSION_DISABLED);
+        } catch (IllegalArgumentException iae) {
+            throw new UnoperationalStateException("Invalid configuration of the payloads compression (" + iae.getMessage() + ")!", iae);
+        }
+    }
+
+    /**
+     * Get the codec of the payloads written by this adapter.
+     *
+     * @return A codec.
+     */
+    public PayloadCodec payloadCodec() {
+        return this.payloadCodec;
+    }
+
+    /**
+     * Get the execution mode of the observers started by this adapter.
+     *
+     * @return A mode.
+     */
+    public ObserversExecutionMode observersExecutionMode() {
+        return this.observersExecutionMode;
+    }
+
+    /**
+     * Get the pool of threads shared by the observation tasks.
+     * When previous instance have been removed (e.g over freeUpResources() call), this method re-instantiate a pool and return it.
+     *
+     * @return A pool of daemon threads.
+     */
+    private synchronized ScheduledExecutorService sharedObserversPool() {
+        if (this.sharedObserversPool == null) {
+            this.sharedObserversPool = Executors.newScheduledThreadPool(this.sharedObserversPoolSize, runnable -> {
+                Thread thread = new Thread(runnable, "uis-observers-" + UUID.randomUUID());
+                // Do not prevent the stop of the process
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.sharedObserversPool;
+    }
+
+    /**
+     * Request the backfill of the secondary indexes of a stream fed before their indexing (e.g stream fed by a previous version), executed in background.
+     * The stream reads are executed without indexes until the end of the backfill. A backfill already requested for the stream is not requested again.
+     *
+     * @param streamName Mandatory name of the stream to index.
+     */
+    private synchronized void requestIndexesBackfill(String streamName) {
+        if (!backfilledStreams.add(streamName)) return; // Already requested
+        if (this.indexesBackfillThread == null) {
+            this.indexesBackfillThread = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "uis-indexes-backfill");
+                // Do not prevent the stop of the process
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.indexesBackfillThread.execute(() -> {
+            try {
+                StreamSecondaryIndex.rebuild(connections().commandConnection().sync(), streamName);
+            } catch (Exception e) {
+                // Requested again by the next read of the not indexed stream
+                logger.warning("Indexes backfill of stream (" + streamName + ") failed: " + e.getMessage());
+            } finally {
+                backfilledStreams.remove(streamName);
+            }
+        });
+    }
+
+    /**
+     * Index all the entries of a stream fed before the indexing (e.g stream fed by a previous version), and mark the stream as indexed.
+     * Explicit alternative to the backfill executed in background after the first read of a not indexed stream.
+     *
+     * @param stream Mandatory stream to index.
+     * @return Quantity of indexed entries.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws UnoperationalStateException When problem with the Redis server.
+     */
+    public int indexStream(Stream stream) throws IllegalArgumentException, UnoperationalStateException {
+        if (stream == null) throw new IllegalArgumentException("stream parameter is required!");
+        try {
+            return StreamSecondaryIndex.rebuild(connections().commandConnection().sync(), stream.name());
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        }
+    }
+
+    /**
+     * Remove the oldest entries of a stream beyond a maximum length, with their references from the stream indexes.
+     *
+     * @param stream    Mandatory stream to trim.
+     * @param maxLength Quantity of most recent entries to keep (minimum 0).
+     * @return Quantity of removed entries.
+     * @throws IllegalArgumentException    When mandatory parameter is missing or invalid.
+     * @throws UnoperationalStateException When problem with the Redis server.
+     */
+    public long trimStream(Stream stream, long maxLength) throws IllegalArgumentException, UnoperationalStateException {
+        if (stream == null) throw new IllegalArgumentException("stream parameter is required!");
+        if (maxLength < 0) throw new IllegalArgumentException("maxLength parameter shall be minimum 0!");
+        try {
+            return StreamSecondaryIndex.trim(connections().commandConnection().sync(), stream.name(), maxLength);
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        }
+    }
+
+    /**
+     * Delete a stream with its indexes.
+     *
+     * @param stream Mandatory stream to delete.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws UnoperationalStateException When problem with the Redis server.
+     */
+    public void deleteStream(Stream stream) throws IllegalArgumentException, UnoperationalStateException {
+        if (stream == null) throw new IllegalArgumentException("stream parameter is required!");
+        try {
+            StreamSecondaryIndex.delete(connections().commandConnection().sync(), stream.name());
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        }
+    }
+
+    /**
+     * Verify if all the entries of a stream are indexed, and request the backfill of its indexes when not indexed.
+     *
+     * @param sync       Mandatory commands of a connection.
+     * @param streamName Mandatory name of the stream.
+     * @return True when the stream is readable via its indexes.
+     */
+    private boolean isIndexed(RedisCommands<String, String> sync, String streamName) {
+        if (StreamSecondaryIndex.isIndexed(sync, streamName)) return true;
+        requestIndexesBackfill(streamName);
+        return false;
     }
 
     /**
@@ -140,6 +383,40 @@ public class UISAdapterRedisImpl implements UISAdapter {
         return this.client;
     }
 
+    /**
+     * Get the manager of the connections opened with the space.
+     * When previous instance have been removed (e.g over freeUpResources() call), this method re-instantiate a manager and return it.
+     *
+     * @return A connections manager based on the singleton client.
+     * @throws UnoperationalStateException When system access via uri is in failure.
+     */
+    private synchronized RedisConnectionManager connections() throws UnoperationalStateException {
+        if (this.connections == null) {
+            this.connections = new RedisConnectionManager(getClient(), this.dedicatedConnectionsPoolSize, this.dedicatedConnectionWaitTimeout);
+        }
+        return this.connections;
+    }
+
+    /**
+     * Get the quantity of connections opened with the space (including automatic reconnections) since the adapter start.
+     *
+     * @return A quantity.
+     * @throws UnoperationalStateException When system access via uri is in failure.
+     */
+    public long openedConnectionsCount() throws UnoperationalStateException {
+        return connections().openedConnectionsCount();
+    }
+
+    /**
+     * Get the rate of connections opened with the space since the previous measure.
+     *
+     * @return A quantity of opened connections per second.
+     * @throws UnoperationalStateException When system access via uri is in failure.
+     */
+    public double connectionsOpenedPerSecond() throws UnoperationalStateException {
+        return connections().connectionsOpenedPerSecond();
+    }
+
     @Override
     public void freeUpResources() {
         try {
@@ -148,6 +425,21 @@ public class UISAdapterRedisImpl implements UISAdapter {
                 unregister(currentStreamObserversThreads.keySet());
                 unsubscribe(currentChannelObserversThreads.keySet());
 
+                // Close the shared and pooled connections
+                synchronized (this) {
+                    if (this.indexesBackfillThread != null) {
+                        this.indexesBackfillThread.shutdownNow();
+                        this.indexesBackfillThread = null;
+                    }
+                    if (this.sharedObserversPool != null) {
+                        this.sharedObserversPool.shutdownNow();
+                        this.sharedObserversPool = null;
+                    }
+                    if (this.connections != null) {
+                        this.connections.freeUpResources();
+                        this.connections = null;
+                    }
+                }
                 // Disconnect client from space
                 getClient().shutdown();
                 // Remove singleton instance which is not usable (to force potential singleton re-instantiation in case of getClient() future call)
@@ -164,10 +456,26 @@ public class UISAdapterRedisImpl implements UISAdapter {
             healthyChecker = new ExecutableAdapterChecker(context);
         // Execution the health check
         healthyChecker.checkOperableState();
+        // Verify the link with the space when already opened (replacing the shared connection when broken)
+        RedisConnectionManager current = this.connections;
+        if (current != null) current.checkConnectivity();
     }
 
     @Override
     public void register(Collection<StreamObserver> observers, MessageMapper eventMapper) throws IllegalArgumentException, UnoperationalStateException {
+        register(observers, eventMapper, StreamConsumptionOptions.defaults());
+    }
+
+    /**
+     * Register observers of streams with a specific configuration of the messages consumption.
+     *
+     * @param observers   Observers to register. Ignored when null or empty. An observer already registered is ignored.
+     * @param eventMapper Mandatory mapper of the observed messages.
+     * @param options     Optional configuration of the messages consumption (e.g blocking read timeout, batch size). When null, default options are applied.
+     * @throws IllegalArgumentException    When mandatory parameter is missing.
+     * @throws UnoperationalStateException When problem of connection with the space.
+     */
+    public void register(Collection<StreamObserver> observers, MessageMapper eventMapper, StreamConsumptionOptions options) throws IllegalArgumentException, UnoperationalStateException {
         if (observers != null && !observers.isEmpty()) {
             for (StreamObserver listener : observers) {
                 // Verify that a same observer is not already existing for listening of the same topic (avoiding multiple registration of a same observer)
@@ -179,14 +487,45 @@ public class UISAdapterRedisImpl implements UISAdapter {
                     }
                 }
                 if (!alreadyObservedStreamOverEqualsPattern) {
-                    Future<Void> f = currentStreamObserversPool.submit(new StreamObservationTask(getClient(), listener, eventMapper));
+                    StreamObservationTask task = new StreamObservationTask(connections(), listener, eventMapper, options);
+                    Future<Void> f = (observersExecutionMode == ObserversExecutionMode.DEDICATED_THREADS && reserveDedicatedConnection(listener)) ? currentStreamObserversPool.submit(task) : task.schedule(sharedObserversPool());
                     // Get handle to the started thread for potential future stop
                     currentStreamObserversThreads.put(listener, f);
+                    currentStreamObservationTasks.put(listener, task);
                 }
             }
         }
     }
 
+    /**
+     * Reserve a connection of the dedicated pool for the whole observation of a stream by a dedicated thread.
+     * When all the pool connections are reserved by other observers, the observer is executed by the shared pool (non-blocking reads) instead of waiting for a connection release that would never happen before the borrow timeout.
+     *
+     * @param observer Mandatory observer to execute.
+     * @return True when a connection is reserved for the observer. False when the observer shall be executed by the shared pool.
+     */
+    private boolean reserveDedicatedConnection(StreamObserver observer) {
+        synchronized (dedicatedStreamObservers) {
+            if (dedicatedStreamObservers.size() >= this.dedicatedConnectionsPoolSize) {
+                logger.warning("Observer of stream (" + observer.observed().name() + ") executed by the shared pool (all the " + this.dedicatedConnectionsPoolSize + " dedicated connections are reserved by other observers)");
+                return false;
+            }
+            return dedicatedStreamObservers.add(observer);
+        }
+    }
+
+    /**
+     * Get the measures of the messages consumption of a registered stream observer.
+     *
+     * @param observer Observer.
+     * @return Measures, or null when the observer is not registered.
+     */
+    public StreamConsumptionMetrics streamConsumptionMetrics(StreamObserver observer) {
+        if (observer == null) return null;
+        StreamObservationTask task = currentStreamObservationTasks.get(observer);
+        return (task != null) ? task.metrics() : null;
+    }
+
     @Override
     public void subscribe(Collection<ChannelObserver> observers, MessageMapper eventMapper) throws IllegalArgumentException, UnoperationalStateException {
         if (observers != null && !observers.isEmpty()) {
@@ -200,9 +539,12 @@ public class UISAdapterRedisImpl implements UISAdapter {
                     }
                 }
                 if (!alreadyObservedChannelOverEqualsPattern) {
-                    Future<Void> f = currentChannelObserversPool.submit(new ChannelObservationTask(getClient(), listener, eventMapper));
+                    // Channel observation task only subscribes over the shared subscription connection (messages are delivered by the client event loop)
+                    ChannelObservationTask task = new ChannelObservationTask(connections(), listener, eventMapper);
+                    Future<Void> f = (observersExecutionMode == ObserversExecutionMode.SHARED_POOL) ? sharedObserversPool().submit(task) : currentChannelObserversPool.submit(task);
                     // Get handle to the started thread for potential future stop
                     currentChannelObserversThreads.put(listener, f);
+                    currentChannelObservationTasks.put(listener, task);
                 }
             }
         }
@@ -224,6 +566,11 @@ public class UISAdapterRedisImpl implements UISAdapter {
                             if (thread.cancel(true)) {
                                 // Clean container of thread regarding the previous instance
                                 currentStreamObserversThreads.remove(item.getKey());
+                                StreamObservationTask task = currentStreamObservationTasks.remove(item.getKey());
+                                if (task != null) task.stop();
+                                synchronized (dedicatedStreamObservers) {
+                                    dedicatedStreamObservers.remove(item.getKey());
+                                }
                                 logger.fine("Observer of stream (" + listener.observed().name() + ") is stopped");
                             }
                         }
@@ -244,14 +591,13 @@ public class UISAdapterRedisImpl implements UISAdapter {
                     if (item.getKey().equals(listener)) {
                         // Existing equals observer reference which can be interrupted
                         Future<Void> thread = item.getValue();
-                        if (thread != null) {
-                            // Interrupt the task
-                            if (thread.cancel(true)) {
-                                // Clean container of thread regarding the previous instance
-                                currentChannelObserversThreads.remove(item.getKey());
-                                logger.fine("Observer of channel (" + listener.observed().name() + ") is stopped");
-                            }
-                        }
+                        // Interrupt the subscription in progress (the task is ended when the channel is subscribed)
+                        if (thread != null) thread.cancel(true);
+                        // Clean container of thread regarding the previous instance, and remove its subscription
+                        currentChannelObserversThreads.remove(item.getKey());
+                        ChannelObservationTask task = currentChannelObservationTasks.remove(item.getKey());
+                        if (task != null) task.stop();
+                        logger.fine("Observer of channel (" + listener.observed().name() + ") is stopped");
                     }
                 }
             }
@@ -303,27 +649,56 @@ public class UISAdapterRedisImpl implements UISAdapter {
         }
         if (recipientPathName == null || recipientPathName.isEmpty())
             throw new IllegalArgumentException("Recipient stream name not defined. Impossible push of factEvent on the space!");
-        StatefulRedisConnection<String, String> connection = null;
         try {
             // Transform event into supported message type
-            mapper.transform(fact);
-            Map<String, String> messageBody = (Map<String, String>) mapper.getResult();
+            Map<String, String> messageBody = payloadCodec.compress((Map<String, String>) mapper.map(fact));
 
-            // Send event to identified stream recipient
-            connection = getClient().connect();
-            RedisCommands<String, String> syncCommands = connection.sync();
-            messageId = syncCommands.xadd(/* recipient name to feed */ recipientPathName, /* fact record transformed */ messageBody);
+            // Send event to identified stream recipient (with update of the stream indexes), without text encoding of the compressed payload
+            StatefulRedisConnection<byte[], byte[]> connection = connections().binaryCommandConnection();
+            RedisCommands<byte[], byte[]> syncCommands = connection.sync();
+            long start = System.nanoTime();
+            try {
+                messageId = StreamSecondaryIndex.append(syncCommands, /* recipient name to feed */ recipientPathName, /* fact record transformed */ List.of(messageBody)).get(0);
+            } finally {
+                appendTimer.recordSince(start);
+            }
         } catch (ClassCastException cce) {
             // Transformation result cast problem
             throw new MappingException(cce);
-        } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
-            }
         }
         return messageId;
     }
 
+    @Override
+    public List<String> append(List<?> facts, Stream recipient, MessageMapper mapper) throws IllegalArgumentException, MappingException, UnoperationalStateException {
+        if (facts == null) throw new IllegalArgumentException("Facts parameter is required!");
+        if (recipient == null) throw new IllegalArgumentException("Recipient parameter is required!");
+        if (mapper == null) throw new IllegalArgumentException("Mapper parameter is required!");
+        if (facts.isEmpty()) return new LinkedList<>();
+        // Transform all the facts before any transmission (a mapping problem shall not generate a partial append)
+        List<Map<String, String>> messageBodies = new ArrayList<>(facts.size());
+        try {
+            for (Object fact : facts) {
+                if (fact == null) throw new IllegalArgumentException("Facts parameter shall not include null fact!");
+                messageBodies.add(payloadCodec.compress((Map<String, String>) mapper.map(fact)));
+            }
+        } catch (ClassCastException cce) {
+            // Transformation result cast problem
+            throw new MappingException(cce);
+        }
+
+        // Append all the entries and their indexes in one atomic script execution (one round trip), without text encoding of the compressed payloads
+        StatefulRedisConnection<byte[], byte[]> connection = connections().binaryCommandConnection();
+        long start = System.nanoTime();
+        try {
+            return StreamSecondaryIndex.append(connection.sync(), /* recipient name to feed */ recipient.name(), /* facts records transformed */ messageBodies);
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        } finally {
+            appendTimer.recordSince(start);
+        }
+    }
+
     @Override
     public String append(IDescribed event, Stream recipient, MessageMapper eventMapper) throws IllegalArgumentException, MappingException, UnoperationalStateException {
         return this.append((Object) event, recipient, eventMapper);
@@ -333,45 +708,32 @@ public class UISAdapterRedisImpl implements UISAdapter {
     public List<Object> readAllFrom(Stream stream, MessageMapper itemMapper, Identifier originSubjectIDFilter) throws IllegalArgumentException, MappingException, UnoperationalStateException {
         if (stream == null) throw new IllegalArgumentException("stream parameter is required!");
         if (itemMapper == null) throw new IllegalArgumentException("itemMapper parameter is required!");
-        List<Object> foundEntries = new LinkedList<>(); // empty list returned by default
-        StatefulRedisConnection<String, String> connection = null;
+        long start = System.nanoTime();
         try {
-            connection = getClient().connect();
-            RedisCommands<String, String> sync = connection.sync();
+            return read(stream, itemMapper, originSubjectIDFilter);
+        } finally {
+            readTimer.recordSince(start);
+        }
+    }
+
+    /**
+     * Read the entries of a stream, optionally filtered on an origin subject.
+     */
+    private List<Object> read(Stream stream, MessageMapper itemMapper, Identifier originSubjectIDFilter) throws MappingException, UnoperationalStateException {
+        StatefulRedisConnection<String, String> connection = connections().commandConnection();
+        RedisCommands<String, String> sync = connection.sync();
+        List<StreamMessage<String, String>> whereEqualOriginSubjectItems;
+        if (originSubjectIDFilter != null && isIndexed(sync, stream.name())) {
+            // Read only the stream items about the origin subject (selected on server side via the subject index)
+            whereEqualOriginSubjectItems = StreamSecondaryIndex.readSubjectEntries(sync, stream.name(), originSubjectIDFilter.value().toString(), null);
+        } else {
             // Execute synchronous read command (read of all stream's items)
             List<StreamMessage<String, String>> streamItems = sync.xread(XReadArgs.StreamOffset.from(/* stream path name to read */ stream.name(), /* All history of foundEntries having an ID greater than 0-0 */ StreamObserver.DEFAULT_OBSERVATION_PATTERN));
-            Object retrievedItem;
-
             // Apply filtering conditions to select only the items about equals origin subject id
-            MessageSpecificationEqualsFilter filter = new MessageSpecificationEqualsFilter();
-            Map<String, String> selectionCriteria = new HashMap<>();
-            selectionCriteria.put(MessageSpecificationEqualsFilter.FilteringCriteria.ORIGIN_SUBJECT_ID_PARAM_NAME.paramName(), (originSubjectIDFilter != null) ? originSubjectIDFilter.value().toString() : null);
-            // Execute the results reduction
-            List<StreamMessage<String, String>> whereEqualOriginSubjectItems = filter.apply(streamItems, selectionCriteria, null);
-
-            // Get the filtered results to return
-            for (StreamMessage<String, String> equalsOriginSubjectItem : whereEqualOriginSubjectItems) {
-                if (equalsOriginSubjectItem != null) {
-                    try {
-                        // Try to transform event into supported object type to return
-                        itemMapper.transform(equalsOriginSubjectItem);
-                        retrievedItem = itemMapper.getResult();
-                        if (retrievedItem != null) {
-                            foundEntries.add(retrievedItem);
-                        }
-                    } catch (MappingException mpe) {
-                        // Stream entry (e.g snapshot version) that is not into filtered structure (e.g change event)
-                        // For example, entity snapshot record that shall not be retrieved as searched domain events
-                        // So ignore filtered equalsOriginSubjectItem
-                    }
-                }
-            }
-            return foundEntries;
-        } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
-            }
+            whereEqualOriginSubjectItems = filterByOriginSubject(streamItems, originSubjectIDFilter);
         }
+        // Get the filtered results to return
+        return mapEntries(whereEqualOriginSubjectItems, itemMapper);
     }
 
     @Override
@@ -380,12 +742,34 @@ public class UISAdapterRedisImpl implements UISAdapter {
     }
 
     /**
-     * Get the type of codec usable for encoding of a key value.
+     * Read a page of the entries of a stream, in append order (e.g read of a large stream without loading of all its entries).
      *
-     * @return An UTF8 string codec.
+     * @param stream       Mandatory stream to read.
+     * @param afterEntryId Optional identifier of the entry preceding the page (excluded). When null, the page starts from the first entry of the stream.
+     * @param count        Maximum quantity of entries to read (minimum 1).
+     * @return Entries (identifier and fields) following the afterEntryId entry. Empty list when none entry.
+     * @throws IllegalArgumentException    When any mandatory parameter is missing or invalid.
+     * @throws UnoperationalStateException When problem of read with the Redis server.
      */
-    private RedisCodec<String, String> resourceKeyCodec() {
-        return StringCodec.UTF8;
+    public List<StreamMessage<String, String>> readPage(Stream stream, String afterEntryId, int count) throws IllegalArgumentException, UnoperationalStateException {
+        if (stream == null) throw new IllegalArgumentException("stream parameter is required!");
+        if (count < 1) throw new IllegalArgumentException("count parameter shall be minimum 1!");
+        long start = System.nanoTime();
+        try {
+            // Range from the preceding entry (included, and ignored) supported by all the server versions
+            List<StreamMessage<String, String>> page = connections().commandConnection().sync().xrange(stream.name(), Range.create((afterEntryId != null) ? afterEntryId : "-", "+"), Limit.from((afterEntryId != null) ? count + 1 : count));
+            List<StreamMessage<String, String>> entries = new ArrayList<>(page);
+            if (afterEntryId != null && !entries.isEmpty() && afterEntryId.equals(entries.get(0).getId())) {
+                entries.remove(0);
+            } else if (entries.size() > count) {
+                entries.remove(entries.size() - 1);
+            }
+            return entries;
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        } finally {
+            readTimer.recordSince(start);
+        }
     }
 
     /**
@@ -408,43 +792,36 @@ public class UISAdapterRedisImpl implements UISAdapter {
     public SerializedResource readSerializedResourceFromID(String resourceUniqueIdentifier, String resourceNamespaceLabel) throws IllegalArgumentException, UnoperationalStateException {
         if (resourceUniqueIdentifier == null || resourceUniqueIdentifier.isEmpty())
             throw new IllegalArgumentException("Resource unique identifier parameter is required!");
-        StatefulRedisConnection<String, String> connection = null;
-        try {
-            // See https://redis.io/docs/latest/develop/data-types/hashes/ for help
+        // See https://redis.io/docs/latest/develop/data-types/hashes/ for help
 
-            // Build resource key name where to save the resource
-            StringBuilder resourceKeyName = new StringBuilder();
-            if (resourceNamespaceLabel != null && !resourceNamespaceLabel.isEmpty()) {
-                resourceKeyName.append(buildResourceFullPath(resourceNamespaceLabel));
-            }
-            // Add resource UID
-            resourceKeyName.append(resourceUniqueIdentifier);
+        // Build resource key name where to save the resource
+        StringBuilder resourceKeyName = new StringBuilder();
+        if (resourceNamespaceLabel != null && !resourceNamespaceLabel.isEmpty()) {
+            resourceKeyName.append(buildResourceFullPath(resourceNamespaceLabel));
+        }
+        // Add resource UID
+        resourceKeyName.append(resourceUniqueIdentifier);
 
-            connection = getClient().connect(resourceKeyCodec());
-            RedisHashCommands<String, String> sync = connection.sync();
+        StatefulRedisConnection<String, String> connection = connections().commandConnection();
+        RedisHashCommands<String, String> sync = connection.sync();
 
-            // Read record type structured as collection of field-value pairs
-            Map<String, String> record = sync.hgetall(resourceKeyName.toString());
-            String originResourceBase64StringConverted = record.get(RESOURCE_VALUE_KEY_NAME); // get origin serialized object previously stored as string
-            if (originResourceBase64StringConverted != null && !originResourceBase64StringConverted.isEmpty()) {
-                // Rebind the original object
-                Optional<Serializable> convertedOriginResource = Base64StringConverter.convertFrom(originResourceBase64StringConverted);
-                if (convertedOriginResource.isPresent()) {
-                    Serializable originObject = convertedOriginResource.get();
-                    ResourceDescriptor desc = new ResourceDescriptor(record);
-                    // Remove the temporary added RESOURCE_VALUE_KEY_NAME attribute during the persistence in store
-                    desc.remove(RESOURCE_VALUE_KEY_NAME);
-                    // Return found resource object
-                    return new SerializedResource(originObject, /* Retrieve the resource description */ desc);
-                }
-            }
-
-            return null;
-        } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
+        // Read record type structured as collection of field-value pairs
+        Map<String, String> record = sync.hgetall(resourceKeyName.toString());
+        String originResourceBase64StringConverted = record.get(RESOURCE_VALUE_KEY_NAME); // get origin serialized object previously stored as string
+        if (originResourceBase64StringConverted != null && !originResourceBase64StringConverted.isEmpty()) {
+            // Rebind the original object
+            Optional<Serializable> convertedOriginResource = Base64StringConverter.convertFrom(originResourceBase64StringConverted);
+            if (convertedOriginResource.isPresent()) {
+                Serializable originObject = convertedOriginResource.get();
+                ResourceDescriptor desc = new ResourceDescriptor(record);
+                // Remove the temporary added RESOURCE_VALUE_KEY_NAME attribute during the persistence in store
+                desc.remove(RESOURCE_VALUE_KEY_NAME);
+                // Return found resource object
+                return new SerializedResource(originObject, /* Retrieve the resource description */ desc);
             }
         }
+
+        return null;
     }
 
     @Override
@@ -454,47 +831,85 @@ public class UISAdapterRedisImpl implements UISAdapter {
         if (resource.description().resourceId() == null || resource.description().resourceId().isEmpty())
             throw new IllegalArgumentException("Resource unique identifier parameter is required!");
 
-        StatefulRedisConnection<String, String> connection = null;
-        try {
-            // See https://redis.io/docs/latest/develop/data-types/hashes/ for help
+        // See https://redis.io/docs/latest/develop/data-types/hashes/ for help
 
-            // Create String serialized version of the origin resource value
-            Serializable value = resource.value();
-            Optional<String> stringConverted = (value != null) ? Base64StringConverter.convertToString(value) : Optional.empty();
+        // Create String serialized version of the origin resource value
+        Serializable value = resource.value();
+        Optional<String> stringConverted = (value != null) ? Base64StringConverter.convertToString(value) : Optional.empty();
 
-            Long count = null;
-            if (stringConverted != null && stringConverted.isPresent() && !stringConverted.get().isEmpty()) {
-                connection = getClient().connect(resourceKeyCodec());
-                RedisHashCommands<String, String> sync = connection.sync();
+        Long count = null;
+        if (stringConverted != null && stringConverted.isPresent() && !stringConverted.get().isEmpty()) {
+            StatefulRedisConnection<String, String> connection = connections().commandConnection();
+            RedisHashCommands<String, String> sync = connection.sync();
 
-                // Build resource key name where to save the resource
-                StringBuilder resourceKeyName = new StringBuilder();
-                if (resourceNamespaceLabel != null && !resourceNamespaceLabel.isEmpty()) {
-                    resourceKeyName.append(buildResourceFullPath(resourceNamespaceLabel));
-                }
-                // Add resource UID
-                resourceKeyName.append(resource.description().resourceId());
+            // Build resource key name where to save the resource
+            StringBuilder resourceKeyName = new StringBuilder();
+            if (resourceNamespaceLabel != null && !resourceNamespaceLabel.isEmpty()) {
+                resourceKeyName.append(buildResourceFullPath(resourceNamespaceLabel));
+            }
+            // Add resource UID
+            resourceKeyName.append(resource.description().resourceId());
 
-                // Build hashmap item as Redis queryable record to be stored, included denormalized values of the resource description and resource value
-                Map<String, String> record = new HashMap<>(resource.description()); // Read all description values
-                record.put(RESOURCE_VALUE_KEY_NAME, stringConverted.get()); // Read origin serialized object value as converted String
+            // Build hashmap item as Redis queryable record to be stored, included denormalized values of the resource description and resource value
+            Map<String, String> record = new HashMap<>(resource.description()); // Read all description values
+            record.put(RESOURCE_VALUE_KEY_NAME, stringConverted.get()); // Read origin serialized object value as converted String
 
-                // Use record types structured as collections of field-value pairs
-                count = sync.hset(/* resource key */ resourceKeyName.toString(), /* serialized resource */ record);
+            // Use record types structured as collections of field-value pairs
+            count = sync.hset(/* resource key */ resourceKeyName.toString(), /* serialized resource */ record);
 
-                // Apply optional  expiration rule when defined on key resource
-                if (expireIn!=null && expireIn >0) {
-                    RedisKeyCommands<String, String> sync2 = connection.sync();
-                    sync2.expire(resourceKeyName.toString(), expireIn); // Set the expiration time for the saved resource
-                }
-            }
-            if (count != null && count.intValue() >= 1) return;
-            throw new UnoperationalStateException("Impossible serialization of the resource to store!");
-        } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
+            // Apply optional  expiration rule when defined on key resource
+            if (expireIn!=null && expireIn >0) {
+                RedisKeyCommands<String, String> sync2 = connection.sync();
+                sync2.expire(resourceKeyName.toString(), expireIn); // Set the expiration time for the saved resource
             }
         }
+        if (count != null && count.intValue() >= 1) return;
+        throw new UnoperationalStateException("Impossible serialization of the resource to store!");
+    }
+
+    @Override
+    public byte[] readResourceBinaryValue(String resourceUniqueIdentifier, String resourceNamespaceLabel) throws IllegalArgumentException, UnoperationalStateException {
+        if (resourceUniqueIdentifier == null || resourceUniqueIdentifier.isEmpty())
+            throw new IllegalArgumentException("Resource unique identifier parameter is required!");
+        // Build resource key name where the resource is saved
+        StringBuilder resourceKeyName = buildResourceFullPath(resourceNamespaceLabel);
+        resourceKeyName.append(resourceUniqueIdentifier);
+        try {
+            // Read only the binary value of the record (without read of the description attributes)
+            return connections().binaryCommandConnection().sync().hget(resourceKeyName.toString().getBytes(StandardCharsets.UTF_8), RESOURCE_BINARY_VALUE_KEY_NAME.getBytes(StandardCharsets.UTF_8));
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        }
+    }
+
+    @Override
+    public void saveResource(ResourceDescriptor description, byte[] value, String resourceNamespaceLabel, Long expireIn) throws IllegalArgumentException, UnoperationalStateException {
+        if (description == null) throw new IllegalArgumentException("Resource description is required!");
+        if (description.resourceId() == null || description.resourceId().isEmpty())
+            throw new IllegalArgumentException("Resource unique identifier parameter is required!");
+        if (value == null || value.length == 0) throw new IllegalArgumentException("Value parameter is required!");
+        // Build resource key name where to save the resource
+        StringBuilder resourceKeyName = buildResourceFullPath(resourceNamespaceLabel);
+        resourceKeyName.append(description.resourceId());
+        byte[] key = resourceKeyName.toString().getBytes(StandardCharsets.UTF_8);
+
+        // Build hashmap item as Redis queryable record to be stored, included denormalized values of the resource description and resource binary value
+        Map<byte[], byte[]> record = new HashMap<>();
+        for (Map.Entry<String, String> attribute : description.entrySet()) {
+            if (attribute.getValue() != null)
+                record.put(attribute.getKey().getBytes(StandardCharsets.UTF_8), attribute.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        record.put(RESOURCE_BINARY_VALUE_KEY_NAME.getBytes(StandardCharsets.UTF_8), value);
+        try {
+            RedisCommands<byte[], byte[]> sync = connections().binaryCommandConnection().sync();
+            sync.hset(key, record);
+            // Remove a previous value stored as text version (replaced by the binary value)
+            sync.hdel(key, RESOURCE_VALUE_KEY_NAME.getBytes(StandardCharsets.UTF_8));
+            // Apply optional expiration rule when defined on key resource
+            if (expireIn != null && expireIn > 0) sync.expire(key, expireIn);
+        } catch (RedisException re) {
+            throw new UnoperationalStateException(re);
+        }
     }
 
     @Override
@@ -503,85 +918,102 @@ public class UISAdapterRedisImpl implements UISAdapter {
         if (itemMapper == null) throw new IllegalArgumentException("itemMapper parameter is required!");
         if (afterEventCommittedVersionOfOriginSubject == null || afterEventCommittedVersionOfOriginSubject.isEmpty())
             throw new IllegalArgumentException("afterEventCommittedVersionOfOriginSubject parameter is required!");
-        List<Object> foundEntries = new LinkedList<>(); // empty list returned by default
 
         // Identify the technical identifier of the last change event from the stream
         String limitationChangeEventTechnicalId = this.findFactTechnicalID(stream, afterEventCommittedVersionOfOriginSubject);
-        StatefulRedisConnection<String, String> connection = null;
-        try {
-            connection = getClient().connect();
-            if (limitationChangeEventTechnicalId != null) {
-                RedisStreamCommands<String, String> sync = connection.sync();
-                // Execute synchronous read command (read all items from a stream within a specific Range in reverse order)
-                Range<String> range = Range.create(/* lower id */ limitationChangeEventTechnicalId, /* upper */ "+");
-                List<StreamMessage<String, String>> streamItems = sync.xrange(/* stream path name to read */ stream.name(), /* Last found entry ID -1 as the last element of the list */ range);
-
-                // Apply filtering conditions to select only the items about equals origin subject id
-                MessageSpecificationEqualsFilter filter = new MessageSpecificationEqualsFilter();
-                Map<String, String> selectionCriteria = new HashMap<>();
-                selectionCriteria.put(MessageSpecificationEqualsFilter.FilteringCriteria.ORIGIN_SUBJECT_ID_PARAM_NAME.paramName(), (originSubjectIDFilter != null) ? originSubjectIDFilter.value().toString() : null);
-                // Execute the results reduction
-                List<StreamMessage<String, String>> whereEqualOriginSubjectItems = filter.apply(streamItems, selectionCriteria, null);
-
-                Object retrievedItem;
-                for (StreamMessage<String, String> item : whereEqualOriginSubjectItems) {
-                    if (item != null) {
-                        try {
-                            // Try to transform event into supported object type to return
-                            itemMapper.transform(item);
-                            retrievedItem = itemMapper.getResult();
-                            if (retrievedItem != null) {
-                                foundEntries.add(retrievedItem);
-                            }
-                        } catch (MappingException mpe) {
-                            // Stream entry (e.g snapshot version) that is not into filtered structure (e.g change event)
-                            // For example, entity snapshot record that shall not be retrieved as searched domain events
-                            // So ignore filtered item
-                        }
+        if (limitationChangeEventTechnicalId == null) return new LinkedList<>(); // empty list returned by default
+        StatefulRedisConnection<String, String> connection = connections().commandConnection();
+        RedisCommands<String, String> sync = connection.sync();
+        List<StreamMessage<String, String>> whereEqualOriginSubjectItems;
+        if (originSubjectIDFilter != null && isIndexed(sync, stream.name())) {
+            // Read only the stream items about the origin subject from the limit (selected on server side via the subject index)
+            whereEqualOriginSubjectItems = StreamSecondaryIndex.readSubjectEntries(sync, stream.name(), originSubjectIDFilter.value().toString(), limitationChangeEventTechnicalId);
+        } else {
+            // Execute synchronous read command (read all items from a stream within a specific Range)
+            Range<String> range = Range.create(/* lower id */ limitationChangeEventTechnicalId, /* upper */ "+");
+            List<StreamMessage<String, String>> streamItems = sync.xrange(/* stream path name to read */ stream.name(), range);
+            // Apply filtering conditions to select only the items about equals origin subject id
+            whereEqualOriginSubjectItems = filterByOriginSubject(streamItems, originSubjectIDFilter);
+        }
+        return mapEntries(whereEqualOriginSubjectItems, itemMapper);
+    }
+
+    /**
+     * Select the stream items relative to an origin subject.
+     *
+     * @param streamItems           Items to filter.
+     * @param originSubjectIDFilter Optional identifier of the origin subject. When null, all the items are retained.
+     * @return The retained items.
+     */
+    private List<StreamMessage<String, String>> filterByOriginSubject(List<StreamMessage<String, String>> streamItems, Identifier originSubjectIDFilter) {
+        MessageSpecificationEqualsFilter filter = new MessageSpecificationEqualsFilter();
+        Map<String, String> selectionCriteria = new HashMap<>();
+        selectionCriteria.put(MessageSpecificationEqualsFilter.FilteringCriteria.ORIGIN_SUBJECT_ID_PARAM_NAME.paramName(), (originSubjectIDFilter != null) ? originSubjectIDFilter.value().toString() : null);
+        // Execute the results reduction
+        return filter.apply(streamItems, selectionCriteria, null);
+    }
+
+    /**
+     * Transform stream items into the object types supported by a mapper.
+     *
+     * @param items      Items to transform.
+     * @param itemMapper Mandatory mapper.
+     * @return The transformed items. Items not supported by the mapper are ignored.
+     */
+    private List<Object> mapEntries(List<StreamMessage<String, String>> items, MessageMapper itemMapper) {
+        List<Object> foundEntries = new LinkedList<>(); // empty list returned by default
+        Object retrievedItem;
+        for (StreamMessage<String, String> item : items) {
+            if (item != null) {
+                try {
+                    // Try to transform event into supported object type to return
+                    retrievedItem = itemMapper.map(item);
+                    if (retrievedItem != null) {
+                        foundEntries.add(retrievedItem);
                     }
+                } catch (MappingException mpe) {
+                    // Stream entry (e.g snapshot version) that is not into filtered structure (e.g change event)
+                    // For example, entity snapshot record that shall not be retrieved as searched domain events
+                    // So ignore filtered item
                 }
             }
-            return foundEntries;
-        } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
-            }
         }
+        return foundEntries;
     }
 
     private String findFactTechnicalID(Stream stream, String afterEventCommittedVersionOfOriginSubject) throws IllegalArgumentException, UnoperationalStateException {
         if (stream == null) throw new IllegalArgumentException("stream parameter is required!");
         if (afterEventCommittedVersionOfOriginSubject == null || afterEventCommittedVersionOfOriginSubject.isEmpty())
             throw new IllegalArgumentException("afterEventCommittedVersionOfOriginSubject parameter is required!");
-        StatefulRedisConnection<String, String> connection = null;
-        try {
-            connection = getClient().connect();
-            RedisStreamCommands<String, String> sync = connection.sync();
-            // Execute synchronous read command (read all items from a stream within a specific Range in reverse order)
-            Range<String> range = Range.create(/* lower */ "-", /* upper */ "+");
-            List<StreamMessage<String, String>> streamItems = sync.xrevrange(/* stream path name to read */ stream.name(), /* Last found entry ID -1 as the last element of the list */ range);
-
-            // From latest items stored in stream, analyze found items to detect the limit domain event
-            Map<String, String> itemBody;
-            String factRecordAttributeName = IDescribedToStreamMessageTransformer.queryAttributeAboutFactRecordID(); // Attribute in message regarding fact record id (e.g change event id)
-            for (StreamMessage<String, String> item : streamItems) {
-                if (item != null) {
-                    itemBody = item.getBody();
-                    String factRecordID = itemBody.get(factRecordAttributeName); // Detect existing fact record value in message
-                    if (factRecordID != null) {
-                        // Evaluate filtering criteria to determine if item shall be retained because equals to the commit version
-                        if (afterEventCommittedVersionOfOriginSubject.equals(factRecordID)) {
-                            // This persisted message is the limit of event recorded regarding the origin subject
-                            // Read its technical identifier (automatically generated by the Redis stream)
-                            return item.getId();
-                        }
+        StatefulRedisConnection<String, String> connection = connections().commandConnection();
+        RedisCommands<String, String> sync = connection.sync();
+        // Search the fact record from the stream index
+        String indexedEntryId = StreamSecondaryIndex.findEntryId(sync, stream.name(), afterEventCommittedVersionOfOriginSubject);
+        if (indexedEntryId != null) return indexedEntryId;
+        // Unknown fact record when all the stream entries are indexed
+        if (isIndexed(sync, stream.name())) return null;
+
+        // Stream not indexed
+        // Execute synchronous read command (read all items from a stream within a specific Range in reverse order)
+        Range<String> range = Range.create(/* lower */ "-", /* upper */ "+");
+        List<StreamMessage<String, String>> streamItems = sync.xrevrange(/* stream path name to read */ stream.name(), /* Last found entry ID -1 as the last element of the list */ range);
+
+        // From latest items stored in stream, analyze found items to detect the limit domain event
+        Map<String, String> itemBody;
+        String factRecordAttributeName = IDescribedToStreamMessageTransformer.queryAttributeAboutFactRecordID(); // Attribute in message regarding fact record id (e.g change event id)
+        for (StreamMessage<String, String> item : streamItems) {
+            if (item != null) {
+                itemBody = item.getBody();
+                String factRecordID = itemBody.get(factRecordAttributeName); // Detect existing fact record value in message
+                if (factRecordID != null) {
+                    // Evaluate filtering criteria to determine if item shall be retained because equals to the commit version
+                    if (afterEventCommittedVersionOfOriginSubject.equals(factRecordID)) {
+                        // This persisted message is the limit of event recorded regarding the origin subject
+                        // Read its technical identifier (automatically generated by the Redis stream)
+                        return item.getId();
                     }
                 }
             }
-        } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
-            }
         }
         return null; // None found
     }
@@ -605,23 +1037,20 @@ public class UISAdapterRedisImpl implements UISAdapter {
         if (recipientPathName == null || recipientPathName.isEmpty())
             throw new IllegalArgumentException("Recipient channel name not defined. Impossible publish of event on the space!");
 
-        StatefulRedisPubSubConnection<String, String> connection = null;
+        long start = System.nanoTime();
         try {
             // Transform event into supported message type
-            eventMapper.transform(event);
-            String messageBody = (String) eventMapper.getResult();
+            String messageBody = payloadCodec.encodeMessage((String) eventMapper.map(event));
 
             // Send event to identified channel recipient
-            connection = getClient().connectPubSub();
+            StatefulRedisPubSubConnection<String, String> connection = connections().publicationConnection();
             RedisPubSubAsyncCommands<String, String> asyncCommands = connection.async();
             asyncCommands.publish(/* recipient name to feed */ recipientPathName, /* fact record transformed */ messageBody);
         } catch (ClassCastException cce) {
             // result cast problem
             throw new MappingException(cce);
         } finally {
-            if (connection != null && connection.isOpen()) {
-                connection.close();
-            }
+            publishTimer.recordSince(start);
         }
     }
 
@@ -1,14 +1,13 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.framework.domain.model.EventRecord;
 import org.cybnity.framework.immutable.Entity;
 import org.cybnity.framework.immutable.EntityReference;
 import org.cybnity.framework.immutable.IReferenceable;
 import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
 
 import java.util.HashMap;
@@ -17,9 +16,7 @@ import java.util.Map;
 /**
  * Mapper of data structure between event and Map type.
  */
-public class EventRecordToStreamMessageTransformer implements MessageMapper {
-
-    private Map<String, String> result;
+public class EventRecordToStreamMessageTransformer extends StatelessMessageMapper {
 
     /**
      * Default constructor.
@@ -27,25 +24,24 @@ public class EventRecordToStreamMessageTransformer implements MessageMapper {
     public EventRecordToStreamMessageTransformer() {
     }
 
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return A String, String map instance including Stream.Specification.FACT_RECORD_ID_KEY_NAME.name() and Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name() as key information.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public Map<String, String> map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!EventRecord.class.isAssignableFrom(origin.getClass()))
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
         try {
             EventRecord source = (EventRecord) origin;
-            // Delete potential previous prepared result
-            result = null;
-
-            // Select JSON transformation mapper allowing JSON serialization of message payload
-            ObjectMapper domainObjectMapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
 
             // Create JSON version of the original event including all its internal attributes
-            String sourceEventJSON = domainObjectMapper.writeValueAsString(source);
+            String sourceEventJSON = ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE).writeValueAsString(source);
 
             // Prepare a target type of instance
             Map<String, String> transformedAs = new HashMap<>();
@@ -72,20 +68,10 @@ public class EventRecordToStreamMessageTransformer implements MessageMapper {
                 // Map entry regarding unique identifier of fact record (streams partitioning based on keys)
                 transformedAs.put(Stream.Specification.FACT_RECORD_ID_KEY_NAME.name(), source.getFactId().toString());
 
-            // Update the prepared result
-            result = transformedAs;
+            // Return the prepared result
+            return transformedAs;
         } catch (Exception e) {
             throw new MappingException(e);
         }
     }
-
-    /**
-     * Get transformed object as Map.
-     *
-     * @return A String, String map instance including Stream.Specification.FACT_RECORD_ID_KEY_NAME.name() and Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name() as key information.
-     */
-    @Override
-    public Object getResult() {
-        return result;
-    }
 }
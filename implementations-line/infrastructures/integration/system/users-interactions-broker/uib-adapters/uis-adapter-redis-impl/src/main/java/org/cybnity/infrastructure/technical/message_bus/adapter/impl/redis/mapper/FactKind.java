@@ -0,0 +1,148 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.DomainEvent;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
+import org.cybnity.framework.immutable.ImmutabilityException;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kind of fact transported by a message, discriminating the base type used for its decoding.
+ * The kind is written into the header of the stream messages (see Stream.Specification.FACT_KIND_KEY_NAME), and is detected from the JSON type identifier (e.g @class property) of the messages without header.
+ */
+public enum FactKind {
+
+    /**
+     * Command or query event.
+     */
+    COMMAND(Command.class),
+
+    /**
+     * Domain event.
+     */
+    DOMAIN_EVENT(DomainEvent.class);
+
+    /**
+     * Name of the JSON property identifying the type of a serialized fact.
+     */
+    private static final String TYPE_ID_PROPERTY = "@class";
+
+    /**
+     * Kinds per JSON type identifier of the supported subtypes.
+     */
+    private static final Map<String, FactKind> KINDS_BY_TYPE_ID = new HashMap<>();
+
+    static {
+        for (FactKind kind : values()) {
+            JsonSubTypes subTypes = kind.baseType.getAnnotation(JsonSubTypes.class);
+            if (subTypes != null) {
+                for (JsonSubTypes.Type subType : subTypes.value()) {
+                    KINDS_BY_TYPE_ID.put(subType.name(), kind);
+                }
+            }
+        }
+    }
+
+    private final Class<? extends IDescribed> baseType;
+
+    FactKind(Class<? extends IDescribed> baseType) {
+        this.baseType = baseType;
+    }
+
+    /**
+     * Get the kind of a fact.
+     *
+     * @param fact Fact.
+     * @return A kind, or null when fact is not a command or a domain event.
+     */
+    public static FactKind of(Object fact) {
+        if (fact instanceof Command) return COMMAND;
+        if (fact instanceof DomainEvent) return DOMAIN_EVENT;
+        return null;
+    }
+
+    /**
+     * Get a kind from its name (e.g read from a message header).
+     *
+     * @param name Name of kind.
+     * @return A kind, or null when unknown name.
+     */
+    public static FactKind named(String name) {
+        if (name != null) {
+            for (FactKind kind : values()) {
+                if (kind.name().equals(name)) return kind;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Detect the kind of serialized fact from its type identifier, read by a streaming parser which stops at the identifier (without read of the remaining payload).
+     *
+     * @param json Serialized fact.
+     * @return A kind, or null when type identifier is not found or not supported.
+     * @throws MappingException When invalid JSON structure.
+     */
+    public static FactKind detect(String json) throws MappingException {
+        if (json == null || json.isEmpty()) return null;
+        try (JsonParser parser = ObjectMapperRegistry.readerFor(IDescribed.class, ObjectMapperRegistry.Profile.WIRE).getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (TYPE_ID_PROPERTY.equals(field)) {
+                    return (value == JsonToken.VALUE_STRING) ? KINDS_BY_TYPE_ID.get(parser.getText()) : null;
+                }
+                // Ignore the field value (including its children)
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new MappingException(e);
+        }
+    }
+
+    /**
+     * Restore a fact of this kind.
+     *
+     * @param json Mandatory serialized fact.
+     * @return A frozen fact.
+     * @throws MappingException When impossible deserialization.
+     */
+    public IDescribed read(String json) throws MappingException {
+        try {
+            return frozen(ObjectMapperRegistry.readerFor(baseType, ObjectMapperRegistry.Profile.WIRE).readValue(json));
+        } catch (IOException e) {
+            throw new MappingException(e);
+        }
+    }
+
+    /**
+     * Freeze a restored fact (domain event or command), which is not changed by its consumers.
+     *
+     * @param fact Restored fact.
+     * @param <T>  Type of fact.
+     * @return The frozen fact.
+     * @throws MappingException When impossible freeze of the fact identity.
+     */
+    public static <T> T frozen(T fact) throws MappingException {
+        try {
+            if (fact instanceof DomainEvent) {
+                ((DomainEvent) fact).freeze();
+            } else if (fact instanceof Command) {
+                ((Command) fact).freeze();
+            }
+            return fact;
+        } catch (ImmutabilityException ie) {
+            throw new MappingException(ie);
+        }
+    }
+}
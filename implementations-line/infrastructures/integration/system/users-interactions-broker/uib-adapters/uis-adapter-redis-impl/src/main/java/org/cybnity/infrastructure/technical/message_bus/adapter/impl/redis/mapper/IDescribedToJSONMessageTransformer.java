@@ -1,17 +1,14 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cybnity.framework.domain.IDescribed;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 
 /**
  * Mapper of data structure between event and JSON type.
  */
-public class IDescribedToJSONMessageTransformer implements MessageMapper {
-
-    private String result;
+public class IDescribedToJSONMessageTransformer extends StatelessMessageMapper {
 
     /**
      * Default constructor.
@@ -19,37 +16,26 @@ public class IDescribedToJSONMessageTransformer implements MessageMapper {
     public IDescribedToJSONMessageTransformer() {
     }
 
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return A String instance.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public String map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!IDescribed.class.isAssignableFrom(origin.getClass()))
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
         try {
             IDescribed source = (IDescribed) origin;
-            // Delete potential previous prepared result
-            result = null;
-
-            // Select JSON transformation mapper allowing JSON serialization of message payload
-            ObjectMapper domainObjectMapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
 
             // Create JSON version of the original event including all its internal attributes
-            result = domainObjectMapper.writeValueAsString(source);
+            return ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE).writeValueAsString(source);
         } catch (Exception e) {
             throw new MappingException(e);
         }
     }
-
-    /**
-     * Get transformed object as JSON string.
-     *
-     * @return A String instance.
-     */
-    @Override
-    public Object getResult() {
-        return result;
-    }
 }
@@ -1,13 +1,15 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.IDescribed;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.framework.domain.event.HydrationAttributeProvider;
 import org.cybnity.framework.immutable.IdentifiableFact;
 import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
 
 import java.util.HashMap;
@@ -16,9 +18,7 @@ import java.util.Map;
 /**
  * Mapper of data structure between event and Map type.
  */
-public class IDescribedToStreamMessageTransformer implements MessageMapper {
-
-    private Map<String, String> result;
+public class IDescribedToStreamMessageTransformer extends StatelessMessageMapper {
 
     /**
      * Default constructor.
@@ -26,25 +26,24 @@ public class IDescribedToStreamMessageTransformer implements MessageMapper {
     public IDescribedToStreamMessageTransformer() {
     }
 
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return A String, String map instance including Stream.Specification.FACT_RECORD_ID_KEY_NAME.name() and Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name() as key information.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public Map<String, String> map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!IDescribed.class.isAssignableFrom(origin.getClass()))
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
         try {
             IDescribed source = (IDescribed) origin; // can be a fact entity (e.g command, domain event) or an entity (e.g domain aggregate instance)
-            // Delete potential previous prepared result
-            result = null;
-
-            // Select JSON transformation mapper allowing JSON serialization of message payload
-            ObjectMapper domainObjectMapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
 
             // Create JSON version of the original event including all its internal attributes
-            String sourceEventJSON = domainObjectMapper.writeValueAsString(source);
+            String sourceEventJSON = ObjectMapperRegistry.writer(ObjectMapperRegistry.Profile.WIRE).writeValueAsString(source);
 
             // Prepare a target type of instance
             Map<String, String> transformedAs = new HashMap<>();
@@ -52,6 +51,20 @@ public class IDescribedToStreamMessageTransformer implements MessageMapper {
             // Map entry regarding the payload message equals to fact body in a JSON formatted value
             transformedAs.put(queryAttributeAboutFactBody(), sourceEventJSON);
 
+            // Header entries allowing to select the decoding of the payload (and to ignore it) without parsing
+            FactKind kind = FactKind.of(source);
+            if (kind != null) transformedAs.put(queryAttributeAboutFactKind(), kind.name());
+            Attribute type = source.type();
+            if (type != null && type.value() != null) transformedAs.put(queryAttributeAboutFactType(), type.value());
+            Attribute correlationId = null;
+            if (source instanceof Command) {
+                correlationId = ((Command) source).correlationId();
+            } else if (source instanceof DomainEvent) {
+                correlationId = ((DomainEvent) source).correlationId();
+            }
+            if (correlationId != null && correlationId.value() != null)
+                transformedAs.put(queryAttributeAboutCorrelationID(), correlationId.value());
+
             // Prepare a fact record structured to manage the persistence state of the origin event
             // with specific defined fact's identifier allowing streams partitioning based on keys
             if (IdentifiableFact.class.isAssignableFrom(source.getClass())) {
@@ -73,8 +86,8 @@ public class IDescribedToStreamMessageTransformer implements MessageMapper {
                 }
             }
 
-            // Update the prepared result
-            result = transformedAs;
+            // Return the prepared result
+            return transformedAs;
         } catch (Exception e) {
             throw new MappingException(e);
         }
@@ -99,21 +112,38 @@ public class IDescribedToStreamMessageTransformer implements MessageMapper {
     }
 
     /**
-     * Get the key name defining a IDescribed object's logical identifier as queryable on its message mapped version.
+     * Get the key name defining the kind of fact (FactKind name) as readable on a IDescribed message mapped version.
      *
      * @return A key name.
      */
-    public static String queryAttributeAboutOriginSubjectID() {
-        return Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name();
+    public static String queryAttributeAboutFactKind() {
+        return Stream.Specification.FACT_KIND_KEY_NAME.name();
     }
 
     /**
-     * Get transformed object as Map.
+     * Get the key name defining the type name of fact as readable on a IDescribed message mapped version.
      *
-     * @return A String, String map instance including Stream.Specification.FACT_RECORD_ID_KEY_NAME.name() and Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name() as key information.
+     * @return A key name.
      */
-    @Override
-    public Object getResult() {
-        return result;
+    public static String queryAttributeAboutFactType() {
+        return Stream.Specification.FACT_TYPE_KEY_NAME.name();
+    }
+
+    /**
+     * Get the key name defining the correlation identifier of fact as readable on a IDescribed message mapped version.
+     *
+     * @return A key name.
+     */
+    public static String queryAttributeAboutCorrelationID() {
+        return Stream.Specification.CORRELATION_ID_KEY_NAME.name();
+    }
+
+    /**
+     * Get the key name defining a IDescribed object's logical identifier as queryable on its message mapped version.
+     *
+     * @return A key name.
+     */
+    public static String queryAttributeAboutOriginSubjectID() {
+        return Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name();
     }
 }
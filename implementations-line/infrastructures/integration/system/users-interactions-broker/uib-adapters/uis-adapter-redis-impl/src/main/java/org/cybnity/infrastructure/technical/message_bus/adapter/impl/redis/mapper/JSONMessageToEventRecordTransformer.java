@@ -1,17 +1,14 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.framework.domain.model.EventRecord;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 
 /**
  * Mapper of data structure between JSON and event type.
  */
-public class JSONMessageToEventRecordTransformer implements MessageMapper {
-
-    private EventRecord result;
+public class JSONMessageToEventRecordTransformer extends StatelessMessageMapper {
 
     /**
      * Default constructor.
@@ -19,39 +16,30 @@ public class JSONMessageToEventRecordTransformer implements MessageMapper {
     public JSONMessageToEventRecordTransformer() {
     }
 
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return EventRecord event type.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public EventRecord map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!String.class.isAssignableFrom(origin.getClass()))
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
         try {
-            // Read message body
-            String sourceEventJSON = (String) origin;
-
-            // Select JSON transformation mapper allowing JSON deserialization of message payload
-            ObjectMapper mapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
+            // Read message body (decompressed when compressed message)
+            String sourceEventJSON = PayloadCodec.decodeMessage((String) origin);
 
             // Restore the original event including all its internal attributes from JSON version
 
             // Attempt to read as EventRecord
-            result = mapper.readerFor(EventRecord.class).readValue(sourceEventJSON);
+            return ObjectMapperRegistry.readerFor(EventRecord.class, ObjectMapperRegistry.Profile.WIRE).readValue(sourceEventJSON);
 
         } catch (Exception e) {
             throw new MappingException(e);
         }
     }
-
-    /**
-     * Get the result as EventRecord instance.
-     *
-     * @return EventRecord event type.
-     */
-    @Override
-    public Object getResult() {
-        return this.result;
-    }
 }
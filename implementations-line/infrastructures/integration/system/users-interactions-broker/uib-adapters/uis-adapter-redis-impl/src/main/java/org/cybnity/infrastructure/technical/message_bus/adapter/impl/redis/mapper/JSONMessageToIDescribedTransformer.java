@@ -1,19 +1,17 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cybnity.framework.domain.Command;
 import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.IDescribed;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 
 /**
  * Mapper of data structure between JSON and event type.
+ * The payload is decoded according to the kind of fact detected from its type identifier (see FactKind).
  */
-public class JSONMessageToIDescribedTransformer implements MessageMapper {
-
-    private IDescribed result;
+public class JSONMessageToIDescribedTransformer extends StatelessMessageMapper {
 
     /**
      * Default constructor.
@@ -21,42 +19,36 @@ public class JSONMessageToIDescribedTransformer implements MessageMapper {
     public JSONMessageToIDescribedTransformer() {
     }
 
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return IDescribed event type.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public IDescribed map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!String.class.isAssignableFrom(origin.getClass()))
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
-        try {
-            // Read message body
-            String sourceEventJSON = (String) origin;
-
-            // Select JSON transformation mapper allowing JSON deserialization of message payload
-            ObjectMapper mapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
+        // Read message body (decompressed when compressed message)
+        String sourceEventJSON = PayloadCodec.decodeMessage((String) origin);
 
+        // Decode according to the kind of fact identified by the payload type identifier (read without parsing of the remaining payload)
+        FactKind kind = FactKind.detect(sourceEventJSON);
+        if (kind != null) return kind.read(sourceEventJSON);
+        try {
             // Restore the original event including all its internal attributes from JSON version
             try {
                 // Attempt to read as Command
-                result = mapper.readerFor(Command.class).readValue(sourceEventJSON);
+                return FactKind.frozen(ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.WIRE).readValue(sourceEventJSON));
             } catch (Exception me) {
                 // Attempt to read as DomainEvent
-                result = mapper.readerFor(DomainEvent.class).readValue(sourceEventJSON);
+                return FactKind.frozen(ObjectMapperRegistry.readerFor(DomainEvent.class, ObjectMapperRegistry.Profile.WIRE).readValue(sourceEventJSON));
             }
         } catch (Exception e) {
             throw new MappingException(e);
         }
     }
-
-    /**
-     * Get the result as IDescribed instance.
-     *
-     * @return IDescribed event type.
-     */
-    @Override
-    public Object getResult() {
-        return this.result;
-    }
 }
@@ -0,0 +1,135 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * View of a fact read from the fields of a stream message (see IDescribedToStreamMessageTransformer).
+ * The headers are read from the message fields; the JSON payload is decoded (once) by the first access to the fact body.
+ */
+public class LazyStreamFact implements LazyFact {
+
+    /**
+     * Fields of the origin stream message.
+     */
+    private final Map<String, String> fields;
+
+    /**
+     * Fact restored from the payload. Null while not decoded.
+     */
+    private volatile IDescribed decoded;
+
+    /**
+     * Default constructor.
+     *
+     * @param fields Mandatory fields of a stream message.
+     * @throws IllegalArgumentException When mandatory parameter is missing.
+     */
+    public LazyStreamFact(Map<String, String> fields) throws IllegalArgumentException {
+        if (fields == null) throw new IllegalArgumentException("Fields parameter is required!");
+        this.fields = fields;
+    }
+
+    @Override
+    public String kind() {
+        return fields.get(Stream.Specification.FACT_KIND_KEY_NAME.name());
+    }
+
+    @Override
+    public String originSubjectId() {
+        return fields.get(Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name());
+    }
+
+    @Override
+    public String correlationId() {
+        return fields.get(Stream.Specification.CORRELATION_ID_KEY_NAME.name());
+    }
+
+    @Override
+    public String factRecordId() {
+        return fields.get(Stream.Specification.FACT_RECORD_ID_KEY_NAME.name());
+    }
+
+    /**
+     * Get the type of the fact from the message header, else from the decoded fact (message without header).
+     *
+     * @return A type, or null when undefined.
+     * @throws IllegalStateException When impossible decoding of the payload.
+     */
+    @Override
+    public Attribute type() throws IllegalStateException {
+        String type = fields.get(Stream.Specification.FACT_TYPE_KEY_NAME.name());
+        if (type != null) return new Attribute(Command.TYPE, type);
+        return body().type();
+    }
+
+    /**
+     * Get the specification of the decoded fact.
+     *
+     * @return A specification.
+     * @throws IllegalStateException When impossible decoding of the payload.
+     */
+    @Override
+    public Collection<Attribute> specification() throws IllegalStateException {
+        return body().specification();
+    }
+
+    /**
+     * Add a specification to the decoded fact.
+     *
+     * @param specificationCriteria Specification to add.
+     * @return True when added.
+     * @throws IllegalStateException When impossible decoding of the payload.
+     */
+    @Override
+    public boolean appendSpecification(Attribute specificationCriteria) throws IllegalStateException {
+        return body().appendSpecification(specificationCriteria);
+    }
+
+    @Override
+    public IDescribed decoded() throws MappingException {
+        IDescribed fact = decoded;
+        if (fact == null) {
+            synchronized (this) {
+                fact = decoded;
+                if (fact == null) {
+                    String json = PayloadCodec.readPayload(fields);
+                    if (json == null) throw new MappingException("Message without payload!");
+                    // Decode according to the kind of fact (header, else type identifier of the payload)
+                    FactKind factKind = FactKind.named(kind());
+                    if (factKind == null) factKind = FactKind.detect(json);
+                    if (factKind == null) throw new MappingException("Unknown kind of fact!");
+                    fact = factKind.read(json);
+                    decoded = fact;
+                }
+            }
+        }
+        return fact;
+    }
+
+    @Override
+    public boolean isDecoded() {
+        return decoded != null;
+    }
+
+    /**
+     * Get the decoded fact from the methods of IDescribed contract (without checked exception).
+     *
+     * @return A fact.
+     * @throws IllegalStateException When impossible decoding of the payload.
+     */
+    private IDescribed body() throws IllegalStateException {
+        try {
+            return decoded();
+        } catch (MappingException me) {
+            throw new IllegalStateException(me);
+        }
+    }
+}
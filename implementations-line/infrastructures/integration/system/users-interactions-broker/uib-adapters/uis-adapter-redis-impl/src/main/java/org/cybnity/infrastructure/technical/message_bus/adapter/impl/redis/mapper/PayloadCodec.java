@@ -0,0 +1,197 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
+
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec of the JSON payloads written into the streams and channels, compressing (Deflate algorithm) the payloads of which the size is equals or higher than the threshold of the codec.
+ * A compressed payload is a binary value: the BINARY_VALUE_MARKER byte (never included into a UTF-8 text) followed by the deflated bytes, represented into the String-based messages (e.g stream message fields) as a text of one character per byte (see toBytes(String)), and written to the server without text encoding.
+ * A compressed stream message is also flagged by its Stream.Specification.PAYLOAD_ENCODING_KEY_NAME header, so the plain and compressed messages can be read by the same consumers.
+ * Each adapter owns a codec defined from its UIS_PAYLOAD_COMPRESSION_THRESHOLD configuration; the compression is disabled by default, and shall be enabled when all the consumers support the compressed payloads.
+ * The read of the payloads does not depend on the threshold (static methods).
+ *
+ * @author olivier
+ */
+public final class PayloadCodec {
+
+    /**
+     * Name of the encoding of a compressed payload.
+     */
+    public static final String DEFLATE_ENCODING = "deflate";
+
+    /**
+     * First character of a binary value (byte 0xFF, never included into a UTF-8 text).
+     */
+    public static final char BINARY_VALUE_MARKER = '\u00FF';
+
+    /**
+     * Threshold value disabling the compression.
+     */
+    public static final int COMPRESSION_DISABLED = -1;
+
+    /**
+     * Reusable compressor and decompressor per thread (native resources costly to allocate per message).
+     */
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * Minimum size (quantity of characters) of a compressed payload. COMPRESSION_DISABLED when the payloads are not compressed.
+     */
+    private final int compressionThreshold;
+
+    /**
+     * Default constructor.
+     *
+     * @param compressionThreshold Minimum size of the compressed payloads as quantity of characters (minimum 0), or COMPRESSION_DISABLED.
+     * @throws IllegalArgumentException When invalid threshold.
+     */
+    public PayloadCodec(int compressionThreshold) throws IllegalArgumentException {
+        if (compressionThreshold < COMPRESSION_DISABLED)
+            throw new IllegalArgumentException("Threshold parameter shall be minimum 0, or COMPRESSION_DISABLED!");
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Get the minimum size of the compressed payloads.
+     *
+     * @return A quantity of characters, or COMPRESSION_DISABLED.
+     */
+    public int compressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Prepare the fields of a stream message, with a payload compressed (and its encoding flagged) when its size reaches the threshold.
+     * A payload already encoded is not modified.
+     *
+     * @param fields Mandatory fields of the message (not modified).
+     * @return The fields when the payload is not compressed, else a copy including the compressed payload.
+     */
+    public Map<String, String> compress(Map<String, String> fields) {
+        String json = fields.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name());
+        if (json == null || !isCompressible(json) || fields.containsKey(Stream.Specification.PAYLOAD_ENCODING_KEY_NAME.name()))
+            return fields;
+        Map<String, String> compressed = new HashMap<>(fields);
+        compressed.put(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name(), deflate(json));
+        compressed.put(Stream.Specification.PAYLOAD_ENCODING_KEY_NAME.name(), DEFLATE_ENCODING);
+        return compressed;
+    }
+
+    /**
+     * Prepare a channel message from a JSON payload, compressed when its size reaches the threshold.
+     *
+     * @param json Mandatory JSON payload.
+     * @return A message.
+     */
+    public String encodeMessage(String json) {
+        return isCompressible(json) ? deflate(json) : json;
+    }
+
+    /**
+     * Read the JSON payload from the fields of a stream message.
+     *
+     * @param fields Mandatory fields of the message.
+     * @return A JSON payload, or null when undefined.
+     * @throws MappingException When unsupported encoding, or invalid compressed payload.
+     */
+    static String readPayload(Map<String, String> fields) throws MappingException {
+        String payload = fields.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name());
+        String encoding = fields.get(Stream.Specification.PAYLOAD_ENCODING_KEY_NAME.name());
+        if (payload == null || encoding == null) return payload;
+        if (!DEFLATE_ENCODING.equals(encoding)) throw new MappingException("Unsupported payload encoding (" + encoding + ")!");
+        if (!isBinary(payload)) throw new MappingException("Invalid compressed payload!");
+        return inflate(payload);
+    }
+
+    /**
+     * Read the JSON payload of a channel message.
+     *
+     * @param message Mandatory message.
+     * @return A JSON payload.
+     * @throws MappingException When invalid compressed payload.
+     */
+    static String decodeMessage(String message) throws MappingException {
+        return isBinary(message) ? inflate(message) : message;
+    }
+
+    /**
+     * Know if a value is a binary value (e.g compressed payload).
+     *
+     * @param value Value.
+     * @return True when the value starts with the BINARY_VALUE_MARKER and includes only characters of one byte.
+     */
+    public static boolean isBinary(String value) {
+        if (value == null || value.isEmpty() || value.charAt(0) != BINARY_VALUE_MARKER) return false;
+        for (int i = 1; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the bytes of a value to write without loss (e.g over a connection without text encoding).
+     *
+     * @param value Mandatory value.
+     * @return The bytes of a binary value (one byte per character), else the UTF-8 bytes of the text.
+     */
+    public static byte[] toBytes(String value) {
+        return value.getBytes(isBinary(value) ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    private boolean isCompressible(String json) {
+        return compressionThreshold != COMPRESSION_DISABLED && json.length() >= compressionThreshold;
+    }
+
+    /**
+     * Compress a JSON payload into a binary value.
+     */
+    private static String deflate(String json) {
+        byte[] input = json.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+        output.write(BINARY_VALUE_MARKER);
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(buffer);
+            output.write(buffer, 0, count);
+        }
+        // One character per byte
+        return output.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decompress a binary value into its JSON payload.
+     */
+    private static String inflate(String payload) throws MappingException {
+        try {
+            byte[] input = payload.getBytes(StandardCharsets.ISO_8859_1);
+            Inflater inflater = INFLATERS.get();
+            inflater.reset();
+            // Deflated bytes following the marker
+            inflater.setInput(input, 1, input.length - 1);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new MappingException("Truncated compressed payload!");
+                output.write(buffer, 0, count);
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new MappingException("Invalid compressed payload!", e);
+        }
+    }
+}
@@ -1,76 +1,98 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.lettuce.core.StreamMessage;
 import org.cybnity.framework.domain.Command;
 import org.cybnity.framework.domain.DomainEvent;
 import org.cybnity.framework.domain.IDescribed;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Mapper of data structure between StreamMessage and event type.
+ * The payload is decoded according to the kind of fact read from the message header (see IDescribedToStreamMessageTransformer), else detected from the payload type identifier (message without header).
  */
-public class StreamMessageToIDescribedTransformer implements MessageMapper {
+public class StreamMessageToIDescribedTransformer extends StatelessMessageMapper {
 
-    private IDescribed result;
+    /**
+     * Type names of the facts to decode. Null when all the facts are decoded.
+     */
+    private final Set<String> handledFactTypes;
 
     /**
      * Default constructor.
      */
     public StreamMessageToIDescribedTransformer() {
+        this(null);
     }
 
+    /**
+     * Constructor of a mapper decoding only some types of facts.
+     *
+     * @param handledFactTypes Optional type names of the facts to decode (e.g command types supported by a consumer). The messages of other types (according to their header) are ignored without decoding of their payload. When null, all the facts are decoded.
+     */
+    public StreamMessageToIDescribedTransformer(Collection<String> handledFactTypes) {
+        this.handledFactTypes = (handledFactTypes != null) ? Set.copyOf(handledFactTypes) : null;
+    }
+
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return IDescribed event type. Null when the fact type is not handled by this mapper.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public IDescribed map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!StreamMessage.class.isAssignableFrom(origin.getClass()))
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
-        try {
-            StreamMessage message = (StreamMessage) origin;
-            // Read message body
-            Map<String, String> messageBody = message.getBody();
-
-            // Read map entries regarding unique identifier of fact record (streams partitioning based on keys)
-            //String streamEntryID = (String) messageBody.get(Stream.Specification.FACT_RECORD_ID_KEY_NAME.name());
+        StreamMessage message = (StreamMessage) origin;
+        // Read message body
+        Map<String, String> messageBody = message.getBody();
 
-            // Read optional subject's unique identifier (e.g domain event identifier, or aggregate identifier)
-            //String originSubjectID = messageBody.get(Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name());
+        // Read the header about the fact type, and ignore the not handled facts before any payload parsing
+        String factType = messageBody.get(Stream.Specification.FACT_TYPE_KEY_NAME.name());
+        if (handledFactTypes != null && factType != null && !handledFactTypes.contains(factType)) return null;
 
-            // Read the payload message equals to fact body in a JSON formatted value
-            String sourceEventJSON = messageBody.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name());
+        // Read the payload message equals to fact body in a JSON formatted value
+        String sourceEventJSON = PayloadCodec.readPayload(messageBody);
+        if (sourceEventJSON == null) throw new MappingException("Message without payload!");
 
-            // Select JSON transformation mapper allowing JSON deserialization of message payload
-            ObjectMapper mapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
+        // Select the decoding according to the kind of fact (header, else type identifier of the payload)
+        FactKind kind = FactKind.named(messageBody.get(Stream.Specification.FACT_KIND_KEY_NAME.name()));
+        if (kind == null) kind = FactKind.detect(sourceEventJSON);
+        if (kind != null) {
+            IDescribed fact = kind.read(sourceEventJSON);
+            if (handledFactTypes != null && factType == null && !handledFactTypes.contains(typeName(fact)))
+                return null;
+            return fact;
+        }
 
-            // Restore the original event including all its internal attributes from JSON version
+        // Restore the original event including all its internal attributes from JSON version (unknown kind)
+        IDescribed fact;
+        try {
             try {
                 // Attempt to read as Command
-                result = mapper.readerFor(Command.class).readValue(sourceEventJSON);
+                fact = ObjectMapperRegistry.readerFor(Command.class, ObjectMapperRegistry.Profile.WIRE).readValue(sourceEventJSON);
             } catch (Exception me) {
                 // Attempt to read as DomainEvent
-                result = mapper.readerFor(DomainEvent.class).readValue(sourceEventJSON);
+                fact = ObjectMapperRegistry.readerFor(DomainEvent.class, ObjectMapperRegistry.Profile.WIRE).readValue(sourceEventJSON);
             }
         } catch (Exception e) {
             throw new MappingException(e);
         }
+        if (handledFactTypes != null && !handledFactTypes.contains(typeName(fact))) return null;
+        return FactKind.frozen(fact);
     }
 
-    /**
-     * Get the result as IDescribed instance.
-     *
-     * @return IDescribed event type.
-     */
-    @Override
-    public Object getResult() {
-        return this.result;
+    private static String typeName(IDescribed fact) {
+        return (fact.type() != null) ? fact.type().value() : null;
     }
 }
@@ -0,0 +1,37 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
+
+import io.lettuce.core.StreamMessage;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
+
+/**
+ * Mapper of data structure between StreamMessage and a lazy fact view, without decoding of the message payload.
+ */
+public class StreamMessageToLazyFactTransformer extends StatelessMessageMapper {
+
+    /**
+     * Default constructor.
+     */
+    public StreamMessageToLazyFactTransformer() {
+    }
+
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return A view of the fact, reading its headers from the message fields.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When message without fields.
+     */
+    @Override
+    public LazyFact map(Object origin) throws IllegalArgumentException, MappingException {
+        if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
+        if (!StreamMessage.class.isAssignableFrom(origin.getClass()))
+            throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
+        @SuppressWarnings("unchecked")
+        StreamMessage<String, String> message = (StreamMessage<String, String>) origin;
+        if (message.getBody() == null) throw new MappingException("Message without body!");
+        return new LazyStreamFact(message.getBody());
+    }
+}
@@ -1,13 +1,10 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.lettuce.core.StreamMessage;
-import org.cybnity.framework.domain.IDescribed;
-import org.cybnity.framework.domain.ObjectMapperBuilder;
+import org.cybnity.framework.domain.ObjectMapperRegistry;
 import org.cybnity.framework.domain.event.ProcessingUnitPresenceAnnounced;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.MappingException;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
-import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StatelessMessageMapper;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -15,9 +12,7 @@ import java.util.Map;
 /**
  * Mapper of data structure between StreamMessage and event type.
  */
-public class StreamMessageToProcessingUnitPresenceAnnouncedTransformer implements MessageMapper {
-
-    private IDescribed result;
+public class StreamMessageToProcessingUnitPresenceAnnouncedTransformer extends StatelessMessageMapper {
 
     /**
      * Default constructor.
@@ -25,8 +20,16 @@ public class StreamMessageToProcessingUnitPresenceAnnouncedTransformer implement
     public StreamMessageToProcessingUnitPresenceAnnouncedTransformer() {
     }
 
+    /**
+     * Transform an origin object.
+     *
+     * @param origin Source object to transform.
+     * @return ProcessingUnitPresenceAnnounced event type.
+     * @throws IllegalArgumentException When mandatory parameter is missing, or when origin parameter type is not supported by this mapper.
+     * @throws MappingException         When impossible transformation.
+     */
     @Override
-    public void transform(Object origin) throws IllegalArgumentException, MappingException {
+    public ProcessingUnitPresenceAnnounced map(Object origin) throws IllegalArgumentException, MappingException {
         if (origin == null) throw new IllegalArgumentException("Origin parameter is required!");
         if (!StreamMessage.class.isAssignableFrom(origin.getClass()) && !HashMap.class.isAssignableFrom(origin.getClass())) {
             throw new IllegalArgumentException("Origin parameter type is not supported by this mapper!");
@@ -47,30 +50,13 @@ public class StreamMessageToProcessingUnitPresenceAnnouncedTransformer implement
             //String originSubjectID = messageBody.get(Stream.Specification.ORIGIN_SUBJECT_ID_KEY_NAME.name());
 
             // Read the payload message equals to fact body in a JSON formatted value
-            String sourceEventJSON = messageBody.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name());
-
-            // Select JSON transformation mapper allowing JSON deserialization of message payload
-            ObjectMapper mapper = new ObjectMapperBuilder()
-                    .enableIndentation()
-                    .dateFormat()
-                    .preserveOrder(true)
-                    .build();
+            String sourceEventJSON = PayloadCodec.readPayload(messageBody);
 
             // Restore the original event including all its internal attributes from JSON version
             // Attempt to read as Command
-            result = mapper.readerFor(ProcessingUnitPresenceAnnounced.class).readValue(sourceEventJSON);
+            return FactKind.frozen(ObjectMapperRegistry.readerFor(ProcessingUnitPresenceAnnounced.class, ObjectMapperRegistry.Profile.WIRE).readValue(sourceEventJSON));
         } catch (Exception e) {
             throw new MappingException(e);
         }
     }
-
-    /**
-     * Get the result as ProcessingUnitPresenceAnnounced instance.
-     *
-     * @return ProcessingUnitPresenceAnnounced event type.
-     */
-    @Override
-    public Object getResult() {
-        return this.result;
-    }
 }
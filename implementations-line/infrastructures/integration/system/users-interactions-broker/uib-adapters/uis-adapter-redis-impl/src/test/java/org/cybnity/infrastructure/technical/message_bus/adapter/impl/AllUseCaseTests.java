@@ -17,6 +17,8 @@ import org.junit.platform.suite.api.Suite;
         UISLettuceAdapterImplUseCaseTest.class,
         UISStreamLettuceAdapterUseCaseTest.class,
         UISAdapterResourceStorageUseCaseTest.class,
+        RedisConnectionManagerUseCaseTest.class,
+        StreamObservationTaskUseCaseTest.class,
         /* Be careful to maintain this unit test latest of suite */ UISChannelLettuceAdapterUseCaseTestManual.class})
 public class AllUseCaseTests {
 }
\ No newline at end of file
@@ -66,6 +66,15 @@ public class ContextualizedRedisActiveTestContainer {
         return this.ctx;
     }
 
+    /**
+     * Get the environment variables simulated during the test.
+     *
+     * @return A set of variables modifiable by the test.
+     */
+    protected EnvironmentVariables getEnvironmentVariables() {
+        return this.environmentVariables;
+    }
+
     /**
      * Define current environment variables simulating their setting on the executed system host.
      */
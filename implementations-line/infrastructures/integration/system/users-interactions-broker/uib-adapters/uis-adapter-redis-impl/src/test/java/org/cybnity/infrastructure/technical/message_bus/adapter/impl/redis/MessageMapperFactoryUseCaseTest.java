@@ -0,0 +1,87 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.immutable.BaseConstants;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Test of the stateless mappers provided by the factory.
+ */
+public class MessageMapperFactoryUseCaseTest {
+
+    /**
+     * Validate that the factory provides a same stateless mapper instance for a same type of transformation.
+     */
+    @Test
+    public void givenSameTransformation_whenGetMapper_thenSharedStatelessInstance() {
+        MessageMapperFactory factory = new MessageMapperFactory();
+        MessageMapper mapper = factory.getMapper(IDescribed.class, String.class);
+        Assertions.assertNotNull(mapper);
+        Assertions.assertTrue(mapper.isStateless());
+        Assertions.assertSame(mapper, new MessageMapperFactory().getMapper(IDescribed.class, String.class));
+    }
+
+    /**
+     * Validate that a shared mapper returns the result of each caller when used by several threads at the same time.
+     */
+    @Test
+    public void givenSharedMapper_whenConcurrentlyUsed_thenEachCallerResultReturned() throws Exception {
+        MessageMapper toJSON = new MessageMapperFactory().getMapper(IDescribed.class, String.class);
+        MessageMapper fromJSON = new MessageMapperFactory().getMapper(String.class, IDescribed.class);
+        int callers = 8, commandsPerCaller = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int c = 0; c < callers; c++) {
+                final String naming = "CYBNITY_" + c;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < commandsPerCaller; i++) {
+                        // Two-step usage (compatibility) and direct usage shall return the result of the calling thread
+                        toJSON.transform(command(naming));
+                        String json = (String) toJSON.getResult();
+                        // Result released by its read (not retained by the shared mapper)
+                        if (toJSON.getResult() != null) return false;
+                        IDescribed restored = (IDescribed) fromJSON.map(json);
+                        if (!naming.equals(organizationNaming(restored))) return false;
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get(30, TimeUnit.SECONDS), "Result of another caller returned!");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Command command(String organizationNaming) {
+        Collection<Attribute> definition = new ArrayList<>();
+        definition.add(new Attribute("OrganizationNaming", organizationNaming));
+        DomainEntity commandUID = new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString()));
+        return CommandFactory.create("REGISTER_ORGANIZATION", commandUID, definition, null, null);
+    }
+
+    private static String organizationNaming(IDescribed fact) {
+        for (Attribute att : fact.specification()) {
+            if ("OrganizationNaming".equals(att.name())) return att.value();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,99 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.StreamMessage;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.immutable.BaseConstants;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.PayloadCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Test of the compression of the payloads written into the streams and channels according to the compression threshold.
+ */
+public class PayloadCompressionUseCaseTest {
+
+    private final MessageMapperFactory mappers = new MessageMapperFactory();
+
+    /**
+     * Validate that a stream message payload reaching the threshold is compressed and flagged, and restored by the stream mappers.
+     */
+    @Test
+    public void givenPayloadOverThreshold_whenStreamMessageWritten_thenCompressedAndRestored() throws Exception {
+        Command command = command();
+        @SuppressWarnings("unchecked")
+        Map<String, String> plain = (Map<String, String>) mappers.getMapper(IDescribed.class, StreamMessage.class).map(command);
+        Map<String, String> body = new PayloadCodec(0).compress(plain);
+        Assertions.assertEquals(PayloadCodec.DEFLATE_ENCODING, body.get(Stream.Specification.PAYLOAD_ENCODING_KEY_NAME.name()));
+        Assertions.assertTrue(PayloadCodec.isBinary(body.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name())));
+        Assertions.assertNull(plain.get(Stream.Specification.PAYLOAD_ENCODING_KEY_NAME.name()), "Mapped fields shall not be modified!");
+
+        StreamMessage<String, String> message = new StreamMessage<>("stream", "1-0", body);
+        IDescribed restored = (IDescribed) mappers.getMapper(StreamMessage.class, IDescribed.class).map(message);
+        Assertions.assertEquals(command.type().value(), restored.type().value());
+        LazyFact view = (LazyFact) mappers.getMapper(StreamMessage.class, LazyFact.class).map(message);
+        Assertions.assertTrue(view.decoded() instanceof Command);
+    }
+
+    /**
+     * Validate that a payload under the threshold is written as plain JSON value (readable by the consumers without compression support).
+     */
+    @Test
+    public void givenPayloadUnderThreshold_whenStreamMessageWritten_thenPlainPayload() throws Exception {
+        @SuppressWarnings("unchecked")
+        Map<String, String> body = new PayloadCodec(Integer.MAX_VALUE).compress((Map<String, String>) mappers.getMapper(IDescribed.class, StreamMessage.class).map(command()));
+        Assertions.assertNull(body.get(Stream.Specification.PAYLOAD_ENCODING_KEY_NAME.name()));
+        Assertions.assertTrue(body.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name()).startsWith("{"));
+    }
+
+    /**
+     * Validate that a compressed channel message is restored by the channel mapper, as a plain message.
+     */
+    @Test
+    public void givenCompressedChannelMessage_whenMapped_thenRestored() throws Exception {
+        Command command = command();
+        String plain = (String) mappers.getMapper(IDescribed.class, String.class).map(command);
+        String compressed = new PayloadCodec(0).encodeMessage(plain);
+        Assertions.assertTrue(PayloadCodec.isBinary(compressed));
+        Assertions.assertEquals(plain, new PayloadCodec(PayloadCodec.COMPRESSION_DISABLED).encodeMessage(plain));
+
+        MessageMapper reader = mappers.getMapper(String.class, IDescribed.class);
+        Assertions.assertEquals(command.type().value(), ((IDescribed) reader.map(compressed)).type().value());
+        Assertions.assertEquals(command.type().value(), ((IDescribed) reader.map(plain)).type().value());
+    }
+
+    /**
+     * Validate that the connections codec writes a compressed payload as its deflated bytes (without text encoding), and reads back the same binary and text values.
+     */
+    @Test
+    public void givenBinaryAndTextValues_whenEncodedByConnectionCodec_thenReadWithoutLoss() {
+        String compressed = new PayloadCodec(0).encodeMessage("{\"name\":\"\u00e9t\u00e9\"}");
+        ByteBuffer binary = BinarySafeStringCodec.INSTANCE.encodeValue(compressed);
+        Assertions.assertEquals(compressed.length(), binary.remaining(), "One byte per character of a binary value!");
+        Assertions.assertEquals(compressed, BinarySafeStringCodec.INSTANCE.decodeValue(binary));
+
+        String text = "{\"name\":\"\u00e9t\u00e9\"}";
+        ByteBuffer encoded = BinarySafeStringCodec.INSTANCE.encodeValue(text);
+        Assertions.assertEquals(text.getBytes(StandardCharsets.UTF_8).length, encoded.remaining());
+        Assertions.assertEquals(text, BinarySafeStringCodec.INSTANCE.decodeValue(encoded));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PayloadCodec(-2));
+    }
+
+    private static Command command() {
+        Collection<Attribute> definition = new ArrayList<>();
+        definition.add(new Attribute("OrganizationNaming", "CYBNITY"));
+        DomainEntity commandUID = new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString()));
+        return CommandFactory.create("REGISTER_ORGANIZATION", commandUID, definition, null, null);
+    }
+}
@@ -0,0 +1,101 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.cybnity.framework.UnoperationalStateException;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+
+/**
+ * Test of the connections lifecycle managed for an adapter with a Redis server.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
+public class RedisConnectionManagerUseCaseTest extends ContextualizedRedisActiveTestContainer {
+
+    private RedisClient client;
+    private RedisConnectionManager connections;
+
+    @BeforeEach
+    public void initManager() throws Exception {
+        client = RedisClient.create(RedisURIFactory.createUISWriteModelURI(getContext()));
+        connections = new RedisConnectionManager(client, 2);
+    }
+
+    @AfterEach
+    public void cleanManager() {
+        if (connections != null) connections.freeUpResources();
+        connections = null;
+        if (client != null) client.shutdown();
+        client = null;
+    }
+
+    /**
+     * Test that the non-blocking commands reuse a same connection, and that none additional connection is opened for the next commands.
+     */
+    @Test
+    public void givenSharedConnection_whenMultipleCommands_thenSameConnectionReused() throws Exception {
+        StatefulRedisConnection<String, String> first = connections.commandConnection();
+        Assertions.assertEquals("PONG", first.sync().ping());
+        long opened = connections.openedConnectionsCount();
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertSame(first, connections.commandConnection(), "Shall be the shared connection!");
+            connections.commandConnection().sync().ping();
+        }
+        Assertions.assertEquals(opened, connections.openedConnectionsCount(), "None additional connection shall have been opened!");
+        connections.checkConnectivity();
+    }
+
+    /**
+     * Test that a closed shared connection is replaced at the next request.
+     */
+    @Test
+    public void givenClosedSharedConnection_whenNextCommand_thenNewConnectionOpened() {
+        StatefulRedisConnection<String, String> first = connections.commandConnection();
+        first.close();
+        StatefulRedisConnection<String, String> next = connections.commandConnection();
+        Assertions.assertNotSame(first, next);
+        Assertions.assertEquals("PONG", next.sync().ping());
+    }
+
+    /**
+     * Test that a released dedicated connection is reused by the next borrower.
+     */
+    @Test
+    public void givenReleasedDedicatedConnection_whenBorrow_thenConnectionReused() throws Exception {
+        StatefulRedisConnection<String, String> borrowed = connections.borrowDedicatedConnection();
+        Assertions.assertNotSame(connections.commandConnection(), borrowed, "Dedicated connection shall not be the shared connection!");
+        connections.releaseDedicatedConnection(borrowed);
+        Assertions.assertSame(borrowed, connections.borrowDedicatedConnection());
+    }
+
+    /**
+     * Test that a borrower waiting for a dedicated connection when all the pool connections are in use is released with an error after the wait timeout.
+     */
+    @Test
+    public void givenAllDedicatedConnectionsInUse_whenBorrow_thenFailureAfterTimeout() throws Exception {
+        RedisConnectionManager bounded = new RedisConnectionManager(client, 1, Duration.ofMillis(100));
+        try {
+            StatefulRedisConnection<String, String> borrowed = bounded.borrowDedicatedConnection();
+            Assertions.assertThrows(UnoperationalStateException.class, bounded::borrowDedicatedConnection);
+            bounded.releaseDedicatedConnection(borrowed);
+            // Released connection is available for a next borrower
+            Assertions.assertSame(borrowed, bounded.borrowDedicatedConnection());
+        } finally {
+            bounded.freeUpResources();
+        }
+    }
+
+    /**
+     * Test that a dedicated connection released after the close of the manager is closed (not kept into the pool), and that a closed manager refuses the next borrows.
+     */
+    @Test
+    public void givenClosedManager_whenDedicatedConnectionReleased_thenConnectionClosed() throws Exception {
+        StatefulRedisConnection<String, String> borrowed = connections.borrowDedicatedConnection();
+        connections.freeUpResources();
+        connections.releaseDedicatedConnection(borrowed);
+        Assertions.assertFalse(borrowed.isOpen(), "Connection released after the close shall be closed!");
+        Assertions.assertThrows(UnoperationalStateException.class, connections::borrowDedicatedConnection);
+        Assertions.assertThrows(IllegalStateException.class, connections::commandConnection);
+    }
+}
@@ -0,0 +1,97 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.StreamMessage;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.immutable.BaseConstants;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.LazyFact;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.MessageMapper;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.FactKind;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.IDescribedToStreamMessageTransformer;
+import org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis.mapper.StreamMessageToIDescribedTransformer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+/**
+ * Test of the decoding of stream messages according to their fact kind header.
+ */
+public class StreamMessageDecodingUseCaseTest {
+
+    /**
+     * Validate that the fact kind and type are written into the message header, and that the message is decoded as the same fact.
+     */
+    @Test
+    public void givenCommand_whenTransformedToStreamMessage_thenHeaderDiscriminatesDecoding() throws Exception {
+        Command command = command("REGISTER_ORGANIZATION");
+        Map<String, String> body = new IDescribedToStreamMessageTransformer().map(command);
+        Assertions.assertEquals(FactKind.COMMAND.name(), body.get(Stream.Specification.FACT_KIND_KEY_NAME.name()));
+        Assertions.assertEquals("REGISTER_ORGANIZATION", body.get(Stream.Specification.FACT_TYPE_KEY_NAME.name()));
+        Assertions.assertEquals(FactKind.COMMAND, FactKind.detect(body.get(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name())));
+
+        IDescribed restored = new StreamMessageToIDescribedTransformer().map(new StreamMessage<>("stream", "1-0", body));
+        Assertions.assertTrue(restored instanceof Command);
+        Assertions.assertEquals("REGISTER_ORGANIZATION", restored.type().value());
+    }
+
+    /**
+     * Validate that a message without header (e.g appended by a previous version) is decoded according to the type identifier of its payload.
+     */
+    @Test
+    public void givenMessageWithoutHeader_whenMapped_thenKindDetectedFromPayload() throws Exception {
+        Map<String, String> body = new HashMap<>(new IDescribedToStreamMessageTransformer().map(command("REGISTER_ORGANIZATION")));
+        body.remove(Stream.Specification.FACT_KIND_KEY_NAME.name());
+        body.remove(Stream.Specification.FACT_TYPE_KEY_NAME.name());
+        IDescribed restored = new StreamMessageToIDescribedTransformer().map(new StreamMessage<>("stream", "1-0", body));
+        Assertions.assertTrue(restored instanceof Command);
+    }
+
+    /**
+     * Validate that a message of a fact type not handled by a consumer is ignored without decoding of its payload.
+     */
+    @Test
+    public void givenNotHandledFactType_whenMapped_thenIgnoredWithoutDecoding() throws Exception {
+        Map<String, String> body = new HashMap<>(new IDescribedToStreamMessageTransformer().map(command("REGISTER_ORGANIZATION")));
+        // Undecodable payload shall not be parsed when the type is not handled
+        body.put(Stream.Specification.MESSAGE_PAYLOAD_KEY_NAME.name(), "{invalid");
+        StreamMessageToIDescribedTransformer mapper = new StreamMessageToIDescribedTransformer(Set.of("OTHER_COMMAND"));
+        Assertions.assertNull(mapper.map(new StreamMessage<>("stream", "1-0", body)));
+    }
+
+    /**
+     * Validate that a lazy view exposes the headers of a message without decoding of its payload, and decodes it once when the fact body is read.
+     */
+    @Test
+    public void givenLazyView_whenHeadersRead_thenPayloadDecodedOnlyWhenBodyRequired() throws Exception {
+        Command command = command("REGISTER_ORGANIZATION");
+        command.assignCorrelationId(UUID.randomUUID().toString());
+        Map<String, String> body = new IDescribedToStreamMessageTransformer().map(command);
+        MessageMapper mapper = new MessageMapperFactory().getMapper(StreamMessage.class, LazyFact.class);
+        LazyFact view = (LazyFact) mapper.map(new StreamMessage<>("stream", "1-0", body));
+
+        // Read of the routing headers
+        Assertions.assertEquals("REGISTER_ORGANIZATION", view.type().value());
+        Assertions.assertEquals(FactKind.COMMAND.name(), view.kind());
+        Assertions.assertEquals(command.correlationId().value(), view.correlationId());
+        Assertions.assertFalse(view.isDecoded());
+
+        // Read of the body
+        Assertions.assertFalse(view.specification().isEmpty());
+        Assertions.assertTrue(view.isDecoded());
+        Assertions.assertTrue(view.decoded() instanceof Command);
+        Assertions.assertSame(view.decoded(), view.decoded());
+    }
+
+    private static Command command(String type) {
+        Collection<Attribute> definition = new ArrayList<>();
+        definition.add(new Attribute("OrganizationNaming", "CYBNITY"));
+        DomainEntity commandUID = new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString()));
+        return CommandFactory.create(type, commandUID, definition, null, null);
+    }
+}
@@ -0,0 +1,184 @@
+package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
+
+import io.lettuce.core.*;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.cybnity.framework.domain.Attribute;
+import org.cybnity.framework.domain.Command;
+import org.cybnity.framework.domain.IDescribed;
+import org.cybnity.framework.domain.IdentifierStringBased;
+import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.model.DomainEntity;
+import org.cybnity.framework.immutable.BaseConstants;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.NamingConventions;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.Stream;
+import org.cybnity.infrastructure.technical.message_bus.adapter.api.StreamObserver;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test of the batched consumption of a stream by an observation task (blocking reads, bulk acknowledgment, recovery of abandoned messages).
+ */
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
+public class StreamObservationTaskUseCaseTest extends ContextualizedRedisActiveTestContainer {
+
+    private UISAdapterRedisImpl adapter;
+
+    @BeforeEach
+    public void initAdapter() throws Exception {
+        adapter = new UISAdapterRedisImpl(getContext());
+    }
+
+    @AfterEach
+    public void removeResources() {
+        if (adapter != null)
+            adapter.freeUpResources();
+        adapter = null;
+    }
+
+    /**
+     * Build sample commands.
+     *
+     * @param qty Quantity of commands.
+     * @return Commands.
+     */
+    private List<Command> commands(int qty) {
+        List<Command> requestEvents = new LinkedList<>();
+        for (int i = 0; i < qty; i++) {
+            Collection<Attribute> definition = new ArrayList<>();
+            definition.add(new Attribute("OrganizationNaming", "CYBNITY_" + i));
+            Command requestEvent = CommandFactory.create("REGISTER_ORGANIZATION",
+                    new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString())), definition,
+                    /* none prior command to reference*/ null,
+                    /* None pre-identified organization because new creation */ null);
+            requestEvent.generateCorrelationId(null);
+            requestEvents.add(requestEvent);
+        }
+        return requestEvents;
+    }
+
+    /**
+     * Build an observer counting the notified messages.
+     *
+     * @param streamName Observed stream.
+     * @param groupName  Consumers group.
+     * @param waiter     Counter of notified messages.
+     * @return An observer.
+     */
+    private StreamObserver observer(String streamName, String groupName, CountDownLatch waiter) {
+        return new StreamObserverImpl() {
+            @Override
+            public Stream observed() {
+                return new Stream(streamName);
+            }
+
+            @Override
+            public String observationPattern() {
+                return StreamObserver.DEFAULT_OBSERVATION_PATTERN;
+            }
+
+            @Override
+            public String consumerGroupName() {
+                return groupName;
+            }
+
+            @Override
+            public void notify(Object event) {
+                waiter.countDown();
+            }
+        };
+    }
+
+    /**
+     * Test that the messages of a stream are consumed by batches limited to the configured size, and that all the processed messages are acknowledged.
+     */
+    @Test
+    public void givenBatchOptions_whenMessagesAppended_thenConsumedByLimitedBatchesAndAcknowledged() throws Exception {
+        String streamName = "ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-batches";
+        int qty = 25;
+        CountDownLatch waiter = new CountDownLatch(qty);
+        StreamObserver observer = observer(streamName, getClass().getSimpleName() + "-batches", waiter);
+        adapter.register(List.of(observer), new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class),
+                new StreamConsumptionOptions(Duration.ofMillis(500), 10, Duration.ofMinutes(1), Duration.ofSeconds(30)));
+
+        adapter.append(commands(qty), new Stream(streamName), new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class));
+        Assertions.assertTrue(waiter.await(20, TimeUnit.SECONDS), "Timeout reached before messages treated!");
+
+        StreamConsumptionMetrics metrics = adapter.streamConsumptionMetrics(observer);
+        Assertions.assertNotNull(metrics);
+        // Acknowledgment is executed after the batch notification
+        long timeout = System.currentTimeMillis() + 5000;
+        while (metrics.acknowledgedMessagesCount() < qty && System.currentTimeMillis() < timeout) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(qty, metrics.processedMessagesCount());
+        Assertions.assertEquals(qty, metrics.acknowledgedMessagesCount());
+        Assertions.assertTrue(metrics.maxBatchSize() <= 10, "Batch size shall be limited by the options!");
+        Assertions.assertTrue(metrics.batchesCount() >= 3);
+    }
+
+    /**
+     * Test that the messages delivered to a crashed consumer (never acknowledged) are claimed and processed by another consumer of the group.
+     */
+    @Test
+    public void givenMessagesPendingOnCrashedConsumer_whenRecoveryExecuted_thenClaimedAndProcessed() throws Exception {
+        String streamName = "ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-recovery";
+        String groupName = getClass().getSimpleName() + "-recovery";
+        int qty = 5;
+        adapter.append(commands(qty), new Stream(streamName), new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class));
+
+        // Simulate a consumer of the group which read the messages and crashed before acknowledgment
+        RedisClient client = RedisClient.create(RedisURIFactory.createUISWriteModelURI(getContext()));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().xgroupCreate(XReadArgs.StreamOffset.from(streamName, StreamObserver.DEFAULT_OBSERVATION_PATTERN), groupName, XGroupCreateArgs.Builder.mkstream(true));
+            List<StreamMessage<String, String>> delivered = connection.sync().xreadgroup(Consumer.from(groupName, "crashed"), XReadArgs.StreamOffset.lastConsumed(streamName));
+            Assertions.assertEquals(qty, delivered.size());
+        } finally {
+            client.shutdown();
+        }
+
+        // Start a new consumer of the group recovering immediately the abandoned messages
+        CountDownLatch waiter = new CountDownLatch(qty);
+        StreamObserver observer = observer(streamName, groupName, waiter);
+        adapter.register(List.of(observer), new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class),
+                new StreamConsumptionOptions(Duration.ofMillis(500), 10, Duration.ZERO, Duration.ofSeconds(30)));
+        Assertions.assertTrue(waiter.await(20, TimeUnit.SECONDS), "Abandoned messages shall have been processed!");
+        Assertions.assertEquals(qty, adapter.streamConsumptionMetrics(observer).claimedMessagesCount());
+    }
+
+    /**
+     * Test that a quantity of stream observers higher than the shared pool size is executed by the pool (without dedicated thread and connection per observer), and that all their messages are processed.
+     */
+    @Test
+    public void givenSharedPoolExecutionMode_whenManyObserversRegistered_thenAllStreamsConsumed() throws Exception {
+        // Restart the adapter with an execution of the observers by a small shared pool
+        adapter.freeUpResources();
+        getEnvironmentVariables().set(ObserversExecutionConfigurationVariable.UIS_OBSERVERS_EXECUTION_MODE.getName(), ObserversExecutionMode.SHARED_POOL.name());
+        getEnvironmentVariables().set(ObserversExecutionConfigurationVariable.UIS_OBSERVERS_POOL_SIZE.getName(), "2");
+        adapter = new UISAdapterRedisImpl(getContext());
+        Assertions.assertEquals(ObserversExecutionMode.SHARED_POOL, adapter.observersExecutionMode());
+
+        int observersQty = 20, qtyPerStream = 3;
+        CountDownLatch waiter = new CountDownLatch(observersQty * qtyPerStream);
+        List<StreamObserver> observers = new ArrayList<>();
+        for (int i = 0; i < observersQty; i++) {
+            String streamName = "ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-shared-" + i;
+            observers.add(observer(streamName, getClass().getSimpleName() + "-shared", waiter));
+        }
+        adapter.register(observers, new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class),
+                new StreamConsumptionOptions(Duration.ofMillis(200), 10, Duration.ofMinutes(1), Duration.ofSeconds(30)));
+        for (StreamObserver observer : observers) {
+            adapter.append(commands(qtyPerStream), observer.observed(), new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class));
+        }
+        Assertions.assertTrue(waiter.await(20, TimeUnit.SECONDS), "Timeout reached before messages treated!");
+        // Only the shared connections have been opened (none dedicated connection per observer)
+        Assertions.assertTrue(adapter.openedConnectionsCount() < observersQty);
+
+        // Stopped observation is not continued
+        adapter.unregister(observers);
+        Assertions.assertNull(adapter.streamConsumptionMetrics(observers.get(0)));
+    }
+}
@@ -1,10 +1,16 @@
 package org.cybnity.infrastructure.technical.message_bus.adapter.impl.redis;
 
+import io.lettuce.core.RedisClient;
 import io.lettuce.core.StreamMessage;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
 import org.cybnity.framework.domain.*;
 import org.cybnity.framework.domain.event.CommandFactory;
+import org.cybnity.framework.domain.event.ConcreteDomainChangeEvent;
 import org.cybnity.framework.domain.model.DomainEntity;
 import org.cybnity.framework.immutable.BaseConstants;
+import org.cybnity.framework.immutable.IdentifiableFact;
+import org.cybnity.framework.immutable.Identifier;
 import org.cybnity.infrastructure.technical.message_bus.adapter.api.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -208,4 +214,163 @@ public class UISStreamLettuceAdapterUseCaseTest extends ContextualizedRedisActiv
         Assertions.assertNotNull(messageId);
     }
 
-}
\ No newline at end of file
+    /**
+     * This test push a batch of command events into a stream via one atomic adapter call, and check that all the events are stored by Redis in the order of the batch.
+     */
+    @Test
+    public void givenCommandsBatch_whenAppendedToDefinedRecipient_thenAllStoredInOrder() throws Exception {
+        // Define stream endpoint to feed
+        Stream recipient = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-batch");
+        List<Command> requestEvents = new LinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            Collection<Attribute> definition = new ArrayList<>();
+            definition.add(new Attribute("OrganizationNaming", "CYBNITY_" + i));
+            Command requestEvent = CommandFactory.create("REGISTER_ORGANIZATION",
+                    new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString())), definition,
+                    /* none prior command to reference*/ null,
+                    /* None pre-identified organization because new creation */ null);
+            requestEvent.generateCorrelationId(null);
+            requestEvents.add(requestEvent);
+        }
+
+        // Initialize an adapter connected to contextualized Redis server (Users Interactions Space)
+        adapter = new UISAdapterRedisImpl(getContext());
+        List<String> messageIds = adapter.append(requestEvents, recipient, new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class));
+        Assertions.assertEquals(requestEvents.size(), messageIds.size(), "Shall have been appended in one transaction!");
+        messageIds.forEach(Assertions::assertNotNull);
+
+        // Check that the stream contains the events in the batch order
+        List<Object> stored = adapter.readAllFrom(recipient, new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class));
+        Assertions.assertEquals(requestEvents.size(), stored.size());
+        for (int i = 0; i < requestEvents.size(); i++) {
+            Assertions.assertEquals(requestEvents.get(i).correlationId().value(), ((Command) stored.get(i)).correlationId().value());
+        }
+
+        // Check that an empty batch is ignored
+        Assertions.assertTrue(adapter.append(new LinkedList<Command>(), recipient, new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class)).isEmpty());
+    }
+
+    /**
+     * This test append change events of several origin subjects into a shared stream, and check that the reads filtered on a subject (all history, or history after a commit version) only return the subject's events via the stream indexes.
+     */
+    @Test
+    public void givenEventsOfSeveralSubjects_whenReadFilteredBySubject_thenOnlySubjectEventsReturnedInOrder() throws Exception {
+        Stream recipient = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-indexed");
+        Identifier subjectA = new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString());
+        Identifier subjectB = new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString());
+        // Interleaved changes of the two subjects
+        List<ConcreteDomainChangeEvent> changes = new LinkedList<>();
+        List<String> changesOfA = new LinkedList<>();
+        for (int i = 0; i < 6; i++) {
+            ConcreteDomainChangeEvent change = new ConcreteDomainChangeEvent(new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString())), "CHANGED");
+            Identifier subject = (i % 2 == 0) ? subjectA : subjectB;
+            change.setChangeSourceIdentifier(subject);
+            if (subject == subjectA) changesOfA.add(change.identified().value().toString());
+            changes.add(change);
+        }
+        adapter = new UISAdapterRedisImpl(getContext());
+        adapter.append(changes, recipient, new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class));
+
+        // Read all the history of a subject
+        MessageMapper readMapper = new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class);
+        List<Object> historyOfA = adapter.readAllFrom(recipient, readMapper, subjectA);
+        Assertions.assertEquals(changesOfA.size(), historyOfA.size(), "Only the events of the subject shall be read!");
+        for (int i = 0; i < changesOfA.size(); i++) {
+            Assertions.assertEquals(changesOfA.get(i), ((IdentifiableFact) historyOfA.get(i)).identified().value().toString());
+        }
+
+        // Read the history of a subject from a commit version (included)
+        List<Object> lastChangesOfA = adapter.readAllAfterChangeID(recipient, changesOfA.get(1), readMapper, subjectA);
+        Assertions.assertEquals(2, lastChangesOfA.size());
+        Assertions.assertEquals(changesOfA.get(2), ((IdentifiableFact) lastChangesOfA.get(1)).identified().value().toString());
+    }
+
+    /**
+     * This test feeds a stream without indexes (e.g stream of a previous version), and check that a read filtered on a subject returns all the subject's events before the indexes backfill, and that the explicit backfill indexes the stream.
+     */
+    @Test
+    public void givenStreamFedBeforeIndexing_whenReadFilteredBySubject_thenAllSubjectEventsReturnedAndIndexesBackfilled() throws Exception {
+        Stream recipient = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-legacy");
+        Identifier subject = new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString());
+        MessageMapper writeMapper = new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class);
+        List<String> changesOfSubject = new LinkedList<>();
+        RedisClient client = RedisClient.create(RedisURIFactory.createUISWriteModelURI(getContext()));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            // Append without indexes update
+            for (int i = 0; i < 3; i++) {
+                ConcreteDomainChangeEvent change = new ConcreteDomainChangeEvent(new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString())), "CHANGED");
+                change.setChangeSourceIdentifier(subject);
+                changesOfSubject.add(change.identified().value().toString());
+                @SuppressWarnings("unchecked")
+                Map<String, String> body = (Map<String, String>) writeMapper.map(change);
+                connection.sync().xadd(recipient.name(), body);
+            }
+            Assertions.assertFalse(StreamSecondaryIndex.isIndexed(connection.sync(), recipient.name()));
+
+            adapter = new UISAdapterRedisImpl(getContext());
+            MessageMapper readMapper = new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class);
+            List<Object> history = adapter.readAllFrom(recipient, readMapper, subject);
+            Assertions.assertEquals(changesOfSubject.size(), history.size(), "The entries appended before the indexing shall be read!");
+            // Explicit backfill (the backfill requested by the read is executed in background)
+            Assertions.assertEquals(changesOfSubject.size(), adapter.indexStream(recipient));
+            Assertions.assertTrue(StreamSecondaryIndex.isIndexed(connection.sync(), recipient.name()));
+            Assertions.assertEquals(changesOfSubject.size(), adapter.readAllFrom(recipient, readMapper, subject).size());
+
+            // Next appends are indexed with the backfilled entries
+            ConcreteDomainChangeEvent last = new ConcreteDomainChangeEvent(new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString())), "CHANGED");
+            last.setChangeSourceIdentifier(subject);
+            adapter.append(List.of(last), recipient, writeMapper);
+            List<Object> lastChanges = adapter.readAllAfterChangeID(recipient, changesOfSubject.get(2), readMapper, subject);
+            Assertions.assertEquals(2, lastChanges.size());
+            Assertions.assertEquals(last.identified().value().toString(), ((IdentifiableFact) lastChanges.get(1)).identified().value().toString());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * This test trims then deletes an indexed stream, and check that the indexes do not reference the removed entries.
+     */
+    @Test
+    public void givenIndexedStream_whenTrimmedAndDeleted_thenIndexesCleaned() throws Exception {
+        Stream recipient = new Stream("ac" + NamingConventions.STREAM_NAME_SEPARATOR + getClass().getSimpleName().toLowerCase() + "-trimmed");
+        Identifier subject = new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString());
+        MessageMapper writeMapper = new MessageMapperFactory().getMapper(IDescribed.class, StreamMessage.class);
+        MessageMapper readMapper = new MessageMapperFactory().getMapper(StreamMessage.class, IDescribed.class);
+        List<IDescribed> changes = new LinkedList<>();
+        for (int i = 0; i < 4; i++) {
+            ConcreteDomainChangeEvent change = new ConcreteDomainChangeEvent(new DomainEntity(new IdentifierStringBased(BaseConstants.IDENTIFIER_ID.name(), UUID.randomUUID().toString())), "CHANGED");
+            change.setChangeSourceIdentifier(subject);
+            changes.add(change);
+        }
+        adapter = new UISAdapterRedisImpl(getContext());
+        adapter.append(changes, recipient, writeMapper);
+        RedisClient client = RedisClient.create(RedisURIFactory.createUISWriteModelURI(getContext()));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            RedisCommands<String, String> sync = connection.sync();
+            String removedFact = ((ConcreteDomainChangeEvent) changes.get(0)).identified().value().toString();
+            Assertions.assertNotNull(StreamSecondaryIndex.findEntryId(sync, recipient.name(), removedFact));
+
+            // Keep the two last entries
+            Assertions.assertEquals(2, adapter.trimStream(recipient, 2));
+            Assertions.assertEquals(2, sync.xlen(recipient.name()));
+            Assertions.assertNull(StreamSecondaryIndex.findEntryId(sync, recipient.name(), removedFact), "Trimmed entry shall not be indexed!");
+            Assertions.assertEquals(2, sync.zcard(StreamSecondaryIndex.subjectIndexKey(recipient.name(), subject.value().toString())));
+            Assertions.assertEquals(2, adapter.readAllFrom(recipient, readMapper, subject).size());
+
+            adapter.deleteStream(recipient);
+            Assertions.assertEquals(0, sync.exists(recipient.name(), StreamSecondaryIndex.factIndexKey(recipient.name()), StreamSecondaryIndex.readyIndexKey(recipient.name()), StreamSecondaryIndex.subjectsIndexKey(recipient.name()), StreamSecondaryIndex.subjectIndexKey(recipient.name(), subject.value().toString())));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * Check that the subject index members are ordered as the stream entries identifiers.
+     */
+    @Test
+    public void givenStreamEntriesIdentifiers_whenIndexMembers_thenSameOrder() {
+        Assertions.assertTrue(StreamSecondaryIndex.subjectIndexMember("1700000000000-9").compareTo(StreamSecondaryIndex.subjectIndexMember("1700000000000-10")) < 0);
+        Assertions.assertTrue(StreamSecondaryIndex.subjectIndexMember("999999999999-99").compareTo(StreamSecondaryIndex.subjectIndexMember("1700000000000-0")) < 0);
+    }
+}
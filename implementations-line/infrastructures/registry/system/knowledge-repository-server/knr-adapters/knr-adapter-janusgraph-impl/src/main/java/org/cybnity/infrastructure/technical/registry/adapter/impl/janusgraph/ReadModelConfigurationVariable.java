@@ -132,6 +132,13 @@ public enum ReadModelConfigurationVariable implements IReadableConfiguration {
      */
     JANUSGRAPH_GRAPH_GRAPHNAME("JANUSGRAPH_GRAPH_GRAPHNAME", "graph.graphname"),
 
+    /// IDS ///
+    /**
+     * Size of the block to be acquired. Larger block sizes require fewer block applications but also leave a larger fraction of the id pool occupied and potentially lost. For write heavy applications (e.g bulk loading), larger block sizes should be chosen.
+     * Default value is 10000.
+     */
+    JANUSGRAPH_IDS_BLOCK_SIZE("JANUSGRAPH_IDS_BLOCK_SIZE", "ids.block-size"),
+
     /**
      * If a JanusGraph instance with the same instance identifier already exists, the usage of this configuration option results in the opening of this graph anyway.
      * Default value is FALSE.
@@ -223,6 +230,18 @@ public enum ReadModelConfigurationVariable implements IReadableConfiguration {
      */
     JANUSGRAPH_STORAGE_BACKEND("JANUSGRAPH_STORAGE_BACKEND", "storage.backend"),
 
+    /**
+     * Whether to enable batch loading into the storage backend (e.g during a read-model rebuild). Disable the consistency checks and locking of the graph.
+     * Default value is FALSE.
+     */
+    JANUSGRAPH_STORAGE_BATCH_LOADING("JANUSGRAPH_STORAGE_BATCH_LOADING", "storage.batch-loading"),
+
+    /**
+     * The name of JanusGraph's keyspace when the storage backend is a CQL server (e.g a shadow keyspace of a rebuilt graph).
+     * Default value is janusgraph.
+     */
+    JANUSGRAPH_STORAGE_CQL_KEYSPACE("JANUSGRAPH_STORAGE_CQL_KEYSPACE", "storage.cql.keyspace"),
+
     /**
      * Ip address of the JanusGraph storage server.
      * Example of supported value: 127.0.0.1, 10.10.0.1